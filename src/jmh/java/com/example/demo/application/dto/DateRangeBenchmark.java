@@ -0,0 +1,40 @@
+package com.example.demo.application.dto;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+/**
+ * 조회 API마다 호출되는 기간 해석 비용 (기본값 채우기 경로별)
+ */
+@State(Scope.Benchmark)
+public class DateRangeBenchmark {
+    private final Clock clock = Clock.fixed(Instant.parse("2025-06-15T03:00:00Z"), ZoneId.of("Asia/Seoul"));
+    private final LocalDate start = LocalDate.of(2025, 6, 3);
+    private final LocalDate end = LocalDate.of(2025, 6, 20);
+
+    @Benchmark
+    public DateRange currentMonth() {
+        return DateRange.resolve(clock, null, null);
+    }
+
+    @Benchmark
+    public DateRange startOnly() {
+        return DateRange.resolve(clock, start, null);
+    }
+
+    @Benchmark
+    public DateRange endOnly() {
+        return DateRange.resolve(clock, null, end);
+    }
+
+    @Benchmark
+    public DateRange between() {
+        return DateRange.resolve(clock, start, end);
+    }
+}
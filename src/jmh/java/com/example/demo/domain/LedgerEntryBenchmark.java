@@ -0,0 +1,78 @@
+package com.example.demo.domain;
+
+import com.example.demo.domain.enums.LedgerCategory;
+import com.example.demo.domain.enums.LedgerType;
+import com.example.demo.domain.enums.PaymentMethod;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+
+/**
+ * 가계부 항목 생성/수정 시 검증(설명 정규화, 유형-카테고리 일치) 비용
+ * 실패 경로는 예외 생성 비용이 대부분이므로 정상 경로와 따로 측정한다.
+ */
+@State(Scope.Benchmark)
+public class LedgerEntryBenchmark {
+    private static final LocalDate OCCURRED_ON = LocalDate.of(2025, 6, 15);
+
+    private User user;
+    private LedgerEntry entry;
+
+    @Setup
+    public void setUp() {
+        user = new User("bench@example.com", "https://profile.com/image.png", Provider.KAKAO, "kakao-bench-1");
+        entry = create("점심");
+    }
+
+    @Benchmark
+    public LedgerEntry create() {
+        return create("점심");
+    }
+
+    @Benchmark
+    public LedgerEntry createWithPaddedDescription() {
+        return create("   점심 식사   ");
+    }
+
+    @Benchmark
+    public LedgerEntry createWithFreeCategory() {
+        return new LedgerEntry(
+            12_000L, LedgerType.INCOME, LedgerCategory.OTHER, "중고 거래", OCCURRED_ON, PaymentMethod.CASH, null, user
+        );
+    }
+
+    @Benchmark
+    public LedgerEntry update() {
+        entry.update(15_000L, LedgerType.EXPENSE, LedgerCategory.TRANSPORT, " 택시 ", PaymentMethod.CREDIT_CARD, "야근");
+        return entry;
+    }
+
+    @Benchmark
+    public Object rejectTypeMismatch() {
+        try {
+            return new LedgerEntry(
+                12_000L, LedgerType.INCOME, LedgerCategory.FOOD, "점심", OCCURRED_ON, PaymentMethod.CASH, null, user
+            );
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object rejectLongDescription() {
+        try {
+            return create("열다섯 자를 넘는 아주 긴 가계부 항목 설명");
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    private LedgerEntry create(String description) {
+        return new LedgerEntry(
+            12_000L, LedgerType.EXPENSE, LedgerCategory.FOOD, description, OCCURRED_ON, PaymentMethod.CREDIT_CARD, "메모", user
+        );
+    }
+}
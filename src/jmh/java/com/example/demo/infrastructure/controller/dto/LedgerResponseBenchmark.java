@@ -0,0 +1,95 @@
+package com.example.demo.infrastructure.controller.dto;
+
+import com.example.demo.application.dto.DateRange;
+import com.example.demo.application.dto.LedgerEntriesByDateRangeResponse;
+import com.example.demo.application.dto.LedgerResult;
+import com.example.demo.domain.LedgerEntry;
+import com.example.demo.domain.Provider;
+import com.example.demo.domain.User;
+import com.example.demo.domain.enums.LedgerCategory;
+import com.example.demo.domain.enums.LedgerType;
+import com.example.demo.domain.enums.PaymentMethod;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * 엔티티 -> LedgerResult -> 웹 응답 변환과 요약 응답 JSON 직렬화 비용
+ * 요약은 한 달(약 300건)과 1년치 규모로 나눠 측정한다.
+ */
+@State(Scope.Benchmark)
+public class LedgerResponseBenchmark {
+    private static final LocalDate START = LocalDate.of(2025, 1, 1);
+    private static final LedgerCategory[] CATEGORIES = {
+        LedgerCategory.FOOD, LedgerCategory.TRANSPORT, LedgerCategory.SHOPPING, LedgerCategory.LEISURE_HOBBY
+    };
+
+    @Param({"300", "3650"})
+    public int size;
+
+    // 애플리케이션과 같은 설정 (날짜를 ISO 문자열로 직렬화)
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+        .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+        .build();
+
+    private LedgerEntry entry;
+    private LedgerEntriesByDateRangeResponse summary;
+    private LedgerSummaryWebResponse summaryResponse;
+
+    @Setup
+    public void setUp() {
+        User user = new User("bench@example.com", "https://profile.com/image.png", Provider.KAKAO, "kakao-bench-1");
+        entry = entry(user, 0);
+        List<LedgerResult> results = IntStream.range(0, size)
+            .mapToObj(i -> LedgerResult.from((long) i + 1, entry(user, i)))
+            .toList();
+        summary = new LedgerEntriesByDateRangeResponse(
+            new DateRange(START, START.plusDays(size / 10)),
+            results
+        );
+        summaryResponse = LedgerSummaryWebResponse.from(summary);
+    }
+
+    @Benchmark
+    public LedgerDetailWebResponse mapDetail() {
+        return LedgerDetailWebResponse.from(LedgerResult.from(1L, entry));
+    }
+
+    @Benchmark
+    public LedgerSummaryWebResponse mapSummary() {
+        return LedgerSummaryWebResponse.from(summary);
+    }
+
+    @Benchmark
+    public byte[] serializeSummary() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(summaryResponse);
+    }
+
+    @Benchmark
+    public byte[] mapAndSerializeSummary() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(LedgerSummaryWebResponse.from(summary));
+    }
+
+    private static LedgerEntry entry(User user, int i) {
+        return new LedgerEntry(
+            1000L + (i % 97) * 100L,
+            LedgerType.EXPENSE,
+            CATEGORIES[i % CATEGORIES.length],
+            "항목" + (i % 1000),
+            START.plusDays(i / 10),
+            PaymentMethod.values()[i % PaymentMethod.values().length],
+            i % 3 == 0 ? "메모" + i : null,
+            user
+        );
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.demo.infrastructure.interceptor;
+
+import com.example.demo.application.UserService;
+import com.example.demo.application.dto.UserInfo;
+import com.example.demo.common.config.UserCacheProperties;
+import com.example.demo.domain.UserRepository;
+import com.example.demo.infrastructure.cache.CaffeineUserInfoCache;
+import com.example.demo.infrastructure.oauth.token.JwtProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+
+/**
+ * 인증이 필요한 요청마다 거치는 preHandle 전체 경로 (토큰 검증 + 사용자 정보 캐시 적중)
+ * 사용자 정보는 미리 캐시에 넣어 두어 리포지토리는 호출되지 않는다.
+ * 측정 중 캐시 항목이 만료되면 401 경로를 재게 되므로 만료를 충분히 길게 두고, 인증에 실패하면 측정을 중단한다.
+ */
+@State(Scope.Benchmark)
+public class LoginInterceptorBenchmark {
+    private static final String SECRET_KEY = "test+test+test+test+test+test+test+test+test+test";
+    private static final Long USER_ID = 1L;
+
+    private LoginInterceptor loginInterceptor;
+    private String authorization;
+
+    @Setup
+    public void setUp() {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        JwtProvider jwtProvider = new JwtProvider(SECRET_KEY, meterRegistry);
+        CaffeineUserInfoCache userInfoCache = new CaffeineUserInfoCache(new UserCacheProperties(0, Duration.ofHours(1)), meterRegistry);
+        userInfoCache.get(USER_ID, () -> new UserInfo(USER_ID, "피클", 1, "https://profile.com/image.png"));
+
+        loginInterceptor = new LoginInterceptor(
+            jwtProvider,
+            new UserService(Mockito.mock(UserRepository.class), userInfoCache)
+        );
+        authorization = "Bearer " + jwtProvider.generateToken(USER_ID).accessToken();
+    }
+
+    @Benchmark
+    public boolean authenticated() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/ledgers/summary");
+        request.addHeader("Authorization", authorization);
+        boolean passed = loginInterceptor.preHandle(request, new MockHttpServletResponse(), new Object());
+        if (!passed) {
+            throw new IllegalStateException("인증 경로가 아닌 401 경로를 측정하고 있습니다.");
+        }
+        return passed;
+    }
+
+    @Benchmark
+    public boolean missingToken() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/ledgers/summary");
+        return loginInterceptor.preHandle(request, new MockHttpServletResponse(), new Object());
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.demo.infrastructure.oauth.token;
+
+import com.example.demo.application.dto.TokenResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 로그인 시 토큰 발급과, 인증이 필요한 모든 요청에서 실행되는 토큰 검증 비용
+ */
+@State(Scope.Benchmark)
+public class JwtProviderBenchmark {
+    private static final String SECRET_KEY = "test+test+test+test+test+test+test+test+test+test";
+
+    private JwtProvider jwtProvider;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        jwtProvider = new JwtProvider(SECRET_KEY, new SimpleMeterRegistry());
+        accessToken = jwtProvider.generateToken(1L).accessToken();
+    }
+
+    @Benchmark
+    public TokenResponse generateToken() {
+        return jwtProvider.generateToken(1L);
+    }
+
+    @Benchmark
+    public Long validateToken() {
+        return jwtProvider.validateToken(accessToken);
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.demo.loadtest;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 하나당 지연(ns)을 모두 보관하고 끝난 뒤 정렬해 백분위를 구한다.
+ * 한 번의 측정은 수백만 건 이내라 근사 히스토그램 대신 원본 값을 쓴다.
+ */
+public class LatencyRecorder {
+    private long[] latencies = new long[1024];
+    private int count;
+    private int errors;
+
+    public synchronized void record(long nanos, boolean success) {
+        if (count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, count * 2);
+        }
+        latencies[count++] = nanos;
+        if (!success) {
+            errors++;
+        }
+    }
+
+    public synchronized Snapshot snapshot(long elapsedNanos) {
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+        return new Snapshot(count, errors, elapsedNanos, sorted);
+    }
+
+    public record Snapshot(int requests, int errors, long elapsedNanos, long[] sorted) {
+
+        public double requestsPerSecond() {
+            return requests * 1_000_000_000.0 / elapsedNanos;
+        }
+
+        public double percentileMillis(double percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = Math.min(sorted.length - 1, (int) Math.ceil(sorted.length * percentile) - 1);
+            return sorted[Math.max(index, 0)] / (double) TimeUnit.MILLISECONDS.toNanos(1);
+        }
+    }
+}
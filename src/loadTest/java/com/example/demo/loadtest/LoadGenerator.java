@@ -0,0 +1,162 @@
+package com.example.demo.loadtest;
+
+import com.example.demo.domain.enums.LedgerCategory;
+import com.example.demo.domain.enums.LedgerType;
+import com.example.demo.domain.enums.PaymentMethod;
+import com.example.demo.infrastructure.controller.dto.LedgerDetailWebResponse;
+import com.example.demo.infrastructure.controller.dto.UpsertLedgerWebRequest;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * 동시 클라이언트마다 가상 스레드 하나가 요청 비율(mix)에 따라 요청을 고르고 응답을 기다린 뒤 다음 요청을 보낸다. (closed-loop)
+ * 예열 구간의 요청은 기록하지 않는다.
+ */
+public class LoadGenerator {
+    private static final LedgerCategory[] CATEGORIES = {
+        LedgerCategory.FOOD, LedgerCategory.TRANSPORT, LedgerCategory.SHOPPING, LedgerCategory.LEISURE_HOBBY
+    };
+    private static final PaymentMethod[] PAYMENT_METHODS = PaymentMethod.values();
+
+    private final LoadTestClient client;
+    private final LoadTestOptions options;
+    private final LocalDate firstDate;
+    private final LocalDate lastDate;
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+    private final Map<Operation, LatencyRecorder> recorders = new EnumMap<>(Operation.class);
+
+    private volatile boolean measuring;
+    private volatile boolean stopped;
+
+    public LoadGenerator(LoadTestClient client, LoadTestOptions options, LocalDate firstDate, LocalDate lastDate) {
+        this.client = client;
+        this.options = options;
+        this.firstDate = firstDate;
+        this.lastDate = lastDate;
+        this.operations = options.mix().keySet().stream()
+            .filter(operation -> options.mix().get(operation) > 0)
+            .sorted()
+            .toArray(Operation[]::new);
+        this.cumulativeWeights = new int[operations.length];
+        int sum = 0;
+        for (int i = 0; i < operations.length; i++) {
+            sum += options.mix().get(operations[i]);
+            cumulativeWeights[i] = sum;
+            recorders.put(operations[i], new LatencyRecorder());
+        }
+    }
+
+    public Map<Operation, LatencyRecorder.Snapshot> run(List<VirtualUser> users) throws InterruptedException {
+        long elapsed;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < options.concurrency(); i++) {
+                VirtualUser user = users.get(i % users.size());
+                executor.submit(() -> drive(user));
+            }
+
+            Thread.sleep(options.warmup().toMillis());
+            long startedAt = System.nanoTime();
+            measuring = true;
+            Thread.sleep(options.duration().toMillis());
+            stopped = true;
+            elapsed = System.nanoTime() - startedAt;
+        }
+
+        Map<Operation, LatencyRecorder.Snapshot> snapshots = new EnumMap<>(Operation.class);
+        recorders.forEach((operation, recorder) -> snapshots.put(operation, recorder.snapshot(elapsed)));
+        return snapshots;
+    }
+
+    /**
+     * 시드 데이터와 같은 분포의 지출 항목
+     */
+    public static UpsertLedgerWebRequest entryRequest(RandomGenerator random, LocalDate occurredOn) {
+        int n = random.nextInt(1000);
+        return new UpsertLedgerWebRequest(
+            1000L + random.nextInt(500) * 100L,
+            LedgerType.EXPENSE,
+            CATEGORIES[random.nextInt(CATEGORIES.length)],
+            "항목" + n,
+            occurredOn,
+            PAYMENT_METHODS[random.nextInt(PAYMENT_METHODS.length)],
+            "메모" + n,
+            null
+        );
+    }
+
+    private void drive(VirtualUser user) {
+        RandomGenerator random = ThreadLocalRandom.current();
+        while (!stopped) {
+            Operation operation = pick(random);
+            long startedAt = System.nanoTime();
+            boolean success;
+            try {
+                success = execute(operation, user, random);
+            } catch (IOException e) {
+                success = false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            long latency = System.nanoTime() - startedAt;
+            if (measuring && !stopped) {
+                recorders.get(operation).record(latency, success);
+            }
+        }
+    }
+
+    private boolean execute(Operation operation, VirtualUser user, RandomGenerator random)
+        throws IOException, InterruptedException {
+        String token = user.accessToken();
+        return switch (operation) {
+            case CREATE -> {
+                LoadTestClient.Response response = client.post("/ledgers", token, entryRequest(random, randomDate(random)));
+                if (response.isSuccessful()) {
+                    user.addLedgerIds(List.of(client.read(response, LedgerDetailWebResponse.class).ledgerId()));
+                }
+                yield response.isSuccessful();
+            }
+            case GET -> {
+                Optional<Long> ledgerId = user.randomLedgerId(random);
+                yield ledgerId.isPresent() && client.get("/ledgers/" + ledgerId.get(), token).isSuccessful();
+            }
+            case UPDATE -> {
+                Optional<Long> ledgerId = user.randomLedgerId(random);
+                yield ledgerId.isPresent()
+                    && client.put("/ledgers/" + ledgerId.get(), token, entryRequest(random, randomDate(random))).isSuccessful();
+            }
+            case SUMMARY -> {
+                YearMonth month = YearMonth.from(randomDate(random));
+                yield client.get(
+                    "/ledgers/summary?start=" + month.atDay(1) + "&end=" + month.atEndOfMonth(), token
+                ).isSuccessful();
+            }
+        };
+    }
+
+    private Operation pick(RandomGenerator random) {
+        int value = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (value < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+
+    private LocalDate randomDate(RandomGenerator random) {
+        return firstDate.plusDays(random.nextLong(ChronoUnit.DAYS.between(firstDate, lastDate) + 1));
+    }
+}
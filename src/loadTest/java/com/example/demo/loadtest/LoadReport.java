@@ -0,0 +1,52 @@
+package com.example.demo.loadtest;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+/**
+ * 엔드포인트별 처리량과 지연 백분위를 표로 출력한다.
+ */
+public final class LoadReport {
+
+    private LoadReport() {
+    }
+
+    public static void print(LoadTestOptions options, String virtualThreads, Map<Operation, LatencyRecorder.Snapshot> result) {
+        System.out.printf("[load] users=%d entriesPerUser=%d concurrency=%d warmup=%ds duration=%ds virtualThreads=%s mix=%s%n",
+            options.users(), options.entriesPerUser(), options.concurrency(),
+            options.warmup().toSeconds(), options.duration().toSeconds(), virtualThreads, options.mix());
+        System.out.printf("[load] %-26s %10s %8s %10s %9s %9s %9s %9s%n",
+            "endpoint", "requests", "errors", "req/s", "p50(ms)", "p90(ms)", "p99(ms)", "max(ms)");
+
+        result.forEach((operation, snapshot) -> row(operation.endpoint(), snapshot));
+        row("total", total(result));
+    }
+
+    private static LatencyRecorder.Snapshot total(Map<Operation, LatencyRecorder.Snapshot> result) {
+        long[] all = result.values().stream()
+            .flatMapToLong(snapshot -> LongStream.of(snapshot.sorted()))
+            .toArray();
+        Arrays.sort(all);
+        long elapsed = result.values().stream()
+            .mapToLong(LatencyRecorder.Snapshot::elapsedNanos)
+            .max()
+            .orElse(1);
+        int errors = result.values().stream()
+            .mapToInt(LatencyRecorder.Snapshot::errors)
+            .sum();
+        return new LatencyRecorder.Snapshot(all.length, errors, elapsed, all);
+    }
+
+    private static void row(String name, LatencyRecorder.Snapshot snapshot) {
+        System.out.printf("[load] %-26s %10d %8d %10.1f %9.1f %9.1f %9.1f %9.1f%n",
+            name,
+            snapshot.requests(),
+            snapshot.errors(),
+            snapshot.requestsPerSecond(),
+            snapshot.percentileMillis(0.50),
+            snapshot.percentileMillis(0.90),
+            snapshot.percentileMillis(0.99),
+            snapshot.percentileMillis(1.0));
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.demo.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정. gradle -PloadTest.<이름>=값 으로 넘긴 시스템 프로퍼티를 읽는다.
+ * 미설정 시 사용자 20명, 사용자당 500건, 동시 클라이언트 100개, 예열 10초 후 60초 측정
+ * 요청 비율(mix)은 create=20,get=40,update=20,summary=20
+ */
+public record LoadTestOptions(
+    int users,
+    int entriesPerUser,
+    int concurrency,
+    Duration warmup,
+    Duration duration,
+    Map<Operation, Integer> mix
+) {
+    private static final String PREFIX = "loadTest.";
+
+    public LoadTestOptions {
+        if (users <= 0) {
+            throw new IllegalArgumentException("users는 1 이상이어야 합니다.");
+        }
+        if (concurrency <= 0) {
+            throw new IllegalArgumentException("concurrency는 1 이상이어야 합니다.");
+        }
+        if (mix.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+            throw new IllegalArgumentException("mix의 비율 합은 0보다 커야 합니다.");
+        }
+        mix = Map.copyOf(mix);
+    }
+
+    public static LoadTestOptions fromSystemProperties() {
+        return new LoadTestOptions(
+            Integer.parseInt(property("users", "20")),
+            Integer.parseInt(property("entriesPerUser", "500")),
+            Integer.parseInt(property("concurrency", "100")),
+            DurationStyle.detectAndParse(property("warmup", "10s")),
+            DurationStyle.detectAndParse(property("duration", "60s")),
+            parseMix(property("mix", "create=20,get=40,update=20,summary=20"))
+        );
+    }
+
+    /**
+     * "create=20,get=40" 형식. 적지 않은 요청은 보내지 않는다.
+     */
+    static Map<Operation, Integer> parseMix(String value) {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        for (String part : value.split(",")) {
+            String[] pair = part.trim().split("=");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("mix 형식이 올바르지 않습니다: " + part);
+            }
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("mix 비율은 0 이상이어야 합니다: " + part);
+            }
+            mix.put(Operation.valueOf(pair[0].trim().toUpperCase(Locale.ROOT)), weight);
+        }
+        return mix;
+    }
+
+    private static String property(String name, String defaultValue) {
+        return System.getProperty(PREFIX + name, defaultValue);
+    }
+}
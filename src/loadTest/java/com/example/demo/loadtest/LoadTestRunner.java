@@ -0,0 +1,120 @@
+package com.example.demo.loadtest;
+
+import com.example.demo.DemoApplication;
+import com.example.demo.application.oauth.TokenProvider;
+import com.example.demo.domain.Provider;
+import com.example.demo.domain.User;
+import com.example.demo.domain.UserRepository;
+import com.example.demo.infrastructure.controller.dto.AuthTokenWebResponse;
+import com.example.demo.infrastructure.controller.dto.CreateLedgerBatchWebRequest;
+import com.example.demo.infrastructure.controller.dto.LedgerBatchItemWebResponse;
+import com.example.demo.infrastructure.controller.dto.LedgerBatchWebResponse;
+import com.example.demo.infrastructure.controller.dto.OauthLoginWebRequest;
+import com.example.demo.infrastructure.controller.dto.UpsertLedgerWebRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+/**
+ * 애플리케이션을 내장 DB(loadtest 프로필)로 띄우고, 사용자와 가계부 항목을 API로 채운 뒤 부하를 보낸다.
+ * 로그인은 DummyIdTokenVerifier를 거치므로 외부 네트워크 없이 실행된다.
+ * ./gradlew loadTest -PloadTest.concurrency=200 -PloadTest.duration=60s
+ */
+public class LoadTestRunner {
+    private static final int SEED_DAYS = 90;
+    private static final int BATCH_SIZE = 1000;
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.fromSystemProperties();
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(DemoApplication.class)
+            .profiles("loadtest")
+            .run(args);
+             HttpClient http = HttpClient.newBuilder()
+                 .connectTimeout(Duration.ofSeconds(5))
+                 .executor(Executors.newVirtualThreadPerTaskExecutor())
+                 .build()) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            LoadTestClient client = new LoadTestClient(http, context.getBean(ObjectMapper.class), "http://localhost:" + port);
+            LocalDate lastDate = LocalDate.now(context.getBean(Clock.class));
+            LocalDate firstDate = lastDate.minusDays(SEED_DAYS - 1);
+
+            long seedStartedAt = System.nanoTime();
+            List<VirtualUser> users = seedUsers(context, client, options.users());
+            Random random = new Random(42);
+            for (VirtualUser user : users) {
+                seedEntries(client, user, options.entriesPerUser(), firstDate, random);
+            }
+            System.out.printf("[load] seeded %d users x %d entries (%s ~ %s) in %d ms%n",
+                users.size(), options.entriesPerUser(), firstDate, lastDate,
+                Duration.ofNanos(System.nanoTime() - seedStartedAt).toMillis());
+
+            Map<Operation, LatencyRecorder.Snapshot> result =
+                new LoadGenerator(client, options, firstDate, lastDate).run(users);
+            LoadReport.print(options, context.getEnvironment().getProperty("spring.threads.virtual.enabled"), result);
+        }
+    }
+
+    /**
+     * 첫 사용자는 로그인 API(DummyIdTokenVerifier)로 만들고, 나머지는 공급자 ID를 달리해 저장한 뒤 토큰을 발급한다.
+     * 더미 검증기는 항상 같은 공급자 ID를 돌려주므로 로그인만으로는 사용자를 여러 명 만들 수 없다.
+     */
+    private static List<VirtualUser> seedUsers(ConfigurableApplicationContext context, LoadTestClient client, int count)
+        throws IOException, InterruptedException {
+        TokenProvider tokenProvider = context.getBean(TokenProvider.class);
+        UserRepository userRepository = context.getBean(UserRepository.class);
+
+        LoadTestClient.Response login = client.post(
+            "/oauth/login", null, new OauthLoginWebRequest(Provider.KAKAO, "load-test-id-token")
+        );
+        if (!login.isSuccessful()) {
+            throw new IllegalStateException("로그인에 실패했습니다. (status=" + login.status() + ")");
+        }
+        String loginToken = client.read(login, AuthTokenWebResponse.class).accessToken();
+
+        List<VirtualUser> users = new ArrayList<>();
+        users.add(new VirtualUser(tokenProvider.validateToken(loginToken), loginToken));
+        for (int i = 1; i < count; i++) {
+            User user = userRepository.save(new User(
+                "load-test-" + i + "@example.com", "https://profile.com/image.png", Provider.KAKAO, "load-test-" + i
+            ));
+            users.add(new VirtualUser(user.getId(), tokenProvider.generateToken(user.getId()).accessToken()));
+        }
+        return users;
+    }
+
+    /**
+     * 일괄 등록 API로 채워 일/월 집계와 버전도 운영과 같은 경로로 만들어진다.
+     */
+    private static void seedEntries(LoadTestClient client, VirtualUser user, int count, LocalDate firstDate, Random random)
+        throws IOException, InterruptedException {
+        for (int offset = 0; offset < count; offset += BATCH_SIZE) {
+            List<UpsertLedgerWebRequest> items = IntStream.range(offset, Math.min(count, offset + BATCH_SIZE))
+                .mapToObj(i -> LoadGenerator.entryRequest(random, firstDate.plusDays(i % SEED_DAYS)))
+                .toList();
+            LoadTestClient.Response response = client.post(
+                "/ledgers/batch", user.accessToken(), new CreateLedgerBatchWebRequest(items)
+            );
+            if (!response.isSuccessful()) {
+                throw new IllegalStateException("시드 데이터 등록에 실패했습니다. (status=" + response.status() + ")");
+            }
+            user.addLedgerIds(client.read(response, LedgerBatchWebResponse.class).results().stream()
+                .filter(LedgerBatchItemWebResponse::created)
+                .map(item -> item.ledger().ledgerId())
+                .toList());
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.demo.loadtest;
+
+public enum Operation {
+    CREATE("POST /ledgers"),
+    GET("GET /ledgers/{ledgerId}"),
+    UPDATE("PUT /ledgers/{ledgerId}"),
+    SUMMARY("GET /ledgers/summary");
+
+    private final String endpoint;
+
+    Operation(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    public String endpoint() {
+        return endpoint;
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.demo.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.random.RandomGenerator;
+
+/**
+ * 부하를 보내는 사용자 한 명. 여러 클라이언트가 같은 사용자를 공유하므로 항목 ID 목록은 잠금으로 보호한다.
+ */
+public class VirtualUser {
+    private final Long userId;
+    private final String accessToken;
+    private final List<Long> ledgerIds = new ArrayList<>();
+
+    public VirtualUser(Long userId, String accessToken) {
+        this.userId = userId;
+        this.accessToken = accessToken;
+    }
+
+    public Long userId() {
+        return userId;
+    }
+
+    public String accessToken() {
+        return accessToken;
+    }
+
+    public synchronized void addLedgerIds(List<Long> ids) {
+        ledgerIds.addAll(ids);
+    }
+
+    public synchronized Optional<Long> randomLedgerId(RandomGenerator random) {
+        if (ledgerIds.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(ledgerIds.get(random.nextInt(ledgerIds.size())));
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.demo.application;
+
+import com.example.demo.application.balance.DailyBalanceTree;
+import com.example.demo.application.balance.LedgerBalanceIndex;
+import com.example.demo.application.dto.DateRange;
+import com.example.demo.application.dto.LedgerBalanceRangeResult;
+import com.example.demo.application.dto.LedgerBalanceResult;
+import com.example.demo.application.event.LedgerChangedEvent;
+import com.example.demo.common.config.LedgerBalanceProperties;
+import com.example.demo.domain.LedgerDailyTotalRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 특정 날짜 기준 잔액과 기간 잔액 변화
+ * 사용자별 일 단위 펜윅 트리를 메모리에 두어, 조회는 항목 수와 무관하게 O(log 일수)로 처리한다.
+ * 트리는 첫 조회 때 일 합계 테이블에서 만들고 커밋된 변경 이벤트로 갱신한다.
+ * 추정 메모리 크기를 가중치로 하는 캐시에 들어가므로 전체 크기가 상한을 넘으면 오래 쓰지 않은 사용자부터 내려간다.
+ * 색인은 조회한 사용자에게만 만든다. 반복 규칙 실체화나 CSV 가져오기처럼 많은 사용자를 건드리는 쓰기가
+ * 빈 색인으로 캐시를 채워 조회 중인 사용자의 트리를 밀어내지 않도록, 쓰기 쪽 표시는 캐시 밖(writing)에 둔다.
+ */
+@Slf4j
+@Service
+public class LedgerBalanceService {
+    private final LedgerDailyTotalRepository dailyTotalRepository;
+    private final Clock clock;
+    private final Cache<Long, LedgerBalanceIndex> indexes;
+    // 트랜잭션이 진행 중인 사용자별 쓰기 수. 진행 중인 트랜잭션이 있는 동안만 항목이 있으므로 크기는 동시 트랜잭션 수가 상한이다.
+    private final Map<Long, Integer> writing = new ConcurrentHashMap<>();
+
+    public LedgerBalanceService(
+        LedgerDailyTotalRepository dailyTotalRepository,
+        LedgerBalanceProperties properties,
+        Clock clock,
+        MeterRegistry meterRegistry
+    ) {
+        this.dailyTotalRepository = dailyTotalRepository;
+        this.clock = clock;
+        this.indexes = Caffeine.newBuilder()
+            .maximumWeight(properties.maximumIndexSize().toBytes())
+            .weigher((Long userId, LedgerBalanceIndex index) -> (int) Math.min(Integer.MAX_VALUE, index.estimatedBytes()))
+            .expireAfterAccess(properties.expireAfterAccess())
+            .recordStats()
+            .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, indexes, "ledger.balance");
+        Gauge.builder("ledger.balance.index.size", indexes, LedgerBalanceService::weightedSize)
+            .description("잔액 색인 전체의 추정 메모리 크기")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+    }
+
+    /**
+     * date(기본: 오늘) 당일까지의 잔액
+     */
+    public LedgerBalanceResult getBalance(Long userId, LocalDate date) {
+        LocalDate asOf = date == null ? LocalDate.now(clock) : date;
+        return new LedgerBalanceResult(asOf, query(userId, tree -> tree.balanceAsOf(asOf)));
+    }
+
+    /**
+     * 기간 시작 전날과 끝날의 잔액. 기간 기본값은 다른 기간 조회와 같다.
+     */
+    public LedgerBalanceRangeResult getBalanceRange(Long userId, LocalDate start, LocalDate end) {
+        DateRange range = DateRange.resolve(clock, start, end);
+        long[] balances = query(userId, tree -> new long[]{
+            tree.balanceAsOf(range.start().minusDays(1)),
+            tree.balanceAsOf(range.end())
+        });
+        return new LedgerBalanceRangeResult(range, balances[0], balances[1]);
+    }
+
+    /**
+     * 트랜잭션 안에서는 끝날 때까지 스냅샷 설치를 막고, 커밋된 경우에만 트리에 더한다.
+     * 색인이 없는 사용자는 writing에 표시만 해 두어, 그사이 시작된 적재가 이 변경을 놓친 채 설치되지 않게 한다.
+     * 표시를 색인 확인보다 먼저 하므로, 적재가 표시를 보지 못했다면 그 적재의 색인은 이미 있어 begin()에 걸린다.
+     */
+    @EventListener
+    public void onLedgerChanged(LedgerChangedEvent event) {
+        Long userId = event.userId();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            LedgerBalanceIndex index = indexes.getIfPresent(userId);
+            if (index != null) {
+                index.applyCommitted(event.changes());
+                reweigh(userId, index);
+            }
+            return;
+        }
+
+        writing.merge(userId, 1, Integer::sum);
+        LedgerBalanceIndex index = indexes.getIfPresent(userId);
+        if (index != null) {
+            index.begin();
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (index != null) {
+                    // 트랜잭션 도중 축출되었어도 그사이 만들어진 색인은 writing 표시 때문에 설치되지 않았다.
+                    index.complete(event.changes(), status == STATUS_COMMITTED);
+                    reweigh(userId, index);
+                }
+                writing.computeIfPresent(userId, (id, count) -> count == 1 ? null : count - 1);
+            }
+        });
+    }
+
+    private <T> T query(Long userId, Function<DailyBalanceTree, T> reader) {
+        LedgerBalanceIndex index = indexes.get(userId, id -> new LedgerBalanceIndex());
+        Optional<T> cached = index.read(reader);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        // 세대를 먼저 읽고 스냅샷을 읽는다. 그사이 변경이 있거나 색인 없이 시작된 트랜잭션이 있으면 결과만 돌려주고 설치하지 않는다.
+        long startedAt = System.nanoTime();
+        long generation = writing.containsKey(userId) ? -1 : index.loadableGeneration();
+        DailyBalanceTree tree = DailyBalanceTree.of(dailyTotalRepository.sumDailyByUserId(userId), LocalDate.now(clock));
+        T result = reader.apply(tree);
+        boolean installed = index.install(generation, tree);
+        if (installed) {
+            reweigh(userId, index);
+        }
+        log.debug("잔액 색인 생성 userId={}, days={}, installed={}, elapsed={}ms",
+            userId, tree.size(), installed, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        return result;
+    }
+
+    /**
+     * 같은 인스턴스로 교체해 캐시가 가중치를 다시 계산하게 한다. 그사이 축출되었으면 아무것도 하지 않는다.
+     */
+    private void reweigh(Long userId, LedgerBalanceIndex index) {
+        indexes.asMap().replace(userId, index, index);
+    }
+
+    private static double weightedSize(Cache<Long, LedgerBalanceIndex> cache) {
+        return cache.policy().eviction()
+            .map(eviction -> eviction.weightedSize().orElse(0L))
+            .orElse(0L);
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.demo.application;
+
+import com.example.demo.application.dto.DateRange;
+import com.example.demo.application.dto.LedgerEntriesByDateRangeResponse;
+import com.example.demo.application.dto.LedgerResult;
+
+import java.util.function.Supplier;
+
+/**
+ * 사용자별 가계부 조회 결과 캐시
+ * 무효화는 구현체가 LedgerChangedEvent/LedgerMemoChangedEvent를 받아 처리한다.
+ */
+public interface LedgerReadCache {
+
+    LedgerEntriesByDateRangeResponse getSummary(Long userId, DateRange range, Supplier<LedgerEntriesByDateRangeResponse> loader);
+
+    LedgerResult getEntry(Long userId, Long ledgerId, Supplier<LedgerResult> loader);
+}
@@ -0,0 +1,46 @@
+package com.example.demo.application;
+
+import com.example.demo.application.dto.DateRange;
+import com.example.demo.application.dto.LedgerEntriesByDateRangeResponse;
+import com.example.demo.application.dto.LedgerResult;
+import com.example.demo.domain.LedgerEntryRepository;
+import com.example.demo.domain.LedgerEntryView;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * LedgerReadCache 미스일 때 LedgerService가 쓰는 조회
+ * 캐시 적중 경로에는 트랜잭션을 두지 않고, 실제 DB 조회만 읽기 전용 트랜잭션에서 실행한다.
+ * (리포지토리의 @Query 메서드는 스스로 트랜잭션을 열지 않으므로 여기서 경계를 잡는다)
+ */
+@RequiredArgsConstructor
+@Component
+public class LedgerReadLoader {
+
+    private final LedgerEntryRepository ledgerEntryRepository;
+
+    @Transactional(readOnly = true)
+    public LedgerResult loadEntry(Long userId, Long ledgerId) {
+        LedgerEntryView entry = ledgerEntryRepository.findViewByIdAndUserId(ledgerId, userId)
+            .orElseThrow(() -> new IllegalArgumentException("해당되는 가계부 항목이 존재하지 않습니다."));
+        return LedgerResult.from(entry);
+    }
+
+    @Transactional(readOnly = true)
+    public LedgerEntriesByDateRangeResponse loadSummary(Long userId, DateRange range) {
+        List<LedgerEntryView> entries = ledgerEntryRepository.findAllViewsByUserIdAndOccurredOnBetween(
+            userId,
+            range.start(),
+            range.end()
+        );
+
+        List<LedgerResult> results = entries.stream()
+            .map(LedgerResult::from)
+            .toList();
+
+        return new LedgerEntriesByDateRangeResponse(range, results);
+    }
+}
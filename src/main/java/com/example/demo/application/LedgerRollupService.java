@@ -0,0 +1,171 @@
+package com.example.demo.application;
+
+import com.example.demo.application.dto.DateRange;
+import com.example.demo.application.dto.LedgerResult;
+import com.example.demo.application.dto.LedgerTotal;
+import com.example.demo.application.dto.LedgerTotalsResult;
+import com.example.demo.application.event.LedgerChange;
+import com.example.demo.application.event.LedgerChangedEvent;
+import com.example.demo.domain.LedgerDailyTotalRepository;
+import com.example.demo.domain.LedgerMonthlyTotalRepository;
+import com.example.demo.domain.LedgerTotalRow;
+import com.example.demo.domain.enums.LedgerCategory;
+import com.example.demo.domain.enums.LedgerType;
+import com.example.demo.domain.enums.PaymentMethod;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 일/월 단위 합계 테이블을 유지하고, 합계 조회를 항목 수가 아닌 기간 길이에 비례하게 처리한다.
+ */
+@RequiredArgsConstructor
+@Service
+public class LedgerRollupService {
+    private final LedgerDailyTotalRepository dailyTotalRepository;
+    private final LedgerMonthlyTotalRepository monthlyTotalRepository;
+    private final Clock clock;
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onLedgerChanged(LedgerChangedEvent event) {
+        Map<RollupKey, Delta> deltas = new LinkedHashMap<>();
+        for (LedgerChange change : event.changes()) {
+            if (change.before() != null) {
+                accumulate(deltas, change.before(), -1);
+            }
+            if (change.after() != null) {
+                accumulate(deltas, change.after(), 1);
+            }
+        }
+
+        deltas.forEach((key, delta) -> {
+            if (delta.isZero()) {
+                return;
+            }
+            dailyTotalRepository.upsertDelta(
+                event.userId(), key.occurredOn(),
+                key.type().name(), key.category().name(), key.paymentMethod().name(),
+                delta.amount, delta.entryCount
+            );
+        });
+
+        monthlyDeltas(deltas).forEach((key, delta) -> {
+            if (delta.isZero()) {
+                return;
+            }
+            monthlyTotalRepository.upsertDelta(
+                event.userId(), key.occurredOn(),
+                key.type().name(), key.category().name(), key.paymentMethod().name(),
+                delta.amount, delta.entryCount
+            );
+        });
+    }
+
+    @Transactional(readOnly = true)
+    public LedgerTotalsResult getTotals(Long userId, LocalDate start, LocalDate end) {
+        DateRange range = DateRange.resolve(clock, start, end);
+        Map<TotalKey, long[]> merged = new LinkedHashMap<>();
+
+        YearMonth firstFullMonth = range.start().getDayOfMonth() == 1
+            ? YearMonth.from(range.start())
+            : YearMonth.from(range.start()).plusMonths(1);
+        YearMonth lastFullMonth = range.end().equals(YearMonth.from(range.end()).atEndOfMonth())
+            ? YearMonth.from(range.end())
+            : YearMonth.from(range.end()).minusMonths(1);
+
+        if (firstFullMonth.isAfter(lastFullMonth)) {
+            merge(merged, dailyTotalRepository.sumByUserIdAndOccurredOnBetween(userId, range.start(), range.end()));
+        } else {
+            // 온전히 포함된 월은 월 합계로, 앞뒤로 걸친 일부 월은 일 합계로 계산
+            LocalDate fullStart = firstFullMonth.atDay(1);
+            LocalDate fullEnd = lastFullMonth.atEndOfMonth();
+            merge(merged, monthlyTotalRepository.sumByUserIdAndMonthStartBetween(userId, fullStart, lastFullMonth.atDay(1)));
+            if (range.start().isBefore(fullStart)) {
+                merge(merged, dailyTotalRepository.sumByUserIdAndOccurredOnBetween(userId, range.start(), fullStart.minusDays(1)));
+            }
+            if (range.end().isAfter(fullEnd)) {
+                merge(merged, dailyTotalRepository.sumByUserIdAndOccurredOnBetween(userId, fullEnd.plusDays(1), range.end()));
+            }
+        }
+
+        List<LedgerTotal> totals = new ArrayList<>();
+        merged.forEach((key, sum) -> {
+            if (sum[1] > 0) {
+                totals.add(new LedgerTotal(key.type(), key.category(), key.paymentMethod(), sum[0], sum[1]));
+            }
+        });
+        totals.sort(Comparator.comparing(LedgerTotal::type)
+            .thenComparing(LedgerTotal::category)
+            .thenComparing(LedgerTotal::paymentMethod));
+
+        return new LedgerTotalsResult(range, totals);
+    }
+
+    private static void accumulate(Map<RollupKey, Delta> deltas, LedgerResult entry, int sign) {
+        RollupKey key = new RollupKey(entry.occurredOn(), entry.type(), entry.category(), entry.paymentMethod());
+        deltas.computeIfAbsent(key, k -> new Delta()).add(sign * entry.amount(), sign);
+    }
+
+    private static Map<RollupKey, Delta> monthlyDeltas(Map<RollupKey, Delta> dailyDeltas) {
+        Map<RollupKey, Delta> monthly = new LinkedHashMap<>();
+        dailyDeltas.forEach((key, delta) -> {
+            RollupKey monthKey = new RollupKey(
+                key.occurredOn().withDayOfMonth(1), key.type(), key.category(), key.paymentMethod()
+            );
+            monthly.computeIfAbsent(monthKey, k -> new Delta()).add(delta.amount, delta.entryCount);
+        });
+        return monthly;
+    }
+
+    private static void merge(Map<TotalKey, long[]> merged, List<LedgerTotalRow> rows) {
+        for (LedgerTotalRow row : rows) {
+            long[] sum = merged.computeIfAbsent(
+                new TotalKey(row.type(), row.category(), row.paymentMethod()),
+                k -> new long[2]
+            );
+            sum[0] += row.amount();
+            sum[1] += row.entryCount();
+        }
+    }
+
+    private record RollupKey(
+        LocalDate occurredOn,
+        LedgerType type,
+        LedgerCategory category,
+        PaymentMethod paymentMethod
+    ) {
+    }
+
+    private record TotalKey(
+        LedgerType type,
+        LedgerCategory category,
+        PaymentMethod paymentMethod
+    ) {
+    }
+
+    private static final class Delta {
+        private long amount;
+        private long entryCount;
+
+        private void add(long amount, long entryCount) {
+            this.amount += amount;
+            this.entryCount += entryCount;
+        }
+
+        private boolean isZero() {
+            return amount == 0 && entryCount == 0;
+        }
+    }
+}
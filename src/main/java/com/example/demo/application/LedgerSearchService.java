@@ -0,0 +1,149 @@
+package com.example.demo.application;
+
+import com.example.demo.application.dto.LedgerSearchResult;
+import com.example.demo.application.event.LedgerChangedEvent;
+import com.example.demo.application.event.LedgerMemoChangedEvent;
+import com.example.demo.application.search.LedgerSearchIndex;
+import com.example.demo.common.config.LedgerSearchProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 내용/메모 검색
+ * 사용자별 2-gram 역색인을 메모리에 두고, 첫 검색 때 DB에서 만든 뒤 커밋된 변경 이벤트로 갱신한다.
+ * 색인은 추정 메모리 크기를 가중치로 하는 캐시에 들어가므로 전체 크기가 상한을 넘으면 오래 쓰지 않은 사용자부터 내려간다.
+ */
+@Slf4j
+@Service
+public class LedgerSearchService {
+    private static final int MAX_QUERY_LENGTH = 100;
+
+    private final LedgerService ledgerService;
+    private final LedgerSearchProperties properties;
+    private final Cache<Long, LedgerSearchIndex> indexes;
+
+    public LedgerSearchService(LedgerService ledgerService, LedgerSearchProperties properties, MeterRegistry meterRegistry) {
+        this.ledgerService = ledgerService;
+        this.properties = properties;
+        this.indexes = Caffeine.newBuilder()
+            .maximumWeight(properties.maximumIndexSize().toBytes())
+            .weigher((Long userId, LedgerSearchIndex index) -> (int) Math.min(Integer.MAX_VALUE, index.estimatedBytes()))
+            .expireAfterAccess(properties.expireAfterAccess())
+            .recordStats()
+            .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, indexes, "ledger.search");
+        Gauge.builder("ledger.search.index.size", indexes, LedgerSearchService::weightedSize)
+            .description("검색 색인 전체의 추정 메모리 크기")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+    }
+
+    public LedgerSearchResult search(Long userId, String query, Integer size) {
+        String trimmed = query == null ? "" : query.strip();
+        if (trimmed.isEmpty()) {
+            throw new IllegalArgumentException("검색어를 입력해 주세요.");
+        }
+        if (trimmed.length() > MAX_QUERY_LENGTH) {
+            throw new IllegalArgumentException("검색어는 최대 " + MAX_QUERY_LENGTH + "자입니다.");
+        }
+        int limit = properties.resolve(size);
+
+        // 빈 색인을 먼저 등록해 두어, 색인을 만드는 동안 커밋된 변경도 색인에 전달되게 한다.
+        LedgerSearchIndex index = indexes.get(userId, id -> new LedgerSearchIndex());
+        if (!index.isLoaded()) {
+            load(userId, index);
+        }
+        return new LedgerSearchResult(trimmed, index.search(trimmed, limit));
+    }
+
+    /**
+     * 사용자 색인의 추정 메모리 크기(바이트). 색인이 없으면 비어 있다.
+     */
+    public OptionalLong indexedBytes(Long userId) {
+        LedgerSearchIndex index = indexes.asMap().get(userId);
+        return index == null ? OptionalLong.empty() : OptionalLong.of(index.estimatedBytes());
+    }
+
+    /**
+     * 롤백된 변경이 검색되지 않도록 커밋 후에 반영한다.
+     */
+    @EventListener
+    public void onLedgerChanged(LedgerChangedEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(event);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(event);
+            }
+        });
+    }
+
+    @EventListener
+    public void onLedgerMemoChanged(LedgerMemoChangedEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            applyMemo(event);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                applyMemo(event);
+            }
+        });
+    }
+
+    private void applyMemo(LedgerMemoChangedEvent event) {
+        LedgerSearchIndex index = indexes.asMap().get(event.userId());
+        if (index == null) {
+            return;
+        }
+        index.updateMemo(event.ledgerId(), event.memo());
+        reweigh(event.userId(), index);
+    }
+
+    private void apply(LedgerChangedEvent event) {
+        // 색인이 없으면 다음 검색 때 DB에서 새로 만든다.
+        LedgerSearchIndex index = indexes.asMap().get(event.userId());
+        if (index == null) {
+            return;
+        }
+        index.apply(event.changes());
+        reweigh(event.userId(), index);
+    }
+
+    private void load(Long userId, LedgerSearchIndex index) {
+        long startedAt = System.nanoTime();
+        index.load(consumer -> ledgerService.streamAll(userId, consumer));
+        reweigh(userId, index);
+        log.debug("검색 색인 생성 userId={}, documents={}, bytes={}, elapsed={}ms",
+            userId, index.size(), index.estimatedBytes(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+    }
+
+    /**
+     * 같은 인스턴스로 교체해 캐시가 가중치를 다시 계산하게 한다. 그사이 축출되었으면 아무것도 하지 않는다.
+     */
+    private void reweigh(Long userId, LedgerSearchIndex index) {
+        indexes.asMap().replace(userId, index, index);
+    }
+
+    private static double weightedSize(Cache<Long, LedgerSearchIndex> cache) {
+        return cache.policy().eviction()
+            .map(eviction -> eviction.weightedSize().orElse(0L))
+            .orElse(0L);
+    }
+}
@@ -1,33 +1,70 @@
 package com.example.demo.application;
 
 import com.example.demo.application.dto.DateRange;
+import com.example.demo.application.dto.LedgerAggregationResult;
+import com.example.demo.application.dto.LedgerBatchItemResult;
+import com.example.demo.application.dto.LedgerBatchResult;
+import com.example.demo.application.dto.LedgerCalendarResult;
+import com.example.demo.application.dto.LedgerCursor;
 import com.example.demo.application.dto.LedgerEntriesByDateRangeResponse;
+import com.example.demo.application.dto.LedgerFilterCommand;
+import com.example.demo.application.dto.LedgerFilterCursor;
+import com.example.demo.application.dto.LedgerFilterResult;
+import com.example.demo.application.dto.LedgerPageResult;
 import com.example.demo.application.dto.LedgerResult;
+import com.example.demo.application.dto.LedgerTotal;
 import com.example.demo.application.dto.UpsertLedgerCommand;
+import com.example.demo.application.event.LedgerChange;
+import com.example.demo.application.event.LedgerChangedEvent;
+import com.example.demo.application.event.LedgerMemoChangedEvent;
+import com.example.demo.common.config.LedgerPageProperties;
+import com.example.demo.domain.LedgerDailyAmountRow;
 import com.example.demo.domain.LedgerEntry;
+import com.example.demo.domain.LedgerEntryFilter;
 import com.example.demo.domain.LedgerEntryRepository;
+import com.example.demo.domain.LedgerEntryView;
+import com.example.demo.domain.LedgerTotalRow;
 import com.example.demo.domain.User;
 import com.example.demo.domain.UserRepository;
+import com.example.demo.domain.enums.LedgerSort;
+import com.example.demo.domain.enums.LedgerType;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Sort;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Clock;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 @RequiredArgsConstructor
 @Service
 public class LedgerService {
+    private static final int CALENDAR_MAX_DAYS = 366;
+
     private final LedgerEntryRepository ledgerEntryRepository;
     private final UserRepository userRepository;
+    private final UserService userService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final LedgerPageProperties pageProperties;
+    private final LedgerReadCache ledgerReadCache;
+    private final LedgerReadLoader ledgerReadLoader;
     private final Clock clock;
 
     @Transactional
     public LedgerResult createLedgerEntry(UpsertLedgerCommand command) {
-        User user = userRepository.findById(command.userId())
-            .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
+        User user = userReference(command.userId());
         LedgerEntry entry = new LedgerEntry(
             command.amount(),
             command.type(),
@@ -40,27 +77,114 @@ public class LedgerService {
         );
 
         LedgerEntry saved = ledgerEntryRepository.save(entry);
-        return LedgerResult.from(saved);
+        LedgerResult result = LedgerResult.from(saved);
+        eventPublisher.publishEvent(LedgerChangedEvent.of(user.getId(), LedgerChange.created(result)));
+        return result;
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * 한 사용자의 항목들을 한 트랜잭션에서 일괄 생성한다.
+     * LedgerEntry 불변식을 어긴 항목은 건너뛰고 항목별 결과에 사유를 남기며,
+     * 나머지는 JDBC 배치 INSERT 한 번으로 저장한 뒤 변경 이벤트도 한 번만 발행한다.
+     */
+    @Transactional
+    public LedgerBatchResult createLedgerEntries(Long userId, List<UpsertLedgerCommand> commands) {
+        User user = userReference(userId);
+
+        LedgerBatchItemResult[] items = new LedgerBatchItemResult[commands.size()];
+        List<Integer> validIndexes = new ArrayList<>();
+        List<LedgerEntry> validEntries = new ArrayList<>();
+        for (int i = 0; i < commands.size(); i++) {
+            UpsertLedgerCommand command = commands.get(i);
+            try {
+                validEntries.add(new LedgerEntry(
+                    command.amount(),
+                    command.type(),
+                    command.category(),
+                    command.description(),
+                    command.occurredOn(),
+                    command.paymentMethod(),
+                    command.memo(),
+                    user
+                ));
+                validIndexes.add(i);
+            } catch (IllegalArgumentException e) {
+                items[i] = LedgerBatchItemResult.failed(i, e.getMessage());
+            }
+        }
+
+        List<Long> ids = ledgerEntryRepository.insertAll(validEntries);
+        List<LedgerChange> changes = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            LedgerResult result = LedgerResult.from(ids.get(i), validEntries.get(i));
+            items[validIndexes.get(i)] = LedgerBatchItemResult.created(validIndexes.get(i), result);
+            changes.add(LedgerChange.created(result));
+        }
+
+        if (!changes.isEmpty()) {
+            eventPublisher.publishEvent(new LedgerChangedEvent(userId, changes));
+        }
+        return new LedgerBatchResult(List.of(items));
+    }
+
+    /**
+     * 이미 검증된 여러 사용자의 항목을 JDBC 배치 INSERT 한 번으로 저장하고, 사용자별로 변경 이벤트를 한 번씩 발행한다.
+     * 반복 규칙 실체화처럼 사용자가 섞인 대량 저장에 쓰며, 결과는 입력 순서와 같다.
+     */
+    @Transactional
+    public List<LedgerResult> insertEntries(List<LedgerEntry> entries) {
+        List<Long> ids = ledgerEntryRepository.insertAll(entries);
+        List<LedgerResult> results = new ArrayList<>(ids.size());
+        Map<Long, List<LedgerChange>> changesByUser = new LinkedHashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            LedgerEntry entry = entries.get(i);
+            LedgerResult result = LedgerResult.from(ids.get(i), entry);
+            results.add(result);
+            changesByUser.computeIfAbsent(entry.getUser().getId(), userId -> new ArrayList<>())
+                .add(LedgerChange.created(result));
+        }
+
+        changesByUser.forEach((userId, changes) -> eventPublisher.publishEvent(new LedgerChangedEvent(userId, changes)));
+        return results;
+    }
+
+    /**
+     * 캐시 적중 시 커넥션/트랜잭션을 열지 않도록 트랜잭션을 걸지 않는다.
+     * 캐시 미스일 때만 LedgerReadLoader가 읽기 전용 트랜잭션에서 조회한다.
+     */
     public LedgerResult getLedgerEntry(Long userId, Long ledgerId) {
-        LedgerEntry entry = ledgerEntryRepository.findByIdAndUser_Id(ledgerId, userId)
-            .orElseThrow(() -> new IllegalArgumentException("해당되는 가계부 항목이 존재하지 않습니다."));
-        return LedgerResult.from(entry);
+        return ledgerReadCache.getEntry(userId, ledgerId, () -> ledgerReadLoader.loadEntry(userId, ledgerId));
     }
 
+    /**
+     * 소유자 조건을 건 UPDATE 한 문장으로 처리하고, 영향받은 행이 없으면 없는 항목으로 본다.
+     * 메모는 합계/예산에 영향이 없으므로 변경 전 상태를 읽지 않고 LedgerMemoChangedEvent만 발행한다.
+     */
     @Transactional
     public void updateLedgerMemo(Long userId, Long ledgerId, String memo) {
-        LedgerEntry entry = ledgerEntryRepository.findByIdAndUser_Id(ledgerId, userId)
-            .orElseThrow(() -> new IllegalArgumentException("해당되는 가계부 항목이 존재하지 않습니다."));
-        entry.updateMemo(memo);
+        String validated = LedgerEntry.validateMemo(memo);
+        // JPA Auditing, 배치 INSERT와 같은 기준(LocalDateTime.now())으로 수정 시각을 채운다.
+        int updated = ledgerEntryRepository.updateMemoByIdAndUserId(
+            ledgerId, userId, validated, LocalDateTime.now()
+        );
+        if (updated == 0) {
+            throw new IllegalArgumentException("해당되는 가계부 항목이 존재하지 않습니다.");
+        }
+        eventPublisher.publishEvent(new LedgerMemoChangedEvent(userId, ledgerId, validated));
     }
 
+    /**
+     * expectedVersion이 있으면 클라이언트가 조회한 뒤 다른 수정이 있었는지 확인한다.
+     * 조회와 커밋 사이의 경합은 @Version 검사로 걸러져 ObjectOptimisticLockingFailureException이 된다.
+     */
     @Transactional
-    public LedgerResult updateLedgerEntry(Long ledgerId, UpsertLedgerCommand command) {
+    public LedgerResult updateLedgerEntry(Long ledgerId, UpsertLedgerCommand command, Long expectedVersion) {
         LedgerEntry entry = ledgerEntryRepository.findByIdAndUser_Id(ledgerId, command.userId())
             .orElseThrow(() -> new IllegalArgumentException("해당되는 가계부 항목이 존재하지 않습니다."));
+        if (expectedVersion != null && !expectedVersion.equals(entry.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(LedgerEntry.class, ledgerId);
+        }
+        LedgerResult before = LedgerResult.from(entry);
         entry.update(
             command.amount(),
             command.type(),
@@ -69,36 +193,208 @@ public class LedgerService {
             command.paymentMethod(),
             command.memo()
         );
+        // 버전 증가를 응답과 이벤트에 반영하려면 먼저 플러시해야 한다.
+        ledgerEntryRepository.flush();
 
-        return LedgerResult.from(entry);
+        LedgerResult after = LedgerResult.from(entry);
+        eventPublisher.publishEvent(LedgerChangedEvent.of(command.userId(), LedgerChange.updated(before, after)));
+        return after;
     }
 
+    @Transactional
+    public LedgerResult updateLedgerEntry(Long ledgerId, UpsertLedgerCommand command) {
+        return updateLedgerEntry(ledgerId, command, null);
+    }
+
+    /**
+     * 합계/예산/잔액에서 뺄 값이 필요하므로 변경 전 상태를 행 잠금과 함께 프로젝션으로 읽고, 소유자 조건의 DELETE로 지운다.
+     * 잠금 덕분에 사이에 끼어든 메모 수정 등으로 삭제가 충돌하지 않는다.
+     */
     @Transactional
     public void deleteLedgerEntry(Long userId, Long ledgerId) {
-        ledgerEntryRepository.findByIdAndUser_Id(ledgerId, userId)
-            .ifPresentOrElse(
-                ledgerEntryRepository::delete,
-                () -> {
-                    throw new IllegalArgumentException("해당되는 가계부 항목이 존재하지 않습니다.");
-                }
-            );
+        LedgerEntryView before = ledgerEntryRepository.findViewForUpdateByIdAndUserId(ledgerId, userId)
+            .orElseThrow(() -> new IllegalArgumentException("해당되는 가계부 항목이 존재하지 않습니다."));
+        ledgerEntryRepository.deleteByIdAndUserId(ledgerId, userId);
+        eventPublisher.publishEvent(LedgerChangedEvent.of(userId, LedgerChange.deleted(LedgerResult.from(before))));
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * 존재 여부는 사용자 캐시로 확인하고, INSERT에는 SELECT 없이 FK 참조용 프록시만 사용한다.
+     */
+    private User userReference(Long userId) {
+        userService.getUserInfo(userId);
+        return userRepository.getReferenceById(userId);
+    }
+
+    /**
+     * getLedgerEntry와 마찬가지로 트랜잭션 없이 캐시를 먼저 보고,
+     * 캐시 미스일 때만 LedgerReadLoader가 읽기 전용 트랜잭션에서 조회한다.
+     */
     public LedgerEntriesByDateRangeResponse getSummary(Long userId, LocalDate start, LocalDate end) {
         DateRange range = DateRange.resolve(clock, start, end);
+        return ledgerReadCache.getSummary(userId, range, () -> ledgerReadLoader.loadSummary(userId, range));
+    }
 
-        List<LedgerEntry> entries = ledgerEntryRepository.findAllByUser_IdAndOccurredOnBetween(
+    /**
+     * 유형/카테고리/결제 수단 조합별 합계를 DB에서 한 번에 GROUP BY로 구한 뒤, 화면별 축으로 접는다.
+     * 조합 수가 작아(최대 수백 행) 항목 수와 무관하게 전송/연산 비용이 일정하다.
+     */
+    @Transactional(readOnly = true)
+    public LedgerAggregationResult getAggregation(Long userId, LocalDate start, LocalDate end) {
+        DateRange range = DateRange.resolve(clock, start, end);
+        List<LedgerTotalRow> rows = ledgerEntryRepository.sumByUserIdAndOccurredOnBetween(
             userId,
+            range.start(),
+            range.end()
+        );
+
+        return new LedgerAggregationResult(
+            range,
+            fold(rows, row -> new LedgerTotal(row.type(), null, null, 0, 0)),
+            fold(rows, row -> new LedgerTotal(row.type(), row.category(), null, 0, 0)),
+            fold(rows, row -> new LedgerTotal(row.type(), null, row.paymentMethod(), 0, 0))
+        );
+    }
+
+    /**
+     * 달력/연간 히트맵용 일자별 합계. 항목 대신 일자당 숫자 두 개만 돌려준다.
+     */
+    @Transactional(readOnly = true)
+    public LedgerCalendarResult getCalendar(Long userId, LocalDate start, LocalDate end) {
+        DateRange range = DateRange.resolve(clock, start, end);
+        int days = (int) ChronoUnit.DAYS.between(range.start(), range.end()) + 1;
+        if (days > CALENDAR_MAX_DAYS) {
+            throw new IllegalArgumentException("달력 조회 기간은 최대 " + CALENDAR_MAX_DAYS + "일입니다.");
+        }
+
+        long[] income = new long[days];
+        long[] expense = new long[days];
+        for (LedgerDailyAmountRow row : ledgerEntryRepository.sumDailyByUserIdAndOccurredOnBetween(
+            userId, range.start(), range.end()
+        )) {
+            int day = (int) ChronoUnit.DAYS.between(range.start(), row.occurredOn());
+            long[] target = row.type() == LedgerType.INCOME ? income : expense;
+            target[day] += row.amount();
+        }
+        return new LedgerCalendarResult(range, income, expense);
+    }
+
+    public DateRange resolveRange(LocalDate start, LocalDate end) {
+        return DateRange.resolve(clock, start, end);
+    }
+
+    /**
+     * 기간 내 항목을 정렬 순서대로 한 건씩 consumer에 넘긴다.
+     * 목록을 만들지 않고 영속성 컨텍스트에도 올리지 않으므로 항목 수와 무관하게 메모리 사용량이 일정하다.
+     */
+    @Transactional(readOnly = true)
+    public void streamSummary(Long userId, DateRange range, Consumer<LedgerResult> consumer) {
+        try (Stream<LedgerEntryView> entries = ledgerEntryRepository.streamAllByUserIdAndOccurredOnBetween(
+            userId, range.start(), range.end()
+        )) {
+            entries.map(LedgerResult::from).forEach(consumer);
+        }
+    }
+
+    /**
+     * 유형/카테고리/결제 수단/금액 조건을 조합해 DB에서 거른 뒤 정렬 순서대로 size건을 돌려준다.
+     * cursor가 있으면 정렬 키(발생일 또는 금액)와 id로 그 다음 항목부터 읽는다.
+     */
+    @Transactional(readOnly = true)
+    public LedgerFilterResult filter(LedgerFilterCommand command) {
+        DateRange range = DateRange.resolve(clock, command.start(), command.end());
+        if (command.minAmount() != null && command.maxAmount() != null && command.minAmount() > command.maxAmount()) {
+            throw new IllegalArgumentException("minAmount는 maxAmount보다 클 수 없습니다.");
+        }
+        int size = pageProperties.resolve(command.size());
+        LedgerSort sort = command.sort() == null ? LedgerSort.OCCURRED_ON_ASC : command.sort();
+        LedgerEntryFilter.After after = command.cursor() == null || command.cursor().isBlank()
+            ? null
+            : LedgerFilterCursor.decode(command.cursor(), sort).toAfter();
+
+        LedgerEntryFilter filter = new LedgerEntryFilter(
             range.start(),
             range.end(),
-            Sort.by(Sort.Order.asc("occurredOn"), Sort.Order.asc("id"))
+            command.types(),
+            command.categories(),
+            command.paymentMethods(),
+            command.minAmount(),
+            command.maxAmount(),
+            sort,
+            after
         );
+        // 한 건 더 읽어 다음 항목이 있는지 판단한다.
+        List<LedgerEntryView> views = ledgerEntryRepository.findAllByFilter(command.userId(), filter, size + 1);
+
+        List<LedgerResult> results = views.stream()
+            .limit(size)
+            .map(LedgerResult::from)
+            .toList();
+        String nextCursor = views.size() > size
+            ? LedgerFilterCursor.after(sort, results.get(results.size() - 1)).encode()
+            : null;
+        return new LedgerFilterResult(range, results, nextCursor);
+    }
+
+    /**
+     * 사용자의 전체 항목을 순서 없이 한 건씩 consumer에 넘긴다.
+     */
+    @Transactional(readOnly = true)
+    public void streamAll(Long userId, Consumer<LedgerResult> consumer) {
+        try (Stream<LedgerEntryView> entries = ledgerEntryRepository.streamAllByUserId(userId)) {
+            entries.map(LedgerResult::from).forEach(consumer);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public LedgerPageResult getPage(Long userId, LocalDate start, LocalDate end, String cursor, Integer size) {
+        DateRange range = DateRange.resolve(clock, start, end);
+        int pageSize = pageProperties.resolve(size);
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<LedgerEntryView> entries;
+        if (cursor == null || cursor.isBlank()) {
+            entries = ledgerEntryRepository.findFirstPage(userId, range.start(), range.end(), limit);
+        } else {
+            LedgerCursor after = LedgerCursor.decode(cursor);
+            entries = ledgerEntryRepository.findPageAfter(
+                userId, range.start(), range.end(), after.occurredOn(), after.ledgerId(), limit
+            );
+        }
 
         List<LedgerResult> results = entries.stream()
+            .limit(pageSize)
             .map(LedgerResult::from)
             .toList();
+        String nextCursor = entries.size() > pageSize
+            ? LedgerCursor.after(results.get(results.size() - 1)).encode()
+            : null;
 
-        return new LedgerEntriesByDateRangeResponse(range, results);
+        return new LedgerPageResult(range, results, nextCursor);
+    }
+
+    /**
+     * keyOf가 돌려준 축(금액/건수 0)별로 합산하고, 유형 안에서 금액이 큰 순으로 정렬한다.
+     */
+    private static List<LedgerTotal> fold(List<LedgerTotalRow> rows, Function<LedgerTotalRow, LedgerTotal> keyOf) {
+        Map<LedgerTotal, long[]> sums = new LinkedHashMap<>();
+        for (LedgerTotalRow row : rows) {
+            long[] sum = sums.computeIfAbsent(keyOf.apply(row), key -> new long[2]);
+            sum[0] += row.amount();
+            sum[1] += row.entryCount();
+        }
+
+        return sums.entrySet().stream()
+            .map(entry -> new LedgerTotal(
+                entry.getKey().type(),
+                entry.getKey().category(),
+                entry.getKey().paymentMethod(),
+                entry.getValue()[0],
+                entry.getValue()[1]
+            ))
+            .sorted(Comparator.comparing(LedgerTotal::type)
+                .thenComparing(Comparator.comparingLong(LedgerTotal::amount).reversed()))
+            .toList();
     }
 }
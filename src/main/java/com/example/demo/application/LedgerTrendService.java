@@ -0,0 +1,155 @@
+package com.example.demo.application;
+
+import com.example.demo.application.dto.DateRange;
+import com.example.demo.application.dto.LedgerCategoryTrend;
+import com.example.demo.application.dto.LedgerMonthTrend;
+import com.example.demo.application.dto.LedgerTrendResult;
+import com.example.demo.domain.LedgerEntryRepository;
+import com.example.demo.domain.LedgerMonthlyCategoryRow;
+import com.example.demo.domain.LedgerMonthlyTotalRepository;
+import com.example.demo.domain.LedgerTotalRow;
+import com.example.demo.domain.enums.LedgerCategory;
+import com.example.demo.domain.enums.LedgerType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 월별 카테고리 추이
+ * 지난 달은 증분 유지되는 월 합계(ledger_monthly_total)에서 읽고, 진행 중인 이번 달만 원본에서 집계한다.
+ * 조회 비용이 기간 길이가 아니라 이번 달 항목 수에 비례하므로 36개월도 한 달 조회와 비슷한 비용이다.
+ */
+@RequiredArgsConstructor
+@Service
+public class LedgerTrendService {
+    private static final int DEFAULT_MONTHS = 12;
+    private static final int MAX_MONTHS = 36;
+    private static final Comparator<CategoryKey> KEY_ORDER = Comparator
+        .comparing(CategoryKey::type)
+        .thenComparing(CategoryKey::category);
+
+    private final LedgerMonthlyTotalRepository monthlyTotalRepository;
+    private final LedgerEntryRepository ledgerEntryRepository;
+    private final Clock clock;
+
+    /**
+     * to(기본: 이번 달)로 끝나는 months(기본 12, 최대 36)개월을 첫 날~마지막 날 범위로 변환
+     */
+    public DateRange resolveRange(YearMonth to, Integer months) {
+        YearMonth end = to != null ? to : YearMonth.now(clock);
+        YearMonth from = end.minusMonths(resolveMonths(months) - 1L);
+        return new DateRange(from.atDay(1), end.atEndOfMonth());
+    }
+
+    /**
+     * from~to 월별 추이. 첫 달의 증감을 위해 한 달 앞까지 읽는다.
+     */
+    @Transactional(readOnly = true)
+    public LedgerTrendResult getTrend(Long userId, YearMonth from, YearMonth end) {
+        YearMonth current = YearMonth.now(clock);
+        YearMonth base = from.minusMonths(1);
+
+        Map<YearMonth, Map<CategoryKey, long[]>> sums = new HashMap<>();
+        for (LedgerMonthlyCategoryRow row : monthlyTotalRepository.sumByUserIdAndMonthStartBetweenGroupByMonth(
+            userId, base.atDay(1), end.atDay(1)
+        )) {
+            YearMonth month = YearMonth.from(row.monthStart());
+            if (!month.equals(current) && row.entryCount() > 0) {
+                add(sums, month, row.type(), row.category(), row.amount(), row.entryCount());
+            }
+        }
+        if (!current.isBefore(base) && !current.isAfter(end)) {
+            for (LedgerTotalRow row : ledgerEntryRepository.sumByUserIdAndOccurredOnBetween(
+                userId, current.atDay(1), current.atEndOfMonth()
+            )) {
+                add(sums, current, row.type(), row.category(), row.amount(), row.entryCount());
+            }
+        }
+
+        List<LedgerMonthTrend> trends = new ArrayList<>();
+        for (YearMonth month = from; !month.isAfter(end); month = month.plusMonths(1)) {
+            trends.add(trend(
+                month,
+                sums.getOrDefault(month, Map.of()),
+                sums.getOrDefault(month.minusMonths(1), Map.of())
+            ));
+        }
+        return new LedgerTrendResult(from, end, trends);
+    }
+
+    private static int resolveMonths(Integer months) {
+        if (months == null) {
+            return DEFAULT_MONTHS;
+        }
+        if (months < 1 || months > MAX_MONTHS) {
+            throw new IllegalArgumentException("months는 1 이상 " + MAX_MONTHS + " 이하여야 합니다.");
+        }
+        return months;
+    }
+
+    private static void add(
+        Map<YearMonth, Map<CategoryKey, long[]>> sums,
+        YearMonth month,
+        LedgerType type,
+        LedgerCategory category,
+        long amount,
+        long entryCount
+    ) {
+        long[] sum = sums.computeIfAbsent(month, key -> new HashMap<>())
+            .computeIfAbsent(new CategoryKey(type, category), key -> new long[2]);
+        sum[0] += amount;
+        sum[1] += entryCount;
+    }
+
+    /**
+     * 이번 달이나 전월 중 한쪽에만 있는 카테고리도 포함해, 0으로 줄어든 카테고리의 감소분이 보이게 한다.
+     */
+    private static LedgerMonthTrend trend(
+        YearMonth month,
+        Map<CategoryKey, long[]> current,
+        Map<CategoryKey, long[]> previous
+    ) {
+        Set<CategoryKey> keys = new TreeSet<>(KEY_ORDER);
+        keys.addAll(current.keySet());
+        keys.addAll(previous.keySet());
+
+        List<LedgerCategoryTrend> categories = keys.stream()
+            .map(key -> {
+                long[] sum = current.getOrDefault(key, new long[2]);
+                long previousAmount = previous.getOrDefault(key, new long[2])[0];
+                return new LedgerCategoryTrend(key.type(), key.category(), sum[0], sum[1], sum[0] - previousAmount);
+            })
+            .toList();
+
+        long income = total(current, LedgerType.INCOME);
+        long expense = total(current, LedgerType.EXPENSE);
+        return new LedgerMonthTrend(
+            month,
+            income,
+            expense,
+            income - total(previous, LedgerType.INCOME),
+            expense - total(previous, LedgerType.EXPENSE),
+            categories
+        );
+    }
+
+    private static long total(Map<CategoryKey, long[]> sums, LedgerType type) {
+        return sums.entrySet().stream()
+            .filter(entry -> entry.getKey().type() == type)
+            .mapToLong(entry -> entry.getValue()[0])
+            .sum();
+    }
+
+    private record CategoryKey(LedgerType type, LedgerCategory category) {
+    }
+}
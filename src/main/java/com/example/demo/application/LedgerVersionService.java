@@ -0,0 +1,40 @@
+package com.example.demo.application;
+
+import com.example.demo.application.event.LedgerChangedEvent;
+import com.example.demo.application.event.LedgerMemoChangedEvent;
+import com.example.demo.domain.LedgerVersionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 사용자별 가계부 버전 관리
+ * 변경과 같은 트랜잭션에서 증가시켜, 커밋된 버전이 항상 커밋된 데이터와 일치하도록 한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class LedgerVersionService {
+    private final LedgerVersionRepository ledgerVersionRepository;
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onLedgerChanged(LedgerChangedEvent event) {
+        ledgerVersionRepository.increment(event.userId());
+    }
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onLedgerMemoChanged(LedgerMemoChangedEvent event) {
+        ledgerVersionRepository.increment(event.userId());
+    }
+
+    /**
+     * 한 번도 변경되지 않은 사용자는 0
+     */
+    @Transactional(readOnly = true)
+    public long getVersion(Long userId) {
+        return ledgerVersionRepository.findVersionByUserId(userId).orElse(0L);
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.demo.application;
+
+import com.example.demo.application.dto.UserInfo;
+
+import java.util.function.Supplier;
+
+/**
+ * 인증된 사용자 정보 캐시
+ * 무효화는 구현체가 UserChangedEvent를 받아 처리한다.
+ */
+public interface UserInfoCache {
+
+    /**
+     * loader가 null을 반환하면(존재하지 않는 사용자) 캐시에 넣지 않는다.
+     */
+    UserInfo get(Long userId, Supplier<UserInfo> loader);
+}
@@ -5,17 +5,31 @@ import com.example.demo.domain.User;
 import com.example.demo.domain.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
 
 @RequiredArgsConstructor
 @Service
 public class UserService {
     private final UserRepository userRepository;
+    private final UserInfoCache userInfoCache;
 
-    @Transactional(readOnly = true)
     public UserInfo getUserInfo(Long userId) {
-        User user = userRepository.findById(userId)
+        return findUserInfo(userId)
             .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
+    }
+
+    /**
+     * 캐시 적중 시 커넥션/트랜잭션을 열지 않도록, 트랜잭션은 캐시 미스일 때 리포지토리 조회에서만 시작된다.
+     * 존재하지 않는 사용자는 캐시하지 않는다.
+     */
+    public Optional<UserInfo> findUserInfo(Long userId) {
+        return Optional.ofNullable(userInfoCache.get(userId, () -> userRepository.findById(userId)
+            .map(UserService::toUserInfo)
+            .orElse(null)));
+    }
+
+    private static UserInfo toUserInfo(User user) {
         return new UserInfo(user.getId(), user.getNickname(), user.getLevel(), user.getProfile());
     }
 }
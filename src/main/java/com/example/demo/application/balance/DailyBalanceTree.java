@@ -0,0 +1,113 @@
+package com.example.demo.application.balance;
+
+import com.example.demo.domain.LedgerDailyAmountRow;
+import com.example.demo.domain.LedgerEntry;
+import com.example.demo.domain.enums.LedgerType;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * 날짜별 순증감(수입 +, 지출 -)의 펜윅 트리(Binary Indexed Tree)
+ * origin부터 하루를 한 칸으로 두고, 특정 날짜까지의 누적 잔액과 한 날짜의 증감 반영을 모두 O(log n)에 처리한다.
+ * 동기화하지 않으므로 LedgerBalanceIndex의 잠금 안에서만 사용한다.
+ */
+public final class DailyBalanceTree {
+    // 생성 후 범위 밖 날짜가 들어오면 다시 만들어야 하므로 앞뒤로 여유를 둔다.
+    private static final int PAST_SLACK_DAYS = 366;
+    private static final int FUTURE_SLACK_DAYS = 2 * 366;
+    private static final long OBJECT_BYTES = 64;
+
+    private final LocalDate origin;
+    // 1부터 시작하는 펜윅 배열. tree[i]는 (i - lowbit(i), i] 구간의 합
+    private final long[] tree;
+
+    private DailyBalanceTree(LocalDate origin, long[] tree) {
+        this.origin = origin;
+        this.tree = tree;
+    }
+
+    /**
+     * 일별 합계로 O(n)에 만든다. 범위는 첫 기록일(과 오늘) 1년 전부터 마지막 기록일(과 오늘) 2년 뒤까지이고,
+     * 항목이 가질 수 있는 발생일 범위(LedgerEntry.MIN_OCCURRED_ON ~ MAX_OCCURRED_ON)를 넘지 않으므로 크기는 약 3만 7천 칸(300KB)이 상한이다.
+     */
+    public static DailyBalanceTree of(List<LedgerDailyAmountRow> rows, LocalDate today) {
+        LocalDate first = today;
+        LocalDate last = today;
+        for (LedgerDailyAmountRow row : rows) {
+            if (row.occurredOn().isBefore(first)) {
+                first = row.occurredOn();
+            }
+            if (row.occurredOn().isAfter(last)) {
+                last = row.occurredOn();
+            }
+        }
+        LocalDate origin = latest(first.minusDays(PAST_SLACK_DAYS), LedgerEntry.MIN_OCCURRED_ON);
+        LocalDate end = earliest(last.plusDays(FUTURE_SLACK_DAYS), LedgerEntry.MAX_OCCURRED_ON);
+        int size = Math.toIntExact(ChronoUnit.DAYS.between(origin, end)) + 1;
+
+        long[] tree = new long[size + 1];
+        for (LedgerDailyAmountRow row : rows) {
+            // 범위 밖 날짜는 발생일 검증 이전에 저장된 항목뿐이므로 트리를 늘리지 않고 가장 가까운 끝 칸에 모은다.
+            long offset = Math.clamp(ChronoUnit.DAYS.between(origin, row.occurredOn()), 0, size - 1);
+            tree[(int) offset + 1] += signed(row.type(), row.amount());
+        }
+        for (int i = 1; i <= size; i++) {
+            int parent = i + (i & -i);
+            if (parent <= size) {
+                tree[parent] += tree[i];
+            }
+        }
+        return new DailyBalanceTree(origin, tree);
+    }
+
+    public static long signed(LedgerType type, long amount) {
+        return type == LedgerType.INCOME ? amount : -amount;
+    }
+
+    /**
+     * date에 delta를 더한다. 범위 밖이면 반영하지 않고 false를 돌려준다.
+     */
+    public boolean add(LocalDate date, long delta) {
+        long offset = ChronoUnit.DAYS.between(origin, date);
+        if (offset < 0 || offset >= size()) {
+            return false;
+        }
+        for (int i = (int) offset + 1; i <= size(); i += i & -i) {
+            tree[i] += delta;
+        }
+        return true;
+    }
+
+    /**
+     * date 당일까지의 누적 잔액. 범위보다 앞이면 0, 뒤면 전체 합계
+     */
+    public long balanceAsOf(LocalDate date) {
+        long offset = ChronoUnit.DAYS.between(origin, date);
+        if (offset < 0) {
+            return 0;
+        }
+        long sum = 0;
+        for (int i = (int) Math.min(offset + 1, size()); i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+
+    public int size() {
+        return tree.length - 1;
+    }
+
+    public long estimatedBytes() {
+        return OBJECT_BYTES + 16L + 8L * tree.length;
+    }
+
+    private static LocalDate latest(LocalDate a, LocalDate b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    private static LocalDate earliest(LocalDate a, LocalDate b) {
+        return a.isBefore(b) ? a : b;
+    }
+}
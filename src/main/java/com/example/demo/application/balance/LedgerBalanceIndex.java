@@ -0,0 +1,120 @@
+package com.example.demo.application.balance;
+
+import com.example.demo.application.dto.LedgerResult;
+import com.example.demo.application.event.LedgerChange;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * 한 사용자의 잔액 트리와 적재 상태
+ * 트리는 DB 스냅샷에 커밋된 변경을 더해 가며 유지되므로, 같은 변경이 스냅샷과 증감에 두 번 들어가지 않아야 한다.
+ * 그래서 진행 중인 트랜잭션 수(pending)와 변경 세대(generation)를 세어, 스냅샷을 읽는 동안 변경이 없었을 때만 트리를 설치한다.
+ * 모든 상태 변경과 조회는 인스턴스 잠금 안에서 이루어진다.
+ */
+public final class LedgerBalanceIndex {
+    private static final long OBJECT_BYTES = 96;
+
+    private DailyBalanceTree tree;
+    private long generation;
+    private int pending;
+    private volatile long estimatedBytes = OBJECT_BYTES;
+
+    public synchronized boolean isLoaded() {
+        return tree != null;
+    }
+
+    /**
+     * 트리가 있으면 reader 결과, 없으면 비어 있다.
+     */
+    public synchronized <T> Optional<T> read(Function<DailyBalanceTree, T> reader) {
+        return tree == null ? Optional.empty() : Optional.of(reader.apply(tree));
+    }
+
+    /**
+     * 스냅샷을 읽기 전에 호출한다. 진행 중인 변경이 있어 설치할 수 없으면 -1
+     */
+    public synchronized long loadableGeneration() {
+        return pending > 0 ? -1 : generation;
+    }
+
+    /**
+     * 스냅샷을 읽는 동안 세대가 바뀌지 않았을 때만 설치한다.
+     */
+    public synchronized boolean install(long loadableGeneration, DailyBalanceTree loaded) {
+        if (loadableGeneration < 0 || loadableGeneration != generation || pending > 0) {
+            return false;
+        }
+        tree = loaded;
+        estimatedBytes = OBJECT_BYTES + loaded.estimatedBytes();
+        return true;
+    }
+
+    /**
+     * 변경을 쓰는 트랜잭션 안에서 호출한다. 이 트랜잭션이 끝날 때까지 스냅샷을 설치하지 않는다.
+     */
+    public synchronized void begin() {
+        generation++;
+        pending++;
+    }
+
+    /**
+     * begin한 트랜잭션이 끝났을 때 호출한다. 커밋된 변경만 트리에 더한다.
+     */
+    public synchronized void complete(List<LedgerChange> changes, boolean committed) {
+        generation++;
+        pending--;
+        if (committed) {
+            apply(changes);
+        }
+    }
+
+    /**
+     * 트랜잭션 밖에서 이미 반영된 변경
+     */
+    public synchronized void applyCommitted(List<LedgerChange> changes) {
+        generation++;
+        apply(changes);
+    }
+
+    /**
+     * 트리를 버리고 다음 조회에서 다시 만들게 한다. 진행 중인 적재도 설치되지 않는다.
+     */
+    public synchronized void reset() {
+        generation++;
+        drop();
+    }
+
+    /**
+     * 잔액 트리가 차지하는 힙 메모리 추정치(바이트). 캐시 가중치 계산에서 잠금 없이 읽는다.
+     */
+    public long estimatedBytes() {
+        return estimatedBytes;
+    }
+
+    private void apply(List<LedgerChange> changes) {
+        if (tree == null) {
+            return;
+        }
+        for (LedgerChange change : changes) {
+            if (!add(change.before(), -1) || !add(change.after(), 1)) {
+                // 트리 범위 밖의 날짜. 범위를 넓혀 다시 만든다.
+                drop();
+                return;
+            }
+        }
+    }
+
+    private boolean add(LedgerResult entry, int sign) {
+        if (entry == null) {
+            return true;
+        }
+        return tree.add(entry.occurredOn(), sign * DailyBalanceTree.signed(entry.type(), entry.amount()));
+    }
+
+    private void drop() {
+        tree = null;
+        estimatedBytes = OBJECT_BYTES;
+    }
+}
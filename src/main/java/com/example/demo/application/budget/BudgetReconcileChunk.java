@@ -0,0 +1,11 @@
+package com.example.demo.application.budget;
+
+/**
+ * 한 청크에서 점검/보정한 예산 수와 마지막 예산 ID. 점검 수가 0이면 끝까지 점검한 것이다.
+ */
+record BudgetReconcileChunk(
+    int checked,
+    int corrected,
+    long lastId
+) {
+}
@@ -0,0 +1,46 @@
+package com.example.demo.application.budget;
+
+import com.example.demo.domain.Budget;
+import com.example.demo.domain.BudgetRepository;
+import com.example.demo.domain.LedgerEntryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * 예산 청크 하나를 잠그고 사용액을 원본(ledger_entry) 합계와 비교해 보정한다.
+ * 예산 행을 잠근 뒤 합계를 읽으므로, 그 사이 커밋되는 항목 변경은 잠금이 풀린 뒤 카운터에 더해져 보정값과 겹치지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BudgetReconciler {
+    private final BudgetRepository budgetRepository;
+    private final LedgerEntryRepository ledgerEntryRepository;
+
+    @Transactional
+    public BudgetReconcileChunk reconcileChunk(long afterId, int size) {
+        List<Budget> budgets = budgetRepository.findChunkForUpdate(afterId, Limit.of(size));
+        int corrected = 0;
+        for (Budget budget : budgets) {
+            YearMonth month = YearMonth.from(budget.getMonthStart());
+            long actual = ledgerEntryRepository.sumExpenseByUserIdAndCategoryAndOccurredOnBetween(
+                budget.getUserId(), budget.getCategory(), month.atDay(1), month.atEndOfMonth()
+            );
+            if (actual != budget.getSpent()) {
+                log.warn("예산 사용액 보정 budgetId={} userId={} month={} category={} counter={} actual={}",
+                    budget.getId(), budget.getUserId(), month, budget.getCategory(), budget.getSpent(), actual);
+                budget.correctSpent(actual);
+                corrected++;
+            }
+        }
+
+        long lastId = budgets.isEmpty() ? afterId : budgets.get(budgets.size() - 1).getId();
+        return new BudgetReconcileChunk(budgets.size(), corrected, lastId);
+    }
+}
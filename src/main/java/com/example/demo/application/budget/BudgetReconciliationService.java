@@ -0,0 +1,52 @@
+package com.example.demo.application.budget;
+
+import com.example.demo.application.dto.BudgetReconciliationResult;
+import com.example.demo.common.config.BudgetProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 예산 사용액 카운터 정합성 점검
+ * 모든 예산을 ID 순 청크로 돌며 원본 합계로 다시 계산한 값과 비교한다.
+ * 보정 건수가 0이면 증감 카운터가 전체 재계산과 일치함이 확인된 것이고, 0이 아니면 로그와 지표로 남긴다.
+ */
+@Slf4j
+@Service
+public class BudgetReconciliationService {
+    private final BudgetReconciler reconciler;
+    private final BudgetProperties properties;
+    private final Counter correctedCounter;
+
+    public BudgetReconciliationService(BudgetReconciler reconciler, BudgetProperties properties, MeterRegistry meterRegistry) {
+        this.reconciler = reconciler;
+        this.properties = properties;
+        this.correctedCounter = Counter.builder("ledger.budget.reconcile.corrected")
+            .description("정합성 점검에서 보정한 예산 사용액 카운터 수")
+            .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${ledger.budget.reconcile-cron:0 30 4 * * *}", zone = "Asia/Seoul")
+    public void reconcileNightly() {
+        reconcile();
+    }
+
+    public BudgetReconciliationResult reconcile() {
+        long checked = 0;
+        long corrected = 0;
+        long afterId = 0;
+        BudgetReconcileChunk chunk;
+        do {
+            chunk = reconciler.reconcileChunk(afterId, properties.reconcileChunkSize());
+            checked += chunk.checked();
+            corrected += chunk.corrected();
+            afterId = chunk.lastId();
+        } while (chunk.checked() > 0);
+
+        correctedCounter.increment(corrected);
+        log.info("예산 정합성 점검 checked={} corrected={}", checked, corrected);
+        return new BudgetReconciliationResult(checked, corrected);
+    }
+}
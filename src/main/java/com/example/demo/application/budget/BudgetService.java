@@ -0,0 +1,113 @@
+package com.example.demo.application.budget;
+
+import com.example.demo.application.dto.BudgetResult;
+import com.example.demo.application.dto.LedgerResult;
+import com.example.demo.application.event.LedgerChange;
+import com.example.demo.application.event.LedgerChangedEvent;
+import com.example.demo.domain.BudgetRepository;
+import com.example.demo.domain.enums.LedgerCategory;
+import com.example.demo.domain.enums.LedgerType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 월/카테고리 지출 예산
+ * 사용액은 항목 변경마다 차이만큼 증감되므로, 남은 예산 조회는 합계 계산 없이 예산 한 행만 읽는다.
+ */
+@RequiredArgsConstructor
+@Service
+public class BudgetService {
+    private final BudgetRepository budgetRepository;
+    private final Clock clock;
+
+    /**
+     * 금액, 카테고리, 날짜, 유형 변경 모두 변경 전 값을 빼고 변경 후 값을 더하는 것으로 처리한다.
+     */
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onLedgerChanged(LedgerChangedEvent event) {
+        Map<BudgetKey, Long> deltas = new LinkedHashMap<>();
+        for (LedgerChange change : event.changes()) {
+            accumulate(deltas, change.before(), -1);
+            accumulate(deltas, change.after(), 1);
+        }
+
+        deltas.forEach((key, delta) -> {
+            if (delta != 0) {
+                budgetRepository.addSpent(event.userId(), key.monthStart(), key.category().name(), delta);
+            }
+        });
+    }
+
+    @Transactional
+    public BudgetResult setBudget(Long userId, YearMonth month, LedgerCategory category, Long amount) {
+        validate(month, category);
+        if (amount == null || amount <= 0) {
+            throw new IllegalArgumentException("예산 금액(amount)은 0보다 커야 합니다.");
+        }
+        budgetRepository.upsertAmount(userId, month.atDay(1), month.atEndOfMonth(), category.name(), amount);
+        return getBudget(userId, month, category);
+    }
+
+    @Transactional(readOnly = true)
+    public BudgetResult getBudget(Long userId, YearMonth month, LedgerCategory category) {
+        validate(month, category);
+        return budgetRepository.findByUserIdAndMonthStartAndCategory(userId, month.atDay(1), category)
+            .map(BudgetResult::from)
+            .orElseThrow(() -> new IllegalArgumentException("설정된 예산이 없습니다."));
+    }
+
+    /**
+     * month가 없으면 이번 달
+     */
+    @Transactional(readOnly = true)
+    public List<BudgetResult> getBudgets(Long userId, YearMonth month) {
+        YearMonth resolved = month == null ? YearMonth.now(clock) : month;
+        return budgetRepository.findAllByUserIdAndMonthStartOrderByCategoryAsc(userId, resolved.atDay(1)).stream()
+            .map(BudgetResult::from)
+            .toList();
+    }
+
+    @Transactional
+    public void deleteBudget(Long userId, YearMonth month, LedgerCategory category) {
+        validate(month, category);
+        if (budgetRepository.deleteByUserIdAndMonthStartAndCategory(userId, month.atDay(1), category) == 0) {
+            throw new IllegalArgumentException("설정된 예산이 없습니다.");
+        }
+    }
+
+    private static void validate(YearMonth month, LedgerCategory category) {
+        if (month == null) {
+            throw new IllegalArgumentException("월(month)은 필수입니다.");
+        }
+        if (category == null) {
+            throw new IllegalArgumentException("카테고리(category)는 필수입니다.");
+        }
+        if (category.fixedType().filter(type -> type != LedgerType.EXPENSE).isPresent()) {
+            throw new IllegalArgumentException("지출 카테고리에만 예산을 정할 수 있습니다.");
+        }
+    }
+
+    private static void accumulate(Map<BudgetKey, Long> deltas, LedgerResult entry, int sign) {
+        if (entry == null || entry.type() != LedgerType.EXPENSE) {
+            return;
+        }
+        deltas.merge(new BudgetKey(entry.occurredOn().withDayOfMonth(1), entry.category()), sign * entry.amount(), Long::sum);
+    }
+
+    private record BudgetKey(
+        LocalDate monthStart,
+        LedgerCategory category
+    ) {
+    }
+}
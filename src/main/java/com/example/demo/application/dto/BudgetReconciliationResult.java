@@ -0,0 +1,10 @@
+package com.example.demo.application.dto;
+
+/**
+ * 점검한 예산 수와, 카운터가 원본 합계와 달라 보정한 예산 수
+ */
+public record BudgetReconciliationResult(
+    long checked,
+    long corrected
+) {
+}
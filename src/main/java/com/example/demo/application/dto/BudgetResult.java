@@ -0,0 +1,27 @@
+package com.example.demo.application.dto;
+
+import com.example.demo.domain.Budget;
+import com.example.demo.domain.enums.LedgerCategory;
+
+import java.time.YearMonth;
+
+/**
+ * remaining이 음수면 예산을 넘긴 것
+ */
+public record BudgetResult(
+    YearMonth month,
+    LedgerCategory category,
+    long amount,
+    long spent,
+    long remaining
+) {
+    public static BudgetResult from(Budget budget) {
+        return new BudgetResult(
+            YearMonth.from(budget.getMonthStart()),
+            budget.getCategory(),
+            budget.getAmount(),
+            budget.getSpent(),
+            budget.remaining()
+        );
+    }
+}
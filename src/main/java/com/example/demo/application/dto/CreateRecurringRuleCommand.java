@@ -0,0 +1,25 @@
+package com.example.demo.application.dto;
+
+import com.example.demo.domain.enums.LedgerCategory;
+import com.example.demo.domain.enums.LedgerType;
+import com.example.demo.domain.enums.PaymentMethod;
+import com.example.demo.domain.enums.RecurrenceFrequency;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+
+public record CreateRecurringRuleCommand(
+    long userId,
+    long amount,
+    LedgerType type,
+    LedgerCategory category,
+    String description,
+    PaymentMethod paymentMethod,
+    String memo,
+    RecurrenceFrequency frequency,
+    Integer dayOfMonth,
+    DayOfWeek dayOfWeek,
+    LocalDate startDate,
+    LocalDate endDate
+) {
+}
@@ -0,0 +1,15 @@
+package com.example.demo.application.dto;
+
+import java.util.List;
+
+/**
+ * 기간 집계 결과
+ * 유형별 합계는 category/paymentMethod, 카테고리별은 paymentMethod, 결제 수단별은 category가 null이다.
+ */
+public record LedgerAggregationResult(
+    DateRange dateRange,
+    List<LedgerTotal> byType,
+    List<LedgerTotal> byCategory,
+    List<LedgerTotal> byPaymentMethod
+) {
+}
@@ -0,0 +1,14 @@
+package com.example.demo.application.dto;
+
+/**
+ * 기간 시작 전날까지의 잔액(openingBalance), 기간 끝날까지의 잔액(closingBalance)과 그 차이
+ */
+public record LedgerBalanceRangeResult(
+    DateRange dateRange,
+    long openingBalance,
+    long closingBalance
+) {
+    public long netChange() {
+        return closingBalance - openingBalance;
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.demo.application.dto;
+
+import java.time.LocalDate;
+
+/**
+ * date 당일까지 기록된 모든 수입에서 지출을 뺀 잔액
+ */
+public record LedgerBalanceResult(
+    LocalDate date,
+    long balance
+) {
+}
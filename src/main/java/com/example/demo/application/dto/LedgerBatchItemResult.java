@@ -0,0 +1,23 @@
+package com.example.demo.application.dto;
+
+/**
+ * 일괄 생성 요청의 항목별 결과
+ * 성공 시 result, 실패 시 error만 채워진다.
+ */
+public record LedgerBatchItemResult(
+    int index,
+    LedgerResult result,
+    String error
+) {
+    public static LedgerBatchItemResult created(int index, LedgerResult result) {
+        return new LedgerBatchItemResult(index, result, null);
+    }
+
+    public static LedgerBatchItemResult failed(int index, String error) {
+        return new LedgerBatchItemResult(index, null, error);
+    }
+
+    public boolean isCreated() {
+        return result != null;
+    }
+}
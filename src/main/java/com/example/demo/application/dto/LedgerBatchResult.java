@@ -0,0 +1,15 @@
+package com.example.demo.application.dto;
+
+import java.util.List;
+
+public record LedgerBatchResult(
+    List<LedgerBatchItemResult> items
+) {
+    public long createdCount() {
+        return items.stream().filter(LedgerBatchItemResult::isCreated).count();
+    }
+
+    public long failedCount() {
+        return items.size() - createdCount();
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.demo.application.dto;
+
+/**
+ * 기간의 일자별 수입/지출 합계
+ * 배열의 i번째 값은 dateRange.start() + i일의 합계다.
+ */
+public record LedgerCalendarResult(
+    DateRange dateRange,
+    long[] income,
+    long[] expense
+) {
+}
@@ -0,0 +1,16 @@
+package com.example.demo.application.dto;
+
+import com.example.demo.domain.enums.LedgerCategory;
+import com.example.demo.domain.enums.LedgerType;
+
+/**
+ * 한 달의 카테고리 합계와 전월 대비 증감
+ */
+public record LedgerCategoryTrend(
+    LedgerType type,
+    LedgerCategory category,
+    long amount,
+    long entryCount,
+    long delta
+) {
+}
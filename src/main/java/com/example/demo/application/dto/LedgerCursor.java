@@ -0,0 +1,32 @@
+package com.example.demo.application.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+
+/**
+ * (occurredOn, ledgerId) 기준 키셋 페이지네이션 커서
+ * 클라이언트에는 불투명한 문자열로만 노출한다.
+ */
+public record LedgerCursor(LocalDate occurredOn, Long ledgerId) {
+    private static final String SEPARATOR = ":";
+
+    public static LedgerCursor after(LedgerResult last) {
+        return new LedgerCursor(last.occurredOn(), last.ledgerId());
+    }
+
+    public String encode() {
+        String raw = occurredOn + SEPARATOR + ledgerId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static LedgerCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEPARATOR, 2);
+            return new LedgerCursor(LocalDate.parse(parts[0]), Long.parseLong(parts[1]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.demo.application.dto;
+
+import com.example.demo.domain.enums.LedgerCategory;
+import com.example.demo.domain.enums.LedgerSort;
+import com.example.demo.domain.enums.LedgerType;
+import com.example.demo.domain.enums.PaymentMethod;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+public record LedgerFilterCommand(
+    Long userId,
+    LocalDate start,
+    LocalDate end,
+    Set<LedgerType> types,
+    Set<LedgerCategory> categories,
+    Set<PaymentMethod> paymentMethods,
+    Long minAmount,
+    Long maxAmount,
+    LedgerSort sort,
+    String cursor,
+    Integer size
+) {
+}
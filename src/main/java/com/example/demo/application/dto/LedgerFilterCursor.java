@@ -0,0 +1,54 @@
+package com.example.demo.application.dto;
+
+import com.example.demo.domain.LedgerEntryFilter;
+import com.example.demo.domain.enums.LedgerSort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+
+/**
+ * 필터 조회의 키셋 페이지네이션 커서. 정렬 기준에 따라 (occurredOn, ledgerId) 또는 (amount, ledgerId)를 담는다.
+ * 정렬을 바꿔 요청하면 이어 읽을 위치가 달라지므로 정렬 기준도 함께 넣어 검증한다.
+ */
+public record LedgerFilterCursor(LedgerSort sort, LocalDate occurredOn, Long amount, Long ledgerId) {
+    private static final String SEPARATOR = ":";
+
+    public static LedgerFilterCursor after(LedgerSort sort, LedgerResult last) {
+        return byAmount(sort)
+            ? new LedgerFilterCursor(sort, null, last.amount(), last.ledgerId())
+            : new LedgerFilterCursor(sort, last.occurredOn(), null, last.ledgerId());
+    }
+
+    public String encode() {
+        String key = byAmount(sort) ? amount.toString() : occurredOn.toString();
+        String raw = sort.name() + SEPARATOR + key + SEPARATOR + ledgerId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static LedgerFilterCursor decode(String token, LedgerSort sort) {
+        LedgerFilterCursor cursor;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEPARATOR, 3);
+            LedgerSort cursorSort = LedgerSort.valueOf(parts[0]);
+            cursor = byAmount(cursorSort)
+                ? new LedgerFilterCursor(cursorSort, null, Long.parseLong(parts[1]), Long.parseLong(parts[2]))
+                : new LedgerFilterCursor(cursorSort, LocalDate.parse(parts[1]), null, Long.parseLong(parts[2]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+        }
+        if (cursor.sort() != sort) {
+            throw new IllegalArgumentException("커서의 정렬 기준(" + cursor.sort() + ")과 요청한 정렬 기준이 다릅니다.");
+        }
+        return cursor;
+    }
+
+    public LedgerEntryFilter.After toAfter() {
+        return new LedgerEntryFilter.After(occurredOn, amount, ledgerId);
+    }
+
+    private static boolean byAmount(LedgerSort sort) {
+        return sort == LedgerSort.AMOUNT_ASC || sort == LedgerSort.AMOUNT_DESC;
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.demo.application.dto;
+
+import java.util.List;
+
+/**
+ * 조건에 맞는 항목이 더 있으면 nextCursor로 같은 조건/정렬의 다음 페이지를 조회한다.
+ */
+public record LedgerFilterResult(
+    DateRange dateRange,
+    List<LedgerResult> results,
+    String nextCursor
+) {
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.demo.application.dto;
+
+import com.example.demo.domain.LedgerImportJob;
+import com.example.demo.domain.enums.LedgerImportStatus;
+
+import java.util.List;
+
+/**
+ * 가져오기 작업 상태
+ * errors는 줄 번호 순으로 저장된 일부(ledger.import.max-stored-errors)만 담는다.
+ */
+public record LedgerImportJobResult(
+    Long jobId,
+    LedgerImportStatus status,
+    long processedRows,
+    long importedRows,
+    long failedRows,
+    String message,
+    List<LedgerImportRowError> errors
+) {
+    public static LedgerImportJobResult of(LedgerImportJob job, List<LedgerImportRowError> errors) {
+        return new LedgerImportJobResult(
+            job.getId(),
+            job.getStatus(),
+            job.getProcessedRows(),
+            job.getImportedRows(),
+            job.getFailedRows(),
+            job.getMessage(),
+            errors
+        );
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.demo.application.dto;
+
+import com.example.demo.domain.LedgerImportError;
+
+public record LedgerImportRowError(
+    long lineNumber,
+    String message
+) {
+    public static LedgerImportRowError from(LedgerImportError error) {
+        return new LedgerImportRowError(error.getLineNumber(), error.getMessage());
+    }
+}
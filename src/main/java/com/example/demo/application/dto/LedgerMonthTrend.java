@@ -0,0 +1,14 @@
+package com.example.demo.application.dto;
+
+import java.time.YearMonth;
+import java.util.List;
+
+public record LedgerMonthTrend(
+    YearMonth month,
+    long incomeTotal,
+    long expenseTotal,
+    long incomeDelta,
+    long expenseDelta,
+    List<LedgerCategoryTrend> categories
+) {
+}
@@ -0,0 +1,13 @@
+package com.example.demo.application.dto;
+
+import java.util.List;
+
+public record LedgerPageResult(
+    DateRange dateRange,
+    List<LedgerResult> results,
+    String nextCursor
+) {
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.demo.application.dto;
 
 import com.example.demo.domain.LedgerEntry;
+import com.example.demo.domain.LedgerEntryView;
 import com.example.demo.domain.enums.LedgerCategory;
 import com.example.demo.domain.enums.LedgerType;
 import com.example.demo.domain.enums.PaymentMethod;
@@ -15,18 +16,41 @@ public record LedgerResult(
     String description,
     LocalDate occurredOn,
     PaymentMethod paymentMethod,
-    String memo
+    String memo,
+    Long version
 ) {
     public static LedgerResult from(LedgerEntry entry) {
+        return from(entry.getId(), entry);
+    }
+
+    /**
+     * 영속성 컨텍스트를 거치지 않고 저장되어 엔티티에 ID가 없는 경우 (버전은 DB 기본값 0)
+     */
+    public static LedgerResult from(Long ledgerId, LedgerEntry entry) {
         return new LedgerResult(
-            entry.getId(),
+            ledgerId,
             entry.getAmount(),
             entry.getType(),
             entry.getCategory(),
             entry.getDescription(),
             entry.getOccurredOn(),
             entry.getPaymentMethod(),
-            entry.getMemo()
+            entry.getMemo(),
+            entry.getVersion() == null ? 0L : entry.getVersion()
+        );
+    }
+
+    public static LedgerResult from(LedgerEntryView view) {
+        return new LedgerResult(
+            view.id(),
+            view.amount(),
+            view.type(),
+            view.category(),
+            view.description(),
+            view.occurredOn(),
+            view.paymentMethod(),
+            view.memo(),
+            view.version()
         );
     }
 }
@@ -0,0 +1,9 @@
+package com.example.demo.application.dto;
+
+import java.util.List;
+
+public record LedgerSearchResult(
+    String query,
+    List<LedgerResult> items
+) {
+}
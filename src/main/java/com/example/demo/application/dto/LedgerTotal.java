@@ -0,0 +1,14 @@
+package com.example.demo.application.dto;
+
+import com.example.demo.domain.enums.LedgerCategory;
+import com.example.demo.domain.enums.LedgerType;
+import com.example.demo.domain.enums.PaymentMethod;
+
+public record LedgerTotal(
+    LedgerType type,
+    LedgerCategory category,
+    PaymentMethod paymentMethod,
+    long amount,
+    long entryCount
+) {
+}
@@ -0,0 +1,17 @@
+package com.example.demo.application.dto;
+
+import com.example.demo.domain.enums.LedgerType;
+
+import java.util.List;
+
+public record LedgerTotalsResult(
+    DateRange dateRange,
+    List<LedgerTotal> totals
+) {
+    public long sumOf(LedgerType type) {
+        return totals.stream()
+            .filter(total -> total.type() == type)
+            .mapToLong(LedgerTotal::amount)
+            .sum();
+    }
+}
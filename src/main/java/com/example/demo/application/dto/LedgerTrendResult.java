@@ -0,0 +1,14 @@
+package com.example.demo.application.dto;
+
+import java.time.YearMonth;
+import java.util.List;
+
+public record LedgerTrendResult(
+    YearMonth from,
+    YearMonth to,
+    List<LedgerMonthTrend> months
+) {
+    public DateRange dateRange() {
+        return new DateRange(from.atDay(1), to.atEndOfMonth());
+    }
+}
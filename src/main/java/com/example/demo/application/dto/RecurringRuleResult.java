@@ -0,0 +1,47 @@
+package com.example.demo.application.dto;
+
+import com.example.demo.domain.RecurringRule;
+import com.example.demo.domain.enums.LedgerCategory;
+import com.example.demo.domain.enums.LedgerType;
+import com.example.demo.domain.enums.PaymentMethod;
+import com.example.demo.domain.enums.RecurrenceFrequency;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+
+/**
+ * nextOccurrence가 null이면 종료된 규칙
+ */
+public record RecurringRuleResult(
+    Long ruleId,
+    Long amount,
+    LedgerType type,
+    LedgerCategory category,
+    String description,
+    PaymentMethod paymentMethod,
+    String memo,
+    RecurrenceFrequency frequency,
+    Integer dayOfMonth,
+    DayOfWeek dayOfWeek,
+    LocalDate startDate,
+    LocalDate endDate,
+    LocalDate nextOccurrence
+) {
+    public static RecurringRuleResult from(RecurringRule rule) {
+        return new RecurringRuleResult(
+            rule.getId(),
+            rule.getAmount(),
+            rule.getType(),
+            rule.getCategory(),
+            rule.getDescription(),
+            rule.getPaymentMethod(),
+            rule.getMemo(),
+            rule.getFrequency(),
+            rule.getDayOfMonth(),
+            rule.getDayOfWeek(),
+            rule.getStartDate(),
+            rule.getEndDate(),
+            rule.getNextOccurrence()
+        );
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.demo.application.dto;
+
+import com.example.demo.domain.RecurringRun;
+import com.example.demo.domain.enums.RecurringRunStatus;
+
+import java.time.LocalDate;
+
+public record RecurringRunResult(
+    LocalDate runDate,
+    RecurringRunStatus status,
+    long processedRules,
+    long createdEntries,
+    long failedRules,
+    String message
+) {
+    public static RecurringRunResult from(RecurringRun run) {
+        return new RecurringRunResult(
+            run.getRunDate(),
+            run.getStatus(),
+            run.getProcessedRules(),
+            run.getCreatedEntries(),
+            run.getFailedRules(),
+            run.getMessage()
+        );
+    }
+}
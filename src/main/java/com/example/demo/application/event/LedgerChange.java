@@ -0,0 +1,24 @@
+package com.example.demo.application.event;
+
+import com.example.demo.application.dto.LedgerResult;
+
+/**
+ * 가계부 항목 한 건의 변경 전/후 상태
+ * 생성이면 before가, 삭제면 after가 null이다.
+ */
+public record LedgerChange(
+    LedgerResult before,
+    LedgerResult after
+) {
+    public static LedgerChange created(LedgerResult after) {
+        return new LedgerChange(null, after);
+    }
+
+    public static LedgerChange updated(LedgerResult before, LedgerResult after) {
+        return new LedgerChange(before, after);
+    }
+
+    public static LedgerChange deleted(LedgerResult before) {
+        return new LedgerChange(before, null);
+    }
+}
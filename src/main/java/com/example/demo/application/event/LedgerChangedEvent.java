@@ -0,0 +1,16 @@
+package com.example.demo.application.event;
+
+import java.util.List;
+
+/**
+ * 한 사용자의 가계부 항목 변경 묶음
+ * 변경을 일으킨 트랜잭션 안에서 동기적으로 발행된다.
+ */
+public record LedgerChangedEvent(
+    Long userId,
+    List<LedgerChange> changes
+) {
+    public static LedgerChangedEvent of(Long userId, LedgerChange change) {
+        return new LedgerChangedEvent(userId, List.of(change));
+    }
+}
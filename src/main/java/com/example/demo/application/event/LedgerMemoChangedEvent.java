@@ -0,0 +1,13 @@
+package com.example.demo.application.event;
+
+/**
+ * 가계부 항목 한 건의 메모만 바뀌었음을 알린다.
+ * 금액/날짜/분류가 그대로라 합계/예산/잔액은 영향이 없으므로, 변경 전 상태 없이 항목 ID와 새 메모만 담는다.
+ * 변경을 일으킨 트랜잭션 안에서 동기적으로 발행된다.
+ */
+public record LedgerMemoChangedEvent(
+    Long userId,
+    Long ledgerId,
+    String memo
+) {
+}
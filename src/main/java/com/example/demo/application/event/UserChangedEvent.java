@@ -0,0 +1,10 @@
+package com.example.demo.application.event;
+
+/**
+ * 사용자 정보(닉네임, 레벨, 프로필 등)가 생성/변경되었음을 알린다.
+ * 변경을 일으킨 트랜잭션 안에서 동기적으로 발행된다.
+ */
+public record UserChangedEvent(
+    Long userId
+) {
+}
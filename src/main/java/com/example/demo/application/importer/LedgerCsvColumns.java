@@ -0,0 +1,186 @@
+package com.example.demo.application.importer;
+
+import com.example.demo.application.dto.UpsertLedgerCommand;
+import com.example.demo.domain.enums.LedgerCategory;
+import com.example.demo.domain.enums.LedgerType;
+import com.example.demo.domain.enums.PaymentMethod;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * CSV 헤더로 찾은 컬럼 위치와 값 변환 규칙
+ * 헤더와 값은 영문 enum 이름 또는 카드/은행 명세서에서 흔히 쓰는 한글 표기를 받는다.
+ * 값의 범위/조합 검증은 LedgerEntry 생성자에 맡긴다.
+ */
+public class LedgerCsvColumns {
+
+    private static final Map<String, String> HEADER_ALIASES = Map.ofEntries(
+        Map.entry("occurredon", "occurredOn"), Map.entry("날짜", "occurredOn"), Map.entry("거래일", "occurredOn"),
+        Map.entry("amount", "amount"), Map.entry("금액", "amount"), Map.entry("거래금액", "amount"),
+        Map.entry("type", "type"), Map.entry("유형", "type"), Map.entry("구분", "type"),
+        Map.entry("category", "category"), Map.entry("카테고리", "category"), Map.entry("분류", "category"),
+        Map.entry("paymentmethod", "paymentMethod"), Map.entry("결제수단", "paymentMethod"),
+        Map.entry("description", "description"), Map.entry("내용", "description"), Map.entry("가맹점", "description"),
+        Map.entry("memo", "memo"), Map.entry("메모", "memo")
+    );
+
+    private static final Map<String, LedgerCategory> CATEGORY_ALIASES = Map.ofEntries(
+        Map.entry("식비", LedgerCategory.FOOD),
+        Map.entry("교통", LedgerCategory.TRANSPORT),
+        Map.entry("주거", LedgerCategory.HOUSING),
+        Map.entry("쇼핑", LedgerCategory.SHOPPING),
+        Map.entry("의료", LedgerCategory.HEALTH_MEDICAL),
+        Map.entry("교육", LedgerCategory.EDUCATION_SELF_DEVELOPMENT),
+        Map.entry("여가", LedgerCategory.LEISURE_HOBBY),
+        Map.entry("저축", LedgerCategory.SAVINGS_FINANCE),
+        Map.entry("월급", LedgerCategory.SALARY),
+        Map.entry("부수입", LedgerCategory.SIDE_INCOME),
+        Map.entry("상여", LedgerCategory.BONUS),
+        Map.entry("용돈", LedgerCategory.ALLOWANCE),
+        Map.entry("아르바이트", LedgerCategory.PART_TIME),
+        Map.entry("금융수입", LedgerCategory.FINANCIAL_INCOME),
+        Map.entry("더치페이", LedgerCategory.DUTCH_PAY),
+        Map.entry("이체", LedgerCategory.TRANSFER),
+        Map.entry("기타", LedgerCategory.OTHER)
+    );
+
+    private static final Map<String, PaymentMethod> PAYMENT_METHOD_ALIASES = Map.of(
+        "신용카드", PaymentMethod.CREDIT_CARD,
+        "체크카드", PaymentMethod.DEBIT_CARD,
+        "현금", PaymentMethod.CASH,
+        "계좌이체", PaymentMethod.BANK_TRANSFER
+    );
+
+    private static final Map<String, LedgerType> TYPE_ALIASES = Map.of(
+        "지출", LedgerType.EXPENSE,
+        "수입", LedgerType.INCOME
+    );
+
+    private final int occurredOn;
+    private final int amount;
+    private final int type;
+    private final int category;
+    private final int paymentMethod;
+    private final int description;
+    private final int memo;
+
+    private LedgerCsvColumns(Map<String, Integer> positions) {
+        this.occurredOn = required(positions, "occurredOn");
+        this.amount = required(positions, "amount");
+        this.type = positions.getOrDefault("type", -1);
+        this.category = required(positions, "category");
+        this.paymentMethod = required(positions, "paymentMethod");
+        this.description = required(positions, "description");
+        this.memo = positions.getOrDefault("memo", -1);
+    }
+
+    public static LedgerCsvColumns from(List<String> header) {
+        Map<String, Integer> positions = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            String key = header.get(i).replace(" ", "").toLowerCase(Locale.ROOT);
+            String column = HEADER_ALIASES.get(key);
+            if (column != null) {
+                positions.putIfAbsent(column, i);
+            }
+        }
+        return new LedgerCsvColumns(positions);
+    }
+
+    /**
+     * 유형 컬럼이 없거나 비어 있으면 카테고리의 고정 유형을 쓴다.
+     */
+    public UpsertLedgerCommand toCommand(long userId, List<String> record) {
+        LedgerCategory parsedCategory = parseCategory(value(record, category));
+        return new UpsertLedgerCommand(
+            userId,
+            parseAmount(value(record, amount)),
+            parseType(value(record, type), parsedCategory),
+            parsedCategory,
+            parseText(value(record, description)),
+            parseDate(value(record, occurredOn)),
+            parsePaymentMethod(value(record, paymentMethod)),
+            blankToNull(parseText(value(record, memo)))
+        );
+    }
+
+    private static int required(Map<String, Integer> positions, String column) {
+        Integer position = positions.get(column);
+        if (position == null) {
+            throw new IllegalArgumentException("필수 컬럼(" + column + ")이 헤더에 없습니다.");
+        }
+        return position;
+    }
+
+    private static String value(List<String> record, int position) {
+        if (position < 0 || position >= record.size()) {
+            return "";
+        }
+        return record.get(position).trim();
+    }
+
+    private static long parseAmount(String raw) {
+        try {
+            return Long.parseLong(raw.replace(",", "").replace("원", ""));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("금액(amount) 형식이 올바르지 않습니다: " + raw);
+        }
+    }
+
+    private static LocalDate parseDate(String raw) {
+        try {
+            return LocalDate.parse(raw.replace('.', '-').replace('/', '-'));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("일자(occurredOn)는 yyyy-MM-dd 형식이어야 합니다: " + raw);
+        }
+    }
+
+    private static LedgerCategory parseCategory(String raw) {
+        return Optional.ofNullable(CATEGORY_ALIASES.get(raw))
+            .or(() -> enumValue(LedgerCategory.class, raw))
+            .orElseThrow(() -> new IllegalArgumentException("알 수 없는 카테고리입니다: " + raw));
+    }
+
+    private static LedgerType parseType(String raw, LedgerCategory category) {
+        if (raw.isEmpty()) {
+            return category.fixedType()
+                .orElseThrow(() -> new IllegalArgumentException("카테고리(" + category.name() + ")는 유형(type)이 필요합니다."));
+        }
+        return Optional.ofNullable(TYPE_ALIASES.get(raw))
+            .or(() -> enumValue(LedgerType.class, raw))
+            .orElseThrow(() -> new IllegalArgumentException("알 수 없는 유형입니다: " + raw));
+    }
+
+    private static PaymentMethod parsePaymentMethod(String raw) {
+        return Optional.ofNullable(PAYMENT_METHOD_ALIASES.get(raw))
+            .or(() -> enumValue(PaymentMethod.class, raw))
+            .orElseThrow(() -> new IllegalArgumentException("알 수 없는 결제 수단입니다: " + raw));
+    }
+
+    private static <E extends Enum<E>> Optional<E> enumValue(Class<E> type, String raw) {
+        try {
+            return Optional.of(Enum.valueOf(type, raw.toUpperCase(Locale.ROOT)));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 내보내기(LedgerCsvWriter)가 수식 실행을 막으려고 =, +, -, @ 앞에 붙인 '를 떼어 원래 값으로 되돌린다.
+     */
+    private static String parseText(String raw) {
+        if (raw.length() > 1 && raw.charAt(0) == '\'' && "=+-@".indexOf(raw.charAt(1)) >= 0) {
+            return raw.substring(1);
+        }
+        return raw;
+    }
+
+    private static String blankToNull(String raw) {
+        return raw.isEmpty() ? null : raw;
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.demo.application.importer;
+
+import com.example.demo.common.config.LedgerImportProperties;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 가져오기 작업 전용 스레드 풀
+ * 동시 작업 수와 대기열을 제한해 대량 업로드가 커넥션 풀과 DB 쓰기 대역을 독점하지 않게 한다.
+ * 애플리케이션 공용 Executor 자동 구성에 영향을 주지 않도록 Executor 빈으로 노출하지 않는다.
+ * 가상 스레드 모드에서도 동시 작업 수 제한은 그대로 두고 작업 스레드만 가상 스레드로 만든다.
+ */
+@Component
+public class LedgerImportExecutor implements DisposableBean {
+
+    private final ThreadPoolExecutor executor;
+
+    public LedgerImportExecutor(
+        LedgerImportProperties properties,
+        @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads
+    ) {
+        AtomicInteger sequence = new AtomicInteger();
+        ThreadFactory threadFactory = virtualThreads
+            ? Thread.ofVirtual().name("ledger-import-", 1).factory()
+            : runnable -> new Thread(runnable, "ledger-import-" + sequence.incrementAndGet());
+        this.executor = new ThreadPoolExecutor(
+            properties.concurrency(),
+            properties.concurrency(),
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(properties.queueCapacity()),
+            threadFactory
+        );
+    }
+
+    /**
+     * 대기열이 가득 차면 RejectedExecutionException
+     */
+    public void execute(Runnable task) throws RejectedExecutionException {
+        executor.execute(task);
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+}
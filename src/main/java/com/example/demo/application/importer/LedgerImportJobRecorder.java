@@ -0,0 +1,82 @@
+package com.example.demo.application.importer;
+
+import com.example.demo.application.LedgerService;
+import com.example.demo.application.dto.LedgerBatchItemResult;
+import com.example.demo.application.dto.LedgerBatchResult;
+import com.example.demo.application.dto.LedgerImportRowError;
+import com.example.demo.common.config.LedgerImportProperties;
+import com.example.demo.domain.LedgerImportError;
+import com.example.demo.domain.LedgerImportErrorRepository;
+import com.example.demo.domain.LedgerImportJob;
+import com.example.demo.domain.LedgerImportJobRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 가져오기 작업의 상태 전이와 청크 저장
+ * 청크의 가계부 항목 저장과 진행률/오류 기록을 한 트랜잭션으로 묶어, 진행률이 저장된 행 수와 어긋나지 않게 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class LedgerImportJobRecorder {
+    private final LedgerImportJobRepository ledgerImportJobRepository;
+    private final LedgerImportErrorRepository ledgerImportErrorRepository;
+    private final LedgerService ledgerService;
+    private final LedgerImportProperties properties;
+
+    @Transactional
+    public void start(Long jobId) {
+        find(jobId).start();
+    }
+
+    @Transactional
+    public void writeChunk(Long jobId, Long userId, List<LedgerImportRow> rows, List<LedgerImportRowError> parseErrors) {
+        LedgerImportJob job = find(jobId);
+
+        List<LedgerImportRowError> errors = new ArrayList<>(parseErrors);
+        long imported = 0;
+        if (!rows.isEmpty()) {
+            LedgerBatchResult result = ledgerService.createLedgerEntries(
+                userId,
+                rows.stream().map(LedgerImportRow::command).toList()
+            );
+            for (LedgerBatchItemResult item : result.items()) {
+                if (item.isCreated()) {
+                    imported++;
+                } else {
+                    errors.add(new LedgerImportRowError(rows.get(item.index()).lineNumber(), item.error()));
+                }
+            }
+        }
+
+        // 작업당 저장하는 오류 수를 제한한다. 전체 실패 건수는 failedRows로만 센다.
+        long room = properties.maxStoredErrors() - Math.min(job.getFailedRows(), properties.maxStoredErrors());
+        ledgerImportErrorRepository.saveAll(errors.stream()
+            .sorted(Comparator.comparingLong(LedgerImportRowError::lineNumber))
+            .limit(room)
+            .map(error -> new LedgerImportError(jobId, error.lineNumber(), error.message()))
+            .toList());
+
+        job.recordChunk(imported, errors.size());
+    }
+
+    @Transactional
+    public void complete(Long jobId) {
+        find(jobId).complete();
+    }
+
+    @Transactional
+    public void fail(Long jobId, String message) {
+        find(jobId).fail(message);
+    }
+
+    private LedgerImportJob find(Long jobId) {
+        return ledgerImportJobRepository.findById(jobId)
+            .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 가져오기 작업입니다."));
+    }
+}
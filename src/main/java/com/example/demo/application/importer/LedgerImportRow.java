@@ -0,0 +1,12 @@
+package com.example.demo.application.importer;
+
+import com.example.demo.application.dto.UpsertLedgerCommand;
+
+/**
+ * 저장 대기 중인 CSV 행과 원본 줄 번호
+ */
+public record LedgerImportRow(
+    long lineNumber,
+    UpsertLedgerCommand command
+) {
+}
@@ -0,0 +1,124 @@
+package com.example.demo.application.importer;
+
+import com.example.demo.application.dto.LedgerImportJobResult;
+import com.example.demo.application.dto.LedgerImportRowError;
+import com.example.demo.common.config.LedgerImportProperties;
+import com.example.demo.domain.LedgerImportErrorRepository;
+import com.example.demo.domain.LedgerImportJob;
+import com.example.demo.domain.LedgerImportJobRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 카드/은행 명세서 CSV 가져오기
+ * 파일을 한 레코드씩 읽어 청크(ledger.import.chunk-size) 단위로 저장하므로 파일 크기와 무관하게 메모리 사용량이 일정하다.
+ * 청크마다 커밋되므로 도중에 실패하면 이미 저장된 청크는 남고, 작업 상태에 처리된 행 수가 기록된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LedgerImportService {
+    private final LedgerImportJobRepository ledgerImportJobRepository;
+    private final LedgerImportErrorRepository ledgerImportErrorRepository;
+    private final LedgerImportJobRecorder recorder;
+    private final LedgerImportExecutor executor;
+    private final LedgerImportProperties properties;
+
+    /**
+     * 작업을 등록하고 백그라운드에서 처리한다. 파일은 처리 후 삭제된다.
+     * 정상 반환한 경우에만 파일을 넘겨받으며, 예외를 던지면 파일 정리는 호출자 몫이다.
+     * 대기열이 가득 차면 작업을 실패로 남기고 RejectedExecutionException을 그대로 던져 재시도할 수 있는 응답(503)이 되게 한다.
+     */
+    public LedgerImportJobResult start(Long userId, Path file) {
+        Long jobId = ledgerImportJobRepository.save(new LedgerImportJob(userId)).getId();
+        try {
+            executor.execute(() -> run(jobId, userId, file));
+        } catch (RejectedExecutionException e) {
+            recorder.fail(jobId, "진행 중인 가져오기 작업이 많습니다. 잠시 후 다시 시도해주세요.");
+            throw e;
+        }
+        return getJob(userId, jobId);
+    }
+
+    @Transactional(readOnly = true)
+    public LedgerImportJobResult getJob(Long userId, Long jobId) {
+        LedgerImportJob job = ledgerImportJobRepository.findByIdAndUserId(jobId, userId)
+            .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 가져오기 작업입니다."));
+        List<LedgerImportRowError> errors = ledgerImportErrorRepository
+            .findByJobIdOrderByLineNumberAsc(jobId, Limit.of(properties.maxStoredErrors()))
+            .stream()
+            .map(LedgerImportRowError::from)
+            .toList();
+        return LedgerImportJobResult.of(job, errors);
+    }
+
+    void run(Long jobId, Long userId, Path file) {
+        // 잘못된 인코딩을 대체 문자로 바꾸지 않고 실패시키기 위해 디코더를 직접 지정
+        try (CsvReader reader = new CsvReader(
+            new InputStreamReader(Files.newInputStream(file), StandardCharsets.UTF_8.newDecoder())
+        )) {
+            recorder.start(jobId);
+            List<String> header = reader.readRecord();
+            if (header == null) {
+                throw new IllegalArgumentException("빈 파일입니다.");
+            }
+            LedgerCsvColumns columns = LedgerCsvColumns.from(header);
+
+            int chunkSize = properties.chunkSize();
+            List<LedgerImportRow> rows = new ArrayList<>(chunkSize);
+            List<LedgerImportRowError> errors = new ArrayList<>();
+            List<String> record;
+            while ((record = reader.readRecord()) != null) {
+                if (record.size() == 1 && record.get(0).isBlank()) {
+                    continue;
+                }
+                long lineNumber = reader.recordLineNumber();
+                try {
+                    rows.add(new LedgerImportRow(lineNumber, columns.toCommand(userId, record)));
+                } catch (IllegalArgumentException e) {
+                    errors.add(new LedgerImportRowError(lineNumber, e.getMessage()));
+                }
+
+                if (rows.size() + errors.size() >= chunkSize) {
+                    recorder.writeChunk(jobId, userId, rows, errors);
+                    rows.clear();
+                    errors.clear();
+                }
+            }
+            if (!rows.isEmpty() || !errors.isEmpty()) {
+                recorder.writeChunk(jobId, userId, rows, errors);
+            }
+            recorder.complete(jobId);
+        } catch (CharacterCodingException e) {
+            recorder.fail(jobId, "UTF-8로 인코딩된 CSV만 가져올 수 있습니다.");
+        } catch (IllegalArgumentException e) {
+            recorder.fail(jobId, e.getMessage());
+        } catch (IOException | RuntimeException e) {
+            log.error("가계부 가져오기 실패 jobId={}", jobId, e);
+            recorder.fail(jobId, "가져오기 중 오류가 발생했습니다.");
+        } finally {
+            deleteQuietly(file);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("가져오기 임시 파일 삭제 실패: {}", file, e);
+        }
+    }
+}
@@ -1,10 +1,12 @@
 package com.example.demo.application.oauth;
 
 import com.example.demo.application.dto.OauthUserInfo;
+import com.example.demo.application.event.UserChangedEvent;
 import com.example.demo.domain.Provider;
 import com.example.demo.domain.User;
 import com.example.demo.domain.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -14,19 +16,24 @@ public class OauthService {
 
     private final IdTokenVerifier idTokenVerifier;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public User getUserInfo(Provider provider, String idToken) {
         OauthUserInfo userInfo = idTokenVerifier.verifyAndGetUserInfo(provider, idToken);
 
         return userRepository.findByProviderAndProviderId(provider, userInfo.providerId())
-                .orElseGet(() -> userRepository.save(
-                        new User(
-                                userInfo.email(),
-                                userInfo.picture(),
-                                provider,
-                                userInfo.providerId()
-                        )
-                ));
+                .orElseGet(() -> {
+                    User saved = userRepository.save(
+                            new User(
+                                    userInfo.email(),
+                                    userInfo.picture(),
+                                    provider,
+                                    userInfo.providerId()
+                            )
+                    );
+                    eventPublisher.publishEvent(new UserChangedEvent(saved.getId()));
+                    return saved;
+                });
     }
 }
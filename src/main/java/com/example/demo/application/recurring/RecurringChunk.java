@@ -0,0 +1,15 @@
+package com.example.demo.application.recurring;
+
+/**
+ * 한 청크에서 처리한 규칙 수와 만든 항목 수. 규칙이 0이면 더 처리할 규칙이 없다.
+ */
+record RecurringChunk(
+    int rules,
+    int entries
+) {
+    static final RecurringChunk EMPTY = new RecurringChunk(0, 0);
+
+    boolean isEmpty() {
+        return rules == 0;
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.demo.application.recurring;
+
+import com.example.demo.application.dto.RecurringRunResult;
+import com.example.demo.domain.RecurringRun;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 반복 규칙의 야간 실체화
+ * 발생일이 된 규칙을 청크(ledger.recurring.chunk-size) 단위로 잠그고 항목을 배치 INSERT한다.
+ * 한 번에 청크 하나만 메모리에 두므로 규칙 수와 무관하게 메모리 사용량이 일정하다.
+ * 진행 위치는 규칙의 next_occurrence 자체이므로 중단 후 다시 실행하면 남은 규칙만 처리한다.
+ */
+@Slf4j
+@Service
+public class RecurringMaterializationService {
+    private final RecurringRunRecorder recorder;
+    private final Clock clock;
+    private final Timer chunkTimer;
+    private final Counter entryCounter;
+
+    public RecurringMaterializationService(RecurringRunRecorder recorder, Clock clock, MeterRegistry meterRegistry) {
+        this.recorder = recorder;
+        this.clock = clock;
+        this.chunkTimer = Timer.builder("ledger.recurring.chunk")
+            .description("반복 규칙 실체화 청크 처리 시간")
+            .register(meterRegistry);
+        this.entryCounter = Counter.builder("ledger.recurring.entries")
+            .description("반복 규칙으로 만든 가계부 항목 수")
+            .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${ledger.recurring.cron:0 10 0 * * *}", zone = "Asia/Seoul")
+    public void materializeToday() {
+        materialize(LocalDate.now(clock));
+    }
+
+    public RecurringRunResult materialize(LocalDate runDate) {
+        RecurringRun run = recorder.begin(runDate);
+        if (run.isCompleted()) {
+            return RecurringRunResult.from(run);
+        }
+
+        long startedAt = System.nanoTime();
+        long rules = 0;
+        long entries = 0;
+        try {
+            RecurringChunk chunk;
+            do {
+                long chunkStartedAt = System.nanoTime();
+                chunk = recorder.writeChunk(run.getId(), runDate);
+                chunkTimer.record(System.nanoTime() - chunkStartedAt, TimeUnit.NANOSECONDS);
+                entryCounter.increment(chunk.entries());
+                rules += chunk.rules();
+                entries += chunk.entries();
+            } while (!chunk.isEmpty());
+            run = recorder.complete(run.getId());
+        } catch (RuntimeException e) {
+            log.error("반복 규칙 실체화 실패 runDate={}", runDate, e);
+            run = recorder.fail(run.getId(), "반복 규칙 실체화 중 오류가 발생했습니다.");
+        }
+
+        long elapsedMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        log.info("반복 규칙 실체화 runDate={} status={} rules={} entries={} elapsed={}ms throughput={} entries/s",
+            runDate, run.getStatus(), rules, entries, elapsedMillis, entries * 1000 / elapsedMillis);
+        return RecurringRunResult.from(run);
+    }
+}
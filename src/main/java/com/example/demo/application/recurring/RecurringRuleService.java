@@ -0,0 +1,60 @@
+package com.example.demo.application.recurring;
+
+import com.example.demo.application.UserService;
+import com.example.demo.application.dto.CreateRecurringRuleCommand;
+import com.example.demo.application.dto.RecurringRuleResult;
+import com.example.demo.domain.RecurringRule;
+import com.example.demo.domain.RecurringRuleRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 반복 거래 규칙 등록/조회/삭제
+ * 항목은 규칙 등록 시점이 아니라 야간 실체화(RecurringMaterializationService)에서 만들어진다.
+ */
+@RequiredArgsConstructor
+@Service
+public class RecurringRuleService {
+    private final RecurringRuleRepository recurringRuleRepository;
+    private final UserService userService;
+
+    @Transactional
+    public RecurringRuleResult createRule(CreateRecurringRuleCommand command) {
+        userService.getUserInfo(command.userId());
+        RecurringRule rule = new RecurringRule(
+            command.userId(),
+            command.amount(),
+            command.type(),
+            command.category(),
+            command.description(),
+            command.paymentMethod(),
+            command.memo(),
+            command.frequency(),
+            command.dayOfMonth(),
+            command.dayOfWeek(),
+            command.startDate(),
+            command.endDate()
+        );
+        return RecurringRuleResult.from(recurringRuleRepository.save(rule));
+    }
+
+    @Transactional(readOnly = true)
+    public List<RecurringRuleResult> getRules(Long userId) {
+        return recurringRuleRepository.findAllByUserIdOrderByIdAsc(userId).stream()
+            .map(RecurringRuleResult::from)
+            .toList();
+    }
+
+    /**
+     * 이미 만들어진 항목은 남긴다.
+     */
+    @Transactional
+    public void deleteRule(Long userId, Long ruleId) {
+        RecurringRule rule = recurringRuleRepository.findByIdAndUserId(ruleId, userId)
+            .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 반복 규칙입니다."));
+        recurringRuleRepository.delete(rule);
+    }
+}
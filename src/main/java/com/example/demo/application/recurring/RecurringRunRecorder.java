@@ -0,0 +1,115 @@
+package com.example.demo.application.recurring;
+
+import com.example.demo.application.LedgerService;
+import com.example.demo.application.dto.LedgerResult;
+import com.example.demo.common.config.RecurringProperties;
+import com.example.demo.domain.LedgerEntry;
+import com.example.demo.domain.RecurringOccurrence;
+import com.example.demo.domain.RecurringRule;
+import com.example.demo.domain.RecurringRuleRepository;
+import com.example.demo.domain.RecurringRun;
+import com.example.demo.domain.RecurringRunRepository;
+import com.example.demo.domain.User;
+import com.example.demo.domain.UserRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 실체화 실행의 상태 전이와 청크 저장
+ * 청크의 항목 저장, 규칙의 다음 발생일 갱신, 실체화 기록, 진행률을 한 트랜잭션으로 묶는다.
+ * 따라서 중단되면 마지막으로 커밋된 청크까지만 반영되고, 재시작하면 남은 규칙부터 이어서 처리된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecurringRunRecorder {
+    private final RecurringRunRepository recurringRunRepository;
+    private final RecurringRuleRepository recurringRuleRepository;
+    private final UserRepository userRepository;
+    private final LedgerService ledgerService;
+    private final RecurringProperties properties;
+    private final EntityManager entityManager;
+
+    /**
+     * 같은 날짜의 실행이 있으면 이어서 진행한다. 이미 완료된 실행은 그대로 돌려준다.
+     */
+    @Transactional
+    public RecurringRun begin(LocalDate runDate) {
+        RecurringRun run = recurringRunRepository.findByRunDate(runDate)
+            .orElseGet(() -> recurringRunRepository.save(new RecurringRun(runDate)));
+        if (!run.isCompleted()) {
+            run.resume();
+        }
+        return run;
+    }
+
+    @Transactional
+    public RecurringChunk writeChunk(Long runId, LocalDate runDate) {
+        // 규칙 next_occurrence UPDATE를 청크 단위 JDBC 배치로 묶는다.
+        entityManager.unwrap(Session.class).setJdbcBatchSize(properties.chunkSize());
+        List<RecurringRule> rules = recurringRuleRepository.findDueForUpdate(runDate, Limit.of(properties.chunkSize()));
+        if (rules.isEmpty()) {
+            return RecurringChunk.EMPTY;
+        }
+
+        List<LedgerEntry> entries = new ArrayList<>();
+        List<Long> ruleIds = new ArrayList<>();
+        int failed = 0;
+        for (RecurringRule rule : rules) {
+            List<LocalDate> dates = rule.dueOccurrences(runDate, properties.maxOccurrencesPerRule());
+            try {
+                User user = userRepository.getReferenceById(rule.getUserId());
+                List<LedgerEntry> ruleEntries = dates.stream()
+                    .map(date -> rule.toEntry(date, user))
+                    .toList();
+                entries.addAll(ruleEntries);
+                ruleEntries.forEach(entry -> ruleIds.add(rule.getId()));
+                rule.advancePast(dates.get(dates.size() - 1));
+            } catch (IllegalArgumentException e) {
+                // 한 규칙 때문에 전체 실행이 매일 실패하지 않도록 비활성화하고 넘어간다.
+                log.warn("반복 규칙 비활성화 ruleId={}: {}", rule.getId(), e.getMessage());
+                rule.deactivate();
+                failed++;
+            }
+        }
+
+        List<LedgerResult> results = ledgerService.insertEntries(entries);
+        List<RecurringOccurrence> occurrences = new ArrayList<>(results.size());
+        for (int i = 0; i < results.size(); i++) {
+            LedgerResult result = results.get(i);
+            occurrences.add(new RecurringOccurrence(ruleIds.get(i), result.occurredOn(), result.ledgerId()));
+        }
+        recurringRuleRepository.insertOccurrences(occurrences);
+
+        find(runId).recordChunk(rules.size(), results.size(), failed);
+        return new RecurringChunk(rules.size(), results.size());
+    }
+
+    @Transactional
+    public RecurringRun complete(Long runId) {
+        RecurringRun run = find(runId);
+        run.complete();
+        return run;
+    }
+
+    @Transactional
+    public RecurringRun fail(Long runId, String message) {
+        RecurringRun run = find(runId);
+        run.fail(message);
+        return run;
+    }
+
+    private RecurringRun find(Long runId) {
+        return recurringRunRepository.findById(runId)
+            .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 반복 실체화 실행입니다."));
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.demo.application.search;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 검색용 문자 2-gram 분해
+ * 한글은 띄어쓰기와 조사 때문에 단어 단위 색인이 잘 맞지 않으므로, 토큰(문자/숫자 연속 구간)을 두 글자씩 겹쳐 자른다.
+ * 한 글자 토큰은 그대로 하나의 gram이 된다.
+ */
+public final class HangulNgrams {
+    private static final Pattern SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private HangulNgrams() {
+    }
+
+    /**
+     * 전각/반각과 대소문자 차이를 없앤다. null이면 빈 문자열
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 정규화된 문자열을 문자/숫자 연속 구간으로 나눈다.
+     */
+    public static List<String> tokens(String normalized) {
+        return Arrays.stream(SEPARATOR.split(normalized))
+            .filter(token -> !token.isEmpty())
+            .toList();
+    }
+
+    /**
+     * 정규화된 문자열의 gram 집합 (등장 순서 유지, 중복 제거)
+     */
+    public static Set<String> grams(String normalized) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (String token : tokens(normalized)) {
+            addGrams(token, grams);
+        }
+        return grams;
+    }
+
+    static void addGrams(String token, Set<String> grams) {
+        int[] codePoints = token.codePoints().toArray();
+        if (codePoints.length == 1) {
+            grams.add(token);
+            return;
+        }
+        for (int i = 0; i + 1 < codePoints.length; i++) {
+            grams.add(new String(codePoints, i, 2));
+        }
+    }
+}
@@ -0,0 +1,262 @@
+package com.example.demo.application.search;
+
+import com.example.demo.application.dto.LedgerResult;
+import com.example.demo.application.event.LedgerChange;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * 한 사용자의 내용(description)/메모(memo) 2-gram 역색인
+ * 모든 변경과 조회는 인스턴스 잠금 안에서 이루어진다. load 도중 도착한 변경은 load가 끝난 뒤 적용되므로,
+ * 스냅샷 이후에 커밋된 변경도 유실되지 않는다.
+ * load는 잠금을 쥔 채 DB 스트리밍을 기다리므로, 가상 스레드가 캐리어에 고정되지 않도록 synchronized 대신 ReentrantLock을 쓴다.
+ */
+public final class LedgerSearchIndex {
+    // 64비트 JVM(압축 OOP) 기준 대략적인 객체 크기. 정확한 값이 아니라 사용자 간 상대적인 메모리 비중을 잡기 위한 추정치
+    private static final long DOCUMENT_BYTES = 200;
+    private static final long GRAM_BYTES = 120;
+    private static final long POSTING_BYTES = 48;
+
+    private static final int DESCRIPTION_WEIGHT = 2;
+    private static final int MEMO_WEIGHT = 1;
+    private static final double PHRASE_BONUS = 5.0;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    private boolean loaded;
+    private volatile long estimatedBytes;
+
+    public boolean isLoaded() {
+        lock.lock();
+        try {
+            return loaded;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * source가 넘겨주는 항목 전체로 색인을 만든다. 이미 만들어졌으면 아무것도 하지 않는다.
+     * 실패하면 비운 채로 두어 다음 검색에서 다시 시도한다.
+     */
+    public void load(Consumer<Consumer<LedgerResult>> source) {
+        lock.lock();
+        try {
+            if (loaded) {
+                return;
+            }
+            try {
+                source.accept(this::put);
+                loaded = true;
+            } catch (RuntimeException e) {
+                documents.clear();
+                postings.clear();
+                estimatedBytes = 0;
+                throw e;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 커밋된 변경을 반영한다. 아직 load 전이면 load가 최신 상태를 읽으므로 무시한다.
+     */
+    public void apply(List<LedgerChange> changes) {
+        lock.lock();
+        try {
+            if (!loaded) {
+                return;
+            }
+            for (LedgerChange change : changes) {
+                if (change.before() != null) {
+                    remove(change.before().ledgerId());
+                }
+                if (change.after() != null) {
+                    put(change.after());
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 메모만 바꿔 다시 색인한다. 메모 수정은 버전을 1 올리므로 문서의 버전도 함께 올린다.
+     * 아직 load 전이거나 색인에 없는 항목이면 무시한다.
+     */
+    public void updateMemo(Long ledgerId, String memo) {
+        lock.lock();
+        try {
+            Document document = loaded ? documents.get(ledgerId) : null;
+            if (document == null) {
+                return;
+            }
+            LedgerResult result = document.result();
+            put(new LedgerResult(
+                result.ledgerId(),
+                result.amount(),
+                result.type(),
+                result.category(),
+                result.description(),
+                result.occurredOn(),
+                result.paymentMethod(),
+                memo,
+                result.version() + 1
+            ));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 검색어의 모든 토큰을 포함하는 항목을 점수 순(같으면 최근 발생일 순)으로 limit건 돌려준다.
+     * 두 글자 이상 토큰의 gram으로 후보를 좁히고, 원문 포함 여부로 gram 조합의 오탐을 걸러낸다.
+     */
+    public List<LedgerResult> search(String query, int limit) {
+        lock.lock();
+        try {
+            String normalized = HangulNgrams.normalize(query);
+            List<String> tokens = HangulNgrams.tokens(normalized);
+            if (tokens.isEmpty() || documents.isEmpty()) {
+                return List.of();
+            }
+
+            Set<String> grams = new HashSet<>();
+            tokens.stream()
+                .filter(token -> token.codePointCount(0, token.length()) > 1)
+                .forEach(token -> HangulNgrams.addGrams(token, grams));
+
+            List<Scored> scored = new ArrayList<>();
+            for (Long ledgerId : candidates(grams)) {
+                Document document = documents.get(ledgerId);
+                if (!document.containsAll(tokens)) {
+                    continue;
+                }
+                double score = 0;
+                for (String gram : grams) {
+                    Map<Long, Integer> posting = postings.get(gram);
+                    score += Math.log(1.0 + (double) documents.size() / posting.size()) * posting.get(ledgerId);
+                }
+                if (document.description().contains(normalized)) {
+                    score += PHRASE_BONUS;
+                }
+                scored.add(new Scored(document.result(), score));
+            }
+
+            return scored.stream()
+                .sorted(Comparator.comparingDouble(Scored::score).reversed()
+                    .thenComparing(item -> item.result().occurredOn(), Comparator.reverseOrder())
+                    .thenComparing(item -> item.result().ledgerId(), Comparator.reverseOrder()))
+                .limit(limit)
+                .map(Scored::result)
+                .toList();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 색인이 차지하는 힙 메모리 추정치(바이트). 캐시 가중치 계산에서 잠금 없이 읽는다.
+     */
+    public long estimatedBytes() {
+        return estimatedBytes;
+    }
+
+    private Set<Long> candidates(Set<String> grams) {
+        if (grams.isEmpty()) {
+            return documents.keySet();
+        }
+        List<Map<Long, Integer>> lists = new ArrayList<>();
+        for (String gram : grams) {
+            Map<Long, Integer> posting = postings.get(gram);
+            if (posting == null) {
+                return Set.of();
+            }
+            lists.add(posting);
+        }
+        lists.sort(Comparator.comparingInt(Map::size));
+
+        Set<Long> candidates = new HashSet<>(lists.get(0).keySet());
+        for (int i = 1; i < lists.size() && !candidates.isEmpty(); i++) {
+            candidates.retainAll(lists.get(i).keySet());
+        }
+        return candidates;
+    }
+
+    private void put(LedgerResult result) {
+        remove(result.ledgerId());
+
+        String description = HangulNgrams.normalize(result.description());
+        String memo = HangulNgrams.normalize(result.memo());
+        Map<String, Integer> weights = new HashMap<>();
+        HangulNgrams.grams(description).forEach(gram -> weights.put(gram, DESCRIPTION_WEIGHT));
+        HangulNgrams.grams(memo).forEach(gram -> weights.merge(gram, MEMO_WEIGHT, Integer::sum));
+
+        long bytes = DOCUMENT_BYTES + 2L * (description.length() + memo.length())
+            + stringBytes(result.description()) + stringBytes(result.memo());
+        for (Map.Entry<String, Integer> entry : weights.entrySet()) {
+            Map<Long, Integer> posting = postings.get(entry.getKey());
+            if (posting == null) {
+                posting = new HashMap<>();
+                postings.put(entry.getKey(), posting);
+                bytes += GRAM_BYTES;
+            }
+            posting.put(result.ledgerId(), entry.getValue());
+            bytes += POSTING_BYTES;
+        }
+
+        documents.put(result.ledgerId(), new Document(result, description, memo, weights.keySet(), bytes));
+        estimatedBytes += bytes;
+    }
+
+    private void remove(Long ledgerId) {
+        Document document = documents.remove(ledgerId);
+        if (document == null) {
+            return;
+        }
+        long bytes = document.bytes();
+        for (String gram : document.grams()) {
+            Map<Long, Integer> posting = postings.get(gram);
+            posting.remove(ledgerId);
+            if (posting.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+        estimatedBytes -= bytes;
+    }
+
+    private static long stringBytes(String text) {
+        return text == null ? 0 : 40L + 2L * text.length();
+    }
+
+    /**
+     * bytes는 등록 시점의 추정치로, 삭제할 때 그대로 되돌린다. (gram 키 비용은 처음 만든 문서에 계상되므로 근사치다)
+     */
+    private record Document(LedgerResult result, String description, String memo, Set<String> grams, long bytes) {
+        private boolean containsAll(List<String> tokens) {
+            return tokens.stream().allMatch(token -> description.contains(token) || memo.contains(token));
+        }
+    }
+
+    private record Scored(LedgerResult result, double score) {
+    }
+}
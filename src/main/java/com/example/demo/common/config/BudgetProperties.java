@@ -0,0 +1,19 @@
+package com.example.demo.common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 예산 설정
+ * 미설정 시 정합성 점검 청크 500개 예산
+ * 점검 시각은 ledger.budget.reconcile-cron (기본 매일 04:30, "-"이면 끔)
+ */
+@ConfigurationProperties(prefix = "ledger.budget")
+public record BudgetProperties(
+    int reconcileChunkSize
+) {
+    public BudgetProperties {
+        if (reconcileChunkSize <= 0) {
+            reconcileChunkSize = 500;
+        }
+    }
+}
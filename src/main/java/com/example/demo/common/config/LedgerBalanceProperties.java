@@ -0,0 +1,25 @@
+package com.example.demo.common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * 잔액 색인 설정
+ * 미설정 시 전체 색인 64MB, 마지막 사용 후 30분 만료
+ */
+@ConfigurationProperties(prefix = "ledger.balance")
+public record LedgerBalanceProperties(
+    DataSize maximumIndexSize,
+    Duration expireAfterAccess
+) {
+    public LedgerBalanceProperties {
+        if (maximumIndexSize == null) {
+            maximumIndexSize = DataSize.ofMegabytes(64);
+        }
+        if (expireAfterAccess == null) {
+            expireAfterAccess = Duration.ofMinutes(30);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.demo.common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 가계부 조회 캐시 설정
+ * 미설정 시 요약 10,000건, 단건 50,000건, 5분 후 만료
+ */
+@ConfigurationProperties(prefix = "ledger.cache")
+public record LedgerCacheProperties(
+    long summaryMaximumSize,
+    long entryMaximumSize,
+    Duration expireAfterWrite
+) {
+    public LedgerCacheProperties {
+        if (summaryMaximumSize <= 0) {
+            summaryMaximumSize = 10_000;
+        }
+        if (entryMaximumSize <= 0) {
+            entryMaximumSize = 50_000;
+        }
+        if (expireAfterWrite == null) {
+            expireAfterWrite = Duration.ofMinutes(5);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.demo.common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * CSV 가져오기 설정
+ * 미설정 시 청크 500행, 작업당 오류 100건 저장, 동시 작업 2개, 대기 16개
+ */
+@ConfigurationProperties(prefix = "ledger.import")
+public record LedgerImportProperties(
+    int chunkSize,
+    int maxStoredErrors,
+    int concurrency,
+    int queueCapacity
+) {
+    public LedgerImportProperties {
+        if (chunkSize <= 0) {
+            chunkSize = 500;
+        }
+        if (maxStoredErrors <= 0) {
+            maxStoredErrors = 100;
+        }
+        if (concurrency <= 0) {
+            concurrency = 2;
+        }
+        if (queueCapacity <= 0) {
+            queueCapacity = 16;
+        }
+    }
+}
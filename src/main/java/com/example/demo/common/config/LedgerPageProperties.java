@@ -0,0 +1,32 @@
+package com.example.demo.common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 가계부 목록 페이지 크기 설정
+ * 미설정 시 기본 50건, 최대 200건
+ */
+@ConfigurationProperties(prefix = "ledger.page")
+public record LedgerPageProperties(
+    int defaultSize,
+    int maxSize
+) {
+    public LedgerPageProperties {
+        if (defaultSize <= 0) {
+            defaultSize = 50;
+        }
+        if (maxSize <= 0) {
+            maxSize = 200;
+        }
+    }
+
+    public int resolve(Integer requestedSize) {
+        if (requestedSize == null) {
+            return Math.min(defaultSize, maxSize);
+        }
+        if (requestedSize < 1) {
+            throw new IllegalArgumentException("size는 1 이상이어야 합니다.");
+        }
+        return Math.min(requestedSize, maxSize);
+    }
+}
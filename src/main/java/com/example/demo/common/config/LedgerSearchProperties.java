@@ -0,0 +1,43 @@
+package com.example.demo.common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * 가계부 검색 색인 설정
+ * 미설정 시 전체 색인 256MB, 마지막 사용 후 30분 만료, 기본 20건, 최대 100건
+ */
+@ConfigurationProperties(prefix = "ledger.search")
+public record LedgerSearchProperties(
+    DataSize maximumIndexSize,
+    Duration expireAfterAccess,
+    int defaultSize,
+    int maxSize
+) {
+    public LedgerSearchProperties {
+        if (maximumIndexSize == null) {
+            maximumIndexSize = DataSize.ofMegabytes(256);
+        }
+        if (expireAfterAccess == null) {
+            expireAfterAccess = Duration.ofMinutes(30);
+        }
+        if (defaultSize <= 0) {
+            defaultSize = 20;
+        }
+        if (maxSize <= 0) {
+            maxSize = 100;
+        }
+    }
+
+    public int resolve(Integer requestedSize) {
+        if (requestedSize == null) {
+            return Math.min(defaultSize, maxSize);
+        }
+        if (requestedSize < 1) {
+            throw new IllegalArgumentException("size는 1 이상이어야 합니다.");
+        }
+        return Math.min(requestedSize, maxSize);
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.demo.common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 반복 거래 야간 실체화 설정
+ * 미설정 시 청크 500개 규칙, 규칙당 한 번에 최대 31회분까지 만든다.
+ * 실행 시각은 ledger.recurring.cron (기본 매일 00:10, "-"이면 끔)
+ */
+@ConfigurationProperties(prefix = "ledger.recurring")
+public record RecurringProperties(
+    int chunkSize,
+    int maxOccurrencesPerRule
+) {
+    public RecurringProperties {
+        if (chunkSize <= 0) {
+            chunkSize = 500;
+        }
+        if (maxOccurrencesPerRule <= 0) {
+            maxOccurrencesPerRule = 31;
+        }
+    }
+}
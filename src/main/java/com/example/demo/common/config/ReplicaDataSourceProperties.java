@@ -0,0 +1,49 @@
+package com.example.demo.common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 읽기 전용 복제본 라우팅 설정 (enabled=true일 때만 적용)
+ * 미설정 시 허용 복제 지연 5초, 쓰기 후 본인 읽기 고정 5초, 연결 확인 제한 1초, 복제본 풀 크기 10
+ * 상태 점검 주기는 datasource.replica.health-check-interval (기본 5초)
+ */
+@ConfigurationProperties(prefix = "datasource.replica")
+public record ReplicaDataSourceProperties(
+    boolean enabled,
+    List<Node> nodes,
+    Duration maxLag,
+    Duration stickyWindow,
+    Duration validationTimeout
+) {
+    public ReplicaDataSourceProperties {
+        if (nodes == null) {
+            nodes = List.of();
+        }
+        if (maxLag == null) {
+            maxLag = Duration.ofSeconds(5);
+        }
+        if (stickyWindow == null) {
+            stickyWindow = Duration.ofSeconds(5);
+        }
+        if (validationTimeout == null) {
+            validationTimeout = Duration.ofSeconds(1);
+        }
+    }
+
+    public record Node(
+        String name,
+        String url,
+        String username,
+        String password,
+        int maximumPoolSize
+    ) {
+        public Node {
+            if (maximumPoolSize <= 0) {
+                maximumPoolSize = 10;
+            }
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.demo.common.config;
+
+import com.example.demo.infrastructure.datasource.MySqlReplicaLagProbe;
+import com.example.demo.infrastructure.datasource.ReadWriteRoutingDataSource;
+import com.example.demo.infrastructure.datasource.ReadYourWritesTracker;
+import com.example.demo.infrastructure.datasource.ReplicaHealthChecker;
+import com.example.demo.infrastructure.datasource.ReplicaNode;
+import com.example.demo.infrastructure.datasource.ReplicaPool;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+/**
+ * datasource.replica.enabled=true이면 spring.datasource를 원본으로, datasource.replica.nodes를 읽기 전용 복제본으로 쓴다.
+ * 설정하지 않으면 이 구성은 빠지고 기존처럼 원본 하나만 사용한다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.replica", name = "enabled", havingValue = "true")
+public class ReplicaRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReplicaPool replicaPool(
+        ReplicaDataSourceProperties properties,
+        DataSourceProperties primary,
+        MeterRegistry meterRegistry
+    ) {
+        List<ReplicaDataSourceProperties.Node> nodes = properties.nodes();
+        return new ReplicaPool(
+            IntStream.range(0, nodes.size())
+                .mapToObj(i -> {
+                    String name = nodes.get(i).name() != null ? nodes.get(i).name() : "replica-" + i;
+                    return new ReplicaNode(name, replicaDataSource(
+                        name, nodes.get(i), primary, properties.validationTimeout(), meterRegistry
+                    ));
+                })
+                .toList(),
+            properties.maxLag()
+        );
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(ReplicaDataSourceProperties properties) {
+        return new ReadYourWritesTracker(properties.stickyWindow(), Ticker.systemTicker());
+    }
+
+    @Bean
+    public ReplicaHealthChecker replicaHealthChecker(
+        ReplicaPool replicaPool,
+        ReplicaDataSourceProperties properties,
+        MeterRegistry meterRegistry
+    ) {
+        ReplicaHealthChecker checker = new ReplicaHealthChecker(
+            replicaPool, new MySqlReplicaLagProbe(), properties.validationTimeout(), meterRegistry
+        );
+        // 첫 주기 전에도 복제본을 쓸 수 있도록 시작 시 한 번 점검하되, 내려간 복제본이 기동을 늦추지 않게 따로 실행한다.
+        // 점검이 끝나기 전까지 복제본은 unhealthy 상태라 읽기는 원본으로 간다.
+        Thread.ofVirtual().name("replica-health-initial").start(checker::checkAll);
+        return checker;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+        HikariDataSource primaryDataSource,
+        ReplicaPool replicaPool,
+        ReadYourWritesTracker readYourWritesTracker,
+        MeterRegistry meterRegistry
+    ) {
+        return new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(
+            primaryDataSource, replicaPool, readYourWritesTracker, ReplicaRoutingConfig::currentUserId, meterRegistry
+        ));
+    }
+
+    private static HikariDataSource replicaDataSource(
+        String name,
+        ReplicaDataSourceProperties.Node node,
+        DataSourceProperties primary,
+        Duration validationTimeout,
+        MeterRegistry meterRegistry
+    ) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(name);
+        dataSource.setJdbcUrl(node.url());
+        dataSource.setUsername(node.username() != null ? node.username() : primary.determineUsername());
+        dataSource.setPassword(node.password() != null ? node.password() : primary.determinePassword());
+        dataSource.setMaximumPoolSize(node.maximumPoolSize());
+        dataSource.setReadOnly(true);
+        // 복제본이 내려가 있어도 애플리케이션은 원본만으로 기동한다.
+        dataSource.setInitializationFailTimeout(-1);
+        // 기본 30초 대신 점검 제한 시간만 기다려, 응답 없는 복제본이 점검 스레드를 오래 잡지 않게 한다. (Hikari 최소값 250ms)
+        long timeoutMillis = Math.max(250, validationTimeout.toMillis());
+        dataSource.setConnectionTimeout(timeoutMillis);
+        dataSource.setValidationTimeout(timeoutMillis);
+        // 빈으로 등록되지 않는 풀이라 자동 구성 대신 직접 hikaricp.* 지표를 연결한다.
+        dataSource.setMetricRegistry(meterRegistry);
+        return dataSource;
+    }
+
+    /**
+     * LoginInterceptor가 요청 속성에 넣은 사용자. 요청 밖(스케줄 작업 등)에서는 비어 있다.
+     */
+    private static Optional<Long> currentUserId() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null && attributes.getAttribute("userId", RequestAttributes.SCOPE_REQUEST) instanceof Long userId) {
+            return Optional.of(userId);
+        }
+        return Optional.empty();
+    }
+}
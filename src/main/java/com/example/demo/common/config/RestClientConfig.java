@@ -1,16 +1,41 @@
 package com.example.demo.common.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestClient;
 
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
 @Configuration
 public class RestClientConfig {
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(3);
+    private static final Duration READ_TIMEOUT = Duration.ofSeconds(5);
+
+    private final JdkClientHttpRequestFactory requestFactory;
+
+    /**
+     * 외부 호출은 JDK HttpClient 하나를 공유하고 연결/읽기 제한 시간을 둔다.
+     * 가상 스레드 모드에서는 HttpClient 내부 작업도 가상 스레드에서 실행한다.
+     */
+    public RestClientConfig(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        HttpClient.Builder httpClient = HttpClient.newBuilder()
+            .connectTimeout(CONNECT_TIMEOUT);
+        if (virtualThreads) {
+            httpClient.executor(Executors.newVirtualThreadPerTaskExecutor());
+        }
+        this.requestFactory = new JdkClientHttpRequestFactory(httpClient.build());
+        this.requestFactory.setReadTimeout(READ_TIMEOUT);
+    }
 
     @Bean
     public RestClient googleOauthRestClient() {
         return RestClient.builder()
                 .baseUrl("https://oauth2.googleapis.com")
+                .requestFactory(requestFactory)
                 .build();
     }
 
@@ -18,6 +43,7 @@ public class RestClientConfig {
     public RestClient kakaoTokenRestClient() {
         return RestClient.builder()
                 .baseUrl("https://kauth.kakao.com")
+                .requestFactory(requestFactory)
                 .build();
     }
 }
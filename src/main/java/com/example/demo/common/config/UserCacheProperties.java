@@ -0,0 +1,24 @@
+package com.example.demo.common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 인증 사용자 정보 캐시 설정
+ * 미설정 시 10,000명, 1분 후 만료
+ */
+@ConfigurationProperties(prefix = "user.cache")
+public record UserCacheProperties(
+    long maximumSize,
+    Duration expireAfterWrite
+) {
+    public UserCacheProperties {
+        if (maximumSize <= 0) {
+            maximumSize = 10_000;
+        }
+        if (expireAfterWrite == null) {
+            expireAfterWrite = Duration.ofMinutes(1);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.demo.common.config;
+
+import io.micrometer.java21.instrument.binder.jdk.VirtualThreadMetrics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * spring.threads.virtual.enabled=true일 때의 진단 지표
+ * Tomcat 요청, 스케줄 작업, 공용 TaskExecutor는 Spring Boot가 가상 스레드로 바꾸고,
+ * OAuth RestClient(RestClientConfig)와 가져오기 작업(LedgerImportExecutor)은 같은 설정을 보고 직접 바꾼다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    /**
+     * JFR jdk.VirtualThreadPinned 이벤트를 jvm.threads.virtual.pinned 타이머로 기록한다.
+     * synchronized 안에서 I/O를 기다리면 캐리어 스레드가 묶이므로, 값이 늘면 해당 스택을 JFR로 확인한다.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public VirtualThreadMetrics virtualThreadMetrics() {
+        return new VirtualThreadMetrics();
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.demo.domain;
+
+import com.example.demo.domain.enums.LedgerCategory;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 사용자별 월/카테고리 지출 예산
+ * spent는 LedgerEntry 변경 시 같은 트랜잭션에서 증감되는 카운터이며, 정합성 점검에서 원본 합계와 비교/보정된다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(uniqueConstraints = @UniqueConstraint(
+    name = "uk_budget_user_month_category",
+    columnNames = {"user_id", "month_start", "category"}
+))
+public class Budget {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "month_start", nullable = false)
+    private LocalDate monthStart;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private LedgerCategory category;
+
+    @Column(nullable = false)
+    private Long amount;
+
+    @Column(nullable = false)
+    private Long spent;
+
+    public long remaining() {
+        return amount - spent;
+    }
+
+    public void correctSpent(long spent) {
+        this.spent = spent;
+    }
+}
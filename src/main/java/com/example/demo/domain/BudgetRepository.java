@@ -0,0 +1,75 @@
+package com.example.demo.domain;
+
+import com.example.demo.domain.enums.LedgerCategory;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface BudgetRepository extends Repository<Budget, Long> {
+
+    /**
+     * uk_budget_user_month_category 한 행 조회
+     */
+    Optional<Budget> findByUserIdAndMonthStartAndCategory(Long userId, LocalDate monthStart, LedgerCategory category);
+
+    List<Budget> findAllByUserIdAndMonthStartOrderByCategoryAsc(Long userId, LocalDate monthStart);
+
+    /**
+     * 예산 금액을 정한다. 처음 만들 때는 그 달의 기존 지출 합계로 사용액을 채운다.
+     * INSERT ... SELECT는 원본 행을 공유 잠금으로 읽으므로, 동시에 커밋되는 항목 변경도 합계나 카운터 중 한쪽에만 반영된다.
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO budget (user_id, month_start, category, amount, spent)
+        SELECT :userId, :monthStart, :category, :amount, COALESCE(SUM(e.amount), 0)
+        FROM ledger_entry e
+        WHERE e.user_id = :userId AND e.occurred_on BETWEEN :monthStart AND :monthEnd
+          AND e.type = 'EXPENSE' AND e.category = :category
+        ON DUPLICATE KEY UPDATE budget.amount = :amount
+        """, nativeQuery = true)
+    void upsertAmount(
+        @Param("userId") Long userId,
+        @Param("monthStart") LocalDate monthStart,
+        @Param("monthEnd") LocalDate monthEnd,
+        @Param("category") String category,
+        @Param("amount") long amount
+    );
+
+    /**
+     * 사용액을 한 문장으로 증감한다. 예산이 없으면 아무 행도 바뀌지 않는다.
+     */
+    @Modifying
+    @Query(value = """
+        UPDATE budget SET spent = spent + :delta
+        WHERE user_id = :userId AND month_start = :monthStart AND category = :category
+        """, nativeQuery = true)
+    int addSpent(
+        @Param("userId") Long userId,
+        @Param("monthStart") LocalDate monthStart,
+        @Param("category") String category,
+        @Param("delta") long delta
+    );
+
+    @Modifying
+    @Query("delete from Budget b where b.userId = :userId and b.monthStart = :monthStart and b.category = :category")
+    int deleteByUserIdAndMonthStartAndCategory(
+        @Param("userId") Long userId,
+        @Param("monthStart") LocalDate monthStart,
+        @Param("category") LedgerCategory category
+    );
+
+    /**
+     * 정합성 점검 청크. 점검 중 들어오는 증감은 행 잠금이 풀릴 때까지 기다린다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select b from Budget b where b.id > :afterId order by b.id")
+    List<Budget> findChunkForUpdate(@Param("afterId") long afterId, Limit limit);
+}
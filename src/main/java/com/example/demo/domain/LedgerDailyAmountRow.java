@@ -0,0 +1,12 @@
+package com.example.demo.domain;
+
+import com.example.demo.domain.enums.LedgerType;
+
+import java.time.LocalDate;
+
+public record LedgerDailyAmountRow(
+    LocalDate occurredOn,
+    LedgerType type,
+    Long amount
+) {
+}
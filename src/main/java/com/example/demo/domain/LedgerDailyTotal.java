@@ -0,0 +1,53 @@
+package com.example.demo.domain;
+
+import com.example.demo.domain.enums.LedgerCategory;
+import com.example.demo.domain.enums.LedgerType;
+import com.example.demo.domain.enums.PaymentMethod;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 사용자별 일 단위 가계부 합계
+ * LedgerEntry 변경 시 같은 트랜잭션에서 증감된다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(uniqueConstraints = @UniqueConstraint(
+    name = "uk_ledger_daily_total",
+    columnNames = {"user_id", "occurred_on", "type", "category", "payment_method"}
+))
+public class LedgerDailyTotal {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private LocalDate occurredOn;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private LedgerType type;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private LedgerCategory category;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private PaymentMethod paymentMethod;
+
+    @Column(nullable = false)
+    private Long amount;
+
+    @Column(nullable = false)
+    private Long entryCount;
+}
@@ -0,0 +1,54 @@
+package com.example.demo.domain;
+
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface LedgerDailyTotalRepository extends Repository<LedgerDailyTotal, Long> {
+
+    @Modifying
+    @Query(value = """
+        INSERT INTO ledger_daily_total (user_id, occurred_on, type, category, payment_method, amount, entry_count)
+        VALUES (:userId, :occurredOn, :type, :category, :paymentMethod, :amount, :entryCount)
+        ON DUPLICATE KEY UPDATE amount = amount + :amount, entry_count = entry_count + :entryCount
+        """, nativeQuery = true)
+    void upsertDelta(
+        @Param("userId") Long userId,
+        @Param("occurredOn") LocalDate occurredOn,
+        @Param("type") String type,
+        @Param("category") String category,
+        @Param("paymentMethod") String paymentMethod,
+        @Param("amount") long amount,
+        @Param("entryCount") long entryCount
+    );
+
+    @Query("""
+        select new com.example.demo.domain.LedgerTotalRow(t.type, t.category, t.paymentMethod, sum(t.amount), sum(t.entryCount))
+        from LedgerDailyTotal t
+        where t.userId = :userId and t.occurredOn between :start and :end
+        group by t.type, t.category, t.paymentMethod
+        """)
+    List<LedgerTotalRow> sumByUserIdAndOccurredOnBetween(
+        @Param("userId") Long userId,
+        @Param("start") LocalDate start,
+        @Param("end") LocalDate end
+    );
+
+    /**
+     * 잔액 색인 생성용. 일/유형별 합계만 읽으므로 항목 수가 아닌 기록된 날짜 수에 비례한다.
+     * 색인 적중 시에는 트랜잭션을 열지 않도록 서비스 대신 이 조회에만 읽기 전용 트랜잭션을 건다. (복제본 라우팅 대상)
+     */
+    @Transactional(readOnly = true)
+    @Query("""
+        select new com.example.demo.domain.LedgerDailyAmountRow(t.occurredOn, t.type, sum(t.amount))
+        from LedgerDailyTotal t
+        where t.userId = :userId
+        group by t.occurredOn, t.type
+        """)
+    List<LedgerDailyAmountRow> sumDailyByUserId(@Param("userId") Long userId);
+}
@@ -7,13 +7,27 @@ import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDate;
 
 @Getter
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = {
+    // user_id = ? AND occurred_on BETWEEN ? AND ? ORDER BY occurred_on, id 를 filesort 없이 처리
+    @Index(name = "idx_ledger_entry_user_occurred_on", columnList = "user_id, occurred_on, id"),
+    // 기간 집계(GROUP BY type, category, payment_method)를 테이블 접근 없이 인덱스만으로 처리
+    @Index(name = "idx_ledger_entry_user_occurred_on_totals",
+        columnList = "user_id, occurred_on, type, category, payment_method, amount"),
+    // 카테고리/결제 수단 필터 + 발생일 정렬(GET /ledgers/filter)을 filesort 없이 처리
+    @Index(name = "idx_ledger_entry_user_category_occurred_on", columnList = "user_id, category, occurred_on, id"),
+    @Index(name = "idx_ledger_entry_user_payment_method_occurred_on", columnList = "user_id, payment_method, occurred_on, id")
+})
 public class LedgerEntry extends BaseEntity {
+    // 잔액 색인(DailyBalanceTree)처럼 날짜 구간 길이만큼 메모리를 잡는 곳이 있어 발생일 범위를 제한한다.
+    public static final LocalDate MIN_OCCURRED_ON = LocalDate.of(2000, 1, 1);
+    public static final LocalDate MAX_OCCURRED_ON = LocalDate.of(2099, 12, 31);
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -43,6 +57,12 @@ public class LedgerEntry extends BaseEntity {
     @Column(length = 100)
     private String memo;
 
+    // 동시 수정 감지용 낙관적 잠금 버전. JDBC 일괄 INSERT는 DB 기본값 0을 쓴다.
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
@@ -60,7 +80,7 @@ public class LedgerEntry extends BaseEntity {
         this.type = type;
         this.category = category;
         this.description = normalizeDescription(description);
-        this.occurredOn = occurredOn;
+        this.occurredOn = validateOccurredOn(occurredOn);
         this.paymentMethod = paymentMethod;
         this.memo = validateMemo(memo);
         this.user = user;
@@ -94,6 +114,18 @@ public class LedgerEntry extends BaseEntity {
         return amount;
     }
 
+    private static LocalDate validateOccurredOn(LocalDate occurredOn) {
+        if (occurredOn == null) {
+            throw new IllegalArgumentException("가계부 등록 일자(occurredOn)는 필수입니다.");
+        }
+        if (occurredOn.isBefore(MIN_OCCURRED_ON) || occurredOn.isAfter(MAX_OCCURRED_ON)) {
+            throw new IllegalArgumentException(
+                "가계부 등록 일자(occurredOn)는 " + MIN_OCCURRED_ON + "부터 " + MAX_OCCURRED_ON + " 사이여야 합니다."
+            );
+        }
+        return occurredOn;
+    }
+
     private static void validateTypeMatchesCategory(LedgerType type, LedgerCategory category) {
         if (type == null) {
             throw new IllegalArgumentException("유형(type)은 필수입니다.");
@@ -125,7 +157,7 @@ public class LedgerEntry extends BaseEntity {
         return trimmed;
     }
 
-    private static String validateMemo(String rawMemo) {
+    public static String validateMemo(String rawMemo) {
         if (rawMemo == null || rawMemo.isBlank()) {
             return rawMemo;
         }
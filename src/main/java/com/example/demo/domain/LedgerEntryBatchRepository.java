@@ -0,0 +1,15 @@
+package com.example.demo.domain;
+
+import java.util.List;
+
+/**
+ * LedgerEntryRepository의 JDBC 배치 INSERT 조각
+ * IDENTITY 전략에서는 Hibernate가 JDBC 배치를 쓰지 못하므로 직접 배치로 넣는다.
+ */
+public interface LedgerEntryBatchRepository {
+
+    /**
+     * 영속성 컨텍스트를 거치지 않고 삽입하며, 입력 순서대로 생성된 ID를 돌려준다.
+     */
+    List<Long> insertAll(List<LedgerEntry> entries);
+}
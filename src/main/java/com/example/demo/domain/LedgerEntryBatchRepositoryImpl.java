@@ -0,0 +1,66 @@
+package com.example.demo.domain;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RequiredArgsConstructor
+class LedgerEntryBatchRepositoryImpl implements LedgerEntryBatchRepository {
+
+    private static final String INSERT_SQL = """
+        INSERT INTO ledger_entry (amount, type, category, description, occurred_on, payment_method, memo, user_id, created_at, modified_at)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<Long> insertAll(List<LedgerEntry> entries) {
+        if (entries.isEmpty()) {
+            return List.of();
+        }
+
+        // JPA Auditing과 같은 기준(LocalDateTime.now())으로 생성/수정 시각을 채운다.
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+            connection -> connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS),
+            new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    LedgerEntry entry = entries.get(i);
+                    ps.setLong(1, entry.getAmount());
+                    ps.setString(2, entry.getType().name());
+                    ps.setString(3, entry.getCategory().name());
+                    ps.setString(4, entry.getDescription());
+                    ps.setDate(5, Date.valueOf(entry.getOccurredOn()));
+                    ps.setString(6, entry.getPaymentMethod().name());
+                    ps.setString(7, entry.getMemo());
+                    ps.setLong(8, entry.getUser().getId());
+                    ps.setTimestamp(9, now);
+                    ps.setTimestamp(10, now);
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return entries.size();
+                }
+            },
+            keyHolder
+        );
+
+        return keyHolder.getKeyList().stream()
+            .map(keys -> ((Number) keys.values().iterator().next()).longValue())
+            .toList();
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.demo.domain;
+
+import com.example.demo.domain.enums.LedgerCategory;
+import com.example.demo.domain.enums.LedgerSort;
+import com.example.demo.domain.enums.LedgerType;
+import com.example.demo.domain.enums.PaymentMethod;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+/**
+ * 가계부 항목 필터 조건. 기간은 필수이고 나머지는 비어 있거나 null이면 적용하지 않는다.
+ * after가 있으면 정렬 순서상 그 항목 다음부터 조회한다. (키셋 페이지네이션)
+ */
+public record LedgerEntryFilter(
+    LocalDate start,
+    LocalDate end,
+    Set<LedgerType> types,
+    Set<LedgerCategory> categories,
+    Set<PaymentMethod> paymentMethods,
+    Long minAmount,
+    Long maxAmount,
+    LedgerSort sort,
+    After after
+) {
+    public LedgerEntryFilter {
+        types = types == null ? Set.of() : Set.copyOf(types);
+        categories = categories == null ? Set.of() : Set.copyOf(categories);
+        paymentMethods = paymentMethods == null ? Set.of() : Set.copyOf(paymentMethods);
+        if (sort == null) {
+            sort = LedgerSort.OCCURRED_ON_ASC;
+        }
+    }
+
+    /**
+     * 직전 페이지 마지막 항목의 정렬 키. 발생일 정렬이면 occurredOn, 금액 정렬이면 amount를 쓴다.
+     */
+    public record After(LocalDate occurredOn, Long amount, Long id) {
+    }
+}
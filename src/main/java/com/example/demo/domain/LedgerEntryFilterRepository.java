@@ -0,0 +1,11 @@
+package com.example.demo.domain;
+
+import java.util.List;
+
+public interface LedgerEntryFilterRepository {
+
+    /**
+     * 필터 조건을 만족하는 항목을 정렬 순서대로 최대 limit건 읽는다.
+     */
+    List<LedgerEntryView> findAllByFilter(Long userId, LedgerEntryFilter filter, int limit);
+}
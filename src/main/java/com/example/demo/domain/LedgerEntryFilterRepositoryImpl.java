@@ -0,0 +1,115 @@
+package com.example.demo.domain;
+
+import com.example.demo.domain.enums.LedgerSort;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 지정된 조건만 WHERE 절에 넣는다.
+ * 카테고리/결제 수단 단일 값 + 발생일 정렬은 전용 인덱스로 filesort 없이, 그 밖의 조합은
+ * idx_ledger_entry_user_occurred_on_totals 범위 스캔에서 인덱스 조건 푸시다운으로 걸러진다. (QueryPlanTest 참고)
+ */
+@RequiredArgsConstructor
+class LedgerEntryFilterRepositoryImpl implements LedgerEntryFilterRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<LedgerEntryView> findAllByFilter(Long userId, LedgerEntryFilter filter, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<LedgerEntryView> query = cb.createQuery(LedgerEntryView.class);
+        Root<LedgerEntry> e = query.from(LedgerEntry.class);
+
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.equal(e.get("user").get("id"), userId));
+        predicates.add(cb.between(e.<LocalDate>get("occurredOn"), filter.start(), filter.end()));
+        if (!filter.types().isEmpty()) {
+            predicates.add(e.get("type").in(filter.types()));
+        }
+        if (!filter.categories().isEmpty()) {
+            predicates.add(e.get("category").in(filter.categories()));
+        }
+        if (!filter.paymentMethods().isEmpty()) {
+            predicates.add(e.get("paymentMethod").in(filter.paymentMethods()));
+        }
+        if (filter.minAmount() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(e.<Long>get("amount"), filter.minAmount()));
+        }
+        if (filter.maxAmount() != null) {
+            predicates.add(cb.lessThanOrEqualTo(e.<Long>get("amount"), filter.maxAmount()));
+        }
+        if (filter.after() != null) {
+            predicates.add(after(cb, e, filter.sort(), filter.after()));
+        }
+
+        query.select(cb.construct(
+                LedgerEntryView.class,
+                e.get("id"), e.get("amount"), e.get("type"), e.get("category"),
+                e.get("description"), e.get("occurredOn"), e.get("paymentMethod"), e.get("memo"), e.get("version")
+            ))
+            .where(predicates.toArray(Predicate[]::new))
+            .orderBy(orders(cb, e, filter));
+
+        return entityManager.createQuery(query)
+            .setMaxResults(limit)
+            .getResultList();
+    }
+
+    /**
+     * 정렬 키가 더 뒤에 있거나, 같으면 id가 더 뒤에 있는 항목
+     * 발생일 정렬은 (user_id, occurred_on, id) 인덱스 범위를 그대로 이어 읽는다.
+     */
+    private static Predicate after(CriteriaBuilder cb, Root<LedgerEntry> e, LedgerSort sort, LedgerEntryFilter.After after) {
+        Path<Long> id = e.get("id");
+        return switch (sort) {
+            case OCCURRED_ON_ASC -> {
+                Path<LocalDate> occurredOn = e.get("occurredOn");
+                yield cb.or(
+                    cb.greaterThan(occurredOn, after.occurredOn()),
+                    cb.and(cb.equal(occurredOn, after.occurredOn()), cb.greaterThan(id, after.id()))
+                );
+            }
+            case OCCURRED_ON_DESC -> {
+                Path<LocalDate> occurredOn = e.get("occurredOn");
+                yield cb.or(
+                    cb.lessThan(occurredOn, after.occurredOn()),
+                    cb.and(cb.equal(occurredOn, after.occurredOn()), cb.lessThan(id, after.id()))
+                );
+            }
+            case AMOUNT_ASC -> {
+                Path<Long> amount = e.get("amount");
+                yield cb.or(
+                    cb.greaterThan(amount, after.amount()),
+                    cb.and(cb.equal(amount, after.amount()), cb.greaterThan(id, after.id()))
+                );
+            }
+            case AMOUNT_DESC -> {
+                Path<Long> amount = e.get("amount");
+                yield cb.or(
+                    cb.lessThan(amount, after.amount()),
+                    cb.and(cb.equal(amount, after.amount()), cb.lessThan(id, after.id()))
+                );
+            }
+        };
+    }
+
+    private static List<Order> orders(CriteriaBuilder cb, Root<LedgerEntry> e, LedgerEntryFilter filter) {
+        Path<Object> id = e.get("id");
+        return switch (filter.sort()) {
+            case OCCURRED_ON_ASC -> List.of(cb.asc(e.get("occurredOn")), cb.asc(id));
+            case OCCURRED_ON_DESC -> List.of(cb.desc(e.get("occurredOn")), cb.desc(id));
+            case AMOUNT_ASC -> List.of(cb.asc(e.get("amount")), cb.asc(id));
+            case AMOUNT_DESC -> List.of(cb.desc(e.get("amount")), cb.desc(id));
+        };
+    }
+}
@@ -1,13 +1,25 @@
 package com.example.demo.domain;
 
+import com.example.demo.domain.enums.LedgerCategory;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface LedgerEntryRepository extends Repository<LedgerEntry, Long> {
+public interface LedgerEntryRepository extends Repository<LedgerEntry, Long>, LedgerEntryBatchRepository, LedgerEntryFilterRepository {
 
     LedgerEntry save(LedgerEntry entry);
 
@@ -20,4 +32,168 @@ public interface LedgerEntryRepository extends Repository<LedgerEntry, Long> {
     );
 
     Optional<LedgerEntry> findById(Long ledgerId);
+
+    @Query("""
+        select new com.example.demo.domain.LedgerEntryView(e.id, e.amount, e.type, e.category, e.description, e.occurredOn, e.paymentMethod, e.memo, e.version)
+        from LedgerEntry e
+        where e.id = :id and e.user.id = :userId
+        """)
+    Optional<LedgerEntryView> findViewByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+
+    @Query("""
+        select new com.example.demo.domain.LedgerEntryView(e.id, e.amount, e.type, e.category, e.description, e.occurredOn, e.paymentMethod, e.memo, e.version)
+        from LedgerEntry e
+        where e.user.id = :userId and e.occurredOn between :start and :end
+        order by e.occurredOn asc, e.id asc
+        """)
+    List<LedgerEntryView> findAllViewsByUserIdAndOccurredOnBetween(
+        @Param("userId") Long userId,
+        @Param("start") LocalDate start,
+        @Param("end") LocalDate end
+    );
+
+    @Query("""
+        select new com.example.demo.domain.LedgerEntryView(e.id, e.amount, e.type, e.category, e.description, e.occurredOn, e.paymentMethod, e.memo, e.version)
+        from LedgerEntry e
+        where e.user.id = :userId and e.occurredOn between :start and :end
+        order by e.occurredOn asc, e.id asc
+        """)
+    List<LedgerEntryView> findFirstPage(
+        @Param("userId") Long userId,
+        @Param("start") LocalDate start,
+        @Param("end") LocalDate end,
+        Limit limit
+    );
+
+    @Query("""
+        select new com.example.demo.domain.LedgerEntryView(e.id, e.amount, e.type, e.category, e.description, e.occurredOn, e.paymentMethod, e.memo, e.version)
+        from LedgerEntry e
+        where e.user.id = :userId and e.occurredOn between :start and :end
+          and (e.occurredOn > :cursorDate or (e.occurredOn = :cursorDate and e.id > :cursorId))
+        order by e.occurredOn asc, e.id asc
+        """)
+    List<LedgerEntryView> findPageAfter(
+        @Param("userId") Long userId,
+        @Param("start") LocalDate start,
+        @Param("end") LocalDate end,
+        @Param("cursorDate") LocalDate cursorDate,
+        @Param("cursorId") Long cursorId,
+        Limit limit
+    );
+
+    /**
+     * 기간 내 항목을 유형/카테고리/결제 수단 조합별로 DB에서 합산한다. (결과는 조합 수만큼, 최대 수백 행)
+     */
+    @Query("""
+        select new com.example.demo.domain.LedgerTotalRow(e.type, e.category, e.paymentMethod, sum(e.amount), count(e))
+        from LedgerEntry e
+        where e.user.id = :userId and e.occurredOn between :start and :end
+        group by e.type, e.category, e.paymentMethod
+        """)
+    List<LedgerTotalRow> sumByUserIdAndOccurredOnBetween(
+        @Param("userId") Long userId,
+        @Param("start") LocalDate start,
+        @Param("end") LocalDate end
+    );
+
+    /**
+     * 일자/유형별 합계. idx_ledger_entry_user_occurred_on_totals만으로 처리된다(테이블 접근 없음).
+     */
+    @Query("""
+        select new com.example.demo.domain.LedgerDailyAmountRow(e.occurredOn, e.type, sum(e.amount))
+        from LedgerEntry e
+        where e.user.id = :userId and e.occurredOn between :start and :end
+        group by e.occurredOn, e.type
+        """)
+    List<LedgerDailyAmountRow> sumDailyByUserIdAndOccurredOnBetween(
+        @Param("userId") Long userId,
+        @Param("start") LocalDate start,
+        @Param("end") LocalDate end
+    );
+
+    /**
+     * 전진 전용 커서로 한 행씩 읽는다. (MySQL 드라이버는 fetchSize가 Integer.MIN_VALUE일 때 행 단위 스트리밍)
+     * 반드시 트랜잭션 안에서 소비하고 닫아야 한다.
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "-2147483648"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("""
+        select new com.example.demo.domain.LedgerEntryView(e.id, e.amount, e.type, e.category, e.description, e.occurredOn, e.paymentMethod, e.memo, e.version)
+        from LedgerEntry e
+        where e.user.id = :userId and e.occurredOn between :start and :end
+        order by e.occurredOn asc, e.id asc
+        """)
+    Stream<LedgerEntryView> streamAllByUserIdAndOccurredOnBetween(
+        @Param("userId") Long userId,
+        @Param("start") LocalDate start,
+        @Param("end") LocalDate end
+    );
+
+    /**
+     * 사용자의 전체 항목을 전진 전용 커서로 읽는다. (검색 색인 생성용)
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "-2147483648"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("""
+        select new com.example.demo.domain.LedgerEntryView(e.id, e.amount, e.type, e.category, e.description, e.occurredOn, e.paymentMethod, e.memo, e.version)
+        from LedgerEntry e
+        where e.user.id = :userId
+        """)
+    Stream<LedgerEntryView> streamAllByUserId(@Param("userId") Long userId);
+
+    /**
+     * 삭제할 항목의 현재 상태를 행 잠금과 함께 읽는다. 커밋까지 다른 수정이 끼어들 수 없어 합계에서 빼는 값이 지우는 행과 같다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+        select new com.example.demo.domain.LedgerEntryView(e.id, e.amount, e.type, e.category, e.description, e.occurredOn, e.paymentMethod, e.memo, e.version)
+        from LedgerEntry e
+        where e.id = :id and e.user.id = :userId
+        """)
+    Optional<LedgerEntryView> findViewForUpdateByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from LedgerEntry e where e.id = :id and e.user.id = :userId")
+    int deleteByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+
+    /**
+     * 소유자 조건만 걸어 한 문장으로 메모를 바꾸고 버전을 올린다. 영향받은 행 수가 0이면 없는 항목이다.
+     * (벌크 UPDATE는 Auditing을 거치지 않으므로 Auditing과 같은 기준의 수정 시각을 직접 넘긴다)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        update LedgerEntry e
+        set e.memo = :memo, e.version = e.version + 1, e.modifiedAt = :modifiedAt
+        where e.id = :id and e.user.id = :userId
+        """)
+    int updateMemoByIdAndUserId(
+        @Param("id") Long id,
+        @Param("userId") Long userId,
+        @Param("memo") String memo,
+        @Param("modifiedAt") LocalDateTime modifiedAt
+    );
+
+    /**
+     * 한 사용자/카테고리의 기간 내 지출 합계. 예산 사용액 정합성 점검에서 원본 기준 재계산에 쓴다.
+     */
+    @Query("""
+        select coalesce(sum(e.amount), 0)
+        from LedgerEntry e
+        where e.user.id = :userId and e.category = :category and e.occurredOn between :start and :end
+          and e.type = com.example.demo.domain.enums.LedgerType.EXPENSE
+        """)
+    long sumExpenseByUserIdAndCategoryAndOccurredOnBetween(
+        @Param("userId") Long userId,
+        @Param("category") LedgerCategory category,
+        @Param("start") LocalDate start,
+        @Param("end") LocalDate end
+    );
+
+    void flush();
 }
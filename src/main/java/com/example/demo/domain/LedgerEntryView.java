@@ -0,0 +1,24 @@
+package com.example.demo.domain;
+
+import com.example.demo.domain.enums.LedgerCategory;
+import com.example.demo.domain.enums.LedgerType;
+import com.example.demo.domain.enums.PaymentMethod;
+
+import java.time.LocalDate;
+
+/**
+ * 조회 전용 LedgerEntry 프로젝션
+ * 영속성 컨텍스트에 올라가지 않으므로 스냅샷/감사 필드 비용이 없다.
+ */
+public record LedgerEntryView(
+    Long id,
+    Long amount,
+    LedgerType type,
+    LedgerCategory category,
+    String description,
+    LocalDate occurredOn,
+    PaymentMethod paymentMethod,
+    String memo,
+    Long version
+) {
+}
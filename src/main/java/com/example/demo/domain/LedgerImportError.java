@@ -0,0 +1,37 @@
+package com.example.demo.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * CSV 가져오기에서 저장하지 못한 행과 사유
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = @Index(name = "idx_ledger_import_error_job", columnList = "job_id, line_number"))
+public class LedgerImportError {
+
+    private static final int MESSAGE_MAX_LENGTH = 255;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "job_id", nullable = false)
+    private Long jobId;
+
+    @Column(name = "line_number", nullable = false)
+    private Long lineNumber;
+
+    @Column(nullable = false, length = MESSAGE_MAX_LENGTH)
+    private String message;
+
+    public LedgerImportError(Long jobId, Long lineNumber, String message) {
+        this.jobId = jobId;
+        this.lineNumber = lineNumber;
+        this.message = message.length() > MESSAGE_MAX_LENGTH ? message.substring(0, MESSAGE_MAX_LENGTH) : message;
+    }
+}
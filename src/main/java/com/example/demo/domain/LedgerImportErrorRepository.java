@@ -0,0 +1,13 @@
+package com.example.demo.domain;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.repository.Repository;
+
+import java.util.List;
+
+public interface LedgerImportErrorRepository extends Repository<LedgerImportError, Long> {
+
+    <S extends LedgerImportError> List<S> saveAll(Iterable<S> errors);
+
+    List<LedgerImportError> findByJobIdOrderByLineNumberAsc(Long jobId, Limit limit);
+}
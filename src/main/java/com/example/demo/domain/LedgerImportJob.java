@@ -0,0 +1,72 @@
+package com.example.demo.domain;
+
+import com.example.demo.domain.enums.LedgerImportStatus;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * CSV 가져오기 작업의 상태와 진행률
+ * 청크가 저장될 때마다 같은 트랜잭션에서 누적된다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = @Index(name = "idx_ledger_import_job_user", columnList = "user_id"))
+public class LedgerImportJob extends BaseEntity {
+
+    private static final int MESSAGE_MAX_LENGTH = 255;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private LedgerImportStatus status;
+
+    @Column(nullable = false)
+    private Long processedRows;
+
+    @Column(nullable = false)
+    private Long importedRows;
+
+    @Column(nullable = false)
+    private Long failedRows;
+
+    @Column(length = MESSAGE_MAX_LENGTH)
+    private String message;
+
+    public LedgerImportJob(Long userId) {
+        this.userId = userId;
+        this.status = LedgerImportStatus.PENDING;
+        this.processedRows = 0L;
+        this.importedRows = 0L;
+        this.failedRows = 0L;
+    }
+
+    public void start() {
+        this.status = LedgerImportStatus.RUNNING;
+    }
+
+    public void recordChunk(long imported, long failed) {
+        this.processedRows += imported + failed;
+        this.importedRows += imported;
+        this.failedRows += failed;
+    }
+
+    public void complete() {
+        this.status = LedgerImportStatus.COMPLETED;
+    }
+
+    public void fail(String message) {
+        this.status = LedgerImportStatus.FAILED;
+        this.message = message != null && message.length() > MESSAGE_MAX_LENGTH
+            ? message.substring(0, MESSAGE_MAX_LENGTH)
+            : message;
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.demo.domain;
+
+import org.springframework.data.repository.Repository;
+
+import java.util.Optional;
+
+public interface LedgerImportJobRepository extends Repository<LedgerImportJob, Long> {
+
+    LedgerImportJob save(LedgerImportJob job);
+
+    Optional<LedgerImportJob> findById(Long id);
+
+    Optional<LedgerImportJob> findByIdAndUserId(Long id, Long userId);
+}
@@ -0,0 +1,15 @@
+package com.example.demo.domain;
+
+import com.example.demo.domain.enums.LedgerCategory;
+import com.example.demo.domain.enums.LedgerType;
+
+import java.time.LocalDate;
+
+public record LedgerMonthlyCategoryRow(
+    LocalDate monthStart,
+    LedgerType type,
+    LedgerCategory category,
+    Long amount,
+    Long entryCount
+) {
+}
@@ -0,0 +1,52 @@
+package com.example.demo.domain;
+
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface LedgerMonthlyTotalRepository extends Repository<LedgerMonthlyTotal, Long> {
+
+    @Modifying
+    @Query(value = """
+        INSERT INTO ledger_monthly_total (user_id, month_start, type, category, payment_method, amount, entry_count)
+        VALUES (:userId, :monthStart, :type, :category, :paymentMethod, :amount, :entryCount)
+        ON DUPLICATE KEY UPDATE amount = amount + :amount, entry_count = entry_count + :entryCount
+        """, nativeQuery = true)
+    void upsertDelta(
+        @Param("userId") Long userId,
+        @Param("monthStart") LocalDate monthStart,
+        @Param("type") String type,
+        @Param("category") String category,
+        @Param("paymentMethod") String paymentMethod,
+        @Param("amount") long amount,
+        @Param("entryCount") long entryCount
+    );
+
+    @Query("""
+        select new com.example.demo.domain.LedgerTotalRow(t.type, t.category, t.paymentMethod, sum(t.amount), sum(t.entryCount))
+        from LedgerMonthlyTotal t
+        where t.userId = :userId and t.monthStart between :start and :end
+        group by t.type, t.category, t.paymentMethod
+        """)
+    List<LedgerTotalRow> sumByUserIdAndMonthStartBetween(
+        @Param("userId") Long userId,
+        @Param("start") LocalDate start,
+        @Param("end") LocalDate end
+    );
+
+    @Query("""
+        select new com.example.demo.domain.LedgerMonthlyCategoryRow(t.monthStart, t.type, t.category, sum(t.amount), sum(t.entryCount))
+        from LedgerMonthlyTotal t
+        where t.userId = :userId and t.monthStart between :start and :end
+        group by t.monthStart, t.type, t.category
+        """)
+    List<LedgerMonthlyCategoryRow> sumByUserIdAndMonthStartBetweenGroupByMonth(
+        @Param("userId") Long userId,
+        @Param("start") LocalDate start,
+        @Param("end") LocalDate end
+    );
+}
@@ -0,0 +1,14 @@
+package com.example.demo.domain;
+
+import com.example.demo.domain.enums.LedgerCategory;
+import com.example.demo.domain.enums.LedgerType;
+import com.example.demo.domain.enums.PaymentMethod;
+
+public record LedgerTotalRow(
+    LedgerType type,
+    LedgerCategory category,
+    PaymentMethod paymentMethod,
+    Long amount,
+    Long entryCount
+) {
+}
@@ -0,0 +1,22 @@
+package com.example.demo.domain;
+
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface LedgerVersionRepository extends Repository<LedgerVersion, Long> {
+
+    @Modifying
+    @Query(value = """
+        INSERT INTO ledger_version (user_id, version)
+        VALUES (:userId, 1)
+        ON DUPLICATE KEY UPDATE version = version + 1
+        """, nativeQuery = true)
+    void increment(@Param("userId") Long userId);
+
+    @Query("select v.version from LedgerVersion v where v.userId = :userId")
+    Optional<Long> findVersionByUserId(@Param("userId") Long userId);
+}
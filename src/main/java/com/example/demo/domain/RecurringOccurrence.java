@@ -0,0 +1,41 @@
+package com.example.demo.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 반복 규칙으로 만든 항목 기록
+ * (rule_id, occurred_on) 유니크 키로 같은 규칙/날짜의 항목이 두 번 만들어지는 것을 DB 수준에서 막는다.
+ * 사용자가 항목을 지워도 남아 있으므로 지운 항목이 다시 생기지 않는다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(uniqueConstraints = @UniqueConstraint(
+    name = "uk_recurring_occurrence_rule_occurred_on", columnNames = {"rule_id", "occurred_on"}
+))
+public class RecurringOccurrence {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "rule_id", nullable = false)
+    private Long ruleId;
+
+    @Column(name = "occurred_on", nullable = false)
+    private LocalDate occurredOn;
+
+    @Column(name = "ledger_entry_id", nullable = false)
+    private Long ledgerEntryId;
+
+    public RecurringOccurrence(Long ruleId, LocalDate occurredOn, Long ledgerEntryId) {
+        this.ruleId = ruleId;
+        this.occurredOn = occurredOn;
+        this.ledgerEntryId = ledgerEntryId;
+    }
+}
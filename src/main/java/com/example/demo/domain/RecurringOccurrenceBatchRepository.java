@@ -0,0 +1,14 @@
+package com.example.demo.domain;
+
+import java.util.List;
+
+/**
+ * RecurringRuleRepository의 실체화 기록 JDBC 배치 INSERT 조각
+ */
+public interface RecurringOccurrenceBatchRepository {
+
+    /**
+     * 같은 (규칙, 날짜)가 이미 있으면 유니크 키 위반으로 실패해 청크 전체가 롤백된다.
+     */
+    void insertOccurrences(List<RecurringOccurrence> occurrences);
+}
@@ -0,0 +1,31 @@
+package com.example.demo.domain;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.util.List;
+
+@RequiredArgsConstructor
+class RecurringOccurrenceBatchRepositoryImpl implements RecurringOccurrenceBatchRepository {
+
+    private static final String INSERT_SQL = """
+        INSERT INTO recurring_occurrence (rule_id, occurred_on, ledger_entry_id)
+        VALUES (?, ?, ?)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertOccurrences(List<RecurringOccurrence> occurrences) {
+        if (occurrences.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, occurrences, occurrences.size(), (ps, occurrence) -> {
+            ps.setLong(1, occurrence.getRuleId());
+            ps.setDate(2, Date.valueOf(occurrence.getOccurredOn()));
+            ps.setLong(3, occurrence.getLedgerEntryId());
+        });
+    }
+}
@@ -0,0 +1,188 @@
+package com.example.demo.domain;
+
+import com.example.demo.domain.enums.LedgerCategory;
+import com.example.demo.domain.enums.LedgerType;
+import com.example.demo.domain.enums.PaymentMethod;
+import com.example.demo.domain.enums.RecurrenceFrequency;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 매월/매주 반복되는 가계부 항목 규칙 (월세, 구독료, 급여 등)
+ * nextOccurrence는 아직 만들지 않은 가장 이른 발생일이며, 야간 실체화는 이 값이 오늘 이전인 규칙만 읽는다.
+ * 항목을 만든 트랜잭션에서 함께 앞당겨지므로 재시작해도 이미 만든 날짜를 다시 만들지 않는다. 종료되면 null
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = {
+    // next_occurrence <= ? ORDER BY next_occurrence, id (야간 실체화)
+    @Index(name = "idx_recurring_rule_next_occurrence", columnList = "next_occurrence, id"),
+    @Index(name = "idx_recurring_rule_user", columnList = "user_id, id")
+})
+public class RecurringRule extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private Long amount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private LedgerType type;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private LedgerCategory category;
+
+    @Column(nullable = false, length = 15)
+    private String description;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private PaymentMethod paymentMethod;
+
+    @Column(length = 100)
+    private String memo;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private RecurrenceFrequency frequency;
+
+    // MONTHLY: 1~31. 그 달에 없는 날이면 말일
+    private Integer dayOfMonth;
+
+    // WEEKLY
+    @Enumerated(EnumType.STRING)
+    private DayOfWeek dayOfWeek;
+
+    @Column(nullable = false)
+    private LocalDate startDate;
+
+    private LocalDate endDate;
+
+    @Column(name = "next_occurrence")
+    private LocalDate nextOccurrence;
+
+    public RecurringRule(
+        Long userId,
+        Long amount,
+        LedgerType type,
+        LedgerCategory category,
+        String description,
+        PaymentMethod paymentMethod,
+        String memo,
+        RecurrenceFrequency frequency,
+        Integer dayOfMonth,
+        DayOfWeek dayOfWeek,
+        LocalDate startDate,
+        LocalDate endDate
+    ) {
+        validateSchedule(frequency, dayOfMonth, dayOfWeek, startDate, endDate);
+        // 항목 불변식(금액, 유형/카테고리, 설명, 메모)은 LedgerEntry와 같은 규칙으로 검증하고 정규화된 값을 쓴다.
+        LedgerEntry template = new LedgerEntry(amount, type, category, description, startDate, paymentMethod, memo, null);
+
+        this.userId = userId;
+        this.amount = template.getAmount();
+        this.type = template.getType();
+        this.category = template.getCategory();
+        this.description = template.getDescription();
+        this.paymentMethod = template.getPaymentMethod();
+        this.memo = template.getMemo();
+        this.frequency = frequency;
+        this.dayOfMonth = frequency == RecurrenceFrequency.MONTHLY ? dayOfMonth : null;
+        this.dayOfWeek = frequency == RecurrenceFrequency.WEEKLY ? dayOfWeek : null;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.nextOccurrence = bounded(occurrenceOnOrAfter(startDate));
+        if (this.nextOccurrence == null) {
+            throw new IllegalArgumentException("시작일과 종료일 사이에 반복되는 날짜가 없습니다.");
+        }
+    }
+
+    /**
+     * today 이전(포함)의 아직 만들지 않은 발생일을 최대 limit개까지 오래된 순으로 반환한다.
+     */
+    public List<LocalDate> dueOccurrences(LocalDate today, int limit) {
+        List<LocalDate> dates = new ArrayList<>();
+        LocalDate date = nextOccurrence;
+        while (date != null && !date.isAfter(today) && dates.size() < limit) {
+            dates.add(date);
+            date = bounded(occurrenceOnOrAfter(date.plusDays(1)));
+        }
+        return dates;
+    }
+
+    /**
+     * lastMaterialized까지 만들었음을 기록한다. 종료일을 넘으면 더 이상 실체화 대상이 아니다.
+     */
+    public void advancePast(LocalDate lastMaterialized) {
+        this.nextOccurrence = bounded(occurrenceOnOrAfter(lastMaterialized.plusDays(1)));
+    }
+
+    /**
+     * 항목을 만들 수 없게 된 규칙(카테고리 규칙 변경 등)을 실체화 대상에서 뺀다.
+     */
+    public void deactivate() {
+        this.nextOccurrence = null;
+    }
+
+    public LedgerEntry toEntry(LocalDate occurredOn, User user) {
+        return new LedgerEntry(amount, type, category, description, occurredOn, paymentMethod, memo, user);
+    }
+
+    private LocalDate occurrenceOnOrAfter(LocalDate date) {
+        if (frequency == RecurrenceFrequency.WEEKLY) {
+            return date.with(TemporalAdjusters.nextOrSame(dayOfWeek));
+        }
+        YearMonth month = YearMonth.from(date);
+        LocalDate candidate = dayOfMonthIn(month);
+        return candidate.isBefore(date) ? dayOfMonthIn(month.plusMonths(1)) : candidate;
+    }
+
+    private LocalDate dayOfMonthIn(YearMonth month) {
+        return month.atDay(Math.min(dayOfMonth, month.lengthOfMonth()));
+    }
+
+    private LocalDate bounded(LocalDate date) {
+        return endDate != null && date.isAfter(endDate) ? null : date;
+    }
+
+    private static void validateSchedule(
+        RecurrenceFrequency frequency,
+        Integer dayOfMonth,
+        DayOfWeek dayOfWeek,
+        LocalDate startDate,
+        LocalDate endDate
+    ) {
+        if (frequency == null) {
+            throw new IllegalArgumentException("반복 주기(frequency)는 필수입니다.");
+        }
+        if (frequency == RecurrenceFrequency.MONTHLY && (dayOfMonth == null || dayOfMonth < 1 || dayOfMonth > 31)) {
+            throw new IllegalArgumentException("매월 반복일(dayOfMonth)은 1 이상 31 이하여야 합니다.");
+        }
+        if (frequency == RecurrenceFrequency.WEEKLY && dayOfWeek == null) {
+            throw new IllegalArgumentException("매주 반복 요일(dayOfWeek)은 필수입니다.");
+        }
+        if (startDate == null) {
+            throw new IllegalArgumentException("시작일(startDate)은 필수입니다.");
+        }
+        if (endDate != null && endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("종료일(endDate)은 시작일보다 빠를 수 없습니다.");
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.demo.domain;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface RecurringRuleRepository extends Repository<RecurringRule, Long>, RecurringOccurrenceBatchRepository {
+
+    RecurringRule save(RecurringRule rule);
+
+    Optional<RecurringRule> findByIdAndUserId(Long id, Long userId);
+
+    List<RecurringRule> findAllByUserIdOrderByIdAsc(Long userId);
+
+    void delete(RecurringRule rule);
+
+    /**
+     * 실체화할 규칙을 잠그며 가져온다. 다른 실행이 잠근 행은 기다리지 않고 건너뛰므로(SKIP LOCKED)
+     * 여러 인스턴스가 동시에 돌아도 같은 규칙을 두 번 처리하지 않는다.
+     * 처리된 규칙은 next_occurrence가 오늘 이후로 밀려 범위에서 빠지므로 오프셋 없이 반복 호출하면 된다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    // -2: LockOptions.SKIP_LOCKED
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_LOCK_TIMEOUT, value = "-2"))
+    @Query("""
+        select r from RecurringRule r
+        where r.nextOccurrence <= :today
+        order by r.nextOccurrence, r.id
+        """)
+    List<RecurringRule> findDueForUpdate(@Param("today") LocalDate today, Limit limit);
+}
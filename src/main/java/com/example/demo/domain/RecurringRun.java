@@ -0,0 +1,79 @@
+package com.example.demo.domain;
+
+import com.example.demo.domain.enums.RecurringRunStatus;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 날짜별 반복 규칙 실체화 실행의 상태와 진행률
+ * 청크가 저장될 때마다 같은 트랜잭션에서 누적되므로, 중단 후 재시작하면 이어서 센다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_recurring_run_run_date", columnNames = "run_date"))
+public class RecurringRun extends BaseEntity {
+
+    private static final int MESSAGE_MAX_LENGTH = 255;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "run_date", nullable = false)
+    private LocalDate runDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private RecurringRunStatus status;
+
+    @Column(nullable = false)
+    private Long processedRules;
+
+    @Column(nullable = false)
+    private Long createdEntries;
+
+    @Column(nullable = false)
+    private Long failedRules;
+
+    @Column(length = MESSAGE_MAX_LENGTH)
+    private String message;
+
+    public RecurringRun(LocalDate runDate) {
+        this.runDate = runDate;
+        this.status = RecurringRunStatus.RUNNING;
+        this.processedRules = 0L;
+        this.createdEntries = 0L;
+        this.failedRules = 0L;
+    }
+
+    public boolean isCompleted() {
+        return status == RecurringRunStatus.COMPLETED;
+    }
+
+    public void resume() {
+        this.status = RecurringRunStatus.RUNNING;
+        this.message = null;
+    }
+
+    public void recordChunk(long rules, long entries, long failed) {
+        this.processedRules += rules;
+        this.createdEntries += entries;
+        this.failedRules += failed;
+    }
+
+    public void complete() {
+        this.status = RecurringRunStatus.COMPLETED;
+    }
+
+    public void fail(String message) {
+        this.status = RecurringRunStatus.FAILED;
+        this.message = message != null && message.length() > MESSAGE_MAX_LENGTH
+            ? message.substring(0, MESSAGE_MAX_LENGTH)
+            : message;
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.demo.domain;
+
+import org.springframework.data.repository.Repository;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+public interface RecurringRunRepository extends Repository<RecurringRun, Long> {
+
+    RecurringRun save(RecurringRun run);
+
+    Optional<RecurringRun> findById(Long id);
+
+    Optional<RecurringRun> findByRunDate(LocalDate runDate);
+}
@@ -7,6 +7,7 @@ import lombok.NoArgsConstructor;
 @Getter
 @Entity
 @NoArgsConstructor
+@Table(indexes = @Index(name = "idx_user_provider", columnList = "provider, provider_id"))
 public class User extends BaseEntity{
 
     @Id
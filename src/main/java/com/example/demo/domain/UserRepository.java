@@ -11,4 +11,9 @@ public interface UserRepository extends Repository<User, Long> {
     Optional<User> findByProviderAndProviderId(Provider provider, String providerId);
 
     Optional<User> findById(Long userId);
+
+    /**
+     * 조회 없이 FK 참조용 프록시만 만든다. 존재 여부는 호출 측에서 확인해야 한다.
+     */
+    User getReferenceById(Long userId);
 }
@@ -0,0 +1,5 @@
+package com.example.demo.domain.enums;
+
+public enum LedgerImportStatus {
+    PENDING, RUNNING, COMPLETED, FAILED
+}
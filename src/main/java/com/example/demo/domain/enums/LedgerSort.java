@@ -0,0 +1,11 @@
+package com.example.demo.domain.enums;
+
+/**
+ * 필터 조회 정렬 기준. 같은 값이면 id를 같은 방향으로 정렬해 순서를 고정한다.
+ */
+public enum LedgerSort {
+    OCCURRED_ON_ASC,
+    OCCURRED_ON_DESC,
+    AMOUNT_ASC,
+    AMOUNT_DESC
+}
@@ -0,0 +1,5 @@
+package com.example.demo.domain.enums;
+
+public enum RecurrenceFrequency {
+    MONTHLY, WEEKLY
+}
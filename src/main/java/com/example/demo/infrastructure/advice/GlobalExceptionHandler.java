@@ -1,16 +1,22 @@
 package com.example.demo.infrastructure.advice;
 
 import com.example.demo.infrastructure.advice.dto.ErrorResponse;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
 
 import java.time.OffsetDateTime;
+import java.util.concurrent.RejectedExecutionException;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
@@ -36,6 +42,37 @@ public class GlobalExceptionHandler {
         return error(HttpStatus.BAD_REQUEST, "요청 형식이 올바르지 않습니다.");
     }
 
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<ErrorResponse> handleMethodArgumentTypeMismatch(MethodArgumentTypeMismatchException e) {
+        return error(HttpStatus.BAD_REQUEST, e.getName() + " 값이 올바르지 않습니다.");
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailure(OptimisticLockingFailureException e) {
+        return error(HttpStatus.CONFLICT, "다른 요청에서 먼저 변경되었습니다. 다시 조회한 뒤 시도해 주세요.");
+    }
+
+    /**
+     * 커넥션 풀 대기 시간(connection-timeout) 초과. 가상 스레드 모드에서는 동시 요청 수를 풀 크기가 제한하므로 과부하 신호로 응답한다.
+     */
+    @ExceptionHandler({CannotCreateTransactionException.class, CannotGetJdbcConnectionException.class})
+    public ResponseEntity<ErrorResponse> handleConnectionUnavailable(Exception e) {
+        return error(HttpStatus.SERVICE_UNAVAILABLE, "요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해 주세요.");
+    }
+
+    /**
+     * 작업 대기열 초과(예: CSV 가져오기). 요청 자체는 올바르므로 나중에 다시 시도할 수 있는 응답을 준다.
+     */
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<ErrorResponse> handleRejectedExecution(RejectedExecutionException e) {
+        return error(HttpStatus.SERVICE_UNAVAILABLE, "진행 중인 작업이 많습니다. 잠시 후 다시 시도해 주세요.");
+    }
+
+    @ExceptionHandler(MaxUploadSizeExceededException.class)
+    public ResponseEntity<ErrorResponse> handleMaxUploadSizeExceeded(MaxUploadSizeExceededException e) {
+        return error(HttpStatus.PAYLOAD_TOO_LARGE, "업로드 파일이 너무 큽니다.");
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleUnexpected(Exception e) {
         return error(HttpStatus.INTERNAL_SERVER_ERROR, "서버 오류가 발생했습니다.");
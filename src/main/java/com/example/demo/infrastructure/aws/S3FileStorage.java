@@ -1,8 +1,12 @@
 package com.example.demo.infrastructure.aws;
 
 import com.example.demo.domain.FileStorage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.io.InputStream;
 import java.time.Duration;
+import java.util.concurrent.TimeUnit;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
@@ -20,17 +24,32 @@ public class S3FileStorage implements FileStorage {
     private final S3Client s3Client;
     private final S3Presigner s3Presigner;
     private final String bucketName;
+    private final Counter uploadedBytes;
+    private final Timer uploadSuccessTimer;
+    private final Timer uploadFailureTimer;
+    private final Timer presignSuccessTimer;
+    private final Timer presignFailureTimer;
 
     public S3FileStorage(S3Client s3Client,
                          S3Presigner s3Presigner,
-                         @Value("${spring.cloud.aws.s3.bucket}") String bucketName) {
+                         @Value("${spring.cloud.aws.s3.bucket}") String bucketName,
+                         MeterRegistry meterRegistry) {
         this.s3Client = s3Client;
         this.s3Presigner = s3Presigner;
         this.bucketName = bucketName;
+        this.uploadedBytes = Counter.builder("storage.s3.uploaded")
+            .description("S3에 업로드한 바이트 수")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+        this.uploadSuccessTimer = requestTimer(meterRegistry, "upload", "success");
+        this.uploadFailureTimer = requestTimer(meterRegistry, "upload", "failure");
+        this.presignSuccessTimer = requestTimer(meterRegistry, "presign", "success");
+        this.presignFailureTimer = requestTimer(meterRegistry, "presign", "failure");
     }
 
     @Override
     public void upload(String key, InputStream inputStream, long size, String contentType) {
+        long startedAt = System.nanoTime();
         try {
             PutObjectRequest request = PutObjectRequest.builder()
                 .bucket(bucketName)
@@ -40,13 +59,17 @@ public class S3FileStorage implements FileStorage {
                 .build();
 
             s3Client.putObject(request, RequestBody.fromInputStream(inputStream, size));
+            record(uploadSuccessTimer, startedAt);
+            uploadedBytes.increment(size);
         } catch (SdkException e) {
+            record(uploadFailureTimer, startedAt);
             throw new RuntimeException("S3 업로드 실패: " + key, e);
         }
     }
 
     @Override
     public String generateViewUrl(String key, Duration expires) {
+        long startedAt = System.nanoTime();
         GetObjectRequest request = GetObjectRequest.builder()
             .bucket(bucketName)
             .key(key)
@@ -57,9 +80,29 @@ public class S3FileStorage implements FileStorage {
             .getObjectRequest(request)
             .build();
 
-        return s3Presigner
-            .presignGetObject(presignRequest)
-            .url()
-            .toString();
+        try {
+            String url = s3Presigner
+                .presignGetObject(presignRequest)
+                .url()
+                .toString();
+            record(presignSuccessTimer, startedAt);
+            return url;
+        } catch (SdkException e) {
+            record(presignFailureTimer, startedAt);
+            throw new RuntimeException("S3 URL 생성 실패: " + key, e);
+        }
+    }
+
+    private static void record(Timer timer, long startedAt) {
+        timer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+    }
+
+    private static Timer requestTimer(MeterRegistry meterRegistry, String operation, String outcome) {
+        return Timer.builder("storage.s3.requests")
+            .description("S3 호출 시간")
+            .tag("operation", operation)
+            .tag("outcome", outcome)
+            .publishPercentileHistogram()
+            .register(meterRegistry);
     }
 }
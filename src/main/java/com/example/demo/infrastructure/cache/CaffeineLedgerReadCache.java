@@ -0,0 +1,171 @@
+package com.example.demo.infrastructure.cache;
+
+import com.example.demo.application.LedgerReadCache;
+import com.example.demo.application.dto.DateRange;
+import com.example.demo.application.dto.LedgerEntriesByDateRangeResponse;
+import com.example.demo.application.dto.LedgerResult;
+import com.example.demo.application.event.LedgerChange;
+import com.example.demo.application.event.LedgerChangedEvent;
+import com.example.demo.application.event.LedgerMemoChangedEvent;
+import com.example.demo.common.config.LedgerCacheProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiPredicate;
+import java.util.function.Supplier;
+
+@Component
+public class CaffeineLedgerReadCache implements LedgerReadCache {
+
+    private final Cache<SummaryKey, LedgerEntriesByDateRangeResponse> summaries;
+    private final Cache<EntryKey, LedgerResult> entries;
+    // 사용자별 무효화 횟수. 로딩 중에 무효화가 일어나면 로딩 결과를 캐시에 넣지 않는다.
+    private final Cache<Long, AtomicLong> generations;
+
+    public CaffeineLedgerReadCache(LedgerCacheProperties properties, MeterRegistry meterRegistry) {
+        this.summaries = Caffeine.newBuilder()
+            .maximumSize(properties.summaryMaximumSize())
+            .expireAfterWrite(properties.expireAfterWrite())
+            .recordStats()
+            .build();
+        this.entries = Caffeine.newBuilder()
+            .maximumSize(properties.entryMaximumSize())
+            .expireAfterWrite(properties.expireAfterWrite())
+            .recordStats()
+            .build();
+        this.generations = Caffeine.newBuilder()
+            .expireAfterAccess(properties.expireAfterWrite().multipliedBy(2))
+            .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, summaries, "ledger.summary");
+        CaffeineCacheMetrics.monitor(meterRegistry, entries, "ledger.entry");
+    }
+
+    @Override
+    public LedgerEntriesByDateRangeResponse getSummary(
+        Long userId,
+        DateRange range,
+        Supplier<LedgerEntriesByDateRangeResponse> loader
+    ) {
+        return getOrLoad(summaries, new SummaryKey(userId, range), userId, loader);
+    }
+
+    @Override
+    public LedgerResult getEntry(Long userId, Long ledgerId, Supplier<LedgerResult> loader) {
+        return getOrLoad(entries, new EntryKey(userId, ledgerId), userId, loader);
+    }
+
+    /**
+     * 변경된 항목과, 변경 전/후 발생일을 포함하는 기간의 요약만 무효화한다.
+     * 커밋 전 다른 요청이 옛 값을 다시 채울 수 있으므로 커밋 후에 한 번 더 무효화한다.
+     */
+    @EventListener
+    public void onLedgerChanged(LedgerChangedEvent event) {
+        Set<Long> ledgerIds = new HashSet<>();
+        Set<LocalDate> dates = new HashSet<>();
+        for (LedgerChange change : event.changes()) {
+            collect(change.before(), ledgerIds, dates);
+            collect(change.after(), ledgerIds, dates);
+        }
+
+        evictNowAndAfterCommit(event.userId(), ledgerIds, (key, summary) -> dates.stream().anyMatch(key::contains));
+    }
+
+    /**
+     * 메모 변경 이벤트에는 발생일이 없으므로, 캐시된 결과에 해당 항목이 들어 있는 요약만 무효화한다.
+     * 메모는 항목의 발생일을 바꾸지 않으므로 항목이 없는 요약은 메모 변경 후에도 그대로 유효하다.
+     */
+    @EventListener
+    public void onLedgerMemoChanged(LedgerMemoChangedEvent event) {
+        Long ledgerId = event.ledgerId();
+        evictNowAndAfterCommit(event.userId(), Set.of(ledgerId), (key, summary) -> summary.results().stream()
+            .anyMatch(result -> ledgerId.equals(result.ledgerId())));
+    }
+
+    private void evictNowAndAfterCommit(
+        Long userId,
+        Set<Long> ledgerIds,
+        BiPredicate<SummaryKey, LedgerEntriesByDateRangeResponse> affected
+    ) {
+        evict(userId, ledgerIds, affected);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(userId, ledgerIds, affected);
+                }
+            });
+        }
+    }
+
+    private <K, V> V getOrLoad(Cache<K, V> cache, K key, Long userId, Supplier<V> loader) {
+        V cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        // DB 조회 중에는 캐시 내부 잠금을 잡지 않도록 compute 대신 조회 후 put
+        long generation = generation(userId).get();
+        V loaded = loader.get();
+        if (generation(userId).get() != generation) {
+            return loaded;
+        }
+        cache.put(key, loaded);
+        // 확인과 put 사이에 무효화가 끼어들었으면 방금 넣은 옛 값을 직접 지운다.
+        // (무효화는 세대를 먼저 올린 뒤 항목을 지우므로, put 이후에도 세대가 같다면 이후 무효화가 이 값을 지운다)
+        if (generation(userId).get() != generation) {
+            cache.invalidate(key);
+        }
+        return loaded;
+    }
+
+    private void evict(
+        Long userId,
+        Set<Long> ledgerIds,
+        BiPredicate<SummaryKey, LedgerEntriesByDateRangeResponse> affected
+    ) {
+        // 로딩은 항상 세대를 먼저 만들므로, 세대가 없으면 진행 중인 로딩도 남은 캐시 항목도 없다.
+        // 반복 규칙 실체화처럼 많은 사용자의 변경이 몰릴 때 요약 캐시 전체 순회를 건너뛴다.
+        AtomicLong generation = generations.getIfPresent(userId);
+        if (generation == null) {
+            return;
+        }
+        generation.incrementAndGet();
+        ledgerIds.forEach(ledgerId -> entries.invalidate(new EntryKey(userId, ledgerId)));
+        // 최대 크기로 제한된 캐시이므로 키 전체 순회 비용이 상한을 가진다.
+        summaries.asMap().entrySet().removeIf(
+            entry -> entry.getKey().userId().equals(userId) && affected.test(entry.getKey(), entry.getValue())
+        );
+    }
+
+    private AtomicLong generation(Long userId) {
+        return generations.get(userId, id -> new AtomicLong());
+    }
+
+    private static void collect(LedgerResult result, Set<Long> ledgerIds, Set<LocalDate> dates) {
+        if (result == null) {
+            return;
+        }
+        ledgerIds.add(result.ledgerId());
+        dates.add(result.occurredOn());
+    }
+
+    private record SummaryKey(Long userId, DateRange range) {
+        private boolean contains(LocalDate date) {
+            return !date.isBefore(range.start()) && !date.isAfter(range.end());
+        }
+    }
+
+    private record EntryKey(Long userId, Long ledgerId) {
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.demo.infrastructure.cache;
+
+import com.example.demo.application.UserInfoCache;
+import com.example.demo.application.dto.UserInfo;
+import com.example.demo.application.event.UserChangedEvent;
+import com.example.demo.common.config.UserCacheProperties;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+@Component
+public class CaffeineUserInfoCache implements UserInfoCache {
+
+    private final AsyncCache<Long, UserInfo> users;
+
+    public CaffeineUserInfoCache(UserCacheProperties properties, MeterRegistry meterRegistry) {
+        this.users = Caffeine.newBuilder()
+            .maximumSize(properties.maximumSize())
+            .expireAfterWrite(properties.expireAfterWrite())
+            .recordStats()
+            .buildAsync();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, users, "user.info");
+    }
+
+    /**
+     * 같은 사용자의 동시 미스는 PK 조회 한 번으로 합친다.
+     * 캐시 내부 잠금(synchronized) 안에서 DB를 기다리면 가상 스레드가 캐리어에 고정되므로,
+     * 잠금 안에서는 빈 future만 등록하고 조회는 먼저 등록한 호출 스레드에서 잠금 밖으로 실행한다.
+     * 로딩 중에 무효화되면 future가 캐시에서 빠지므로 옛 값이 남지 않는다. null로 끝난 future는 캐시에서 제거된다.
+     */
+    @Override
+    public UserInfo get(Long userId, Supplier<UserInfo> loader) {
+        CompletableFuture<UserInfo> loading = new CompletableFuture<>();
+        CompletableFuture<UserInfo> cached = users.get(userId, (id, executor) -> loading);
+        if (cached == loading) {
+            try {
+                loading.complete(loader.get());
+            } catch (RuntimeException e) {
+                loading.completeExceptionally(e);
+                throw e;
+            }
+        }
+
+        try {
+            return cached.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 커밋 전 다른 요청이 옛 값을 다시 채울 수 있으므로 커밋 후에 한 번 더 무효화한다.
+     */
+    @EventListener
+    public void onUserChanged(UserChangedEvent event) {
+        users.synchronous().invalidate(event.userId());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    users.synchronous().invalidate(event.userId());
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.demo.infrastructure.controller;
+
+import com.example.demo.application.budget.BudgetService;
+import com.example.demo.domain.enums.LedgerCategory;
+import com.example.demo.infrastructure.controller.dto.BudgetWebResponse;
+import com.example.demo.infrastructure.controller.dto.BudgetsWebResponse;
+import com.example.demo.infrastructure.controller.dto.SetBudgetWebRequest;
+import com.example.demo.infrastructure.interceptor.UserId;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.YearMonth;
+
+@RequiredArgsConstructor
+@RestController
+public class BudgetController {
+    private final BudgetService budgetService;
+
+    /**
+     * 처음 정하면 그 달의 기존 지출로 사용액을 채우고, 이미 있으면 금액만 바꾼다.
+     */
+    @PutMapping("/budgets/{month}/{category}")
+    public ResponseEntity<BudgetWebResponse> setBudget(
+        @UserId Long userId,
+        @PathVariable @DateTimeFormat(pattern = "yyyy-MM") YearMonth month,
+        @PathVariable LedgerCategory category,
+        @Valid @RequestBody SetBudgetWebRequest request
+    ) {
+        return ResponseEntity.ok(BudgetWebResponse.from(
+            budgetService.setBudget(userId, month, category, request.amount())
+        ));
+    }
+
+    /**
+     * 남은 예산. 예산 한 행만 읽는다.
+     */
+    @GetMapping("/budgets/{month}/{category}")
+    public ResponseEntity<BudgetWebResponse> getBudget(
+        @UserId Long userId,
+        @PathVariable @DateTimeFormat(pattern = "yyyy-MM") YearMonth month,
+        @PathVariable LedgerCategory category
+    ) {
+        return ResponseEntity.ok(BudgetWebResponse.from(budgetService.getBudget(userId, month, category)));
+    }
+
+    /**
+     * 한 달(month: yyyy-MM, 기본: 이번 달)의 카테고리별 예산
+     */
+    @GetMapping("/budgets")
+    public ResponseEntity<BudgetsWebResponse> getBudgets(
+        @UserId Long userId,
+        @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth month
+    ) {
+        return ResponseEntity.ok(BudgetsWebResponse.from(budgetService.getBudgets(userId, month)));
+    }
+
+    @DeleteMapping("/budgets/{month}/{category}")
+    public ResponseEntity<Void> deleteBudget(
+        @UserId Long userId,
+        @PathVariable @DateTimeFormat(pattern = "yyyy-MM") YearMonth month,
+        @PathVariable LedgerCategory category
+    ) {
+        budgetService.deleteBudget(userId, month, category);
+
+        return ResponseEntity.noContent().build();
+    }
+}
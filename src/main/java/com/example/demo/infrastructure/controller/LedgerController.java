@@ -1,29 +1,74 @@
 package com.example.demo.infrastructure.controller;
 
+import com.example.demo.application.LedgerBalanceService;
+import com.example.demo.application.LedgerRollupService;
+import com.example.demo.application.LedgerSearchService;
 import com.example.demo.application.LedgerService;
+import com.example.demo.application.LedgerTrendService;
+import com.example.demo.application.LedgerVersionService;
+import com.example.demo.application.dto.DateRange;
+import com.example.demo.application.dto.LedgerAggregationResult;
+import com.example.demo.application.dto.LedgerBatchResult;
+import com.example.demo.application.dto.LedgerCalendarResult;
 import com.example.demo.application.dto.LedgerEntriesByDateRangeResponse;
+import com.example.demo.application.dto.LedgerFilterCommand;
+import com.example.demo.application.dto.LedgerPageResult;
 import com.example.demo.application.dto.LedgerResult;
+import com.example.demo.application.dto.LedgerTotalsResult;
+import com.example.demo.application.dto.LedgerTrendResult;
 import com.example.demo.application.dto.UpsertLedgerCommand;
+import com.example.demo.domain.enums.LedgerCategory;
+import com.example.demo.domain.enums.LedgerSort;
+import com.example.demo.domain.enums.LedgerType;
+import com.example.demo.domain.enums.PaymentMethod;
+import com.example.demo.infrastructure.controller.dto.CreateLedgerBatchWebRequest;
+import com.example.demo.infrastructure.controller.dto.LedgerAggregationWebResponse;
+import com.example.demo.infrastructure.controller.dto.LedgerBalanceRangeWebResponse;
+import com.example.demo.infrastructure.controller.dto.LedgerBalanceWebResponse;
+import com.example.demo.infrastructure.controller.dto.LedgerBatchWebResponse;
+import com.example.demo.infrastructure.controller.dto.LedgerCalendarWebResponse;
 import com.example.demo.infrastructure.controller.dto.LedgerDetailWebResponse;
+import com.example.demo.infrastructure.controller.dto.LedgerFilterWebResponse;
+import com.example.demo.infrastructure.controller.dto.LedgerPageWebResponse;
+import com.example.demo.infrastructure.controller.dto.LedgerSearchWebResponse;
 import com.example.demo.infrastructure.controller.dto.LedgerSummaryWebResponse;
+import com.example.demo.infrastructure.controller.dto.LedgerTotalsWebResponse;
+import com.example.demo.infrastructure.controller.dto.LedgerTrendWebResponse;
 import com.example.demo.infrastructure.controller.dto.UpdateLedgerMemoWebRequest;
 import com.example.demo.infrastructure.controller.dto.UpsertLedgerWebRequest;
+import com.example.demo.infrastructure.controller.stream.LedgerCsvWriter;
+import com.example.demo.infrastructure.controller.stream.LedgerSummaryJsonWriter;
 import com.example.demo.infrastructure.interceptor.UserId;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Set;
 
 @Slf4j
 @RequiredArgsConstructor
 @RestController
 public class LedgerController {
     private final LedgerService ledgerService;
+    private final LedgerRollupService ledgerRollupService;
+    private final LedgerVersionService ledgerVersionService;
+    private final LedgerTrendService ledgerTrendService;
+    private final LedgerSearchService ledgerSearchService;
+    private final LedgerBalanceService ledgerBalanceService;
+    private final LedgerSummaryJsonWriter ledgerSummaryJsonWriter;
+    private final LedgerCsvWriter ledgerCsvWriter;
 
     @PostMapping("/ledgers")
     public ResponseEntity<LedgerDetailWebResponse> create(
@@ -38,15 +83,39 @@ public class LedgerController {
         return ResponseEntity.created(location).body(response);
     }
 
+    /**
+     * 형식 오류(Bean Validation)는 요청 전체를 400으로 거절하고,
+     * 도메인 규칙 위반은 항목별 결과로 돌려준다.
+     */
+    @PostMapping("/ledgers/batch")
+    public ResponseEntity<LedgerBatchWebResponse> createBatch(
+        @UserId Long userId,
+        @Valid @RequestBody CreateLedgerBatchWebRequest request
+    ) {
+        LedgerBatchResult result = ledgerService.createLedgerEntries(userId, request.toCommands(userId));
+        return ResponseEntity.ok(LedgerBatchWebResponse.from(result));
+    }
+
+    /**
+     * 사용자의 가계부 버전과 항목 ID로 만든 ETag가 If-None-Match와 같으면 조회 없이 304를 응답한다.
+     * 버전은 사용자 단위이므로 항목 ID를 넣어야 다른 항목의 ETag로 304가 나가지 않는다.
+     */
     @GetMapping("/ledgers/{ledgerId}")
     public ResponseEntity<LedgerDetailWebResponse> getById(
         @UserId Long userId,
-        @PathVariable Long ledgerId
+        @PathVariable Long ledgerId,
+        WebRequest webRequest
     ) {
+        // 버전을 먼저 읽어야 ETag가 응답 데이터보다 새로워지지 않는다.
+        String eTag = eTag(ledgerVersionService.getVersion(userId), ledgerId);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
         LedgerResult result = ledgerService.getLedgerEntry(userId, ledgerId);
         LedgerDetailWebResponse response = LedgerDetailWebResponse.from(result);
 
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().eTag(eTag).body(response);
     }
 
     @PatchMapping("/ledgers/{ledgerId}/memo")
@@ -66,7 +135,7 @@ public class LedgerController {
         @Valid @RequestBody UpsertLedgerWebRequest request
     ) {
         UpsertLedgerCommand command = request.toCommand(userId);
-        LedgerResult result = ledgerService.updateLedgerEntry(ledgerId, command);
+        LedgerResult result = ledgerService.updateLedgerEntry(ledgerId, command, request.version());
         LedgerDetailWebResponse response = LedgerDetailWebResponse.from(result);
 
         return ResponseEntity.ok(response);
@@ -82,13 +151,210 @@ public class LedgerController {
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * 기본 기간은 날짜에 따라 달라지므로 ETag에 실제 조회 기간을 포함한다.
+     */
     @GetMapping("/ledgers/summary")
     public ResponseEntity<LedgerSummaryWebResponse> getSummary(
+        @UserId Long userId,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate start,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate end,
+        WebRequest webRequest
+    ) {
+        DateRange range = ledgerService.resolveRange(start, end);
+        String eTag = eTag(ledgerVersionService.getVersion(userId), range);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
+        LedgerEntriesByDateRangeResponse response = ledgerService.getSummary(userId, range.start(), range.end());
+        return ResponseEntity.ok().eTag(eTag).body(LedgerSummaryWebResponse.from(response));
+    }
+
+    @GetMapping(value = "/ledgers/summary/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamSummary(
         @UserId Long userId,
         @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate start,
         @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate end
     ) {
-        LedgerEntriesByDateRangeResponse response = ledgerService.getSummary(userId, start, end);
-        return ResponseEntity.ok(LedgerSummaryWebResponse.from(response));
+        DateRange range = ledgerService.resolveRange(start, end);
+        StreamingResponseBody body = out -> ledgerSummaryJsonWriter.write(
+            out,
+            range,
+            action -> ledgerService.streamSummary(userId, range, action)
+        );
+
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(body);
+    }
+
+    /**
+     * 기간 내 항목을 CSV로 내려받는다. DB 커서에서 읽은 행을 바로 응답 스트림에 쓰므로 행 수와 무관하게 힙 사용량이 일정하다.
+     */
+    @GetMapping(value = "/ledgers/export", produces = "text/csv")
+    public ResponseEntity<StreamingResponseBody> export(
+        @UserId Long userId,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate start,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate end
+    ) {
+        DateRange range = ledgerService.resolveRange(start, end);
+        StreamingResponseBody body = out -> ledgerCsvWriter.write(
+            out,
+            action -> ledgerService.streamSummary(userId, range, action)
+        );
+        ContentDisposition disposition = ContentDisposition.attachment()
+            .filename("ledger-" + range.start() + "_" + range.end() + ".csv")
+            .build();
+
+        return ResponseEntity.ok()
+            .contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
+            .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+            .body(body);
+    }
+
+    @GetMapping("/ledgers")
+    public ResponseEntity<LedgerPageWebResponse> getPage(
+        @UserId Long userId,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate start,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate end,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false) Integer size
+    ) {
+        LedgerPageResult page = ledgerService.getPage(userId, start, end, cursor, size);
+        return ResponseEntity.ok(LedgerPageWebResponse.from(page));
+    }
+
+    @GetMapping("/ledgers/totals")
+    public ResponseEntity<LedgerTotalsWebResponse> getTotals(
+        @UserId Long userId,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate start,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate end
+    ) {
+        LedgerTotalsResult result = ledgerRollupService.getTotals(userId, start, end);
+        return ResponseEntity.ok(LedgerTotalsWebResponse.from(result));
+    }
+
+    @GetMapping("/ledgers/aggregations")
+    public ResponseEntity<LedgerAggregationWebResponse> getAggregation(
+        @UserId Long userId,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate start,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate end
+    ) {
+        LedgerAggregationResult result = ledgerService.getAggregation(userId, start, end);
+        return ResponseEntity.ok(LedgerAggregationWebResponse.from(result));
+    }
+
+    /**
+     * 일자별 수입/지출 합계 배열. 요약과 같은 방식으로 ETag를 붙인다.
+     */
+    @GetMapping("/ledgers/calendar")
+    public ResponseEntity<LedgerCalendarWebResponse> getCalendar(
+        @UserId Long userId,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate start,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate end,
+        WebRequest webRequest
+    ) {
+        DateRange range = ledgerService.resolveRange(start, end);
+        String eTag = eTag(ledgerVersionService.getVersion(userId), range);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
+        LedgerCalendarResult result = ledgerService.getCalendar(userId, range.start(), range.end());
+        return ResponseEntity.ok().eTag(eTag).body(LedgerCalendarWebResponse.from(result));
+    }
+
+    /**
+     * 월별 카테고리 추이와 전월 대비 증감. to(yyyy-MM, 기본: 이번 달)로 끝나는 months(기본 12, 최대 36)개월
+     */
+    @GetMapping("/ledgers/trend")
+    public ResponseEntity<LedgerTrendWebResponse> getTrend(
+        @UserId Long userId,
+        @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth to,
+        @RequestParam(required = false) Integer months,
+        WebRequest webRequest
+    ) {
+        DateRange range = ledgerTrendService.resolveRange(to, months);
+        String eTag = eTag(ledgerVersionService.getVersion(userId), range);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
+        LedgerTrendResult result = ledgerTrendService.getTrend(
+            userId, YearMonth.from(range.start()), YearMonth.from(range.end())
+        );
+        return ResponseEntity.ok()
+            .eTag(eTag)
+            .body(LedgerTrendWebResponse.from(result));
+    }
+
+    /**
+     * 기간 내 항목을 유형/카테고리/결제 수단(여러 값 가능)과 금액 범위로 거른다. 정렬 기본값은 발생일 오름차순
+     * 다음 페이지는 같은 조건/정렬에 응답의 nextCursor를 cursor로 넘겨 조회한다.
+     */
+    @GetMapping("/ledgers/filter")
+    public ResponseEntity<LedgerFilterWebResponse> filter(
+        @UserId Long userId,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate start,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate end,
+        @RequestParam(required = false) Set<LedgerType> type,
+        @RequestParam(required = false) Set<LedgerCategory> category,
+        @RequestParam(required = false) Set<PaymentMethod> paymentMethod,
+        @RequestParam(required = false) Long minAmount,
+        @RequestParam(required = false) Long maxAmount,
+        @RequestParam(required = false) LedgerSort sort,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false) Integer size
+    ) {
+        LedgerFilterCommand command = new LedgerFilterCommand(
+            userId, start, end, type, category, paymentMethod, minAmount, maxAmount, sort, cursor, size
+        );
+        return ResponseEntity.ok(LedgerFilterWebResponse.from(ledgerService.filter(command)));
+    }
+
+    /**
+     * 내용/메모 검색. 점수 순(같으면 최근 발생일 순)으로 size(기본 20, 최대 100)건
+     */
+    @GetMapping("/ledgers/search")
+    public ResponseEntity<LedgerSearchWebResponse> search(
+        @UserId Long userId,
+        @RequestParam(required = false) String q,
+        @RequestParam(required = false) Integer size
+    ) {
+        return ResponseEntity.ok(LedgerSearchWebResponse.from(ledgerSearchService.search(userId, q, size)));
+    }
+
+    /**
+     * date(기본: 오늘) 당일까지 기록된 수입에서 지출을 뺀 잔액
+     */
+    @GetMapping("/ledgers/balance")
+    public ResponseEntity<LedgerBalanceWebResponse> getBalance(
+        @UserId Long userId,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date
+    ) {
+        return ResponseEntity.ok(LedgerBalanceWebResponse.from(ledgerBalanceService.getBalance(userId, date)));
+    }
+
+    /**
+     * 기간 시작 전날과 끝날의 잔액, 그 사이 순증감
+     */
+    @GetMapping("/ledgers/balance/range")
+    public ResponseEntity<LedgerBalanceRangeWebResponse> getBalanceRange(
+        @UserId Long userId,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate start,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate end
+    ) {
+        return ResponseEntity.ok(LedgerBalanceRangeWebResponse.from(
+            ledgerBalanceService.getBalanceRange(userId, start, end)
+        ));
+    }
+
+    private static String eTag(long version, Long ledgerId) {
+        return "\"v" + version + "-" + ledgerId + "\"";
+    }
+
+    private static String eTag(long version, DateRange range) {
+        return "\"v" + version + "-" + range.start() + "-" + range.end() + "\"";
     }
 }
@@ -0,0 +1,64 @@
+package com.example.demo.infrastructure.controller;
+
+import com.example.demo.application.dto.LedgerImportJobResult;
+import com.example.demo.application.importer.LedgerImportService;
+import com.example.demo.infrastructure.controller.dto.LedgerImportJobWebResponse;
+import com.example.demo.infrastructure.interceptor.UserId;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestPart;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+@RequiredArgsConstructor
+@RestController
+public class LedgerImportController {
+    private final LedgerImportService ledgerImportService;
+
+    /**
+     * 업로드 파일은 요청이 끝나면 지워지므로 임시 파일로 옮긴 뒤 백그라운드 작업에 넘긴다.
+     * 작업 등록 전에 실패하면(복사 실패, 작업 저장 실패, 대기열 초과) 임시 파일은 여기서 지운다.
+     */
+    @PostMapping(value = "/ledgers/imports", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<LedgerImportJobWebResponse> upload(
+        @UserId Long userId,
+        @RequestPart("file") MultipartFile file
+    ) throws IOException {
+        if (file.isEmpty()) {
+            throw new IllegalArgumentException("빈 파일입니다.");
+        }
+
+        Path temp = Files.createTempFile("ledger-import-", ".csv");
+        LedgerImportJobResult result;
+        try {
+            file.transferTo(temp);
+            result = ledgerImportService.start(userId, temp);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+
+        URI location = URI.create("/ledgers/imports/" + result.jobId());
+        return ResponseEntity.accepted()
+            .location(location)
+            .body(LedgerImportJobWebResponse.from(result));
+    }
+
+    @GetMapping("/ledgers/imports/{jobId}")
+    public ResponseEntity<LedgerImportJobWebResponse> getJob(
+        @UserId Long userId,
+        @PathVariable Long jobId
+    ) {
+        LedgerImportJobResult result = ledgerImportService.getJob(userId, jobId);
+        return ResponseEntity.ok(LedgerImportJobWebResponse.from(result));
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.demo.infrastructure.controller;
+
+import com.example.demo.application.dto.RecurringRuleResult;
+import com.example.demo.application.recurring.RecurringRuleService;
+import com.example.demo.infrastructure.controller.dto.CreateRecurringRuleWebRequest;
+import com.example.demo.infrastructure.controller.dto.RecurringRuleWebResponse;
+import com.example.demo.infrastructure.controller.dto.RecurringRulesWebResponse;
+import com.example.demo.infrastructure.interceptor.UserId;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.net.URI;
+
+@RequiredArgsConstructor
+@RestController
+public class RecurringRuleController {
+    private final RecurringRuleService recurringRuleService;
+
+    @PostMapping("/recurring-rules")
+    public ResponseEntity<RecurringRuleWebResponse> create(
+        @UserId Long userId,
+        @Valid @RequestBody CreateRecurringRuleWebRequest request
+    ) {
+        RecurringRuleResult result = recurringRuleService.createRule(request.toCommand(userId));
+
+        URI location = URI.create("/recurring-rules/" + result.ruleId());
+        return ResponseEntity.created(location).body(RecurringRuleWebResponse.from(result));
+    }
+
+    @GetMapping("/recurring-rules")
+    public ResponseEntity<RecurringRulesWebResponse> getRules(@UserId Long userId) {
+        return ResponseEntity.ok(RecurringRulesWebResponse.from(recurringRuleService.getRules(userId)));
+    }
+
+    @DeleteMapping("/recurring-rules/{ruleId}")
+    public ResponseEntity<Void> delete(
+        @UserId Long userId,
+        @PathVariable Long ruleId
+    ) {
+        recurringRuleService.deleteRule(userId, ruleId);
+
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.demo.infrastructure.controller.dto;
+
+import com.example.demo.application.dto.BudgetResult;
+import com.example.demo.domain.enums.LedgerCategory;
+
+import java.time.YearMonth;
+
+public record BudgetWebResponse(
+    YearMonth month,
+    LedgerCategory category,
+    long amount,
+    long spent,
+    long remaining
+) {
+    public static BudgetWebResponse from(BudgetResult result) {
+        return new BudgetWebResponse(
+            result.month(),
+            result.category(),
+            result.amount(),
+            result.spent(),
+            result.remaining()
+        );
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.demo.infrastructure.controller.dto;
+
+import com.example.demo.application.dto.BudgetResult;
+
+import java.util.List;
+
+public record BudgetsWebResponse(
+    List<BudgetWebResponse> budgets
+) {
+    public static BudgetsWebResponse from(List<BudgetResult> results) {
+        return new BudgetsWebResponse(
+            results.stream()
+                .map(BudgetWebResponse::from)
+                .toList()
+        );
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.demo.infrastructure.controller.dto;
+
+import com.example.demo.application.dto.UpsertLedgerCommand;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record CreateLedgerBatchWebRequest(
+    @NotEmpty(message = "항목(items)은 1건 이상이어야 합니다.")
+    @Size(max = 1000, message = "항목(items)은 한 번에 최대 1000건까지 등록할 수 있습니다.")
+    List<@Valid UpsertLedgerWebRequest> items
+) {
+
+    public List<UpsertLedgerCommand> toCommands(Long userId) {
+        return items.stream()
+            .map(item -> item.toCommand(userId))
+            .toList();
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.demo.infrastructure.controller.dto;
+
+import com.example.demo.application.dto.LedgerAggregationResult;
+import com.example.demo.application.dto.LedgerTotal;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record LedgerAggregationWebResponse(
+    LocalDate start,
+    LocalDate end,
+    List<LedgerTotalWebResponse> byType,
+    List<LedgerTotalWebResponse> byCategory,
+    List<LedgerTotalWebResponse> byPaymentMethod
+) {
+    public static LedgerAggregationWebResponse from(LedgerAggregationResult result) {
+        return new LedgerAggregationWebResponse(
+            result.dateRange().start(),
+            result.dateRange().end(),
+            toWeb(result.byType()),
+            toWeb(result.byCategory()),
+            toWeb(result.byPaymentMethod())
+        );
+    }
+
+    private static List<LedgerTotalWebResponse> toWeb(List<LedgerTotal> totals) {
+        return totals.stream()
+            .map(LedgerTotalWebResponse::from)
+            .toList();
+    }
+}
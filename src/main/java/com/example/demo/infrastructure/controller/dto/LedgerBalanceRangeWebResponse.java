@@ -0,0 +1,23 @@
+package com.example.demo.infrastructure.controller.dto;
+
+import com.example.demo.application.dto.LedgerBalanceRangeResult;
+
+import java.time.LocalDate;
+
+public record LedgerBalanceRangeWebResponse(
+    LocalDate start,
+    LocalDate end,
+    long openingBalance,
+    long closingBalance,
+    long netChange
+) {
+    public static LedgerBalanceRangeWebResponse from(LedgerBalanceRangeResult result) {
+        return new LedgerBalanceRangeWebResponse(
+            result.dateRange().start(),
+            result.dateRange().end(),
+            result.openingBalance(),
+            result.closingBalance(),
+            result.netChange()
+        );
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.demo.infrastructure.controller.dto;
+
+import com.example.demo.application.dto.LedgerBalanceResult;
+
+import java.time.LocalDate;
+
+public record LedgerBalanceWebResponse(
+    LocalDate date,
+    long balance
+) {
+    public static LedgerBalanceWebResponse from(LedgerBalanceResult result) {
+        return new LedgerBalanceWebResponse(result.date(), result.balance());
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.demo.infrastructure.controller.dto;
+
+import com.example.demo.application.dto.LedgerBatchItemResult;
+
+public record LedgerBatchItemWebResponse(
+    int index,
+    boolean created,
+    LedgerDetailWebResponse ledger,
+    String error
+) {
+    public static LedgerBatchItemWebResponse from(LedgerBatchItemResult item) {
+        return new LedgerBatchItemWebResponse(
+            item.index(),
+            item.isCreated(),
+            item.isCreated() ? LedgerDetailWebResponse.from(item.result()) : null,
+            item.error()
+        );
+    }
+}
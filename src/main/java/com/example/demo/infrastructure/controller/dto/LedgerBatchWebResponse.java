@@ -0,0 +1,21 @@
+package com.example.demo.infrastructure.controller.dto;
+
+import com.example.demo.application.dto.LedgerBatchResult;
+
+import java.util.List;
+
+public record LedgerBatchWebResponse(
+    long createdCount,
+    long failedCount,
+    List<LedgerBatchItemWebResponse> results
+) {
+    public static LedgerBatchWebResponse from(LedgerBatchResult result) {
+        return new LedgerBatchWebResponse(
+            result.createdCount(),
+            result.failedCount(),
+            result.items().stream()
+                .map(LedgerBatchItemWebResponse::from)
+                .toList()
+        );
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.demo.infrastructure.controller.dto;
+
+import com.example.demo.application.dto.LedgerCalendarResult;
+
+import java.time.LocalDate;
+
+public record LedgerCalendarWebResponse(
+    LocalDate start,
+    LocalDate end,
+    long[] income,
+    long[] expense
+) {
+    public static LedgerCalendarWebResponse from(LedgerCalendarResult result) {
+        return new LedgerCalendarWebResponse(
+            result.dateRange().start(),
+            result.dateRange().end(),
+            result.income(),
+            result.expense()
+        );
+    }
+}
@@ -15,7 +15,8 @@ public record LedgerDetailWebResponse(
     String description,
     LocalDate occurredOn,
     PaymentMethod paymentMethod,
-    String memo
+    String memo,
+    Long version
 ) {
     public static LedgerDetailWebResponse from(LedgerResult ledgerResult) {
         return new LedgerDetailWebResponse(
@@ -26,7 +27,8 @@ public record LedgerDetailWebResponse(
             ledgerResult.description(),
             ledgerResult.occurredOn(),
             ledgerResult.paymentMethod(),
-            ledgerResult.memo()
+            ledgerResult.memo(),
+            ledgerResult.version()
         );
     }
 }
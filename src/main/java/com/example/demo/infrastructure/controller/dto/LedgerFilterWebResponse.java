@@ -0,0 +1,26 @@
+package com.example.demo.infrastructure.controller.dto;
+
+import com.example.demo.application.dto.LedgerFilterResult;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record LedgerFilterWebResponse(
+    LocalDate start,
+    LocalDate end,
+    List<LedgerDetailWebResponse> result,
+    String nextCursor,
+    boolean hasNext
+) {
+    public static LedgerFilterWebResponse from(LedgerFilterResult filtered) {
+        return new LedgerFilterWebResponse(
+            filtered.dateRange().start(),
+            filtered.dateRange().end(),
+            filtered.results().stream()
+                .map(LedgerDetailWebResponse::from)
+                .toList(),
+            filtered.nextCursor(),
+            filtered.hasNext()
+        );
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.demo.infrastructure.controller.dto;
+
+import com.example.demo.application.dto.LedgerImportJobResult;
+import com.example.demo.application.dto.LedgerImportRowError;
+import com.example.demo.domain.enums.LedgerImportStatus;
+
+import java.util.List;
+
+public record LedgerImportJobWebResponse(
+    Long jobId,
+    LedgerImportStatus status,
+    long processedRows,
+    long importedRows,
+    long failedRows,
+    String message,
+    List<RowError> errors
+) {
+    public static LedgerImportJobWebResponse from(LedgerImportJobResult result) {
+        return new LedgerImportJobWebResponse(
+            result.jobId(),
+            result.status(),
+            result.processedRows(),
+            result.importedRows(),
+            result.failedRows(),
+            result.message(),
+            result.errors().stream()
+                .map(RowError::from)
+                .toList()
+        );
+    }
+
+    public record RowError(
+        long line,
+        String message
+    ) {
+        static RowError from(LedgerImportRowError error) {
+            return new RowError(error.lineNumber(), error.message());
+        }
+    }
+}
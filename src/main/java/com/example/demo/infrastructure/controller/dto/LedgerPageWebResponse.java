@@ -0,0 +1,28 @@
+package com.example.demo.infrastructure.controller.dto;
+
+import com.example.demo.application.dto.LedgerPageResult;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record LedgerPageWebResponse(
+    LocalDate start,
+    LocalDate end,
+    List<LedgerDetailWebResponse> result,
+    String nextCursor,
+    boolean hasNext
+) {
+    public static LedgerPageWebResponse from(LedgerPageResult page) {
+        List<LedgerDetailWebResponse> result = page.results().stream()
+            .map(LedgerDetailWebResponse::from)
+            .toList();
+
+        return new LedgerPageWebResponse(
+            page.dateRange().start(),
+            page.dateRange().end(),
+            result,
+            page.nextCursor(),
+            page.hasNext()
+        );
+    }
+}
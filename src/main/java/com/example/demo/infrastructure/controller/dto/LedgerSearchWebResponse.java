@@ -0,0 +1,19 @@
+package com.example.demo.infrastructure.controller.dto;
+
+import com.example.demo.application.dto.LedgerSearchResult;
+
+import java.util.List;
+
+public record LedgerSearchWebResponse(
+    String query,
+    List<LedgerDetailWebResponse> results
+) {
+    public static LedgerSearchWebResponse from(LedgerSearchResult result) {
+        return new LedgerSearchWebResponse(
+            result.query(),
+            result.items().stream()
+                .map(LedgerDetailWebResponse::from)
+                .toList()
+        );
+    }
+}
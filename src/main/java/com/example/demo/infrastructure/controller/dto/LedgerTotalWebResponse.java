@@ -0,0 +1,24 @@
+package com.example.demo.infrastructure.controller.dto;
+
+import com.example.demo.application.dto.LedgerTotal;
+import com.example.demo.domain.enums.LedgerCategory;
+import com.example.demo.domain.enums.LedgerType;
+import com.example.demo.domain.enums.PaymentMethod;
+
+public record LedgerTotalWebResponse(
+    LedgerType type,
+    LedgerCategory category,
+    PaymentMethod paymentMethod,
+    long amount,
+    long count
+) {
+    public static LedgerTotalWebResponse from(LedgerTotal total) {
+        return new LedgerTotalWebResponse(
+            total.type(),
+            total.category(),
+            total.paymentMethod(),
+            total.amount(),
+            total.entryCount()
+        );
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.demo.infrastructure.controller.dto;
+
+import com.example.demo.application.dto.LedgerTotalsResult;
+import com.example.demo.domain.enums.LedgerType;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record LedgerTotalsWebResponse(
+    LocalDate start,
+    LocalDate end,
+    long incomeTotal,
+    long expenseTotal,
+    List<LedgerTotalWebResponse> totals
+) {
+    public static LedgerTotalsWebResponse from(LedgerTotalsResult result) {
+        List<LedgerTotalWebResponse> totals = result.totals().stream()
+            .map(LedgerTotalWebResponse::from)
+            .toList();
+
+        return new LedgerTotalsWebResponse(
+            result.dateRange().start(),
+            result.dateRange().end(),
+            result.sumOf(LedgerType.INCOME),
+            result.sumOf(LedgerType.EXPENSE),
+            totals
+        );
+    }
+}
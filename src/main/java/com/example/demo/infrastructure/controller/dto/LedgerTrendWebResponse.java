@@ -0,0 +1,66 @@
+package com.example.demo.infrastructure.controller.dto;
+
+import com.example.demo.application.dto.LedgerCategoryTrend;
+import com.example.demo.application.dto.LedgerMonthTrend;
+import com.example.demo.application.dto.LedgerTrendResult;
+import com.example.demo.domain.enums.LedgerCategory;
+import com.example.demo.domain.enums.LedgerType;
+
+import java.time.YearMonth;
+import java.util.List;
+
+public record LedgerTrendWebResponse(
+    YearMonth from,
+    YearMonth to,
+    List<Month> months
+) {
+    public static LedgerTrendWebResponse from(LedgerTrendResult result) {
+        return new LedgerTrendWebResponse(
+            result.from(),
+            result.to(),
+            result.months().stream()
+                .map(Month::from)
+                .toList()
+        );
+    }
+
+    public record Month(
+        YearMonth month,
+        long incomeTotal,
+        long expenseTotal,
+        long incomeDelta,
+        long expenseDelta,
+        List<Category> categories
+    ) {
+        static Month from(LedgerMonthTrend trend) {
+            return new Month(
+                trend.month(),
+                trend.incomeTotal(),
+                trend.expenseTotal(),
+                trend.incomeDelta(),
+                trend.expenseDelta(),
+                trend.categories().stream()
+                    .map(Category::from)
+                    .toList()
+            );
+        }
+    }
+
+    public record Category(
+        LedgerType type,
+        LedgerCategory category,
+        long amount,
+        long count,
+        long delta
+    ) {
+        static Category from(LedgerCategoryTrend trend) {
+            return new Category(
+                trend.type(),
+                trend.category(),
+                trend.amount(),
+                trend.entryCount(),
+                trend.delta()
+            );
+        }
+    }
+}
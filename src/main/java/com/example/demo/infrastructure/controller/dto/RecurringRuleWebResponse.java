@@ -0,0 +1,44 @@
+package com.example.demo.infrastructure.controller.dto;
+
+import com.example.demo.application.dto.RecurringRuleResult;
+import com.example.demo.domain.enums.LedgerCategory;
+import com.example.demo.domain.enums.LedgerType;
+import com.example.demo.domain.enums.PaymentMethod;
+import com.example.demo.domain.enums.RecurrenceFrequency;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+
+public record RecurringRuleWebResponse(
+    Long ruleId,
+    Long amount,
+    LedgerType type,
+    LedgerCategory category,
+    String description,
+    PaymentMethod paymentMethod,
+    String memo,
+    RecurrenceFrequency frequency,
+    Integer dayOfMonth,
+    DayOfWeek dayOfWeek,
+    LocalDate startDate,
+    LocalDate endDate,
+    LocalDate nextOccurrence
+) {
+    public static RecurringRuleWebResponse from(RecurringRuleResult result) {
+        return new RecurringRuleWebResponse(
+            result.ruleId(),
+            result.amount(),
+            result.type(),
+            result.category(),
+            result.description(),
+            result.paymentMethod(),
+            result.memo(),
+            result.frequency(),
+            result.dayOfMonth(),
+            result.dayOfWeek(),
+            result.startDate(),
+            result.endDate(),
+            result.nextOccurrence()
+        );
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.demo.infrastructure.controller.dto;
+
+import com.example.demo.application.dto.RecurringRuleResult;
+
+import java.util.List;
+
+public record RecurringRulesWebResponse(
+    List<RecurringRuleWebResponse> rules
+) {
+    public static RecurringRulesWebResponse from(List<RecurringRuleResult> results) {
+        return new RecurringRulesWebResponse(
+            results.stream()
+                .map(RecurringRuleWebResponse::from)
+                .toList()
+        );
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.demo.infrastructure.controller.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+public record SetBudgetWebRequest(
+    @NotNull(message = "예산 금액(amount)은 필수입니다.")
+    @Positive(message = "예산 금액(amount)은 0보다 커야 합니다.")
+    Long amount
+) {
+}
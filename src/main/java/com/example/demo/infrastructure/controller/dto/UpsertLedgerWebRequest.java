@@ -34,7 +34,10 @@ public record UpsertLedgerWebRequest(
 
     @NotBlank(message = "메모(memo)는 공백일 수 없습니다.")
     @Size(max = 100, message = "메모(memo)는 최대 100자까지 입력할 수 있습니다.")
-    String memo
+    String memo,
+
+    // 수정 시 조회했던 버전. 있으면 그 사이 다른 수정이 있었는지 확인한다. (생성 시 무시)
+    Long version
 ) {
 
     public UpsertLedgerCommand toCommand(Long userId) {
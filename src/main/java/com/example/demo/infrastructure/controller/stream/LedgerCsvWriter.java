@@ -0,0 +1,79 @@
+package com.example.demo.infrastructure.controller.stream;
+
+import com.example.demo.application.dto.LedgerResult;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 가계부 항목을 CSV로 한 행씩 출력 스트림에 바로 쓴다.
+ * 헤더와 값 형식은 CSV 가져오기(POST /ledgers/imports)가 그대로 읽을 수 있는 형태다.
+ */
+@Component
+public class LedgerCsvWriter {
+
+    static final String HEADER = "날짜,구분,카테고리,결제수단,금액,내용,메모";
+
+    public void write(OutputStream out, LedgerRows rows) throws IOException {
+        // 닫으면 서블릿 출력 스트림까지 닫히므로 flush만 한다.
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        // Excel이 UTF-8로 인식하도록 BOM을 붙인다.
+        writer.write('\uFEFF');
+        writer.write(HEADER);
+        writer.write("\r\n");
+        try {
+            rows.forEach(result -> writeRow(writer, result));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+    }
+
+    private static void writeRow(Writer writer, LedgerResult result) {
+        try {
+            writer.write(result.occurredOn().toString());
+            writer.write(',');
+            writer.write(result.type().name());
+            writer.write(',');
+            writer.write(result.category().name());
+            writer.write(',');
+            writer.write(result.paymentMethod().name());
+            writer.write(',');
+            writer.write(Long.toString(result.amount()));
+            writer.write(',');
+            writeText(writer, result.description());
+            writer.write(',');
+            writeText(writer, result.memo());
+            writer.write("\r\n");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 쉼표/따옴표/줄바꿈은 따옴표로 감싸고, 스프레드시트가 수식으로 해석할 수 있는 시작 문자는 '를 붙여 막는다.
+     * 가져오기(LedgerCsvColumns)는 이 '를 떼어 읽으므로 내보낸 값이 그대로 돌아온다.
+     */
+    private static void writeText(Writer writer, String value) throws IOException {
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+        char first = value.charAt(0);
+        if (first == '=' || first == '+' || first == '-' || first == '@') {
+            value = "'" + value;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.demo.infrastructure.controller.stream;
+
+import com.example.demo.application.dto.LedgerResult;
+
+import java.util.function.Consumer;
+
+/**
+ * 응답 writer에 행을 한 건씩 밀어 넣는 원천 (예: LedgerService.streamSummary)
+ */
+@FunctionalInterface
+public interface LedgerRows {
+    void forEach(Consumer<LedgerResult> action);
+}
@@ -0,0 +1,55 @@
+package com.example.demo.infrastructure.controller.stream;
+
+import com.example.demo.application.dto.DateRange;
+import com.example.demo.application.dto.LedgerResult;
+import com.example.demo.infrastructure.controller.dto.LedgerDetailWebResponse;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * LedgerSummaryWebResponse와 같은 형태의 JSON을 한 행씩 출력 스트림에 바로 쓴다.
+ */
+@Component
+public class LedgerSummaryJsonWriter {
+
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter rowWriter;
+
+    public LedgerSummaryJsonWriter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.rowWriter = objectMapper.writerFor(LedgerDetailWebResponse.class)
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    public void write(OutputStream out, DateRange range, LedgerRows rows) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+            generator.writeStartObject();
+            generator.writeStringField("start", range.start().toString());
+            generator.writeStringField("end", range.end().toString());
+            generator.writeArrayFieldStart("result");
+            try {
+                rows.forEach(result -> writeRow(generator, result));
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
+    private void writeRow(JsonGenerator generator, LedgerResult result) {
+        try {
+            rowWriter.writeValue(generator, LedgerDetailWebResponse.from(result));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.demo.infrastructure.datasource;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * SHOW REPLICA STATUS의 Seconds_Behind_Source (MySQL 8.0.22+, REPLICATION CLIENT 권한 필요)
+ * 복제 설정이 없거나 SQL 스레드가 멈춰 값이 NULL이면 지연을 알 수 없는 것으로 본다.
+ */
+public class MySqlReplicaLagProbe implements ReplicaLagProbe {
+
+    @Override
+    public Optional<Duration> lag(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SHOW REPLICA STATUS")) {
+            if (!resultSet.next()) {
+                return Optional.empty();
+            }
+            long seconds = resultSet.getLong("Seconds_Behind_Source");
+            return resultSet.wasNull() ? Optional.empty() : Optional.of(Duration.ofSeconds(seconds));
+        }
+    }
+}
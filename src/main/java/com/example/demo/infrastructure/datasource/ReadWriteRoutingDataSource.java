@@ -0,0 +1,95 @@
+package com.example.demo.infrastructure.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * readOnly 트랜잭션은 복제본으로, 나머지(쓰기 트랜잭션, 트랜잭션 밖 조회)는 원본으로 보낸다.
+ * 트랜잭션 시작 시점에는 readOnly 여부가 아직 동기화되지 않으므로 LazyConnectionDataSourceProxy로 감싸 첫 쿼리 때 라우팅한다.
+ * 읽을 수 있는 복제본이 없거나, 현재 사용자가 방금 쓰기를 마쳤으면 readOnly라도 원본으로 보낸다.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+    private static final String PRIMARY = "primary";
+
+    private final ReplicaPool replicaPool;
+    private final ReadYourWritesTracker tracker;
+    private final Supplier<Optional<Long>> currentUserId;
+    private final Counter replicaReads;
+    private final Counter stickyReads;
+    private final Counter fallbackReads;
+
+    public ReadWriteRoutingDataSource(
+        DataSource primary,
+        ReplicaPool replicaPool,
+        ReadYourWritesTracker tracker,
+        Supplier<Optional<Long>> currentUserId,
+        MeterRegistry meterRegistry
+    ) {
+        this.replicaPool = replicaPool;
+        this.tracker = tracker;
+        this.currentUserId = currentUserId;
+        this.replicaReads = readCounter(meterRegistry, "replica");
+        this.stickyReads = readCounter(meterRegistry, "primary-sticky");
+        this.fallbackReads = readCounter(meterRegistry, "primary-fallback");
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        replicaPool.nodes().forEach(node -> targets.put(node.name(), node.dataSource()));
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Optional<Long> userId = currentUserId.get();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            userId.ifPresent(this::markAfterCompletion);
+            return PRIMARY;
+        }
+        if (userId.filter(tracker::isSticky).isPresent()) {
+            stickyReads.increment();
+            return PRIMARY;
+        }
+        Optional<ReplicaNode> replica = replicaPool.pick();
+        if (replica.isEmpty()) {
+            fallbackReads.increment();
+            return PRIMARY;
+        }
+        replicaReads.increment();
+        return replica.get().name();
+    }
+
+    /**
+     * 쓰기 트랜잭션이 끝난 시점부터 고정 시간을 센다. (롤백이어도 표시해 보수적으로 원본을 읽는다)
+     */
+    private void markAfterCompletion(Long userId) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()
+            || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                tracker.markWritten(userId);
+            }
+        });
+    }
+
+    private static Counter readCounter(MeterRegistry meterRegistry, String target) {
+        return Counter.builder("datasource.routing.reads")
+            .description("readOnly 트랜잭션의 라우팅 대상")
+            .tag("target", target)
+            .register(meterRegistry);
+    }
+}
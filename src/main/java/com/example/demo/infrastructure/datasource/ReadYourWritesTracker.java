@@ -0,0 +1,40 @@
+package com.example.demo.infrastructure.datasource;
+
+import com.example.demo.application.event.UserChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import org.springframework.context.event.EventListener;
+
+import java.time.Duration;
+
+/**
+ * 쓰기를 마친 사용자를 잠시 기억해, 그 사용자의 읽기를 원본으로 보낸다.
+ * 복제본이 아직 따라오지 못해 방금 쓴 내용이 보이지 않는 일을 막는다. (인스턴스 로컬 상태)
+ */
+public class ReadYourWritesTracker {
+    private final Cache<Long, Boolean> recentWriters;
+
+    public ReadYourWritesTracker(Duration window, Ticker ticker) {
+        this.recentWriters = Caffeine.newBuilder()
+            .expireAfterWrite(window)
+            .ticker(ticker)
+            .build();
+    }
+
+    public void markWritten(Long userId) {
+        recentWriters.put(userId, Boolean.TRUE);
+    }
+
+    public boolean isSticky(Long userId) {
+        return recentWriters.getIfPresent(userId) != null;
+    }
+
+    /**
+     * 가입 직후 요청의 사용자 조회가 복제본에서 빠지지 않게 한다.
+     */
+    @EventListener
+    public void onUserChanged(UserChangedEvent event) {
+        markWritten(event.userId());
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.demo.infrastructure.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 복제본마다 연결 확인과 복제 지연 측정을 주기적으로 한다.
+ * 연결할 수 없거나 지연을 알 수 없으면 다음 점검까지 읽기에서 뺀다. 상태가 바뀔 때만 로그를 남긴다.
+ */
+@Slf4j
+public class ReplicaHealthChecker {
+    private final ReplicaPool replicaPool;
+    private final ReplicaLagProbe lagProbe;
+    private final int validationTimeoutSeconds;
+
+    public ReplicaHealthChecker(
+        ReplicaPool replicaPool,
+        ReplicaLagProbe lagProbe,
+        Duration validationTimeout,
+        MeterRegistry meterRegistry
+    ) {
+        this.replicaPool = replicaPool;
+        this.lagProbe = lagProbe;
+        this.validationTimeoutSeconds = (int) Math.max(1, validationTimeout.toSeconds());
+
+        for (ReplicaNode node : replicaPool.nodes()) {
+            Gauge.builder("datasource.replica.lag", node, n -> n.lag().toMillis() / 1000.0)
+                .description("마지막 점검 시 복제 지연")
+                .baseUnit("seconds")
+                .tag("replica", node.name())
+                .register(meterRegistry);
+            Gauge.builder("datasource.replica.healthy", node, n -> n.isHealthy() ? 1 : 0)
+                .description("마지막 점검 시 연결 가능 여부")
+                .tag("replica", node.name())
+                .register(meterRegistry);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.health-check-interval:5s}")
+    public void checkAll() {
+        replicaPool.nodes().forEach(this::check);
+    }
+
+    private void check(ReplicaNode node) {
+        boolean wasHealthy = node.isHealthy();
+        try (Connection connection = node.dataSource().getConnection()) {
+            if (!connection.isValid(validationTimeoutSeconds)) {
+                markUnhealthy(node, wasHealthy, "연결 확인 실패");
+                return;
+            }
+            Optional<Duration> lag = lagProbe.lag(connection);
+            if (lag.isEmpty()) {
+                markUnhealthy(node, wasHealthy, "복제 지연을 알 수 없음");
+                return;
+            }
+            node.markHealthy(lag.get());
+            if (!wasHealthy) {
+                log.info("복제본 사용 시작 replica={} lag={}", node.name(), lag.get());
+            }
+        } catch (SQLException e) {
+            markUnhealthy(node, wasHealthy, e.getMessage());
+        }
+    }
+
+    private static void markUnhealthy(ReplicaNode node, boolean wasHealthy, String reason) {
+        node.markUnhealthy();
+        if (wasHealthy) {
+            log.warn("복제본 제외 replica={} reason={}", node.name(), reason);
+        }
+    }
+}
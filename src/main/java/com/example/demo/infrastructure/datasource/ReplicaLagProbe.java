@@ -0,0 +1,14 @@
+package com.example.demo.infrastructure.datasource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 복제본 커넥션에서 원본 대비 복제 지연을 잰다. 복제가 멈췄거나 알 수 없으면 비어 있다.
+ */
+@FunctionalInterface
+public interface ReplicaLagProbe {
+    Optional<Duration> lag(Connection connection) throws SQLException;
+}
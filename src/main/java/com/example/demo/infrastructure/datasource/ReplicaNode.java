@@ -0,0 +1,52 @@
+package com.example.demo.infrastructure.datasource;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * 복제본 하나와 마지막 상태 점검 결과 (name은 라우팅 키이자 커넥션 풀 이름)
+ * 첫 점검 전에는 사용하지 않는다.
+ */
+public final class ReplicaNode {
+    private final String name;
+    private final DataSource dataSource;
+    private volatile boolean healthy;
+    private volatile Duration lag = Duration.ZERO;
+
+    public ReplicaNode(String name, DataSource dataSource) {
+        this.name = name;
+        this.dataSource = dataSource;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public DataSource dataSource() {
+        return dataSource;
+    }
+
+    public boolean isHealthy() {
+        return healthy;
+    }
+
+    public Duration lag() {
+        return lag;
+    }
+
+    public void markHealthy(Duration lag) {
+        this.lag = lag;
+        this.healthy = true;
+    }
+
+    public void markUnhealthy() {
+        this.healthy = false;
+    }
+
+    /**
+     * 연결 가능하고 복제 지연이 maxLag 이하일 때만 읽기를 받는다.
+     */
+    public boolean isReadable(Duration maxLag) {
+        return healthy && lag.compareTo(maxLag) <= 0;
+    }
+}
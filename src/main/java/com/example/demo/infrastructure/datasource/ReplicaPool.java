@@ -0,0 +1,51 @@
+package com.example.demo.infrastructure.datasource;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 복제본 목록. 읽을 수 있는 복제본을 돌아가며 고른다.
+ */
+public class ReplicaPool implements AutoCloseable {
+    private final List<ReplicaNode> nodes;
+    private final Duration maxLag;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaPool(List<ReplicaNode> nodes, Duration maxLag) {
+        this.nodes = List.copyOf(nodes);
+        this.maxLag = maxLag;
+    }
+
+    public List<ReplicaNode> nodes() {
+        return nodes;
+    }
+
+    /**
+     * 연결 가능하고 지연이 허용치 이하인 복제본. 없으면 비어 있어 원본으로 보낸다.
+     */
+    public Optional<ReplicaNode> pick() {
+        int size = nodes.size();
+        if (size == 0) {
+            return Optional.empty();
+        }
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            ReplicaNode node = nodes.get((start + i) % size);
+            if (node.isReadable(maxLag)) {
+                return Optional.of(node);
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (ReplicaNode node : nodes) {
+            if (node.dataSource() instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
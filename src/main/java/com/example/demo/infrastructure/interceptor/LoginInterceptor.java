@@ -1,5 +1,6 @@
 package com.example.demo.infrastructure.interceptor;
 
+import com.example.demo.application.UserService;
 import com.example.demo.application.oauth.TokenProvider;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -13,6 +14,7 @@ import org.springframework.web.servlet.resource.ResourceHttpRequestHandler;
 public class LoginInterceptor implements HandlerInterceptor {
 
     private final TokenProvider tokenProvider;
+    private final UserService userService;
 
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
@@ -33,6 +35,12 @@ public class LoginInterceptor implements HandlerInterceptor {
         String token = authorization.substring("Bearer ".length());
         Long userId = tokenProvider.validateToken(token);
 
+        // 토큰은 유효하지만 사용자가 없으면 401로 응답 (사용자 정보는 캐시에서 조회)
+        if (userService.findUserInfo(userId).isEmpty()) {
+            response.sendError(HttpServletResponse.SC_UNAUTHORIZED);
+            return false;
+        }
+
         request.setAttribute("userId", userId);
         return true;
     }
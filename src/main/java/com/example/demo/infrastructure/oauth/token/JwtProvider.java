@@ -5,7 +5,10 @@ import com.example.demo.application.dto.TokenResponse;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
@@ -13,9 +16,16 @@ import org.springframework.stereotype.Component;
 public class JwtProvider implements TokenProvider {
 
     private final String jwtSecretKey;
+    // 모든 인증 요청이 거치는 경로라 결과별 지연 분포를 따로 본다.
+    private final Timer validTimer;
+    private final Timer expiredTimer;
+    private final Timer invalidTimer;
 
-    public JwtProvider(@Value("${jwt.secret-key}") String jwtSecretKey) {
+    public JwtProvider(@Value("${jwt.secret-key}") String jwtSecretKey, MeterRegistry meterRegistry) {
         this.jwtSecretKey = jwtSecretKey;
+        this.validTimer = validationTimer(meterRegistry, "valid");
+        this.expiredTimer = validationTimer(meterRegistry, "expired");
+        this.invalidTimer = validationTimer(meterRegistry, "invalid");
     }
 
     public TokenResponse generateToken(Long userId) {
@@ -39,6 +49,7 @@ public class JwtProvider implements TokenProvider {
 
     @Override
     public Long validateToken(String accessToken) {
+        long startedAt = System.nanoTime();
         try {
             Claims payload = Jwts.parser()
                 .verifyWith(
@@ -47,11 +58,23 @@ public class JwtProvider implements TokenProvider {
                 .parseSignedClaims(accessToken)
                 .getPayload();
 
-            return payload.get("userId", Long.class);
+            Long userId = payload.get("userId", Long.class);
+            validTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            return userId;
         } catch (ExpiredJwtException e) {
+            expiredTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
             throw new RuntimeException();
         } catch (JwtException e) {
+            invalidTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
             throw new RuntimeException();
         }
     }
+
+    private static Timer validationTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("auth.token.validation")
+            .description("액세스 토큰 검증 시간")
+            .tag("outcome", outcome)
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    }
 }
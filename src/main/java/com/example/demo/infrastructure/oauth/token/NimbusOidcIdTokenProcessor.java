@@ -2,11 +2,12 @@ package com.example.demo.infrastructure.oauth.token;
 
 import com.nimbusds.jose.JWSAlgorithm;
 import com.nimbusds.jose.jwk.source.JWKSource;
-import com.nimbusds.jose.jwk.source.RemoteJWKSet;
+import com.nimbusds.jose.jwk.source.JWKSourceBuilder;
 import com.nimbusds.jose.proc.JWSKeySelector;
 import com.nimbusds.jose.proc.SecurityContext;
 import com.nimbusds.jose.proc.JWSVerificationKeySelector;
 import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jose.util.DefaultResourceRetriever;
 import com.nimbusds.jwt.proc.*;
 
 import java.net.URL;
@@ -15,6 +16,10 @@ import java.util.Date;
 import java.util.Set;
 
 public class NimbusOidcIdTokenProcessor {
+    // 로그인 요청이 JWKS 조회에 무기한 묶이지 않도록 제한 시간을 둔다.
+    private static final int JWKS_CONNECT_TIMEOUT_MILLIS = 2_000;
+    private static final int JWKS_READ_TIMEOUT_MILLIS = 3_000;
+    private static final int JWKS_SIZE_LIMIT_BYTES = 50 * 1024;
 
     private final ConfigurableJWTProcessor<SecurityContext> processor;
     private final String issuer;
@@ -29,7 +34,13 @@ public class NimbusOidcIdTokenProcessor {
 
             this.processor = new DefaultJWTProcessor<>();
 
-            JWKSource<SecurityContext> keySource = new RemoteJWKSet<>(new URL(jwksUri));
+            // 키 세트는 캐시하고, 조회 실패 시 한 번 재시도한다. (deprecated RemoteJWKSet 대체)
+            JWKSource<SecurityContext> keySource = JWKSourceBuilder.<SecurityContext>create(
+                    new URL(jwksUri),
+                    new DefaultResourceRetriever(JWKS_CONNECT_TIMEOUT_MILLIS, JWKS_READ_TIMEOUT_MILLIS, JWKS_SIZE_LIMIT_BYTES)
+                )
+                .retrying(true)
+                .build();
             JWSKeySelector<SecurityContext> keySelector =
                 new JWSVerificationKeySelector<>(JWSAlgorithm.RS256, keySource);
 
@@ -4,8 +4,11 @@ import com.example.demo.application.dto.OauthUserInfo;
 import com.example.demo.application.oauth.IdTokenVerifier;
 import com.example.demo.domain.Provider;
 import com.nimbusds.jwt.JWTClaimsSet;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.util.EnumMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
@@ -14,8 +17,10 @@ import org.springframework.stereotype.Component;
 public class OidcIdTokenVerifierService implements IdTokenVerifier {
 
     private final Map<Provider, NimbusOidcIdTokenProcessor> processors = new EnumMap<>(Provider.class);
+    private final Map<Provider, Timer> validTimers = new EnumMap<>(Provider.class);
+    private final Map<Provider, Timer> invalidTimers = new EnumMap<>(Provider.class);
 
-    public OidcIdTokenVerifierService(OidcVerifyProperties properties) {
+    public OidcIdTokenVerifierService(OidcVerifyProperties properties, MeterRegistry meterRegistry) {
         processors.put(Provider.GOOGLE, new NimbusOidcIdTokenProcessor(
             properties.google().issuer(),
             properties.google().audience(),
@@ -29,6 +34,11 @@ public class OidcIdTokenVerifierService implements IdTokenVerifier {
                 properties.kakao().jwksUri(),
                 java.time.Clock.systemUTC()
         ));
+
+        for (Provider provider : processors.keySet()) {
+            validTimers.put(provider, verificationTimer(meterRegistry, provider, "valid"));
+            invalidTimers.put(provider, verificationTimer(meterRegistry, provider, "invalid"));
+        }
     }
 
     @Override
@@ -36,7 +46,16 @@ public class OidcIdTokenVerifierService implements IdTokenVerifier {
         NimbusOidcIdTokenProcessor processor = processors.get(provider);
         if (processor == null) throw new IllegalArgumentException("지원하지 않는 provider: " + provider);
 
-        JWTClaimsSet claims = processor.verifyAndGetClaims(idToken);
+        // JWKS 조회가 섞이는 경로라 공급자별 지연과 실패를 따로 본다.
+        long startedAt = System.nanoTime();
+        JWTClaimsSet claims;
+        try {
+            claims = processor.verifyAndGetClaims(idToken);
+        } catch (IllegalArgumentException e) {
+            invalidTimers.get(provider).record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+        validTimers.get(provider).record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
         String providerId = claims.getSubject();
         String email = safeString(claims, "email");
         String picture = safeString(claims, "picture");
@@ -44,6 +63,15 @@ public class OidcIdTokenVerifierService implements IdTokenVerifier {
         return new OauthUserInfo(providerId, email, picture);
     }
 
+    private static Timer verificationTimer(MeterRegistry meterRegistry, Provider provider, String outcome) {
+        return Timer.builder("auth.oidc.verification")
+            .description("OIDC ID 토큰 검증 시간")
+            .tag("provider", provider.name())
+            .tag("outcome", outcome)
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    }
+
     private String safeString(JWTClaimsSet claims, String key) {
         try {
             return claims.getStringClaim(key);
@@ -0,0 +1,14 @@
+-- 월/카테고리 지출 예산과 사용액 카운터
+CREATE TABLE budget
+(
+    id          BIGINT                                                                NOT NULL AUTO_INCREMENT,
+    user_id     BIGINT                                                                NOT NULL,
+    month_start DATE                                                                  NOT NULL,
+    category    ENUM ('FOOD','TRANSPORT','HOUSING','SHOPPING','HEALTH_MEDICAL','EDUCATION_SELF_DEVELOPMENT',
+        'LEISURE_HOBBY','SAVINGS_FINANCE','SALARY','SIDE_INCOME','BONUS','ALLOWANCE','PART_TIME',
+        'FINANCIAL_INCOME','DUTCH_PAY','TRANSFER','OTHER')                                   NOT NULL,
+    amount      BIGINT                                                                NOT NULL,
+    spent       BIGINT                                                                NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_budget_user_month_category UNIQUE (user_id, month_start, category)
+) ENGINE = InnoDB;
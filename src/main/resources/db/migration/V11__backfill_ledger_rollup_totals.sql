@@ -0,0 +1,16 @@
+-- 합계 테이블은 ddl-auto로 빈 상태에서 시작해 그 이후 변경분만 반영되어 있다.
+-- 이전부터 있던 항목이 빠진 합계를 ledger_entry 기준으로 다시 만든다. (Flyway는 애플리케이션 기동 전에 실행된다)
+DELETE FROM ledger_daily_total;
+
+INSERT INTO ledger_daily_total (user_id, occurred_on, type, category, payment_method, amount, entry_count)
+SELECT user_id, occurred_on, type, category, payment_method, SUM(amount), COUNT(*)
+FROM ledger_entry
+GROUP BY user_id, occurred_on, type, category, payment_method;
+
+DELETE FROM ledger_monthly_total;
+
+INSERT INTO ledger_monthly_total (user_id, month_start, type, category, payment_method, amount, entry_count)
+SELECT user_id, DATE_SUB(occurred_on, INTERVAL DAYOFMONTH(occurred_on) - 1 DAY), type, category, payment_method,
+       SUM(amount), COUNT(*)
+FROM ledger_entry
+GROUP BY user_id, DATE_SUB(occurred_on, INTERVAL DAYOFMONTH(occurred_on) - 1 DAY), type, category, payment_method;
@@ -0,0 +1,41 @@
+-- ddl-auto로 생성되던 기존 스키마 (기존 DB는 baseline-on-migrate로 이 버전부터 관리)
+CREATE TABLE `user`
+(
+    id          BIGINT                  NOT NULL AUTO_INCREMENT,
+    created_at  DATETIME(6),
+    modified_at DATETIME(6)             NOT NULL,
+    email       VARCHAR(255),
+    level       INTEGER,
+    nickname    VARCHAR(255),
+    profile     VARCHAR(2048),
+    provider    ENUM ('KAKAO','GOOGLE'),
+    provider_id VARCHAR(255),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE refresh_token
+(
+    id      BIGINT NOT NULL AUTO_INCREMENT,
+    token   VARCHAR(255),
+    user_id BIGINT,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE ledger_entry
+(
+    id             BIGINT                                                                NOT NULL AUTO_INCREMENT,
+    created_at     DATETIME(6),
+    modified_at    DATETIME(6)                                                           NOT NULL,
+    amount         BIGINT                                                                NOT NULL,
+    type           ENUM ('EXPENSE','INCOME')                                             NOT NULL,
+    category       ENUM ('FOOD','TRANSPORT','HOUSING','SHOPPING','HEALTH_MEDICAL','EDUCATION_SELF_DEVELOPMENT',
+        'LEISURE_HOBBY','SAVINGS_FINANCE','SALARY','SIDE_INCOME','BONUS','ALLOWANCE','PART_TIME',
+        'FINANCIAL_INCOME','DUTCH_PAY','TRANSFER','OTHER')                                   NOT NULL,
+    description    VARCHAR(15)                                                           NOT NULL,
+    occurred_on    DATE                                                                  NOT NULL,
+    payment_method ENUM ('CREDIT_CARD','DEBIT_CARD','CASH','BANK_TRANSFER')              NOT NULL,
+    memo           VARCHAR(100),
+    user_id        BIGINT                                                                NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_ledger_entry_user FOREIGN KEY (user_id) REFERENCES `user` (id)
+) ENGINE = InnoDB;
@@ -0,0 +1,32 @@
+-- 일/월 단위 가계부 합계 (ddl-auto 시절 이미 생성된 DB가 있을 수 있어 IF NOT EXISTS)
+CREATE TABLE IF NOT EXISTS ledger_daily_total
+(
+    id             BIGINT                                                   NOT NULL AUTO_INCREMENT,
+    user_id        BIGINT                                                   NOT NULL,
+    occurred_on    DATE                                                     NOT NULL,
+    type           ENUM ('EXPENSE','INCOME')                                NOT NULL,
+    category       ENUM ('FOOD','TRANSPORT','HOUSING','SHOPPING','HEALTH_MEDICAL','EDUCATION_SELF_DEVELOPMENT',
+        'LEISURE_HOBBY','SAVINGS_FINANCE','SALARY','SIDE_INCOME','BONUS','ALLOWANCE','PART_TIME',
+        'FINANCIAL_INCOME','DUTCH_PAY','TRANSFER','OTHER')                      NOT NULL,
+    payment_method ENUM ('CREDIT_CARD','DEBIT_CARD','CASH','BANK_TRANSFER') NOT NULL,
+    amount         BIGINT                                                   NOT NULL,
+    entry_count    BIGINT                                                   NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_ledger_daily_total UNIQUE (user_id, occurred_on, type, category, payment_method)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS ledger_monthly_total
+(
+    id             BIGINT                                                   NOT NULL AUTO_INCREMENT,
+    user_id        BIGINT                                                   NOT NULL,
+    month_start    DATE                                                     NOT NULL,
+    type           ENUM ('EXPENSE','INCOME')                                NOT NULL,
+    category       ENUM ('FOOD','TRANSPORT','HOUSING','SHOPPING','HEALTH_MEDICAL','EDUCATION_SELF_DEVELOPMENT',
+        'LEISURE_HOBBY','SAVINGS_FINANCE','SALARY','SIDE_INCOME','BONUS','ALLOWANCE','PART_TIME',
+        'FINANCIAL_INCOME','DUTCH_PAY','TRANSFER','OTHER')                      NOT NULL,
+    payment_method ENUM ('CREDIT_CARD','DEBIT_CARD','CASH','BANK_TRANSFER') NOT NULL,
+    amount         BIGINT                                                   NOT NULL,
+    entry_count    BIGINT                                                   NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_ledger_monthly_total UNIQUE (user_id, month_start, type, category, payment_method)
+) ENGINE = InnoDB;
@@ -0,0 +1,4 @@
+-- 리포지토리 조회 패턴별 인덱스 (LedgerQueryPlanTest에서 실행 계획 검증)
+CREATE INDEX idx_ledger_entry_user_occurred_on ON ledger_entry (user_id, occurred_on, id);
+CREATE INDEX idx_user_provider ON `user` (provider, provider_id);
+CREATE INDEX idx_refresh_token_user ON refresh_token (user_id);
@@ -0,0 +1,7 @@
+-- 사용자별 가계부 버전 (ETag)
+CREATE TABLE ledger_version
+(
+    user_id BIGINT NOT NULL,
+    version BIGINT NOT NULL,
+    PRIMARY KEY (user_id)
+) ENGINE = InnoDB;
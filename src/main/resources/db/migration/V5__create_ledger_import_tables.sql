@@ -0,0 +1,25 @@
+-- CSV 가져오기 작업과 행 단위 오류
+CREATE TABLE ledger_import_job
+(
+    id             BIGINT                                           NOT NULL AUTO_INCREMENT,
+    user_id        BIGINT                                           NOT NULL,
+    status         ENUM ('PENDING','RUNNING','COMPLETED','FAILED') NOT NULL,
+    processed_rows BIGINT                                           NOT NULL,
+    imported_rows  BIGINT                                           NOT NULL,
+    failed_rows    BIGINT                                           NOT NULL,
+    message        VARCHAR(255),
+    created_at     DATETIME(6),
+    modified_at    DATETIME(6)                                      NOT NULL,
+    PRIMARY KEY (id),
+    INDEX idx_ledger_import_job_user (user_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE ledger_import_error
+(
+    id          BIGINT       NOT NULL AUTO_INCREMENT,
+    job_id      BIGINT       NOT NULL,
+    line_number BIGINT       NOT NULL,
+    message     VARCHAR(255) NOT NULL,
+    PRIMARY KEY (id),
+    INDEX idx_ledger_import_error_job (job_id, line_number)
+) ENGINE = InnoDB;
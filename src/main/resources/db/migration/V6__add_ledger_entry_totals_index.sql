@@ -0,0 +1,3 @@
+-- 기간 집계용 커버링 인덱스 (LedgerEntryRepository.sumByUserIdAndOccurredOnBetween)
+CREATE INDEX idx_ledger_entry_user_occurred_on_totals
+    ON ledger_entry (user_id, occurred_on, type, category, payment_method, amount);
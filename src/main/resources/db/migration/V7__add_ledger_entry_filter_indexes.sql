@@ -0,0 +1,7 @@
+-- 필터 조회용 인덱스 (LedgerEntryFilterRepository.findAllByFilter)
+-- category/payment_method 단일 값 + ORDER BY occurred_on, id 를 filesort 없이 처리
+CREATE INDEX idx_ledger_entry_user_category_occurred_on
+    ON ledger_entry (user_id, category, occurred_on, id);
+
+CREATE INDEX idx_ledger_entry_user_payment_method_occurred_on
+    ON ledger_entry (user_id, payment_method, occurred_on, id);
@@ -0,0 +1,2 @@
+-- 낙관적 잠금 버전 (LedgerEntry.version). 기존 행과 JDBC 일괄 INSERT는 0에서 시작한다.
+ALTER TABLE ledger_entry ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,52 @@
+-- 반복 거래 규칙과 야간 실체화 기록
+CREATE TABLE recurring_rule
+(
+    id              BIGINT                                                                NOT NULL AUTO_INCREMENT,
+    created_at      DATETIME(6),
+    modified_at     DATETIME(6)                                                           NOT NULL,
+    user_id         BIGINT                                                                NOT NULL,
+    amount          BIGINT                                                                NOT NULL,
+    type            ENUM ('EXPENSE','INCOME')                                             NOT NULL,
+    category        ENUM ('FOOD','TRANSPORT','HOUSING','SHOPPING','HEALTH_MEDICAL','EDUCATION_SELF_DEVELOPMENT',
+        'LEISURE_HOBBY','SAVINGS_FINANCE','SALARY','SIDE_INCOME','BONUS','ALLOWANCE','PART_TIME',
+        'FINANCIAL_INCOME','DUTCH_PAY','TRANSFER','OTHER')                                   NOT NULL,
+    description     VARCHAR(15)                                                           NOT NULL,
+    payment_method  ENUM ('CREDIT_CARD','DEBIT_CARD','CASH','BANK_TRANSFER')              NOT NULL,
+    memo            VARCHAR(100),
+    frequency       ENUM ('MONTHLY','WEEKLY')                                             NOT NULL,
+    day_of_month    INTEGER,
+    day_of_week     ENUM ('MONDAY','TUESDAY','WEDNESDAY','THURSDAY','FRIDAY','SATURDAY','SUNDAY'),
+    start_date      DATE                                                                  NOT NULL,
+    end_date        DATE,
+    next_occurrence DATE,
+    PRIMARY KEY (id),
+    INDEX idx_recurring_rule_next_occurrence (next_occurrence, id),
+    INDEX idx_recurring_rule_user (user_id, id),
+    CONSTRAINT fk_recurring_rule_user FOREIGN KEY (user_id) REFERENCES `user` (id)
+) ENGINE = InnoDB;
+
+-- (rule_id, occurred_on)당 한 번만 만들어지도록 보장
+CREATE TABLE recurring_occurrence
+(
+    id              BIGINT NOT NULL AUTO_INCREMENT,
+    rule_id         BIGINT NOT NULL,
+    occurred_on     DATE   NOT NULL,
+    ledger_entry_id BIGINT NOT NULL,
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_recurring_occurrence_rule_occurred_on (rule_id, occurred_on)
+) ENGINE = InnoDB;
+
+CREATE TABLE recurring_run
+(
+    id              BIGINT                                NOT NULL AUTO_INCREMENT,
+    run_date        DATE                                  NOT NULL,
+    status          ENUM ('RUNNING','COMPLETED','FAILED') NOT NULL,
+    processed_rules BIGINT                                NOT NULL,
+    created_entries BIGINT                                NOT NULL,
+    failed_rules    BIGINT                                NOT NULL,
+    message         VARCHAR(255),
+    created_at      DATETIME(6),
+    modified_at     DATETIME(6)                           NOT NULL,
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_recurring_run_run_date (run_date)
+) ENGINE = InnoDB;
@@ -0,0 +1,105 @@
+package com.example.demo.application;
+
+import com.example.demo.application.dto.DateRange;
+import com.example.demo.application.dto.LedgerEntriesByDateRangeResponse;
+import com.example.demo.application.dto.LedgerResult;
+import com.example.demo.domain.LedgerEntryRepository;
+import com.example.demo.domain.UserRepository;
+import com.example.demo.infrastructure.controller.dto.LedgerAggregationWebResponse;
+import com.example.demo.infrastructure.controller.dto.LedgerSummaryWebResponse;
+import com.example.demo.util.AbstractIntegrationTest;
+import com.example.demo.util.Benchmarks;
+import com.example.demo.util.DbUtils;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * DB 집계 응답과 원본 행 전체를 내려보내는 경우의 처리량/할당량/응답 크기 비교
+ * ./gradlew benchmarkTest --tests '*LedgerAggregationBenchmarkTest'
+ */
+@Tag("benchmark")
+class LedgerAggregationBenchmarkTest extends AbstractIntegrationTest {
+    private static final int ENTRY_COUNT = 5_000;
+    private static final LocalDate START = LocalDate.of(2026, 1, 1);
+    private static final LocalDate END = START.plusDays(30);
+
+    @Autowired
+    private LedgerService ledgerService;
+
+    @Autowired
+    private LedgerEntryRepository ledgerEntryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private TransactionTemplate readOnly;
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        userId = DbUtils.givenSavedUser(userRepository).getId();
+        DbUtils.insertLedgerEntries(jdbcTemplate, userId, ENTRY_COUNT, START, 31);
+    }
+
+    @AfterEach
+    void tearDown() {
+        DbUtils.deleteLedgerData(jdbcTemplate, userId);
+    }
+
+    @Test
+    void 원본_행_전송과_DB_집계_비교() {
+        // 캐시를 거치지 않도록 리포지토리에서 바로 읽는다.
+        Benchmarks.Result raw = Benchmarks.measure("aggregation/raw-rows", 10, 50, () -> json(
+            LedgerSummaryWebResponse.from(new LedgerEntriesByDateRangeResponse(
+                new DateRange(START, END),
+                readOnly.execute(status -> ledgerEntryRepository.findAllViewsByUserIdAndOccurredOnBetween(userId, START, END)
+                    .stream()
+                    .map(LedgerResult::from)
+                    .toList())
+            ))
+        ));
+        Benchmarks.Result aggregated = Benchmarks.measure("aggregation/group-by", 10, 50, () -> json(
+            LedgerAggregationWebResponse.from(ledgerService.getAggregation(userId, START, END))
+        ));
+
+        int rawBytes = json(LedgerSummaryWebResponse.from(ledgerService.getSummary(userId, START, END))).length;
+        int aggregatedBytes = json(LedgerAggregationWebResponse.from(ledgerService.getAggregation(userId, START, END))).length;
+        System.out.printf("[benchmark] response size raw=%d B, aggregated=%d B%n", rawBytes, aggregatedBytes);
+
+        assertThat(aggregated.bytesPerOp()).isLessThan(raw.bytesPerOp());
+        assertThat(aggregatedBytes).isLessThan(rawBytes);
+    }
+
+    private byte[] json(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
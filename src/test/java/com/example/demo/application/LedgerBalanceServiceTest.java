@@ -0,0 +1,118 @@
+package com.example.demo.application;
+
+import com.example.demo.application.dto.LedgerBalanceRangeResult;
+import com.example.demo.application.dto.LedgerResult;
+import com.example.demo.application.dto.UpsertLedgerCommand;
+import com.example.demo.domain.UserRepository;
+import com.example.demo.domain.enums.LedgerCategory;
+import com.example.demo.domain.enums.LedgerType;
+import com.example.demo.domain.enums.PaymentMethod;
+import com.example.demo.util.AbstractIntegrationTest;
+import com.example.demo.util.DbUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 잔액 색인은 커밋 후에 갱신되므로 테스트 트랜잭션 대신 직접 정리한다.
+ */
+class LedgerBalanceServiceTest extends AbstractIntegrationTest {
+    @Autowired
+    private LedgerBalanceService ledgerBalanceService;
+
+    @Autowired
+    private LedgerService ledgerService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = DbUtils.givenSavedUser(userRepository).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        DbUtils.deleteLedgerData(jdbcTemplate, userId);
+    }
+
+    private LedgerResult create(long amount, LedgerType type, LedgerCategory category, LocalDate occurredOn) {
+        return ledgerService.createLedgerEntry(new UpsertLedgerCommand(
+            userId, amount, type, category, "항목", occurredOn, PaymentMethod.CASH, null
+        ));
+    }
+
+    private double indexCount() {
+        return meterRegistry.get("cache.size").tag("cache", "ledger.balance").gauge().value();
+    }
+
+    private long balanceAsOf(LocalDate date) {
+        return ledgerBalanceService.getBalance(userId, date).balance();
+    }
+
+    @Test
+    void 첫_조회에서_색인을_만들고_이후_변경을_반영한다() {
+        // given
+        create(3_000_000L, LedgerType.INCOME, LedgerCategory.SALARY, LocalDate.of(2026, 1, 1));
+        LedgerResult rent = create(550_000L, LedgerType.EXPENSE, LedgerCategory.HOUSING, LocalDate.of(2026, 1, 5));
+
+        // when
+        assertThat(balanceAsOf(LocalDate.of(2026, 1, 4))).isEqualTo(3_000_000L);
+        create(12_000L, LedgerType.EXPENSE, LedgerCategory.FOOD, LocalDate.of(2026, 1, 3));
+        ledgerService.deleteLedgerEntry(userId, rent.ledgerId());
+
+        // then
+        assertThat(balanceAsOf(LocalDate.of(2025, 12, 31))).isZero();
+        assertThat(balanceAsOf(LocalDate.of(2026, 1, 4))).isEqualTo(2_988_000L);
+        assertThat(balanceAsOf(LocalDate.of(2026, 1, 31))).isEqualTo(2_988_000L);
+    }
+
+    @Test
+    void 기간_시작_전날과_끝날의_잔액_차이가_기간_순증감이다() {
+        // given
+        create(1_000_000L, LedgerType.INCOME, LedgerCategory.SALARY, LocalDate.of(2025, 12, 25));
+        create(2_000_000L, LedgerType.INCOME, LedgerCategory.SALARY, LocalDate.of(2026, 1, 25));
+        create(300_000L, LedgerType.EXPENSE, LedgerCategory.SHOPPING, LocalDate.of(2026, 1, 31));
+        create(40_000L, LedgerType.EXPENSE, LedgerCategory.FOOD, LocalDate.of(2026, 2, 1));
+
+        // when
+        LedgerBalanceRangeResult result = ledgerBalanceService.getBalanceRange(
+            userId, LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 31)
+        );
+
+        // then
+        assertThat(result.openingBalance()).isEqualTo(1_000_000L);
+        assertThat(result.closingBalance()).isEqualTo(2_700_000L);
+        assertThat(result.netChange()).isEqualTo(1_700_000L);
+    }
+
+    @Test
+    void 조회한_적_없는_사용자의_변경은_색인_캐시에_항목을_만들지_않는다() {
+        // given
+        double before = indexCount();
+
+        // when
+        create(3_000_000L, LedgerType.INCOME, LedgerCategory.SALARY, LocalDate.of(2026, 1, 1));
+        create(12_000L, LedgerType.EXPENSE, LedgerCategory.FOOD, LocalDate.of(2026, 1, 3));
+
+        // then
+        assertThat(indexCount()).isEqualTo(before);
+        assertThat(balanceAsOf(LocalDate.of(2026, 1, 31))).isEqualTo(2_988_000L);
+        assertThat(indexCount()).isEqualTo(before + 1);
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.demo.application;
+
+import com.example.demo.application.dto.DateRange;
+import com.example.demo.application.dto.LedgerEntriesByDateRangeResponse;
+import com.example.demo.application.dto.LedgerFilterCommand;
+import com.example.demo.application.dto.LedgerResult;
+import com.example.demo.domain.LedgerEntryRepository;
+import com.example.demo.domain.UserRepository;
+import com.example.demo.domain.enums.LedgerCategory;
+import com.example.demo.domain.enums.LedgerSort;
+import com.example.demo.domain.enums.LedgerType;
+import com.example.demo.domain.enums.PaymentMethod;
+import com.example.demo.infrastructure.controller.dto.LedgerFilterWebResponse;
+import com.example.demo.infrastructure.controller.dto.LedgerSummaryWebResponse;
+import com.example.demo.util.AbstractIntegrationTest;
+import com.example.demo.util.Benchmarks;
+import com.example.demo.util.DbUtils;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 기간 전체를 내려받아 클라이언트에서 거르는 경우와 서버 필터 조회의 처리량/할당량/응답 크기 비교
+ * ./gradlew benchmarkTest --tests '*LedgerFilterBenchmarkTest'
+ */
+@Tag("benchmark")
+class LedgerFilterBenchmarkTest extends AbstractIntegrationTest {
+    private static final int ENTRY_COUNT = 20_000;
+    private static final LocalDate START = LocalDate.of(2025, 1, 1);
+    private static final LocalDate END = LocalDate.of(2025, 12, 31);
+
+    @Autowired
+    private LedgerService ledgerService;
+
+    @Autowired
+    private LedgerEntryRepository ledgerEntryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private TransactionTemplate readOnly;
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        userId = DbUtils.givenSavedUser(userRepository).getId();
+        DbUtils.insertLedgerEntries(jdbcTemplate, userId, ENTRY_COUNT, START, 365);
+    }
+
+    @AfterEach
+    void tearDown() {
+        DbUtils.deleteLedgerData(jdbcTemplate, userId);
+    }
+
+    static Stream<Arguments> filters() {
+        return Stream.of(
+            Arguments.of("category", new Criteria(null, Set.of(LedgerCategory.FOOD), null, null, null, LedgerSort.OCCURRED_ON_ASC)),
+            Arguments.of("paymentMethod", new Criteria(null, null, Set.of(PaymentMethod.CASH), null, null, LedgerSort.OCCURRED_ON_DESC)),
+            Arguments.of("type+amount", new Criteria(Set.of(LedgerType.EXPENSE), null, null, 5000L, 8000L, LedgerSort.OCCURRED_ON_ASC)),
+            Arguments.of("category+paymentMethod", new Criteria(null, Set.of(LedgerCategory.SHOPPING), Set.of(PaymentMethod.CREDIT_CARD), null, null, LedgerSort.OCCURRED_ON_ASC)),
+            Arguments.of("amount desc", new Criteria(null, null, null, null, null, LedgerSort.AMOUNT_DESC))
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("filters")
+    void 전체_다운로드_후_필터와_서버_필터_비교(String name, Criteria criteria) {
+        // 캐시를 거치지 않도록 리포지토리에서 바로 읽는다.
+        Benchmarks.Result download = Benchmarks.measure("filter/" + name + "/download-all", 5, 20, () -> json(
+            LedgerSummaryWebResponse.from(new LedgerEntriesByDateRangeResponse(
+                new DateRange(START, END),
+                readOnly.execute(status -> ledgerEntryRepository.findAllViewsByUserIdAndOccurredOnBetween(userId, START, END)
+                    .stream()
+                    .map(LedgerResult::from)
+                    .toList())
+            ))
+        ));
+        Benchmarks.Result filtered = Benchmarks.measure("filter/" + name + "/server", 5, 20, () -> json(
+            LedgerFilterWebResponse.from(ledgerService.filter(criteria.toCommand(userId)))
+        ));
+
+        System.out.printf("[benchmark] %s download-all=%.0fus/op, server=%.0fus/op%n",
+            name, download.microsPerOp(), filtered.microsPerOp());
+        assertThat(filtered.microsPerOp()).isLessThan(download.microsPerOp());
+        assertThat(filtered.bytesPerOp()).isLessThan(download.bytesPerOp());
+    }
+
+    private byte[] json(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    record Criteria(
+        Set<LedgerType> types,
+        Set<LedgerCategory> categories,
+        Set<PaymentMethod> paymentMethods,
+        Long minAmount,
+        Long maxAmount,
+        LedgerSort sort
+    ) {
+        LedgerFilterCommand toCommand(Long userId) {
+            return new LedgerFilterCommand(userId, START, END, types, categories, paymentMethods, minAmount, maxAmount, sort, null, null);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.demo.application;
+
+import com.example.demo.application.dto.LedgerResult;
+import com.example.demo.domain.LedgerEntryRepository;
+import com.example.demo.domain.User;
+import com.example.demo.domain.UserRepository;
+import com.example.demo.util.AbstractIntegrationTest;
+import com.example.demo.util.Benchmarks;
+import com.example.demo.util.DbUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 엔티티 조회 경로와 프로젝션 조회 경로의 처리량/요청당 할당량 비교
+ * ./gradlew benchmarkTest --tests '*LedgerReadPathBenchmarkTest'
+ */
+@Tag("benchmark")
+class LedgerReadPathBenchmarkTest extends AbstractIntegrationTest {
+    private static final int ENTRY_COUNT = 2_000;
+    private static final LocalDate START = LocalDate.of(2026, 1, 1);
+    private static final LocalDate END = START.plusDays(30);
+
+    @Autowired
+    private LedgerEntryRepository ledgerEntryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate readOnly;
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        User user = DbUtils.givenSavedUser(userRepository);
+        userId = user.getId();
+        DbUtils.insertLedgerEntries(jdbcTemplate, userId, ENTRY_COUNT, START, 31);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM ledger_entry WHERE user_id = ?", userId);
+    }
+
+    @Test
+    void 기간_조회_엔티티_경로와_프로젝션_경로_비교() {
+        Benchmarks.Result entity = Benchmarks.measure("summary/entity", 20, 100, () -> readOnly.execute(status ->
+            ledgerEntryRepository.findAllByUser_IdAndOccurredOnBetween(
+                    userId, START, END, Sort.by(Sort.Order.asc("occurredOn"), Sort.Order.asc("id"))
+                ).stream()
+                .map(LedgerResult::from)
+                .toList()
+        ));
+        Benchmarks.Result projection = Benchmarks.measure("summary/projection", 20, 100, () -> readOnly.execute(status ->
+            ledgerEntryRepository.findAllViewsByUserIdAndOccurredOnBetween(userId, START, END).stream()
+                .map(LedgerResult::from)
+                .toList()
+        ));
+
+        assertThat(projection.bytesPerOp()).isLessThan(entity.bytesPerOp());
+    }
+
+    @Test
+    void 단건_조회_엔티티_경로와_프로젝션_경로_비교() {
+        Long ledgerId = jdbcTemplate.queryForObject(
+            "SELECT MIN(id) FROM ledger_entry WHERE user_id = ?", Long.class, userId
+        );
+
+        Benchmarks.measure("single/entity", 200, 2_000, () -> readOnly.execute(status ->
+            ledgerEntryRepository.findByIdAndUser_Id(ledgerId, userId).map(LedgerResult::from).orElseThrow()
+        ));
+        Benchmarks.measure("single/projection", 200, 2_000, () -> readOnly.execute(status ->
+            ledgerEntryRepository.findViewByIdAndUserId(ledgerId, userId).map(LedgerResult::from).orElseThrow()
+        ));
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.demo.application;
+
+import com.example.demo.application.dto.LedgerResult;
+import com.example.demo.application.dto.LedgerTotal;
+import com.example.demo.application.dto.LedgerTotalsResult;
+import com.example.demo.application.dto.UpsertLedgerCommand;
+import com.example.demo.domain.User;
+import com.example.demo.domain.UserRepository;
+import com.example.demo.domain.enums.LedgerCategory;
+import com.example.demo.domain.enums.LedgerType;
+import com.example.demo.domain.enums.PaymentMethod;
+import com.example.demo.util.AbstractIntegrationTest;
+import com.example.demo.util.DbUtils;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@Transactional
+class LedgerRollupServiceTest extends AbstractIntegrationTest {
+    @Autowired
+    private LedgerRollupService ledgerRollupService;
+
+    @Autowired
+    private LedgerService ledgerService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private UpsertLedgerCommand command(User user, long amount, LedgerCategory category, LocalDate occurredOn) {
+        return new UpsertLedgerCommand(
+            user.getId(),
+            amount,
+            category.fixedType().orElse(LedgerType.EXPENSE),
+            category,
+            "테스트",
+            occurredOn,
+            PaymentMethod.CREDIT_CARD,
+            null
+        );
+    }
+
+    @Test
+    void 생성된_가계부_항목이_합계에_반영된다() {
+        // given
+        User user = DbUtils.givenSavedUser(userRepository);
+        ledgerService.createLedgerEntry(command(user, 1000L, LedgerCategory.FOOD, LocalDate.of(2026, 1, 10)));
+        ledgerService.createLedgerEntry(command(user, 2000L, LedgerCategory.FOOD, LocalDate.of(2026, 1, 20)));
+        ledgerService.createLedgerEntry(command(user, 50000L, LedgerCategory.SALARY, LocalDate.of(2026, 1, 25)));
+
+        // when
+        LedgerTotalsResult result = ledgerRollupService.getTotals(
+            user.getId(), LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 31)
+        );
+
+        // then
+        assertThat(result.sumOf(LedgerType.EXPENSE)).isEqualTo(3000L);
+        assertThat(result.sumOf(LedgerType.INCOME)).isEqualTo(50000L);
+        assertThat(result.totals())
+            .extracting(LedgerTotal::category, LedgerTotal::entryCount)
+            .containsExactlyInAnyOrder(
+                tuple(LedgerCategory.FOOD, 2L),
+                tuple(LedgerCategory.SALARY, 1L)
+            );
+    }
+
+    @Test
+    void 월에_걸친_기간은_월_합계와_일_합계를_합산한다() {
+        // given
+        User user = DbUtils.givenSavedUser(userRepository);
+        ledgerService.createLedgerEntry(command(user, 100L, LedgerCategory.FOOD, LocalDate.of(2025, 12, 30)));
+        ledgerService.createLedgerEntry(command(user, 200L, LedgerCategory.FOOD, LocalDate.of(2026, 1, 15)));
+        ledgerService.createLedgerEntry(command(user, 400L, LedgerCategory.FOOD, LocalDate.of(2026, 2, 2)));
+        ledgerService.createLedgerEntry(command(user, 800L, LedgerCategory.FOOD, LocalDate.of(2026, 2, 10)));
+
+        // when
+        LedgerTotalsResult result = ledgerRollupService.getTotals(
+            user.getId(), LocalDate.of(2025, 12, 30), LocalDate.of(2026, 2, 5)
+        );
+
+        // then
+        assertThat(result.sumOf(LedgerType.EXPENSE)).isEqualTo(700L);
+    }
+
+    @Test
+    void 수정과_삭제가_합계에_반영된다() {
+        // given
+        User user = DbUtils.givenSavedUser(userRepository);
+        LocalDate occurredOn = LocalDate.of(2026, 1, 10);
+        LedgerResult food = ledgerService.createLedgerEntry(command(user, 1000L, LedgerCategory.FOOD, occurredOn));
+        LedgerResult transport = ledgerService.createLedgerEntry(command(user, 500L, LedgerCategory.TRANSPORT, occurredOn));
+
+        // when
+        ledgerService.updateLedgerEntry(food.ledgerId(), command(user, 3000L, LedgerCategory.SHOPPING, occurredOn));
+        ledgerService.deleteLedgerEntry(user.getId(), transport.ledgerId());
+
+        // then
+        LedgerTotalsResult result = ledgerRollupService.getTotals(user.getId(), occurredOn, occurredOn);
+        assertThat(result.totals())
+            .extracting(LedgerTotal::category, LedgerTotal::amount)
+            .containsExactly(tuple(LedgerCategory.SHOPPING, 3000L));
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.demo.application;
+
+import com.example.demo.application.dto.LedgerResult;
+import com.example.demo.application.dto.UpsertLedgerCommand;
+import com.example.demo.domain.User;
+import com.example.demo.domain.UserRepository;
+import com.example.demo.domain.enums.LedgerCategory;
+import com.example.demo.domain.enums.LedgerType;
+import com.example.demo.domain.enums.PaymentMethod;
+import com.example.demo.util.AbstractIntegrationTest;
+import com.example.demo.util.DbUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 색인은 커밋 후에 갱신되므로 테스트 트랜잭션 대신 직접 정리한다.
+ */
+class LedgerSearchServiceTest extends AbstractIntegrationTest {
+    @Autowired
+    private LedgerSearchService ledgerSearchService;
+
+    @Autowired
+    private LedgerService ledgerService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        User user = DbUtils.givenSavedUser(userRepository);
+        userId = user.getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        DbUtils.deleteLedgerData(jdbcTemplate, userId);
+    }
+
+    private LedgerResult create(String description, String memo) {
+        return ledgerService.createLedgerEntry(new UpsertLedgerCommand(
+            userId, 1000L, LedgerType.EXPENSE, LedgerCategory.FOOD, description,
+            LocalDate.of(2026, 1, 1), PaymentMethod.CASH, memo
+        ));
+    }
+
+    @Test
+    void 첫_검색에서_색인을_만들고_이후_변경을_반영한다() {
+        // given
+        LedgerResult lunch = create("회사 앞 김밥집", null);
+        create("택시", null);
+
+        // when
+        assertThat(ledgerSearchService.search(userId, "김밥", null).items())
+            .extracting(LedgerResult::ledgerId)
+            .containsExactly(lunch.ledgerId());
+        LedgerResult dinner = create("저녁", "김밥 포장");
+        ledgerService.deleteLedgerEntry(userId, lunch.ledgerId());
+
+        // then
+        assertThat(ledgerSearchService.search(userId, "김밥", null).items())
+            .extracting(LedgerResult::ledgerId)
+            .containsExactly(dinner.ledgerId());
+        assertThat(ledgerSearchService.indexedBytes(userId)).hasValueSatisfying(bytes -> assertThat(bytes).isPositive());
+    }
+
+    @Test
+    void 메모를_수정하면_색인에_새_메모와_버전이_반영된다() {
+        // given
+        LedgerResult coffee = create("카페", "아메리카노");
+        ledgerSearchService.search(userId, "카페", null);
+
+        // when
+        ledgerService.updateLedgerMemo(userId, coffee.ledgerId(), "라떼");
+
+        // then
+        assertThat(ledgerSearchService.search(userId, "아메리카노", null).items()).isEmpty();
+        assertThat(ledgerSearchService.search(userId, "라떼", null).items())
+            .extracting(LedgerResult::ledgerId, LedgerResult::version)
+            .containsExactly(tuple(coffee.ledgerId(), coffee.version() + 1));
+    }
+
+    @Test
+    void 빈_검색어는_예외를_던진다() {
+        // when & then
+        assertThatThrownBy(() -> ledgerSearchService.search(userId, "  ", null))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("검색어");
+    }
+}
@@ -1,13 +1,25 @@
 package com.example.demo.application;
 
+import com.example.demo.application.dto.DateRange;
+import com.example.demo.application.dto.LedgerAggregationResult;
+import com.example.demo.application.dto.LedgerBatchItemResult;
+import com.example.demo.application.dto.LedgerBatchResult;
+import com.example.demo.application.dto.LedgerCalendarResult;
 import com.example.demo.application.dto.LedgerEntriesByDateRangeResponse;
+import com.example.demo.application.dto.LedgerFilterCommand;
+import com.example.demo.application.dto.LedgerFilterCursor;
+import com.example.demo.application.dto.LedgerFilterResult;
+import com.example.demo.application.dto.LedgerPageResult;
 import com.example.demo.application.dto.LedgerResult;
+import com.example.demo.application.dto.LedgerTotal;
 import com.example.demo.application.dto.UpsertLedgerCommand;
 import com.example.demo.domain.LedgerEntry;
 import com.example.demo.domain.LedgerEntryRepository;
+import com.example.demo.domain.Provider;
 import com.example.demo.domain.User;
 import com.example.demo.domain.UserRepository;
 import com.example.demo.domain.enums.LedgerCategory;
+import com.example.demo.domain.enums.LedgerSort;
 import com.example.demo.domain.enums.LedgerType;
 import com.example.demo.domain.enums.PaymentMethod;
 import com.example.demo.util.AbstractIntegrationTest;
@@ -15,13 +27,17 @@ import com.example.demo.util.DbUtils;
 import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 
 @Transactional
 class LedgerServiceTest extends AbstractIntegrationTest {
@@ -100,6 +116,35 @@ class LedgerServiceTest extends AbstractIntegrationTest {
             .hasMessage("존재하지 않는 사용자입니다.");
     }
 
+    @Test
+    void 여러_항목을_일괄_생성하고_규칙을_어긴_항목은_항목별로_실패를_돌려준다() {
+        // given
+        User savedUser = DbUtils.givenSavedUser(userRepository);
+        List<UpsertLedgerCommand> commands = List.of(
+            new UpsertLedgerCommand(savedUser.getId(), 12000L, LedgerType.EXPENSE, LedgerCategory.FOOD,
+                "점심", LocalDate.of(2026, 1, 24), PaymentMethod.CREDIT_CARD, null),
+            new UpsertLedgerCommand(savedUser.getId(), 3000000L, LedgerType.EXPENSE, LedgerCategory.SALARY,
+                "월급", LocalDate.of(2026, 1, 25), PaymentMethod.BANK_TRANSFER, null),
+            new UpsertLedgerCommand(savedUser.getId(), 4500L, LedgerType.EXPENSE, LedgerCategory.FOOD,
+                "  커피  ", LocalDate.of(2026, 1, 26), PaymentMethod.CASH, "메모")
+        );
+
+        // when
+        LedgerBatchResult result = ledgerService.createLedgerEntries(savedUser.getId(), commands);
+        flushAndClear();
+
+        // then
+        assertThat(result.createdCount()).isEqualTo(2);
+        assertThat(result.items()).extracting(LedgerBatchItemResult::index, LedgerBatchItemResult::isCreated)
+            .containsExactly(tuple(0, true), tuple(1, false), tuple(2, true));
+        assertThat(result.items().get(1).error()).contains("SALARY");
+
+        LedgerEntry saved = ledgerEntryRepository.findById(result.items().get(2).result().ledgerId()).orElseThrow();
+        assertThat(saved.getDescription()).isEqualTo("커피");
+        assertThat(saved.getUser().getId()).isEqualTo(savedUser.getId());
+        assertThat(saved.getCreatedAt()).isNotNull();
+    }
+
     @Test
     void 사용자와_가계부ID로_가계부_항목을_조회할_수_있다() {
         // given
@@ -221,6 +266,101 @@ class LedgerServiceTest extends AbstractIntegrationTest {
         assertThat(updated.getMemo()).isEqualTo("new");
     }
 
+    @Test
+    void 메모_수정과_전체_수정은_버전을_올린다() {
+        // given
+        User savedUser = DbUtils.givenSavedUser(userRepository);
+        LedgerResult created = ledgerService.createLedgerEntry(new UpsertLedgerCommand(
+            savedUser.getId(), 7000L, LedgerType.EXPENSE, LedgerCategory.FOOD,
+            "커피", LocalDate.of(2026, 1, 24), PaymentMethod.CREDIT_CARD, null
+        ));
+
+        // when
+        ledgerService.updateLedgerMemo(savedUser.getId(), created.ledgerId(), "아메리카노");
+        LedgerResult updated = ledgerService.updateLedgerEntry(created.ledgerId(), new UpsertLedgerCommand(
+            savedUser.getId(), 8000L, LedgerType.EXPENSE, LedgerCategory.FOOD,
+            "커피", LocalDate.of(2026, 1, 24), PaymentMethod.CREDIT_CARD, "라떼"
+        ), 1L);
+
+        // then
+        assertThat(created.version()).isZero();
+        assertThat(updated.version()).isEqualTo(2L);
+    }
+
+    @Test
+    void 조회한_버전과_현재_버전이_다르면_수정하지_않고_예외를_던진다() {
+        // given
+        User savedUser = DbUtils.givenSavedUser(userRepository);
+        LedgerResult created = ledgerService.createLedgerEntry(new UpsertLedgerCommand(
+            savedUser.getId(), 7000L, LedgerType.EXPENSE, LedgerCategory.FOOD,
+            "커피", LocalDate.of(2026, 1, 24), PaymentMethod.CREDIT_CARD, null
+        ));
+        ledgerService.updateLedgerMemo(savedUser.getId(), created.ledgerId(), "다른 기기에서 수정");
+        UpsertLedgerCommand stale = new UpsertLedgerCommand(
+            savedUser.getId(), 9000L, LedgerType.EXPENSE, LedgerCategory.FOOD,
+            "커피", LocalDate.of(2026, 1, 24), PaymentMethod.CREDIT_CARD, null
+        );
+
+        // when & then
+        assertThatThrownBy(() -> ledgerService.updateLedgerEntry(created.ledgerId(), stale, created.version()))
+            .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        assertThat(ledgerService.getLedgerEntry(savedUser.getId(), created.ledgerId()).amount()).isEqualTo(7000L);
+    }
+
+    @Test
+    void 다른_사용자의_항목_메모는_수정하지_못하고_예외를_던진다() {
+        // given
+        User owner = DbUtils.givenSavedUser(userRepository);
+        User other = userRepository.save(new User("other@example.com", null, Provider.KAKAO, "kakao-other"));
+        LedgerResult created = ledgerService.createLedgerEntry(new UpsertLedgerCommand(
+            owner.getId(), 7000L, LedgerType.EXPENSE, LedgerCategory.FOOD,
+            "커피", LocalDate.of(2026, 1, 24), PaymentMethod.CREDIT_CARD, null
+        ));
+
+        // when & then
+        assertThatThrownBy(() -> ledgerService.updateLedgerMemo(other.getId(), created.ledgerId(), "남의 메모"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("해당되는 가계부 항목이 존재하지 않습니다.");
+        assertThat(ledgerService.getLedgerEntry(owner.getId(), created.ledgerId()).memo()).isNull();
+    }
+
+    @Test
+    void 메모를_수정하면_항목이_포함된_요약도_무효화된다() {
+        // given
+        User savedUser = DbUtils.givenSavedUser(userRepository);
+        LedgerResult created = ledgerService.createLedgerEntry(new UpsertLedgerCommand(
+            savedUser.getId(), 7000L, LedgerType.EXPENSE, LedgerCategory.FOOD,
+            "커피", LocalDate.of(2026, 1, 24), PaymentMethod.CREDIT_CARD, null
+        ));
+        ledgerService.getSummary(savedUser.getId(), LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 31));
+
+        // when
+        ledgerService.updateLedgerMemo(savedUser.getId(), created.ledgerId(), "아메리카노");
+        flushAndClear();
+
+        // then
+        assertThat(ledgerService.getSummary(savedUser.getId(), LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 31)).results())
+            .extracting(LedgerResult::memo)
+            .containsExactly("아메리카노");
+    }
+
+    @Test
+    void 다른_사용자의_항목은_삭제하지_못하고_예외를_던진다() {
+        // given
+        User owner = DbUtils.givenSavedUser(userRepository);
+        User other = userRepository.save(new User("other@example.com", null, Provider.KAKAO, "kakao-other"));
+        LedgerResult created = ledgerService.createLedgerEntry(new UpsertLedgerCommand(
+            owner.getId(), 7000L, LedgerType.EXPENSE, LedgerCategory.FOOD,
+            "커피", LocalDate.of(2026, 1, 24), PaymentMethod.CREDIT_CARD, null
+        ));
+
+        // when & then
+        assertThatThrownBy(() -> ledgerService.deleteLedgerEntry(other.getId(), created.ledgerId()))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("해당되는 가계부 항목이 존재하지 않습니다.");
+        assertThat(ledgerEntryRepository.findById(created.ledgerId())).isPresent();
+    }
+
     @Test
     void 가계부_항목을_삭제할_수_있다() {
         // given
@@ -327,4 +467,380 @@ class LedgerServiceTest extends AbstractIntegrationTest {
         assertThat(r3.paymentMethod()).isEqualTo(PaymentMethod.DEBIT_CARD);
         assertThat(r3.memo()).isNull();
     }
+
+    @Test
+    void 커서로_다음_페이지를_이어서_조회할_수_있다() {
+        // given
+        User savedUser = DbUtils.givenSavedUser(userRepository);
+        LocalDate start = LocalDate.of(2026, 1, 1);
+        for (int day = 5; day >= 1; day--) {
+            ledgerEntryRepository.save(new LedgerEntry(
+                1000L * day,
+                LedgerType.EXPENSE,
+                LedgerCategory.FOOD,
+                "식비" + day,
+                start.plusDays(day - 1),
+                PaymentMethod.CASH,
+                null,
+                savedUser
+            ));
+        }
+        flushAndClear();
+
+        // when
+        LedgerPageResult first = ledgerService.getPage(savedUser.getId(), start, start.plusDays(30), null, 2);
+        LedgerPageResult second = ledgerService.getPage(savedUser.getId(), start, start.plusDays(30), first.nextCursor(), 2);
+        LedgerPageResult last = ledgerService.getPage(savedUser.getId(), start, start.plusDays(30), second.nextCursor(), 2);
+
+        // then
+        assertThat(first.results()).extracting(LedgerResult::occurredOn)
+            .containsExactly(start, start.plusDays(1));
+        assertThat(second.results()).extracting(LedgerResult::occurredOn)
+            .containsExactly(start.plusDays(2), start.plusDays(3));
+        assertThat(last.results()).extracting(LedgerResult::occurredOn)
+            .containsExactly(start.plusDays(4));
+        assertThat(last.hasNext()).isFalse();
+    }
+
+    @Test
+    void 잘못된_커서면_예외를_던진다() {
+        // given
+        User savedUser = DbUtils.givenSavedUser(userRepository);
+
+        // when & then
+        assertThatThrownBy(() -> ledgerService.getPage(savedUser.getId(), null, null, "not-a-cursor", 10))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("유효하지 않은 커서입니다.");
+    }
+
+    @Test
+    void 날짜_범위의_내역을_정렬_순서대로_스트리밍할_수_있다() {
+        // given
+        User savedUser = DbUtils.givenSavedUser(userRepository);
+        LocalDate start = LocalDate.of(2026, 1, 1);
+        for (int day = 3; day >= 1; day--) {
+            ledgerEntryRepository.save(new LedgerEntry(
+                1000L,
+                LedgerType.EXPENSE,
+                LedgerCategory.FOOD,
+                "식비" + day,
+                start.plusDays(day - 1),
+                PaymentMethod.CASH,
+                null,
+                savedUser
+            ));
+        }
+        flushAndClear();
+
+        // when
+        List<LedgerResult> streamed = new ArrayList<>();
+        ledgerService.streamSummary(savedUser.getId(), new DateRange(start, start.plusDays(30)), streamed::add);
+
+        // then
+        assertThat(streamed).extracting(LedgerResult::description)
+            .containsExactly("식비1", "식비2", "식비3");
+    }
+
+    @Test
+    void 단건_조회는_캐시되고_수정하면_해당_항목이_무효화된다() {
+        // given
+        User savedUser = DbUtils.givenSavedUser(userRepository);
+        LedgerEntry savedEntry = ledgerEntryRepository.save(new LedgerEntry(
+            7000L,
+            LedgerType.EXPENSE,
+            LedgerCategory.FOOD,
+            "커피",
+            LocalDate.of(2026, 1, 24),
+            PaymentMethod.CREDIT_CARD,
+            null,
+            savedUser
+        ));
+        flushAndClear();
+        ledgerService.getLedgerEntry(savedUser.getId(), savedEntry.getId());
+
+        // 서비스를 거치지 않은 변경은 캐시에 반영되지 않는다
+        ledgerEntryRepository.findById(savedEntry.getId()).orElseThrow().updateMemo("직접 수정");
+        flushAndClear();
+        assertThat(ledgerService.getLedgerEntry(savedUser.getId(), savedEntry.getId()).memo()).isNull();
+
+        // when
+        ledgerService.updateLedgerMemo(savedUser.getId(), savedEntry.getId(), "아메리카노");
+        flushAndClear();
+
+        // then
+        assertThat(ledgerService.getLedgerEntry(savedUser.getId(), savedEntry.getId()).memo()).isEqualTo("아메리카노");
+    }
+
+    @Test
+    void 메모를_수정해도_항목이_없는_기간의_요약은_유지된다() {
+        // given
+        User savedUser = DbUtils.givenSavedUser(userRepository);
+        LedgerResult created = ledgerService.createLedgerEntry(new UpsertLedgerCommand(
+            savedUser.getId(), 7000L, LedgerType.EXPENSE, LedgerCategory.FOOD,
+            "커피", LocalDate.of(2026, 1, 24), PaymentMethod.CREDIT_CARD, null
+        ));
+        ledgerService.getSummary(savedUser.getId(), LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 31));
+        LedgerEntriesByDateRangeResponse february = ledgerService.getSummary(
+            savedUser.getId(), LocalDate.of(2026, 2, 1), LocalDate.of(2026, 2, 28));
+
+        // when
+        ledgerService.updateLedgerMemo(savedUser.getId(), created.ledgerId(), "아메리카노");
+        flushAndClear();
+
+        // then
+        assertThat(ledgerService.getSummary(savedUser.getId(), LocalDate.of(2026, 2, 1), LocalDate.of(2026, 2, 28)))
+            .isSameAs(february);
+        assertThat(ledgerService.getSummary(savedUser.getId(), LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 31)).results())
+            .extracting(LedgerResult::memo)
+            .containsExactly("아메리카노");
+    }
+
+    @Test
+    void 항목이_생성되면_해당_날짜를_포함하는_기간의_요약만_무효화된다() {
+        // given
+        User savedUser = DbUtils.givenSavedUser(userRepository);
+        LedgerEntriesByDateRangeResponse january = ledgerService.getSummary(
+            savedUser.getId(), LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 31));
+        LedgerEntriesByDateRangeResponse february = ledgerService.getSummary(
+            savedUser.getId(), LocalDate.of(2026, 2, 1), LocalDate.of(2026, 2, 28));
+
+        // when
+        ledgerService.createLedgerEntry(new UpsertLedgerCommand(
+            savedUser.getId(),
+            12000L,
+            LedgerType.EXPENSE,
+            LedgerCategory.FOOD,
+            "점심",
+            LocalDate.of(2026, 2, 3),
+            PaymentMethod.CREDIT_CARD,
+            null
+        ));
+        flushAndClear();
+
+        // then
+        assertThat(ledgerService.getSummary(savedUser.getId(), LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 31)))
+            .isSameAs(january);
+        LedgerEntriesByDateRangeResponse reloaded = ledgerService.getSummary(
+            savedUser.getId(), LocalDate.of(2026, 2, 1), LocalDate.of(2026, 2, 28));
+        assertThat(reloaded).isNotSameAs(february);
+        assertThat(reloaded.results()).hasSize(1);
+    }
+
+    @Test
+    void 기간_내_항목을_유형_카테고리_결제수단별로_집계한다() {
+        // given
+        User savedUser = DbUtils.givenSavedUser(userRepository);
+        List<UpsertLedgerCommand> commands = List.of(
+            new UpsertLedgerCommand(savedUser.getId(), 1000L, LedgerType.EXPENSE, LedgerCategory.FOOD,
+                "점심", LocalDate.of(2026, 1, 10), PaymentMethod.CREDIT_CARD, null),
+            new UpsertLedgerCommand(savedUser.getId(), 2000L, LedgerType.EXPENSE, LedgerCategory.FOOD,
+                "저녁", LocalDate.of(2026, 1, 11), PaymentMethod.CASH, null),
+            new UpsertLedgerCommand(savedUser.getId(), 5000L, LedgerType.EXPENSE, LedgerCategory.SHOPPING,
+                "옷", LocalDate.of(2026, 1, 12), PaymentMethod.CREDIT_CARD, null),
+            new UpsertLedgerCommand(savedUser.getId(), 30000L, LedgerType.INCOME, LedgerCategory.ALLOWANCE,
+                "용돈", LocalDate.of(2026, 1, 13), PaymentMethod.BANK_TRANSFER, null),
+            new UpsertLedgerCommand(savedUser.getId(), 9999L, LedgerType.EXPENSE, LedgerCategory.FOOD,
+                "범위 밖", LocalDate.of(2026, 2, 1), PaymentMethod.CASH, null)
+        );
+        ledgerService.createLedgerEntries(savedUser.getId(), commands);
+
+        // when
+        LedgerAggregationResult result = ledgerService.getAggregation(
+            savedUser.getId(), LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 31)
+        );
+
+        // then
+        assertThat(result.byType())
+            .extracting(LedgerTotal::type, LedgerTotal::amount, LedgerTotal::entryCount)
+            .containsExactly(tuple(LedgerType.EXPENSE, 8000L, 3L), tuple(LedgerType.INCOME, 30000L, 1L));
+        assertThat(result.byCategory())
+            .extracting(LedgerTotal::category, LedgerTotal::amount, LedgerTotal::entryCount)
+            .containsExactly(
+                tuple(LedgerCategory.SHOPPING, 5000L, 1L),
+                tuple(LedgerCategory.FOOD, 3000L, 2L),
+                tuple(LedgerCategory.ALLOWANCE, 30000L, 1L)
+            );
+        assertThat(result.byPaymentMethod())
+            .extracting(LedgerTotal::paymentMethod, LedgerTotal::amount)
+            .containsExactly(
+                tuple(PaymentMethod.CREDIT_CARD, 6000L),
+                tuple(PaymentMethod.CASH, 2000L),
+                tuple(PaymentMethod.BANK_TRANSFER, 30000L)
+            );
+    }
+
+    @Test
+    void 기간의_일자별_수입_지출_합계를_배열로_돌려준다() {
+        // given
+        User savedUser = DbUtils.givenSavedUser(userRepository);
+        ledgerService.createLedgerEntries(savedUser.getId(), List.of(
+            new UpsertLedgerCommand(savedUser.getId(), 1000L, LedgerType.EXPENSE, LedgerCategory.FOOD,
+                "점심", LocalDate.of(2026, 1, 1), PaymentMethod.CASH, null),
+            new UpsertLedgerCommand(savedUser.getId(), 2000L, LedgerType.EXPENSE, LedgerCategory.TRANSPORT,
+                "택시", LocalDate.of(2026, 1, 1), PaymentMethod.CREDIT_CARD, null),
+            new UpsertLedgerCommand(savedUser.getId(), 50000L, LedgerType.INCOME, LedgerCategory.ALLOWANCE,
+                "용돈", LocalDate.of(2026, 1, 3), PaymentMethod.BANK_TRANSFER, null)
+        ));
+
+        // when
+        LedgerCalendarResult result = ledgerService.getCalendar(
+            savedUser.getId(), LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 31)
+        );
+
+        // then
+        assertThat(result.expense()).hasSize(31);
+        assertThat(result.expense()[0]).isEqualTo(3000L);
+        assertThat(result.income()[2]).isEqualTo(50000L);
+        assertThat(result.expense()[2]).isZero();
+    }
+
+    @Test
+    void 달력_조회_기간이_366일을_넘으면_예외를_던진다() {
+        // when & then
+        assertThatThrownBy(() -> ledgerService.getCalendar(1L, LocalDate.of(2025, 1, 1), LocalDate.of(2026, 1, 2)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("366일");
+    }
+
+    @Test
+    void 카테고리_결제수단_금액_조건을_조합해_거르고_금액순으로_정렬한다() {
+        // given
+        User savedUser = DbUtils.givenSavedUser(userRepository);
+        Long userId = savedUser.getId();
+        ledgerService.createLedgerEntries(userId, List.of(
+            new UpsertLedgerCommand(userId, 1000L, LedgerType.EXPENSE, LedgerCategory.FOOD,
+                "점심", LocalDate.of(2026, 1, 1), PaymentMethod.CASH, null),
+            new UpsertLedgerCommand(userId, 9000L, LedgerType.EXPENSE, LedgerCategory.FOOD,
+                "회식", LocalDate.of(2026, 1, 2), PaymentMethod.CREDIT_CARD, null),
+            new UpsertLedgerCommand(userId, 5000L, LedgerType.EXPENSE, LedgerCategory.FOOD,
+                "저녁", LocalDate.of(2026, 1, 3), PaymentMethod.CREDIT_CARD, null),
+            new UpsertLedgerCommand(userId, 7000L, LedgerType.EXPENSE, LedgerCategory.TRANSPORT,
+                "택시", LocalDate.of(2026, 1, 4), PaymentMethod.CREDIT_CARD, null)
+        ));
+
+        // when
+        LedgerFilterResult result = ledgerService.filter(new LedgerFilterCommand(
+            userId, LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 31),
+            null, Set.of(LedgerCategory.FOOD), Set.of(PaymentMethod.CREDIT_CARD), 3000L, null,
+            LedgerSort.AMOUNT_DESC, null, null
+        ));
+
+        // then
+        assertThat(result.results())
+            .extracting(LedgerResult::description, LedgerResult::amount)
+            .containsExactly(tuple("회식", 9000L), tuple("저녁", 5000L));
+        assertThat(result.hasNext()).isFalse();
+    }
+
+    @Test
+    void 필터_결과가_size보다_많으면_hasNext가_true다() {
+        // given
+        User savedUser = DbUtils.givenSavedUser(userRepository);
+        Long userId = savedUser.getId();
+        List<UpsertLedgerCommand> commands = new ArrayList<>();
+        for (int day = 1; day <= 3; day++) {
+            commands.add(new UpsertLedgerCommand(userId, 1000L * day, LedgerType.EXPENSE, LedgerCategory.FOOD,
+                "식비", LocalDate.of(2026, 1, day), PaymentMethod.CASH, null));
+        }
+        ledgerService.createLedgerEntries(userId, commands);
+
+        // when
+        LedgerFilterResult result = ledgerService.filter(new LedgerFilterCommand(
+            userId, LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 31),
+            Set.of(LedgerType.EXPENSE), null, null, null, null, LedgerSort.OCCURRED_ON_DESC, null, 2
+        ));
+
+        // then
+        assertThat(result.results())
+            .extracting(LedgerResult::occurredOn)
+            .containsExactly(LocalDate.of(2026, 1, 3), LocalDate.of(2026, 1, 2));
+        assertThat(result.hasNext()).isTrue();
+    }
+
+    @Test
+    void 필터_커서로_금액이_같은_항목도_빠짐없이_이어서_조회한다() {
+        // given
+        User savedUser = DbUtils.givenSavedUser(userRepository);
+        Long userId = savedUser.getId();
+        List<UpsertLedgerCommand> commands = new ArrayList<>();
+        long[] amounts = {3000L, 5000L, 5000L, 5000L, 1000L};
+        for (int i = 0; i < amounts.length; i++) {
+            commands.add(new UpsertLedgerCommand(userId, amounts[i], LedgerType.EXPENSE, LedgerCategory.FOOD,
+                "식비" + i, LocalDate.of(2026, 1, i + 1), PaymentMethod.CASH, null));
+        }
+        ledgerService.createLedgerEntries(userId, commands);
+
+        // when
+        List<LedgerResult> all = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            LedgerFilterResult page = ledgerService.filter(new LedgerFilterCommand(
+                userId, LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 31),
+                null, null, null, null, null, LedgerSort.AMOUNT_DESC, cursor, 2
+            ));
+            all.addAll(page.results());
+            cursor = page.nextCursor();
+            pages++;
+        } while (cursor != null);
+
+        // then
+        assertThat(pages).isEqualTo(3);
+        assertThat(all)
+            .extracting(LedgerResult::amount)
+            .containsExactly(5000L, 5000L, 5000L, 3000L, 1000L);
+        assertThat(all).extracting(LedgerResult::ledgerId).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void 필터_커서로_발생일_내림차순_다음_페이지를_조회한다() {
+        // given
+        User savedUser = DbUtils.givenSavedUser(userRepository);
+        Long userId = savedUser.getId();
+        List<UpsertLedgerCommand> commands = new ArrayList<>();
+        for (int day = 1; day <= 3; day++) {
+            commands.add(new UpsertLedgerCommand(userId, 1000L * day, LedgerType.EXPENSE, LedgerCategory.FOOD,
+                "식비", LocalDate.of(2026, 1, day), PaymentMethod.CASH, null));
+        }
+        ledgerService.createLedgerEntries(userId, commands);
+        LedgerFilterResult first = ledgerService.filter(new LedgerFilterCommand(
+            userId, LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 31),
+            null, null, null, null, null, LedgerSort.OCCURRED_ON_DESC, null, 2
+        ));
+
+        // when
+        LedgerFilterResult second = ledgerService.filter(new LedgerFilterCommand(
+            userId, LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 31),
+            null, null, null, null, null, LedgerSort.OCCURRED_ON_DESC, first.nextCursor(), 2
+        ));
+
+        // then
+        assertThat(second.results())
+            .extracting(LedgerResult::occurredOn)
+            .containsExactly(LocalDate.of(2026, 1, 1));
+        assertThat(second.hasNext()).isFalse();
+    }
+
+    @Test
+    void 필터_커서의_정렬_기준이_다르면_예외를_던진다() {
+        // given
+        String cursor = new LedgerFilterCursor(LedgerSort.AMOUNT_DESC, null, 5000L, 1L).encode();
+
+        // when & then
+        assertThatThrownBy(() -> ledgerService.filter(new LedgerFilterCommand(
+            1L, null, null, null, null, null, null, null, LedgerSort.OCCURRED_ON_ASC, cursor, null
+        )))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("정렬 기준");
+    }
+
+    @Test
+    void 최소_금액이_최대_금액보다_크면_예외를_던진다() {
+        // when & then
+        assertThatThrownBy(() -> ledgerService.filter(new LedgerFilterCommand(
+            1L, null, null, null, null, null, 5000L, 1000L, null, null, null
+        )))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("minAmount");
+    }
 }
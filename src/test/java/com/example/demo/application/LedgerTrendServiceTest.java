@@ -0,0 +1,113 @@
+package com.example.demo.application;
+
+import com.example.demo.application.dto.DateRange;
+import com.example.demo.application.dto.LedgerCategoryTrend;
+import com.example.demo.application.dto.LedgerMonthTrend;
+import com.example.demo.application.dto.LedgerTrendResult;
+import com.example.demo.application.dto.UpsertLedgerCommand;
+import com.example.demo.domain.User;
+import com.example.demo.domain.UserRepository;
+import com.example.demo.domain.enums.LedgerCategory;
+import com.example.demo.domain.enums.LedgerType;
+import com.example.demo.domain.enums.PaymentMethod;
+import com.example.demo.util.AbstractIntegrationTest;
+import com.example.demo.util.DbUtils;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+@Transactional
+class LedgerTrendServiceTest extends AbstractIntegrationTest {
+    @Autowired
+    private LedgerTrendService ledgerTrendService;
+
+    @Autowired
+    private LedgerService ledgerService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private Clock clock;
+
+    private UpsertLedgerCommand command(User user, long amount, LedgerCategory category, LocalDate occurredOn) {
+        return new UpsertLedgerCommand(
+            user.getId(),
+            amount,
+            category.fixedType().orElse(LedgerType.EXPENSE),
+            category,
+            "테스트",
+            occurredOn,
+            PaymentMethod.CREDIT_CARD,
+            null
+        );
+    }
+
+    @Test
+    void 월별_카테고리_합계와_전월_대비_증감을_돌려준다() {
+        // given
+        User user = DbUtils.givenSavedUser(userRepository);
+        ledgerService.createLedgerEntry(command(user, 1000L, LedgerCategory.FOOD, LocalDate.of(2025, 12, 5)));
+        ledgerService.createLedgerEntry(command(user, 3000L, LedgerCategory.FOOD, LocalDate.of(2026, 1, 10)));
+        ledgerService.createLedgerEntry(command(user, 500L, LedgerCategory.TRANSPORT, LocalDate.of(2026, 1, 11)));
+        ledgerService.createLedgerEntry(command(user, 50000L, LedgerCategory.SALARY, LocalDate.of(2026, 2, 25)));
+
+        // when
+        LedgerTrendResult result = ledgerTrendService.getTrend(user.getId(), YearMonth.of(2026, 1), YearMonth.of(2026, 2));
+
+        // then
+        assertThat(result.months())
+            .extracting(LedgerMonthTrend::month, LedgerMonthTrend::expenseTotal, LedgerMonthTrend::expenseDelta)
+            .containsExactly(
+                tuple(YearMonth.of(2026, 1), 3500L, 2500L),
+                tuple(YearMonth.of(2026, 2), 0L, -3500L)
+            );
+        assertThat(result.months().get(0).categories())
+            .extracting(LedgerCategoryTrend::category, LedgerCategoryTrend::amount, LedgerCategoryTrend::delta)
+            .containsExactlyInAnyOrder(
+                tuple(LedgerCategory.FOOD, 3000L, 2000L),
+                tuple(LedgerCategory.TRANSPORT, 500L, 500L)
+            );
+        assertThat(result.months().get(1).incomeDelta()).isEqualTo(50000L);
+        assertThat(result.months().get(1).categories())
+            .extracting(LedgerCategoryTrend::category, LedgerCategoryTrend::amount, LedgerCategoryTrend::delta)
+            .contains(tuple(LedgerCategory.FOOD, 0L, -3000L));
+    }
+
+    @Test
+    void 이번_달은_원본_항목에서_집계한다() {
+        // given
+        User user = DbUtils.givenSavedUser(userRepository);
+        YearMonth current = YearMonth.now(clock);
+        ledgerService.createLedgerEntry(command(user, 1000L, LedgerCategory.FOOD, current.minusMonths(1).atDay(1)));
+        ledgerService.createLedgerEntry(command(user, 4000L, LedgerCategory.FOOD, current.atDay(1)));
+
+        // when
+        DateRange range = ledgerTrendService.resolveRange(null, 2);
+        LedgerTrendResult result = ledgerTrendService.getTrend(
+            user.getId(), YearMonth.from(range.start()), YearMonth.from(range.end())
+        );
+
+        // then
+        assertThat(result.to()).isEqualTo(current);
+        LedgerMonthTrend last = result.months().get(1);
+        assertThat(last.expenseTotal()).isEqualTo(4000L);
+        assertThat(last.expenseDelta()).isEqualTo(3000L);
+    }
+
+    @Test
+    void 조회_개월_수가_36을_넘으면_예외를_던진다() {
+        // when & then
+        assertThatThrownBy(() -> ledgerTrendService.resolveRange(YearMonth.of(2026, 1), 37))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("36");
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.demo.application;
+
+import com.example.demo.application.dto.LedgerResult;
+import com.example.demo.application.dto.UpsertLedgerCommand;
+import com.example.demo.domain.User;
+import com.example.demo.domain.UserRepository;
+import com.example.demo.domain.enums.LedgerCategory;
+import com.example.demo.domain.enums.LedgerType;
+import com.example.demo.domain.enums.PaymentMethod;
+import com.example.demo.util.AbstractIntegrationTest;
+import com.example.demo.util.DbUtils;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Transactional
+class LedgerVersionServiceTest extends AbstractIntegrationTest {
+    @Autowired
+    private LedgerVersionService ledgerVersionService;
+
+    @Autowired
+    private LedgerService ledgerService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private UpsertLedgerCommand command(User user, String memo) {
+        return new UpsertLedgerCommand(
+            user.getId(),
+            7000L,
+            LedgerType.EXPENSE,
+            LedgerCategory.FOOD,
+            "커피",
+            LocalDate.of(2026, 1, 24),
+            PaymentMethod.CREDIT_CARD,
+            memo
+        );
+    }
+
+    @Test
+    void 변경_이력이_없으면_버전은_0이다() {
+        // given
+        User user = DbUtils.givenSavedUser(userRepository);
+
+        // when
+        long version = ledgerVersionService.getVersion(user.getId());
+
+        // then
+        assertThat(version).isZero();
+    }
+
+    @Test
+    void 가계부_항목이_변경될_때마다_버전이_증가한다() {
+        // given
+        User user = DbUtils.givenSavedUser(userRepository);
+        User other = DbUtils.givenSavedUser(userRepository);
+
+        // when
+        LedgerResult created = ledgerService.createLedgerEntry(command(user, null));
+        ledgerService.updateLedgerMemo(user.getId(), created.ledgerId(), "아메리카노");
+        ledgerService.updateLedgerEntry(created.ledgerId(), command(user, "라떼"));
+        ledgerService.deleteLedgerEntry(user.getId(), created.ledgerId());
+
+        // then
+        assertThat(ledgerVersionService.getVersion(user.getId())).isEqualTo(4L);
+        assertThat(ledgerVersionService.getVersion(other.getId())).isZero();
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.demo.application;
+
+import com.example.demo.application.dto.UserInfo;
+import com.example.demo.application.event.UserChangedEvent;
+import com.example.demo.domain.User;
+import com.example.demo.domain.UserRepository;
+import com.example.demo.util.AbstractIntegrationTest;
+import com.example.demo.util.DbUtils;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Transactional
+class UserServiceTest extends AbstractIntegrationTest {
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void 사용자_정보는_변경_이벤트가_올_때까지_캐시된_값을_사용한다() {
+        // given
+        User user = DbUtils.givenSavedUser(userRepository);
+        UserInfo first = userService.getUserInfo(user.getId());
+        jdbcTemplate.update("UPDATE `user` SET nickname = ? WHERE id = ?", "피클", user.getId());
+
+        // when
+        UserInfo cached = userService.getUserInfo(user.getId());
+        eventPublisher.publishEvent(new UserChangedEvent(user.getId()));
+        UserInfo reloaded = userService.getUserInfo(user.getId());
+
+        // then
+        assertThat(cached).isEqualTo(first);
+        assertThat(reloaded.nickname()).isEqualTo("피클");
+    }
+
+    @Test
+    void 존재하지_않는_사용자면_비어_있고_조회_시_예외를_던진다() {
+        // given
+        long nonExistentUserId = 999999L;
+
+        // when & then
+        assertThat(userService.findUserInfo(nonExistentUserId)).isEmpty();
+        assertThatThrownBy(() -> userService.getUserInfo(nonExistentUserId))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("존재하지 않는 사용자입니다.");
+    }
+}
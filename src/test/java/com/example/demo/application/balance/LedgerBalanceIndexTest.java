@@ -0,0 +1,151 @@
+package com.example.demo.application.balance;
+
+import com.example.demo.application.dto.LedgerResult;
+import com.example.demo.application.event.LedgerChange;
+import com.example.demo.domain.LedgerDailyAmountRow;
+import com.example.demo.domain.LedgerEntry;
+import com.example.demo.domain.enums.LedgerCategory;
+import com.example.demo.domain.enums.LedgerType;
+import com.example.demo.domain.enums.PaymentMethod;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LedgerBalanceIndexTest {
+    private static final LocalDate TODAY = LocalDate.of(2026, 1, 15);
+
+    private static LedgerResult entry(long id, long amount, LedgerType type, LocalDate occurredOn) {
+        LedgerCategory category = type == LedgerType.INCOME ? LedgerCategory.SALARY : LedgerCategory.FOOD;
+        return new LedgerResult(id, amount, type, category, "항목", occurredOn, PaymentMethod.CASH, null, 0L);
+    }
+
+    private static LedgerBalanceIndex loaded(List<LedgerDailyAmountRow> rows) {
+        LedgerBalanceIndex index = new LedgerBalanceIndex();
+        index.install(index.loadableGeneration(), DailyBalanceTree.of(rows, TODAY));
+        return index;
+    }
+
+    private static long balance(LedgerBalanceIndex index, LocalDate date) {
+        return index.read(tree -> tree.balanceAsOf(date)).orElseThrow();
+    }
+
+    @Test
+    void 누적_잔액이_날짜별_합계를_순서대로_더한_값과_같다() {
+        // given
+        Random random = new Random(20);
+        List<LedgerDailyAmountRow> rows = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            LedgerType type = random.nextBoolean() ? LedgerType.INCOME : LedgerType.EXPENSE;
+            rows.add(new LedgerDailyAmountRow(TODAY.minusDays(random.nextInt(400)), type, 1000L + random.nextInt(100_000)));
+        }
+
+        // when
+        DailyBalanceTree tree = DailyBalanceTree.of(rows, TODAY);
+
+        // then
+        for (int offset = -800; offset <= 800; offset += 7) {
+            LocalDate date = TODAY.plusDays(offset);
+            long expected = rows.stream()
+                .filter(row -> !row.occurredOn().isAfter(date))
+                .mapToLong(row -> DailyBalanceTree.signed(row.type(), row.amount()))
+                .sum();
+            assertThat(tree.balanceAsOf(date)).as("as of %s", date).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void 커밋된_변경은_변경_전_값을_빼고_변경_후_값을_더한다() {
+        // given
+        LedgerBalanceIndex index = loaded(List.of(
+            new LedgerDailyAmountRow(LocalDate.of(2026, 1, 1), LedgerType.INCOME, 3_000_000L)
+        ));
+        LedgerResult lunch = entry(1L, 12000L, LedgerType.EXPENSE, LocalDate.of(2026, 1, 10));
+        LedgerResult movedLunch = entry(1L, 15000L, LedgerType.EXPENSE, LocalDate.of(2026, 1, 12));
+
+        // when
+        index.applyCommitted(List.of(LedgerChange.created(lunch)));
+        index.applyCommitted(List.of(LedgerChange.updated(lunch, movedLunch)));
+
+        // then
+        assertThat(balance(index, LocalDate.of(2026, 1, 10))).isEqualTo(3_000_000L);
+        assertThat(balance(index, LocalDate.of(2026, 1, 12))).isEqualTo(2_985_000L);
+    }
+
+    @Test
+    void 롤백된_변경은_반영하지_않는다() {
+        // given
+        LedgerBalanceIndex index = loaded(List.of());
+
+        // when
+        index.begin();
+        index.complete(List.of(LedgerChange.created(entry(1L, 5000L, LedgerType.EXPENSE, TODAY))), false);
+
+        // then
+        assertThat(balance(index, TODAY)).isZero();
+    }
+
+    @Test
+    void 스냅샷을_읽는_동안_변경이_있으면_설치하지_않는다() {
+        // given
+        LedgerBalanceIndex index = new LedgerBalanceIndex();
+        long generation = index.loadableGeneration();
+
+        // when
+        index.begin();
+        index.complete(List.of(LedgerChange.created(entry(1L, 5000L, LedgerType.EXPENSE, TODAY))), true);
+
+        // then
+        assertThat(index.install(generation, DailyBalanceTree.of(List.of(), TODAY))).isFalse();
+        assertThat(index.isLoaded()).isFalse();
+    }
+
+    @Test
+    void 진행_중인_트랜잭션이_있으면_설치하지_않는다() {
+        // given
+        LedgerBalanceIndex index = new LedgerBalanceIndex();
+        index.begin();
+
+        // when & then
+        assertThat(index.loadableGeneration()).isNegative();
+        assertThat(index.install(index.loadableGeneration(), DailyBalanceTree.of(List.of(), TODAY))).isFalse();
+    }
+
+    @Test
+    void 범위_밖_날짜가_들어오면_트리를_버린다() {
+        // given
+        LedgerBalanceIndex index = loaded(List.of());
+        long loadedBytes = index.estimatedBytes();
+
+        // when
+        index.applyCommitted(List.of(LedgerChange.created(entry(1L, 5000L, LedgerType.EXPENSE, TODAY.minusYears(30)))));
+
+        // then
+        assertThat(index.isLoaded()).isFalse();
+        assertThat(index.estimatedBytes()).isLessThan(loadedBytes);
+    }
+
+    @Test
+    void 발생일_범위_밖의_기존_항목이_있어도_트리_크기는_발생일_범위를_넘지_않는다() {
+        // given
+        List<LedgerDailyAmountRow> rows = List.of(
+            new LedgerDailyAmountRow(LocalDate.of(1, 1, 1), LedgerType.INCOME, 1000L),
+            new LedgerDailyAmountRow(TODAY, LedgerType.EXPENSE, 300L),
+            new LedgerDailyAmountRow(LocalDate.of(9999, 12, 31), LedgerType.INCOME, 50L)
+        );
+
+        // when
+        DailyBalanceTree tree = DailyBalanceTree.of(rows, TODAY);
+
+        // then
+        long maxDays = ChronoUnit.DAYS.between(LedgerEntry.MIN_OCCURRED_ON, LedgerEntry.MAX_OCCURRED_ON) + 1;
+        assertThat(tree.size()).isLessThanOrEqualTo((int) maxDays);
+        assertThat(tree.balanceAsOf(TODAY)).isEqualTo(700L);
+        assertThat(tree.balanceAsOf(LedgerEntry.MAX_OCCURRED_ON)).isEqualTo(750L);
+    }
+}
@@ -0,0 +1,269 @@
+package com.example.demo.application.budget;
+
+import com.example.demo.application.LedgerService;
+import com.example.demo.application.dto.BudgetReconciliationResult;
+import com.example.demo.application.dto.BudgetResult;
+import com.example.demo.application.dto.LedgerResult;
+import com.example.demo.application.dto.UpsertLedgerCommand;
+import com.example.demo.domain.UserRepository;
+import com.example.demo.domain.enums.LedgerCategory;
+import com.example.demo.domain.enums.LedgerType;
+import com.example.demo.domain.enums.PaymentMethod;
+import com.example.demo.util.AbstractIntegrationTest;
+import com.example.demo.util.DbUtils;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+@Transactional
+class BudgetServiceTest extends AbstractIntegrationTest {
+    private static final YearMonth MONTH = YearMonth.of(2026, 3);
+
+    @Autowired
+    private BudgetService budgetService;
+
+    @Autowired
+    private BudgetReconciliationService budgetReconciliationService;
+
+    @Autowired
+    private LedgerService ledgerService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private Clock clock;
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = DbUtils.givenSavedUser(userRepository).getId();
+    }
+
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private UpsertLedgerCommand command(long amount, LedgerType type, LedgerCategory category, LocalDate occurredOn) {
+        return new UpsertLedgerCommand(
+            userId, amount, type, category, "항목", occurredOn, PaymentMethod.CREDIT_CARD, null
+        );
+    }
+
+    private LedgerResult food(long amount, LocalDate occurredOn) {
+        return ledgerService.createLedgerEntry(command(amount, LedgerType.EXPENSE, LedgerCategory.FOOD, occurredOn));
+    }
+
+    private BudgetResult foodBudget() {
+        flushAndClear();
+        return budgetService.getBudget(userId, MONTH, LedgerCategory.FOOD);
+    }
+
+    @Test
+    void 예산을_처음_정하면_그_달의_기존_지출로_사용액을_채운다() {
+        // given
+        food(10000L, MONTH.atDay(1));
+        food(5000L, MONTH.atEndOfMonth());
+        food(7000L, MONTH.minusMonths(1).atEndOfMonth());
+        ledgerService.createLedgerEntry(command(3000L, LedgerType.EXPENSE, LedgerCategory.TRANSPORT, MONTH.atDay(2)));
+        flushAndClear();
+
+        // when
+        BudgetResult result = budgetService.setBudget(userId, MONTH, LedgerCategory.FOOD, 100000L);
+
+        // then
+        assertThat(result.amount()).isEqualTo(100000L);
+        assertThat(result.spent()).isEqualTo(15000L);
+        assertThat(result.remaining()).isEqualTo(85000L);
+    }
+
+    @Test
+    void 예산을_다시_정하면_금액만_바뀌고_사용액은_유지된다() {
+        // given
+        budgetService.setBudget(userId, MONTH, LedgerCategory.FOOD, 100000L);
+        food(10000L, MONTH.atDay(3));
+
+        // when
+        flushAndClear();
+        BudgetResult result = budgetService.setBudget(userId, MONTH, LedgerCategory.FOOD, 50000L);
+
+        // then
+        assertThat(result.amount()).isEqualTo(50000L);
+        assertThat(result.spent()).isEqualTo(10000L);
+        assertThat(result.remaining()).isEqualTo(40000L);
+    }
+
+    @Test
+    void 항목_생성_수정_삭제마다_사용액이_차이만큼_바뀐다() {
+        // given
+        budgetService.setBudget(userId, MONTH, LedgerCategory.FOOD, 100000L);
+        budgetService.setBudget(userId, MONTH, LedgerCategory.TRANSPORT, 50000L);
+
+        // when & then
+        LedgerResult created = food(12000L, MONTH.atDay(10));
+        assertThat(foodBudget().spent()).isEqualTo(12000L);
+
+        ledgerService.updateLedgerEntry(
+            created.ledgerId(), command(20000L, LedgerType.EXPENSE, LedgerCategory.FOOD, MONTH.atDay(10))
+        );
+        assertThat(foodBudget().spent()).isEqualTo(20000L);
+
+        ledgerService.updateLedgerEntry(
+            created.ledgerId(), command(20000L, LedgerType.EXPENSE, LedgerCategory.TRANSPORT, MONTH.atDay(10))
+        );
+        assertThat(foodBudget().spent()).isZero();
+        assertThat(budgetService.getBudget(userId, MONTH, LedgerCategory.TRANSPORT).spent()).isEqualTo(20000L);
+
+        ledgerService.deleteLedgerEntry(userId, created.ledgerId());
+        flushAndClear();
+        assertThat(budgetService.getBudget(userId, MONTH, LedgerCategory.TRANSPORT).spent()).isZero();
+    }
+
+    @Test
+    void 일괄_생성도_사용액에_반영된다() {
+        // given
+        budgetService.setBudget(userId, MONTH, LedgerCategory.FOOD, 100000L);
+
+        // when
+        ledgerService.createLedgerEntries(userId, List.of(
+            command(1000L, LedgerType.EXPENSE, LedgerCategory.FOOD, MONTH.atDay(1)),
+            command(2000L, LedgerType.EXPENSE, LedgerCategory.FOOD, MONTH.atDay(2)),
+            command(4000L, LedgerType.EXPENSE, LedgerCategory.FOOD, MONTH.plusMonths(1).atDay(1))
+        ));
+
+        // then
+        assertThat(foodBudget().spent()).isEqualTo(3000L);
+    }
+
+    @Test
+    void 수입_항목과_예산이_없는_달의_지출은_사용액에_영향이_없다() {
+        // given
+        budgetService.setBudget(userId, MONTH, LedgerCategory.OTHER, 100000L);
+
+        // when
+        ledgerService.createLedgerEntry(command(9000L, LedgerType.INCOME, LedgerCategory.OTHER, MONTH.atDay(5)));
+        ledgerService.createLedgerEntry(command(3000L, LedgerType.EXPENSE, LedgerCategory.OTHER, MONTH.plusMonths(1).atDay(5)));
+        flushAndClear();
+
+        // then
+        assertThat(budgetService.getBudget(userId, MONTH, LedgerCategory.OTHER).spent()).isZero();
+    }
+
+    @Test
+    void 수입_카테고리에는_예산을_정할_수_없다() {
+        // when & then
+        assertThatThrownBy(() -> budgetService.setBudget(userId, MONTH, LedgerCategory.SALARY, 100000L))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("지출 카테고리에만 예산을 정할 수 있습니다.");
+    }
+
+    @Test
+    void 월을_생략하면_이번_달_예산을_조회한다() {
+        // given
+        YearMonth now = YearMonth.now(clock);
+        budgetService.setBudget(userId, now, LedgerCategory.FOOD, 100000L);
+        budgetService.setBudget(userId, MONTH, LedgerCategory.TRANSPORT, 100000L);
+        flushAndClear();
+
+        // when
+        List<BudgetResult> results = budgetService.getBudgets(userId, null);
+
+        // then
+        assertThat(results).extracting(BudgetResult::month, BudgetResult::category)
+            .containsExactly(tuple(now, LedgerCategory.FOOD));
+    }
+
+    @Test
+    void 예산을_삭제하면_조회되지_않는다() {
+        // given
+        budgetService.setBudget(userId, MONTH, LedgerCategory.FOOD, 100000L);
+
+        // when
+        budgetService.deleteBudget(userId, MONTH, LedgerCategory.FOOD);
+        flushAndClear();
+
+        // then
+        assertThatThrownBy(() -> budgetService.getBudget(userId, MONTH, LedgerCategory.FOOD))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("설정된 예산이 없습니다.");
+    }
+
+    @Test
+    void 정합성_점검은_원본_합계와_다른_사용액을_보정한다() {
+        // given
+        budgetService.setBudget(userId, MONTH, LedgerCategory.FOOD, 100000L);
+        food(12000L, MONTH.atDay(10));
+        flushAndClear();
+        jdbcTemplate.update("UPDATE budget SET spent = 1 WHERE user_id = ?", userId);
+
+        // when
+        BudgetReconciliationResult result = budgetReconciliationService.reconcile();
+
+        // then
+        assertThat(result.corrected()).isEqualTo(1L);
+        assertThat(foodBudget().spent()).isEqualTo(12000L);
+    }
+
+    @Test
+    void 무작위_생성_수정_삭제_뒤에도_사용액은_전체_재계산과_같다() {
+        // given
+        LedgerCategory[] categories = {LedgerCategory.FOOD, LedgerCategory.TRANSPORT, LedgerCategory.OTHER};
+        for (LedgerCategory category : categories) {
+            budgetService.setBudget(userId, MONTH, category, 1_000_000L);
+            budgetService.setBudget(userId, MONTH.plusMonths(1), category, 1_000_000L);
+        }
+        Random random = new Random(19);
+        List<LedgerResult> live = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < 200; i++) {
+            int op = live.isEmpty() ? 0 : random.nextInt(3);
+            LedgerCategory category = categories[random.nextInt(categories.length)];
+            // 유형이 고정되지 않은 OTHER로 수입/지출 간 변경도 섞는다.
+            LedgerType type = category == LedgerCategory.OTHER && random.nextBoolean() ? LedgerType.INCOME : LedgerType.EXPENSE;
+            UpsertLedgerCommand next = command(
+                1000L + random.nextInt(50) * 100L,
+                type,
+                category,
+                MONTH.atDay(1).plusDays(random.nextInt(59))
+            );
+            if (op == 0) {
+                live.add(ledgerService.createLedgerEntry(next));
+            } else if (op == 1) {
+                LedgerResult target = live.get(random.nextInt(live.size()));
+                // 수정은 발생일을 바꾸지 않는다.
+                UpsertLedgerCommand update = command(next.amount(), next.type(), next.category(), target.occurredOn());
+                live.set(live.indexOf(target), ledgerService.updateLedgerEntry(target.ledgerId(), update));
+            } else {
+                LedgerResult target = live.remove(random.nextInt(live.size()));
+                ledgerService.deleteLedgerEntry(userId, target.ledgerId());
+            }
+        }
+        flushAndClear();
+
+        // then
+        assertThat(budgetReconciliationService.reconcile().corrected()).isZero();
+    }
+}
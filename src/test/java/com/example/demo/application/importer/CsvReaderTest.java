@@ -0,0 +1,49 @@
+package com.example.demo.application.importer;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CsvReaderTest {
+
+    @Test
+    void 따옴표_안의_쉼표와_줄바꿈과_이스케이프를_처리한다() throws IOException {
+        // given
+        CsvReader reader = new CsvReader(new StringReader(
+            "a,\"b,c\",\"줄\n바꿈\"\r\n\"say \"\"hi\"\"\",,끝\n"
+        ));
+
+        // when & then
+        assertThat(reader.readRecord()).containsExactly("a", "b,c", "줄\n바꿈");
+        assertThat(reader.recordLineNumber()).isEqualTo(1);
+        assertThat(reader.readRecord()).containsExactly("say \"hi\"", "", "끝");
+        assertThat(reader.recordLineNumber()).isEqualTo(3);
+        assertThat(reader.readRecord()).isNull();
+    }
+
+    @Test
+    void BOM과_마지막_줄바꿈_누락을_처리한다() throws IOException {
+        // given
+        CsvReader reader = new CsvReader(new StringReader("\uFEFF날짜,금액\n2026-01-24,1000"));
+
+        // when & then
+        assertThat(reader.readRecord()).containsExactly("날짜", "금액");
+        assertThat(reader.readRecord()).containsExactly("2026-01-24", "1000");
+        assertThat(reader.readRecord()).isNull();
+    }
+
+    @Test
+    void 닫히지_않은_따옴표면_예외를_던진다() throws IOException {
+        // given
+        CsvReader reader = new CsvReader(new StringReader("a,\"b\nc"));
+
+        // when & then
+        assertThatThrownBy(reader::readRecord)
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("1행");
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.demo.application.importer;
+
+import com.example.demo.application.dto.UpsertLedgerCommand;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LedgerCsvColumnsTest {
+
+    private static final List<String> HEADER = List.of("날짜", "구분", "카테고리", "결제수단", "금액", "내용", "메모");
+
+    @Test
+    void 내보내기가_수식_방지용으로_붙인_작은따옴표를_뗀다() {
+        // given
+        LedgerCsvColumns columns = LedgerCsvColumns.from(HEADER);
+        List<String> record = List.of("2026-01-24", "EXPENSE", "FOOD", "CASH", "1000", "'=SUM(A1)", "'-할인");
+
+        // when
+        UpsertLedgerCommand command = columns.toCommand(1L, record);
+
+        // then
+        assertThat(command.description()).isEqualTo("=SUM(A1)");
+        assertThat(command.memo()).isEqualTo("-할인");
+    }
+
+    @Test
+    void 수식_시작_문자가_뒤따르지_않는_작은따옴표는_그대로_둔다() {
+        // given
+        LedgerCsvColumns columns = LedgerCsvColumns.from(HEADER);
+        List<String> record = List.of("2026-01-24", "EXPENSE", "FOOD", "CASH", "1000", "'점심'", "'");
+
+        // when
+        UpsertLedgerCommand command = columns.toCommand(1L, record);
+
+        // then
+        assertThat(command.description()).isEqualTo("'점심'");
+        assertThat(command.memo()).isEqualTo("'");
+    }
+}
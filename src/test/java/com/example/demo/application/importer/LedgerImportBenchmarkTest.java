@@ -0,0 +1,89 @@
+package com.example.demo.application.importer;
+
+import com.example.demo.application.dto.LedgerImportJobResult;
+import com.example.demo.domain.LedgerImportJob;
+import com.example.demo.domain.LedgerImportJobRepository;
+import com.example.demo.domain.UserRepository;
+import com.example.demo.domain.enums.LedgerImportStatus;
+import com.example.demo.util.AbstractIntegrationTest;
+import com.example.demo.util.Benchmarks;
+import com.example.demo.util.DbUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 합성 10만 행 CSV 가져오기 처리량/행당 할당량
+ * ./gradlew benchmarkTest --tests '*LedgerImportBenchmarkTest'
+ */
+@Tag("benchmark")
+class LedgerImportBenchmarkTest extends AbstractIntegrationTest {
+    private static final int ROW_COUNT = 100_000;
+    private static final String[] CATEGORIES = {"식비", "교통", "쇼핑", "여가"};
+    private static final String[] PAYMENT_METHODS = {"신용카드", "체크카드", "현금", "계좌이체"};
+
+    @Autowired
+    private LedgerImportService ledgerImportService;
+
+    @Autowired
+    private LedgerImportJobRepository ledgerImportJobRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long userId;
+    private Path file;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        userId = DbUtils.givenSavedUser(userRepository).getId();
+        file = Files.createTempFile("ledger-import-benchmark-", ".csv");
+
+        LocalDate start = LocalDate.of(2025, 1, 1);
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write("날짜,구분,카테고리,결제수단,금액,내용,메모\n");
+            for (int i = 0; i < ROW_COUNT; i++) {
+                writer.write(start.plusDays(i % 365) + ",지출," + CATEGORIES[i % CATEGORIES.length] + ","
+                    + PAYMENT_METHODS[i % PAYMENT_METHODS.length] + ",\"" + (1000 + i % 97 * 100) + "\",가맹점" + i % 1000
+                    + "," + (i % 3 == 0 ? "메모" + i : "") + "\n");
+            }
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+        DbUtils.deleteLedgerData(jdbcTemplate, userId);
+    }
+
+    @Test
+    void 십만_행_CSV_가져오기() {
+        long[] jobId = new long[1];
+        Benchmarks.Result result = Benchmarks.measure("import/csv-100k", 0, 1, () -> {
+            jobId[0] = ledgerImportJobRepository.save(new LedgerImportJob(userId)).getId();
+            ledgerImportService.run(jobId[0], userId, file);
+            return jobId[0];
+        });
+        System.out.printf("[benchmark] import/csv-100k %.1f rows/s %d B/row%n",
+            result.opsPerSecond() * ROW_COUNT, result.bytesPerOp() / ROW_COUNT);
+
+        LedgerImportJobResult job = ledgerImportService.getJob(userId, jobId[0]);
+        assertThat(job.status()).isEqualTo(LedgerImportStatus.COMPLETED);
+        assertThat(job.importedRows()).isEqualTo(ROW_COUNT);
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.demo.application.importer;
+
+import com.example.demo.application.dto.LedgerImportJobResult;
+import com.example.demo.application.dto.LedgerImportRowError;
+import com.example.demo.domain.LedgerEntryRepository;
+import com.example.demo.domain.LedgerEntryView;
+import com.example.demo.domain.LedgerImportJob;
+import com.example.demo.domain.LedgerImportJobRepository;
+import com.example.demo.domain.User;
+import com.example.demo.domain.UserRepository;
+import com.example.demo.domain.enums.LedgerImportStatus;
+import com.example.demo.util.AbstractIntegrationTest;
+import com.example.demo.util.DbUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 청크마다 커밋되므로 테스트 트랜잭션 대신 직접 정리한다.
+ */
+class LedgerImportServiceTest extends AbstractIntegrationTest {
+    @Autowired
+    private LedgerImportService ledgerImportService;
+
+    @Autowired
+    private LedgerImportJobRepository ledgerImportJobRepository;
+
+    @Autowired
+    private LedgerEntryRepository ledgerEntryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        User user = DbUtils.givenSavedUser(userRepository);
+        userId = user.getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        DbUtils.deleteLedgerData(jdbcTemplate, userId);
+    }
+
+    private Path csv(String content, Charset charset) throws IOException {
+        Path file = Files.createTempFile("ledger-import-test-", ".csv");
+        Files.writeString(file, content, charset);
+        return file;
+    }
+
+    @Test
+    void CSV를_가져오고_잘못된_행은_줄_번호와_함께_기록한다() throws IOException {
+        // given
+        Path file = csv("""
+            날짜,구분,카테고리,결제수단,금액,내용,메모
+            2026-01-24,지출,식비,신용카드,"12,000",점심,
+            2026-01-25,지출,식비,신용카드,abc,저녁,
+            2026.01.26,,교통,CASH,1500,버스,출근
+            2026-01-27,지출,월급,계좌이체,3000000,월급,
+
+            2026-01-28,,SALARY,BANK_TRANSFER,3000000,월급,
+            """, StandardCharsets.UTF_8);
+        Long jobId = ledgerImportJobRepository.save(new LedgerImportJob(userId)).getId();
+
+        // when
+        ledgerImportService.run(jobId, userId, file);
+
+        // then
+        LedgerImportJobResult result = ledgerImportService.getJob(userId, jobId);
+        assertThat(result.status()).isEqualTo(LedgerImportStatus.COMPLETED);
+        assertThat(result.processedRows()).isEqualTo(5);
+        assertThat(result.importedRows()).isEqualTo(3);
+        assertThat(result.failedRows()).isEqualTo(2);
+        assertThat(result.errors()).extracting(LedgerImportRowError::lineNumber).containsExactly(3L, 5L);
+
+        assertThat(ledgerEntryRepository.findAllViewsByUserIdAndOccurredOnBetween(
+            userId, LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 31)
+        ))
+            .extracting(LedgerEntryView::description, LedgerEntryView::amount)
+            .containsExactly(tuple("점심", 12000L), tuple("버스", 1500L), tuple("월급", 3000000L));
+        assertThat(file).doesNotExist();
+    }
+
+    @Test
+    void 필수_컬럼이_없으면_작업이_실패한다() throws IOException {
+        // given
+        Path file = csv("날짜,금액\n2026-01-24,1000\n", StandardCharsets.UTF_8);
+        Long jobId = ledgerImportJobRepository.save(new LedgerImportJob(userId)).getId();
+
+        // when
+        ledgerImportService.run(jobId, userId, file);
+
+        // then
+        LedgerImportJobResult result = ledgerImportService.getJob(userId, jobId);
+        assertThat(result.status()).isEqualTo(LedgerImportStatus.FAILED);
+        assertThat(result.message()).contains("category");
+    }
+
+    @Test
+    void UTF8이_아니면_작업이_실패한다() throws IOException {
+        // given
+        Path file = csv("날짜,구분,카테고리,결제수단,금액,내용\n2026-01-24,지출,식비,현금,1000,점심\n", Charset.forName("EUC-KR"));
+        Long jobId = ledgerImportJobRepository.save(new LedgerImportJob(userId)).getId();
+
+        // when
+        ledgerImportService.run(jobId, userId, file);
+
+        // then
+        LedgerImportJobResult result = ledgerImportService.getJob(userId, jobId);
+        assertThat(result.status()).isEqualTo(LedgerImportStatus.FAILED);
+        assertThat(result.importedRows()).isZero();
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.demo.application.recurring;
+
+import com.example.demo.application.dto.RecurringRunResult;
+import com.example.demo.domain.Provider;
+import com.example.demo.domain.User;
+import com.example.demo.domain.UserRepository;
+import com.example.demo.domain.enums.RecurringRunStatus;
+import com.example.demo.util.AbstractIntegrationTest;
+import com.example.demo.util.Benchmarks;
+import com.example.demo.util.DbUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 야간 실체화 처리량(항목/초)과 규칙당 할당량 측정
+ * 규칙 수를 늘려도 규칙당 할당량이 일정하면 메모리 사용량이 청크 크기로 제한되고 있는 것이다.
+ * ./gradlew benchmarkTest --tests '*RecurringMaterializationBenchmarkTest'
+ */
+@Tag("benchmark")
+class RecurringMaterializationBenchmarkTest extends AbstractIntegrationTest {
+    private static final int USER_COUNT = 200;
+    private static final int RULES_PER_USER = 100;
+    private static final LocalDate RUN_DATE = LocalDate.of(2031, 1, 1);
+
+    @Autowired
+    private RecurringMaterializationService recurringMaterializationService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<Long> userIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (int i = 0; i < USER_COUNT; i++) {
+            User user = userRepository.save(new User("recurring" + i + "@example.com", null, Provider.KAKAO, "recurring-" + i));
+            userIds.add(user.getId());
+            jdbcTemplate.batchUpdate(
+                """
+                    INSERT INTO recurring_rule
+                        (user_id, amount, type, category, description, payment_method, frequency, day_of_month,
+                         start_date, next_occurrence, created_at, modified_at)
+                    VALUES (?, ?, 'EXPENSE', 'HOUSING', ?, 'BANK_TRANSFER', 'MONTHLY', 1, ?, ?, ?, ?)
+                    """,
+                IntStream.range(0, RULES_PER_USER)
+                    .mapToObj(j -> new Object[]{
+                        10_000L + j, "고정비" + j, Date.valueOf(RUN_DATE), Date.valueOf(RUN_DATE), now, now
+                    })
+                    .toList()
+            );
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (Long userId : userIds) {
+            DbUtils.deleteLedgerData(jdbcTemplate, userId);
+        }
+        userIds.clear();
+        jdbcTemplate.update("DELETE FROM recurring_run WHERE run_date = ?", RUN_DATE);
+    }
+
+    @Test
+    void 전체_규칙_실체화_처리량() {
+        int ruleCount = USER_COUNT * RULES_PER_USER;
+        AtomicReference<RecurringRunResult> result = new AtomicReference<>();
+
+        Benchmarks.Result run = Benchmarks.measure("recurring/materialize-" + ruleCount, 0, 1, () -> {
+            result.set(recurringMaterializationService.materialize(RUN_DATE));
+            return result.get();
+        });
+
+        System.out.printf("[benchmark] recurring %d rules: %.0f entries/s, %d B/rule%n",
+            ruleCount, ruleCount / (run.microsPerOp() / 1_000_000), run.bytesPerOp() / ruleCount);
+        assertThat(result.get().status()).isEqualTo(RecurringRunStatus.COMPLETED);
+        assertThat(result.get().createdEntries()).isEqualTo(ruleCount);
+    }
+}
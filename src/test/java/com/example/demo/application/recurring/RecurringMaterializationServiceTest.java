@@ -0,0 +1,165 @@
+package com.example.demo.application.recurring;
+
+import com.example.demo.application.dto.CreateRecurringRuleCommand;
+import com.example.demo.application.dto.RecurringRuleResult;
+import com.example.demo.application.dto.RecurringRunResult;
+import com.example.demo.domain.RecurringRuleRepository;
+import com.example.demo.domain.RecurringRun;
+import com.example.demo.domain.UserRepository;
+import com.example.demo.domain.enums.LedgerCategory;
+import com.example.demo.domain.enums.LedgerType;
+import com.example.demo.domain.enums.PaymentMethod;
+import com.example.demo.domain.enums.RecurrenceFrequency;
+import com.example.demo.domain.enums.RecurringRunStatus;
+import com.example.demo.util.AbstractIntegrationTest;
+import com.example.demo.util.DbUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 청크마다 커밋되므로 테스트 트랜잭션 대신 직접 정리한다.
+ */
+class RecurringMaterializationServiceTest extends AbstractIntegrationTest {
+    private static final LocalDate START = LocalDate.of(2030, 1, 1);
+
+    @Autowired
+    private RecurringMaterializationService recurringMaterializationService;
+
+    @Autowired
+    private RecurringRuleService recurringRuleService;
+
+    @Autowired
+    private RecurringRunRecorder recorder;
+
+    @Autowired
+    private RecurringRuleRepository recurringRuleRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = DbUtils.givenSavedUser(userRepository).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        DbUtils.deleteLedgerData(jdbcTemplate, userId);
+        jdbcTemplate.update("DELETE FROM recurring_run WHERE run_date >= ?", START);
+    }
+
+    private RecurringRuleResult monthlyRent(int dayOfMonth) {
+        return recurringRuleService.createRule(new CreateRecurringRuleCommand(
+            userId, 550_000L, LedgerType.EXPENSE, LedgerCategory.HOUSING, "월세", PaymentMethod.BANK_TRANSFER, null,
+            RecurrenceFrequency.MONTHLY, dayOfMonth, null, START, null
+        ));
+    }
+
+    private RecurringRuleResult weeklyFutsal() {
+        return recurringRuleService.createRule(new CreateRecurringRuleCommand(
+            userId, 10_000L, LedgerType.EXPENSE, LedgerCategory.LEISURE_HOBBY, "풋살", PaymentMethod.CASH, null,
+            RecurrenceFrequency.WEEKLY, null, DayOfWeek.SATURDAY, START, null
+        ));
+    }
+
+    private long entryCount() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM ledger_entry WHERE user_id = ?", Long.class, userId);
+    }
+
+    @Test
+    void 발생일이_된_항목을_만들고_같은_날_다시_실행해도_중복되지_않는다() {
+        // given
+        monthlyRent(25);
+        weeklyFutsal();
+
+        // when
+        RecurringRunResult first = recurringMaterializationService.materialize(LocalDate.of(2030, 1, 31));
+        RecurringRunResult again = recurringMaterializationService.materialize(LocalDate.of(2030, 1, 31));
+
+        // then (1/25 월세 + 1/5, 1/12, 1/19, 1/26 풋살)
+        assertThat(first.status()).isEqualTo(RecurringRunStatus.COMPLETED);
+        assertThat(first.processedRules()).isEqualTo(2);
+        assertThat(first.createdEntries()).isEqualTo(5);
+        assertThat(again).isEqualTo(first);
+        assertThat(entryCount()).isEqualTo(5);
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT SUM(amount) FROM ledger_monthly_total WHERE user_id = ?", Long.class, userId
+        )).isEqualTo(550_000L + 4 * 10_000L);
+        assertThat(recurringRuleService.getRules(userId))
+            .extracting(RecurringRuleResult::nextOccurrence)
+            .containsExactly(LocalDate.of(2030, 2, 25), LocalDate.of(2030, 2, 2));
+    }
+
+    @Test
+    void 다음_실행은_이전에_만든_날짜_이후만_만든다() {
+        // given
+        monthlyRent(31);
+        recurringMaterializationService.materialize(LocalDate.of(2030, 1, 31));
+
+        // when
+        RecurringRunResult result = recurringMaterializationService.materialize(LocalDate.of(2030, 3, 31));
+
+        // then (2/28, 3/31)
+        assertThat(result.createdEntries()).isEqualTo(2);
+        assertThat(entryCount()).isEqualTo(3);
+    }
+
+    @Test
+    void 중단된_실행을_다시_시작하면_남은_규칙만_이어서_처리한다() {
+        // given
+        LocalDate runDate = LocalDate.of(2030, 1, 31);
+        monthlyRent(25);
+        RecurringRun interrupted = recorder.begin(runDate);
+        recorder.writeChunk(interrupted.getId(), runDate);
+        weeklyFutsal();
+
+        // when
+        RecurringRunResult result = recurringMaterializationService.materialize(runDate);
+
+        // then
+        assertThat(result.status()).isEqualTo(RecurringRunStatus.COMPLETED);
+        assertThat(result.processedRules()).isEqualTo(2);
+        assertThat(result.createdEntries()).isEqualTo(5);
+        assertThat(entryCount()).isEqualTo(5);
+    }
+
+    @Test
+    void 다른_실행이_잠근_규칙은_기다리지_않고_건너뛴다() {
+        // given
+        LocalDate runDate = LocalDate.of(2030, 1, 31);
+        monthlyRent(25);
+        RecurringRun run = recorder.begin(runDate);
+
+        // when
+        RecurringChunk skipped = new TransactionTemplate(transactionManager).execute(status -> {
+            recurringRuleRepository.findDueForUpdate(runDate, Limit.of(10));
+            return CompletableFuture.supplyAsync(() -> recorder.writeChunk(run.getId(), runDate)).join();
+        });
+        RecurringChunk processed = recorder.writeChunk(run.getId(), runDate);
+
+        // then
+        assertThat(skipped.isEmpty()).isTrue();
+        assertThat(processed.rules()).isEqualTo(1);
+        assertThat(entryCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.demo.application.search;
+
+import com.example.demo.application.dto.LedgerResult;
+import com.example.demo.application.event.LedgerChange;
+import com.example.demo.domain.enums.LedgerCategory;
+import com.example.demo.domain.enums.LedgerType;
+import com.example.demo.domain.enums.PaymentMethod;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LedgerSearchIndexTest {
+
+    private static LedgerResult entry(long id, String description, String memo, LocalDate occurredOn) {
+        return new LedgerResult(
+            id, 1000L, LedgerType.EXPENSE, LedgerCategory.FOOD, description, occurredOn, PaymentMethod.CASH, memo, 0L
+        );
+    }
+
+    private static LedgerSearchIndex loaded(LedgerResult... entries) {
+        LedgerSearchIndex index = new LedgerSearchIndex();
+        index.load(consumer -> List.of(entries).forEach(consumer));
+        return index;
+    }
+
+    @Test
+    void 한글을_두_글자씩_겹쳐_자른다() {
+        // when & then
+        assertThat(HangulNgrams.grams(HangulNgrams.normalize("점심 식사비, 밥")))
+            .containsExactly("점심", "식사", "사비", "밥");
+        assertThat(HangulNgrams.normalize("ＡＢＣ 커피")).isEqualTo("abc 커피");
+    }
+
+    @Test
+    void 띄어쓰기_없이_붙은_단어의_일부로도_검색된다() {
+        // given
+        LedgerSearchIndex index = loaded(
+            entry(1L, "회사앞김밥집", null, LocalDate.of(2026, 1, 1)),
+            entry(2L, "편의점", "삼각김밥", LocalDate.of(2026, 1, 2)),
+            entry(3L, "카페", null, LocalDate.of(2026, 1, 3))
+        );
+
+        // when & then
+        assertThat(index.search("김밥", 10))
+            .extracting(LedgerResult::ledgerId)
+            .containsExactly(1L, 2L);
+        assertThat(index.search("밥", 10))
+            .extracting(LedgerResult::ledgerId)
+            .containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    void 내용에_있는_항목이_메모에만_있는_항목보다_앞선다() {
+        // given
+        LedgerSearchIndex index = loaded(
+            entry(1L, "마트", "저녁 장보기", LocalDate.of(2026, 1, 5)),
+            entry(2L, "장보기", null, LocalDate.of(2026, 1, 1))
+        );
+
+        // when
+        List<LedgerResult> results = index.search("장보기", 10);
+
+        // then
+        assertThat(results).extracting(LedgerResult::ledgerId).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void gram이_모두_있어도_원문에_없으면_제외한다() {
+        // given
+        LedgerSearchIndex index = loaded(entry(1L, "가나 나다", null, LocalDate.of(2026, 1, 1)));
+
+        // when & then
+        assertThat(index.search("가나다", 10)).isEmpty();
+    }
+
+    @Test
+    void 변경을_반영하고_메모리_추정치를_갱신한다() {
+        // given
+        LedgerResult before = entry(1L, "택시", null, LocalDate.of(2026, 1, 1));
+        LedgerSearchIndex index = loaded(before);
+        long initialBytes = index.estimatedBytes();
+
+        // when
+        LedgerResult after = entry(1L, "택시", "야근 후 귀가", LocalDate.of(2026, 1, 1));
+        index.apply(List.of(LedgerChange.updated(before, after), LedgerChange.created(entry(2L, "버스", null, LocalDate.of(2026, 1, 2)))));
+
+        // then
+        assertThat(index.search("야근", 10)).extracting(LedgerResult::ledgerId).containsExactly(1L);
+        assertThat(index.estimatedBytes()).isGreaterThan(initialBytes);
+
+        // when
+        index.apply(List.of(LedgerChange.deleted(after), LedgerChange.deleted(entry(2L, "버스", null, LocalDate.of(2026, 1, 2)))));
+
+        // then
+        assertThat(index.search("택시", 10)).isEmpty();
+        assertThat(index.size()).isZero();
+        assertThat(index.estimatedBytes()).isZero();
+    }
+
+    @Test
+    void 색인_생성_전의_변경은_무시한다() {
+        // given
+        LedgerSearchIndex index = new LedgerSearchIndex();
+
+        // when
+        index.apply(List.of(LedgerChange.created(entry(1L, "택시", null, LocalDate.of(2026, 1, 1)))));
+
+        // then
+        assertThat(index.isLoaded()).isFalse();
+        assertThat(index.size()).isZero();
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.demo.domain;
+
+import com.example.demo.DemoApplication;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 운영과 같은 경로(Flyway 마이그레이션)로 만든 스키마를 검증한다.
+ * 테스트 DB는 엔티티 기준(create-drop)으로 만들어지므로 별도 MySQL 컨테이너에서 실행한다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class FlywayMigrationTest {
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    private DataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource(MYSQL.getJdbcUrl(), MYSQL.getUsername(), MYSQL.getPassword());
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        flyway(null).clean();
+    }
+
+    @Test
+    void 합계_테이블을_기존_항목_기준으로_다시_만든다() {
+        // given: 합계 테이블 도입 전 항목 두 건과, 도입 후 증분으로만 반영된 항목 두 건
+        flyway("10").migrate();
+        long userId = insertUser();
+        insertEntry(userId, 1000L, "EXPENSE", "FOOD", "2025-01-10", "CASH");
+        insertEntry(userId, 500L, "EXPENSE", "TRANSPORT", "2025-01-20", "CREDIT_CARD");
+        insertEntry(userId, 2000L, "EXPENSE", "FOOD", "2025-01-10", "CASH");
+        insertEntry(userId, 100_000L, "INCOME", "SALARY", "2025-02-01", "BANK_TRANSFER");
+        jdbcTemplate.update("""
+            INSERT INTO ledger_daily_total (user_id, occurred_on, type, category, payment_method, amount, entry_count)
+            VALUES (?, '2025-01-10', 'EXPENSE', 'FOOD', 'CASH', 2000, 1), (?, '2025-02-01', 'INCOME', 'SALARY', 'BANK_TRANSFER', 100000, 1)
+            """, userId, userId);
+        jdbcTemplate.update("""
+            INSERT INTO ledger_monthly_total (user_id, month_start, type, category, payment_method, amount, entry_count)
+            VALUES (?, '2025-01-01', 'EXPENSE', 'FOOD', 'CASH', 2000, 1), (?, '2025-02-01', 'INCOME', 'SALARY', 'BANK_TRANSFER', 100000, 1)
+            """, userId, userId);
+
+        // when
+        flyway(null).migrate();
+
+        // then
+        assertThat(jdbcTemplate.queryForList("""
+            SELECT occurred_on, type, category, payment_method, amount, entry_count
+            FROM ledger_daily_total WHERE user_id = ? ORDER BY occurred_on, type, category
+            """, userId)).containsExactly(
+            total("occurred_on", "2025-01-10", "EXPENSE", "FOOD", "CASH", 3000L, 2L),
+            total("occurred_on", "2025-01-20", "EXPENSE", "TRANSPORT", "CREDIT_CARD", 500L, 1L),
+            total("occurred_on", "2025-02-01", "INCOME", "SALARY", "BANK_TRANSFER", 100_000L, 1L)
+        );
+        assertThat(jdbcTemplate.queryForList("""
+            SELECT month_start, type, category, payment_method, amount, entry_count
+            FROM ledger_monthly_total WHERE user_id = ? ORDER BY month_start, type, category
+            """, userId)).containsExactly(
+            total("month_start", "2025-01-01", "EXPENSE", "FOOD", "CASH", 3000L, 2L),
+            total("month_start", "2025-01-01", "EXPENSE", "TRANSPORT", "CREDIT_CARD", 500L, 1L),
+            total("month_start", "2025-02-01", "INCOME", "SALARY", "BANK_TRANSFER", 100_000L, 1L)
+        );
+    }
+
+    @Test
+    void 마이그레이션으로_만든_스키마가_엔티티_매핑과_일치한다() {
+        // given: 빈 DB
+
+        // when: 운영과 같이 Flyway로 마이그레이션한 뒤 Hibernate가 스키마를 검증
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(DemoApplication.class)
+            .web(WebApplicationType.NONE)
+            .properties(
+                "spring.datasource.url=" + MYSQL.getJdbcUrl(),
+                "spring.datasource.username=" + MYSQL.getUsername(),
+                "spring.datasource.password=" + MYSQL.getPassword(),
+                "spring.flyway.enabled=true",
+                "spring.jpa.hibernate.ddl-auto=validate"
+            )
+            .run()) {
+
+            // then
+            assertThat(context.isRunning()).isTrue();
+            assertThat(flyway(null).info().pending()).isEmpty();
+        }
+    }
+
+    private Flyway flyway(String target) {
+        return Flyway.configure()
+            .dataSource(dataSource)
+            .locations("classpath:db/migration")
+            .cleanDisabled(false)
+            .target(target == null ? "latest" : target)
+            .load();
+    }
+
+    private long insertUser() {
+        jdbcTemplate.update("""
+            INSERT INTO `user` (created_at, modified_at, email, level, provider, provider_id)
+            VALUES (NOW(6), NOW(6), 'migration@example.com', 0, 'KAKAO', 'migration-1')
+            """);
+        return jdbcTemplate.queryForObject("SELECT MAX(id) FROM `user`", Long.class);
+    }
+
+    private void insertEntry(long userId, long amount, String type, String category, String occurredOn, String paymentMethod) {
+        jdbcTemplate.update("""
+            INSERT INTO ledger_entry
+                (created_at, modified_at, amount, type, category, description, occurred_on, payment_method, user_id)
+            VALUES (NOW(6), NOW(6), ?, ?, ?, '항목', ?, ?, ?)
+            """, amount, type, category, Date.valueOf(occurredOn), paymentMethod, userId);
+    }
+
+    private static Map<String, Object> total(
+        String dateColumn, String date, String type, String category, String paymentMethod, long amount, long entryCount
+    ) {
+        return Map.of(
+            dateColumn, Date.valueOf(LocalDate.parse(date)),
+            "type", type,
+            "category", category,
+            "payment_method", paymentMethod,
+            "amount", amount,
+            "entry_count", entryCount
+        );
+    }
+}
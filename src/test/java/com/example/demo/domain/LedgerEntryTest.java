@@ -149,6 +149,51 @@ class LedgerEntryTest {
         }
     }
 
+    @Nested
+    @DisplayName("occurredOn 검증")
+    class OccurredOnValidation {
+
+        private LedgerEntry entryOn(LocalDate occurredOn) {
+            return new LedgerEntry(
+                1000L,
+                LedgerType.EXPENSE,
+                LedgerCategory.FOOD,
+                "점심",
+                occurredOn,
+                PaymentMethod.CASH,
+                null,
+                kakaoUser()
+            );
+        }
+
+        @Test
+        @DisplayName("생성 시 occurredOn이 null이면 예외")
+        void occurred_on_is_required_on_create() {
+            assertThatThrownBy(() -> entryOn(null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("가계부 등록 일자(occurredOn)는 필수입니다.");
+        }
+
+        @Test
+        @DisplayName("생성 시 occurredOn이 허용 범위를 벗어나면 예외")
+        void occurred_on_must_be_within_range_on_create() {
+            assertThatThrownBy(() -> entryOn(LocalDate.of(1, 1, 1)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("가계부 등록 일자(occurredOn)는 2000-01-01부터 2099-12-31 사이여야 합니다.");
+
+            assertThatThrownBy(() -> entryOn(LocalDate.of(9999, 12, 31)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("가계부 등록 일자(occurredOn)는 2000-01-01부터 2099-12-31 사이여야 합니다.");
+        }
+
+        @Test
+        @DisplayName("허용 범위의 양 끝 날짜는 정상 생성")
+        void occurred_on_bounds_are_inclusive() {
+            assertThat(entryOn(LedgerEntry.MIN_OCCURRED_ON).getOccurredOn()).isEqualTo(LedgerEntry.MIN_OCCURRED_ON);
+            assertThat(entryOn(LedgerEntry.MAX_OCCURRED_ON).getOccurredOn()).isEqualTo(LedgerEntry.MAX_OCCURRED_ON);
+        }
+    }
+
     @Nested
     @DisplayName("description 검증")
     class DescriptionValidation {
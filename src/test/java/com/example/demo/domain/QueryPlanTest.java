@@ -0,0 +1,310 @@
+package com.example.demo.domain;
+
+import com.example.demo.domain.enums.LedgerCategory;
+import com.example.demo.domain.enums.LedgerSort;
+import com.example.demo.domain.enums.LedgerType;
+import com.example.demo.domain.enums.PaymentMethod;
+import com.example.demo.util.AbstractIntegrationTest;
+import com.example.demo.util.DbUtils;
+import com.example.demo.util.SqlCaptor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 리포지토리 메서드를 실제로 호출해 Hibernate가 만든 SQL(SqlCaptor)의 실행 계획(EXPLAIN)을 검증한다.
+ * 풀 스캔(type=ALL)이나 filesort로 떨어지면 실패한다.
+ */
+class QueryPlanTest extends AbstractIntegrationTest {
+    private static final int USER_COUNT = 20;
+    private static final int ENTRIES_PER_USER = 500;
+    private static final LocalDate START = LocalDate.of(2025, 1, 1);
+    private static final LocalDate MARCH_START = LocalDate.of(2025, 3, 1);
+    private static final LocalDate MARCH_END = LocalDate.of(2025, 3, 31);
+    private static final int PAGE_LIMIT = 51;
+
+    @Autowired
+    private Environment environment;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private LedgerEntryRepository ledgerEntryRepository;
+
+    @Autowired
+    private LedgerDailyTotalRepository dailyTotalRepository;
+
+    @Autowired
+    private LedgerMonthlyTotalRepository monthlyTotalRepository;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    private final List<Long> userIds = new ArrayList<>();
+    private Long userId;
+    private Long ledgerId;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < USER_COUNT; i++) {
+            Long userId = userRepository.save(
+                new User("plan" + i + "@example.com", null, Provider.KAKAO, "plan-" + i)
+            ).getId();
+            userIds.add(userId);
+            DbUtils.insertLedgerEntries(jdbcTemplate, userId, ENTRIES_PER_USER, START, 365);
+            insertTotals(userId);
+            jdbcTemplate.update("INSERT INTO refresh_token (user_id, token) VALUES (?, ?)", userId, "token-" + i);
+        }
+        jdbcTemplate.execute("ANALYZE TABLE ledger_entry, ledger_daily_total, ledger_monthly_total, `user`, refresh_token");
+
+        userId = userIds.get(USER_COUNT / 2);
+        ledgerId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM ledger_entry WHERE user_id = ?", Long.class, userId);
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (Long userId : userIds) {
+            jdbcTemplate.update("DELETE FROM ledger_entry WHERE user_id = ?", userId);
+            jdbcTemplate.update("DELETE FROM ledger_daily_total WHERE user_id = ?", userId);
+            jdbcTemplate.update("DELETE FROM ledger_monthly_total WHERE user_id = ?", userId);
+            jdbcTemplate.update("DELETE FROM refresh_token WHERE user_id = ?", userId);
+        }
+        userIds.clear();
+    }
+
+    static Stream<Arguments> queries() {
+        return Stream.of(
+            query("LedgerEntryRepository.findViewByIdAndUserId",
+                t -> t.ledgerEntryRepository.findViewByIdAndUserId(t.ledgerId, t.userId),
+                t -> List.of(t.ledgerId, t.userId)),
+            query("LedgerEntryRepository.findAllViewsByUserIdAndOccurredOnBetween",
+                t -> t.ledgerEntryRepository.findAllViewsByUserIdAndOccurredOnBetween(t.userId, MARCH_START, MARCH_END),
+                t -> List.of(t.userId, MARCH_START, MARCH_END)),
+            query("LedgerEntryRepository.findFirstPage",
+                t -> t.ledgerEntryRepository.findFirstPage(t.userId, MARCH_START, MARCH_END, Limit.of(PAGE_LIMIT)),
+                t -> List.of(t.userId, MARCH_START, MARCH_END, PAGE_LIMIT)),
+            query("LedgerEntryRepository.findPageAfter",
+                t -> t.ledgerEntryRepository.findPageAfter(t.userId, MARCH_START, MARCH_END, MARCH_START, 0L, Limit.of(PAGE_LIMIT)),
+                t -> List.of(t.userId, MARCH_START, MARCH_END, MARCH_START, MARCH_START, 0L, PAGE_LIMIT)),
+            query("LedgerEntryRepository.sumByUserIdAndOccurredOnBetween",
+                t -> t.ledgerEntryRepository.sumByUserIdAndOccurredOnBetween(t.userId, MARCH_START, MARCH_END),
+                t -> List.of(t.userId, MARCH_START, MARCH_END)),
+            query("LedgerDailyTotalRepository.sumByUserIdAndOccurredOnBetween",
+                t -> t.dailyTotalRepository.sumByUserIdAndOccurredOnBetween(t.userId, MARCH_START, MARCH_END),
+                t -> List.of(t.userId, MARCH_START, MARCH_END)),
+            query("LedgerMonthlyTotalRepository.sumByUserIdAndMonthStartBetween",
+                t -> t.monthlyTotalRepository.sumByUserIdAndMonthStartBetween(t.userId, START, MARCH_START),
+                t -> List.of(t.userId, START, MARCH_START)),
+            query("LedgerMonthlyTotalRepository.sumByUserIdAndMonthStartBetweenGroupByMonth",
+                t -> t.monthlyTotalRepository.sumByUserIdAndMonthStartBetweenGroupByMonth(t.userId, START, MARCH_START),
+                t -> List.of(t.userId, START, MARCH_START)),
+            query("LedgerEntryRepository.findAllByFilter(category)",
+                t -> t.ledgerEntryRepository.findAllByFilter(t.userId, filter(null, Set.of(LedgerCategory.FOOD), null, null, null, LedgerSort.OCCURRED_ON_ASC), PAGE_LIMIT),
+                t -> List.of(t.userId, MARCH_START, MARCH_END, "FOOD", PAGE_LIMIT)),
+            query("LedgerEntryRepository.findAllByFilter(paymentMethod)",
+                t -> t.ledgerEntryRepository.findAllByFilter(t.userId, filter(null, null, Set.of(PaymentMethod.CASH), null, null, LedgerSort.OCCURRED_ON_DESC), PAGE_LIMIT),
+                t -> List.of(t.userId, MARCH_START, MARCH_END, "CASH", PAGE_LIMIT)),
+            query("LedgerEntryRepository.findAllByFilter(cursor)",
+                t -> t.ledgerEntryRepository.findAllByFilter(t.userId, new LedgerEntryFilter(
+                    MARCH_START, MARCH_END, null, null, null, null, null, LedgerSort.OCCURRED_ON_DESC,
+                    new LedgerEntryFilter.After(MARCH_END, null, Long.MAX_VALUE)
+                ), PAGE_LIMIT),
+                t -> List.of(t.userId, MARCH_START, MARCH_END, MARCH_END, MARCH_END, Long.MAX_VALUE, PAGE_LIMIT)),
+            query("LedgerEntryRepository.findAllByFilter(category+cursor)",
+                t -> t.ledgerEntryRepository.findAllByFilter(t.userId, new LedgerEntryFilter(
+                    MARCH_START, MARCH_END, null, Set.of(LedgerCategory.FOOD), null, null, null, LedgerSort.OCCURRED_ON_ASC,
+                    new LedgerEntryFilter.After(MARCH_START, null, 0L)
+                ), PAGE_LIMIT),
+                t -> List.of(t.userId, MARCH_START, MARCH_END, "FOOD", MARCH_START, MARCH_START, 0L, PAGE_LIMIT)),
+            query("UserRepository.findByProviderAndProviderId",
+                t -> t.userRepository.findByProviderAndProviderId(Provider.KAKAO, "plan-10"),
+                t -> List.of("KAKAO", "plan-10")),
+            query("RefreshTokenRepository.findByUserId",
+                t -> t.refreshTokenRepository.findByUserId(t.userId),
+                t -> List.of(t.userId))
+        );
+    }
+
+    /**
+     * 테스트 application.yml의 jpa 블록이 다른 키 아래로 들여쓰기되면 SqlCaptor가 등록되지 않아
+     * 아래 실행 계획 테스트가 모두 "실행 SQL 0건"으로 실패한다. 원인을 바로 알 수 있도록 설정 자체를 먼저 확인한다.
+     */
+    @Test
+    void 테스트_JPA_설정이_spring_jpa_아래에_적용된다() {
+        // when
+        String inspector = environment.getProperty("spring.jpa.properties.hibernate.session_factory.statement_inspector");
+        String ddlAuto = environment.getProperty("spring.jpa.hibernate.ddl-auto");
+        String nestedUnderFlyway = environment.getProperty("spring.flyway.jpa.hibernate.ddl-auto");
+
+        // then
+        assertThat(inspector).isEqualTo(SqlCaptor.class.getName());
+        assertThat(ddlAuto).isEqualTo("create-drop");
+        assertThat(environment.getProperty("spring.jpa.show-sql", Boolean.class)).isTrue();
+        assertThat(environment.getProperty("spring.flyway.enabled", Boolean.class)).isFalse();
+        assertThat(nestedUnderFlyway).isNull();
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("queries")
+    void 인덱스를_사용하고_filesort가_없다(String name, Function<QueryPlanTest, Object> call, Function<QueryPlanTest, List<Object>> params) {
+        // given
+        List<String> statements = SqlCaptor.capture(() -> call.apply(this));
+
+        // when
+        List<Map<String, Object>> plan = explain(name, statements, params.apply(this));
+
+        // then
+        assertThat(plan)
+            .as("%s 실행 계획: %s", name, plan)
+            .allSatisfy(row -> {
+                assertThat(Objects.toString(row.get("type"), "")).isNotEqualTo("ALL");
+                assertThat(Objects.toString(row.get("Extra"), "")).doesNotContain("Using filesort");
+            });
+    }
+
+    /**
+     * 여러 값/금액 조건이나 금액 정렬은 걸러진 행만 정렬하므로 filesort는 허용하고, 인덱스 범위 스캔인지만 본다.
+     */
+    static Stream<Arguments> filterQueries() {
+        return Stream.of(
+            query("type+amount",
+                t -> t.ledgerEntryRepository.findAllByFilter(t.userId, filter(Set.of(LedgerType.EXPENSE), null, null, 3000L, 8000L, LedgerSort.OCCURRED_ON_ASC), PAGE_LIMIT),
+                t -> List.of(t.userId, MARCH_START, MARCH_END, "EXPENSE", 3000L, 8000L, PAGE_LIMIT)),
+            query("categories",
+                t -> t.ledgerEntryRepository.findAllByFilter(t.userId, filter(null, Set.of(LedgerCategory.FOOD, LedgerCategory.SHOPPING), null, null, null, LedgerSort.OCCURRED_ON_ASC), PAGE_LIMIT),
+                t -> List.of(t.userId, MARCH_START, MARCH_END, "FOOD", "SHOPPING", PAGE_LIMIT)),
+            query("category+paymentMethod",
+                t -> t.ledgerEntryRepository.findAllByFilter(t.userId, filter(null, Set.of(LedgerCategory.FOOD), Set.of(PaymentMethod.CASH), null, null, LedgerSort.OCCURRED_ON_ASC), PAGE_LIMIT),
+                t -> List.of(t.userId, MARCH_START, MARCH_END, "FOOD", "CASH", PAGE_LIMIT)),
+            query("amount desc",
+                t -> t.ledgerEntryRepository.findAllByFilter(t.userId, filter(null, null, null, null, null, LedgerSort.AMOUNT_DESC), PAGE_LIMIT),
+                t -> List.of(t.userId, MARCH_START, MARCH_END, PAGE_LIMIT)),
+            query("category+amount desc",
+                t -> t.ledgerEntryRepository.findAllByFilter(t.userId, filter(null, Set.of(LedgerCategory.TRANSPORT), null, 5000L, null, LedgerSort.AMOUNT_DESC), PAGE_LIMIT),
+                t -> List.of(t.userId, MARCH_START, MARCH_END, "TRANSPORT", 5000L, PAGE_LIMIT)),
+            query("amount desc+cursor",
+                t -> t.ledgerEntryRepository.findAllByFilter(t.userId, new LedgerEntryFilter(
+                    MARCH_START, MARCH_END, null, null, null, null, null, LedgerSort.AMOUNT_DESC,
+                    new LedgerEntryFilter.After(null, 5000L, Long.MAX_VALUE)
+                ), PAGE_LIMIT),
+                t -> List.of(t.userId, MARCH_START, MARCH_END, 5000L, 5000L, Long.MAX_VALUE, PAGE_LIMIT))
+        );
+    }
+
+    @ParameterizedTest(name = "findAllByFilter({0})")
+    @MethodSource("filterQueries")
+    void 필터_조합은_모두_인덱스로_범위를_좁힌다(String name, Function<QueryPlanTest, Object> call, Function<QueryPlanTest, List<Object>> params) {
+        // given
+        List<String> statements = SqlCaptor.capture(() -> call.apply(this));
+
+        // when
+        List<Map<String, Object>> plan = explain(name, statements, params.apply(this));
+
+        // then
+        assertThat(plan)
+            .as("%s 실행 계획: %s", name, plan)
+            .allSatisfy(row -> {
+                assertThat(Objects.toString(row.get("type"), "")).isNotEqualTo("ALL");
+                assertThat(row.get("key")).isNotNull();
+            });
+    }
+
+    @Test
+    void 달력_일자별_합계는_테이블_접근_없이_인덱스만으로_처리한다() {
+        // given
+        LocalDate end = LocalDate.of(2025, 12, 31);
+        List<String> statements = SqlCaptor.capture(
+            () -> ledgerEntryRepository.sumDailyByUserIdAndOccurredOnBetween(userId, START, end)
+        );
+
+        // when
+        List<Map<String, Object>> plan = explain(
+            "LedgerEntryRepository.sumDailyByUserIdAndOccurredOnBetween", statements, List.of(userId, START, end)
+        );
+
+        // then
+        assertThat(plan).singleElement().satisfies(row -> {
+            assertThat(row.get("key")).isEqualTo("idx_ledger_entry_user_occurred_on_totals");
+            assertThat(Objects.toString(row.get("Extra"), ""))
+                .contains("Using index")
+                .doesNotContain("Using index condition", "Using filesort");
+        });
+    }
+
+    /**
+     * 수집한 SQL의 자리표시자 순서대로 값을 넣어 EXPLAIN한다.
+     * 쿼리가 바뀌어 문장 수나 자리표시자 수가 달라지면 여기서 실패하므로 값 목록도 함께 고쳐야 한다.
+     */
+    private List<Map<String, Object>> explain(String name, List<String> statements, List<Object> params) {
+        assertThat(statements).as("%s 실행 SQL", name).hasSize(1);
+        String sql = statements.get(0);
+        assertThat(sql.chars().filter(c -> c == '?').count())
+            .as("%s 자리표시자 수: %s", name, sql)
+            .isEqualTo(params.size());
+        return jdbcTemplate.queryForList("EXPLAIN " + sql, params.toArray());
+    }
+
+    private static Arguments query(
+        String name,
+        Function<QueryPlanTest, Object> call,
+        Function<QueryPlanTest, List<Object>> params
+    ) {
+        return Arguments.of(name, call, params);
+    }
+
+    private static LedgerEntryFilter filter(
+        Set<LedgerType> types,
+        Set<LedgerCategory> categories,
+        Set<PaymentMethod> paymentMethods,
+        Long minAmount,
+        Long maxAmount,
+        LedgerSort sort
+    ) {
+        return new LedgerEntryFilter(MARCH_START, MARCH_END, types, categories, paymentMethods, minAmount, maxAmount, sort, null);
+    }
+
+    private void insertTotals(Long userId) {
+        jdbcTemplate.batchUpdate(
+            """
+                INSERT INTO ledger_daily_total (user_id, occurred_on, type, category, payment_method, amount, entry_count)
+                VALUES (?, ?, 'EXPENSE', 'FOOD', 'CASH', 1000, 1)
+                """,
+            IntStream.range(0, 365)
+                .mapToObj(day -> new Object[]{userId, Date.valueOf(START.plusDays(day))})
+                .toList()
+        );
+        jdbcTemplate.batchUpdate(
+            """
+                INSERT INTO ledger_monthly_total (user_id, month_start, type, category, payment_method, amount, entry_count)
+                VALUES (?, ?, 'EXPENSE', 'FOOD', 'CASH', 30000, 30)
+                """,
+            IntStream.range(0, 12)
+                .mapToObj(month -> new Object[]{userId, Date.valueOf(START.plusMonths(month))})
+                .toList()
+        );
+    }
+}
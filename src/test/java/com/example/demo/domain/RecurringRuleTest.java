@@ -0,0 +1,129 @@
+package com.example.demo.domain;
+
+import com.example.demo.domain.enums.LedgerCategory;
+import com.example.demo.domain.enums.LedgerType;
+import com.example.demo.domain.enums.PaymentMethod;
+import com.example.demo.domain.enums.RecurrenceFrequency;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+
+import static com.example.demo.util.DbUtils.kakaoUser;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RecurringRuleTest {
+
+    private RecurringRule monthly(int dayOfMonth, LocalDate startDate, LocalDate endDate) {
+        return new RecurringRule(
+            1L, 550_000L, LedgerType.EXPENSE, LedgerCategory.HOUSING, " 월세 ", PaymentMethod.BANK_TRANSFER, null,
+            RecurrenceFrequency.MONTHLY, dayOfMonth, null, startDate, endDate
+        );
+    }
+
+    private RecurringRule weekly(DayOfWeek dayOfWeek, LocalDate startDate) {
+        return new RecurringRule(
+            1L, 30_000L, LedgerType.EXPENSE, LedgerCategory.LEISURE_HOBBY, "풋살", PaymentMethod.CASH, null,
+            RecurrenceFrequency.WEEKLY, null, dayOfWeek, startDate, null
+        );
+    }
+
+    @Test
+    void 매월_반복일이_그_달에_없으면_말일에_발생한다() {
+        // given
+        RecurringRule rule = monthly(31, LocalDate.of(2026, 1, 15), null);
+
+        // when
+        List<LocalDate> dates = rule.dueOccurrences(LocalDate.of(2026, 4, 30), 10);
+
+        // then
+        assertThat(dates).containsExactly(
+            LocalDate.of(2026, 1, 31),
+            LocalDate.of(2026, 2, 28),
+            LocalDate.of(2026, 3, 31),
+            LocalDate.of(2026, 4, 30)
+        );
+        assertThat(rule.getDescription()).isEqualTo("월세");
+    }
+
+    @Test
+    void 매주_반복은_시작일_이후_첫_요일부터_발생한다() {
+        // given (2026-01-01은 목요일)
+        RecurringRule rule = weekly(DayOfWeek.MONDAY, LocalDate.of(2026, 1, 1));
+
+        // when
+        List<LocalDate> dates = rule.dueOccurrences(LocalDate.of(2026, 1, 19), 10);
+
+        // then
+        assertThat(rule.getNextOccurrence()).isEqualTo(LocalDate.of(2026, 1, 5));
+        assertThat(dates).containsExactly(
+            LocalDate.of(2026, 1, 5),
+            LocalDate.of(2026, 1, 12),
+            LocalDate.of(2026, 1, 19)
+        );
+    }
+
+    @Test
+    void 만든_날짜_다음으로_넘기고_종료일을_지나면_종료된다() {
+        // given
+        RecurringRule rule = monthly(10, LocalDate.of(2026, 1, 1), LocalDate.of(2026, 2, 20));
+
+        // when
+        rule.advancePast(LocalDate.of(2026, 1, 10));
+        LocalDate second = rule.getNextOccurrence();
+        rule.advancePast(second);
+
+        // then
+        assertThat(second).isEqualTo(LocalDate.of(2026, 2, 10));
+        assertThat(rule.getNextOccurrence()).isNull();
+        assertThat(rule.dueOccurrences(LocalDate.of(2026, 12, 31), 10)).isEmpty();
+    }
+
+    @Test
+    void 한_번에_만드는_발생일_수를_제한한다() {
+        // given
+        RecurringRule rule = weekly(DayOfWeek.MONDAY, LocalDate.of(2025, 1, 1));
+
+        // when & then
+        assertThat(rule.dueOccurrences(LocalDate.of(2026, 1, 1), 3)).hasSize(3);
+    }
+
+    @Test
+    void 항목_불변식을_LedgerEntry와_같이_검증한다() {
+        assertThatThrownBy(() -> new RecurringRule(
+            1L, 1000L, LedgerType.INCOME, LedgerCategory.HOUSING, "월세", PaymentMethod.CASH, null,
+            RecurrenceFrequency.MONTHLY, 1, null, LocalDate.of(2026, 1, 1), null
+        ))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("EXPENSE 유형만 허용합니다.");
+    }
+
+    @Test
+    void 반복_일정이_올바르지_않으면_예외를_던진다() {
+        assertThatThrownBy(() -> monthly(0, LocalDate.of(2026, 1, 1), null))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("매월 반복일(dayOfMonth)은 1 이상 31 이하여야 합니다.");
+        assertThatThrownBy(() -> weekly(null, LocalDate.of(2026, 1, 1)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("매주 반복 요일(dayOfWeek)은 필수입니다.");
+        assertThatThrownBy(() -> monthly(25, LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 20)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("시작일과 종료일 사이에 반복되는 날짜가 없습니다.");
+    }
+
+    @Test
+    void 규칙으로_만든_항목은_규칙의_값을_그대로_쓴다() {
+        // given
+        RecurringRule rule = monthly(25, LocalDate.of(2026, 1, 1), null);
+
+        // when
+        LedgerEntry entry = rule.toEntry(LocalDate.of(2026, 1, 25), kakaoUser());
+
+        // then
+        assertThat(entry.getAmount()).isEqualTo(550_000L);
+        assertThat(entry.getCategory()).isEqualTo(LedgerCategory.HOUSING);
+        assertThat(entry.getOccurredOn()).isEqualTo(LocalDate.of(2026, 1, 25));
+    }
+}
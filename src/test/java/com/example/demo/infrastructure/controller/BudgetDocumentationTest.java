@@ -0,0 +1,199 @@
+package com.example.demo.infrastructure.controller;
+
+import com.epages.restdocs.apispec.ResourceSnippetParameters;
+import com.epages.restdocs.apispec.Schema;
+import com.example.demo.application.UserService;
+import com.example.demo.application.budget.BudgetService;
+import com.example.demo.application.dto.BudgetResult;
+import com.example.demo.application.dto.UserInfo;
+import com.example.demo.application.oauth.TokenProvider;
+import com.example.demo.domain.enums.LedgerCategory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.restdocs.AutoConfigureRestDocs;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+
+import static com.epages.restdocs.apispec.MockMvcRestDocumentationWrapper.document;
+import static com.epages.restdocs.apispec.ResourceDocumentation.resource;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willDoNothing;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.delete;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.put;
+import static org.springframework.restdocs.operation.preprocess.Preprocessors.*;
+import static org.springframework.restdocs.payload.JsonFieldType.ARRAY;
+import static org.springframework.restdocs.payload.JsonFieldType.NUMBER;
+import static org.springframework.restdocs.payload.JsonFieldType.STRING;
+import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
+import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(BudgetController.class)
+@AutoConfigureRestDocs
+class BudgetDocumentationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private BudgetService budgetService;
+
+    @MockitoBean
+    private UserService userService;
+
+    @MockitoBean
+    private TokenProvider tokenProvider;
+
+    private final String accessToken = "jwt.access.token";
+
+    private static final YearMonth MONTH = YearMonth.of(2026, 1);
+
+    @BeforeEach
+    void setUpAuth() {
+        given(tokenProvider.validateToken(accessToken)).willReturn(1L);
+        given(userService.findUserInfo(1L)).willReturn(Optional.of(new UserInfo(1L, "피클", 0, null)));
+    }
+
+    private BudgetResult sampleBudget() {
+        return new BudgetResult(MONTH, LedgerCategory.FOOD, 300000L, 125000L, 175000L);
+    }
+
+    @Test
+    void set_budget_docs() throws Exception {
+        given(budgetService.setBudget(eq(1L), eq(MONTH), eq(LedgerCategory.FOOD), eq(300000L)))
+            .willReturn(sampleBudget());
+
+        mockMvc.perform(
+                put("/budgets/{month}/{category}", "2026-01", "FOOD")
+                    .header("Authorization", "Bearer " + accessToken)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("""
+                        {
+                          "amount": 300000
+                        }
+                        """)
+                    .accept(MediaType.APPLICATION_JSON)
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.remaining").value(175000))
+            .andDo(document("budget-set",
+                preprocessRequest(prettyPrint()),
+                preprocessResponse(prettyPrint()),
+                resource(ResourceSnippetParameters.builder()
+                    .tag("Budget")
+                    .summary("월/카테고리 예산 설정")
+                    .description("처음 정하면 그 달에 이미 기록된 지출로 사용액을 채운다. 이미 있으면 금액만 바꾼다.")
+                    .pathParameters(
+                        parameterWithName("month").description("월(yyyy-MM)"),
+                        parameterWithName("category").description("지출 카테고리")
+                    )
+                    .requestSchema(Schema.schema("SetBudgetWebRequest"))
+                    .responseSchema(Schema.schema("BudgetWebResponse"))
+                    .requestFields(
+                        fieldWithPath("amount").type(NUMBER).description("예산 금액(양수)")
+                    )
+                    .responseFields(
+                        fieldWithPath("month").type(STRING).description("월(yyyy-MM)"),
+                        fieldWithPath("category").type(STRING).description("카테고리"),
+                        fieldWithPath("amount").type(NUMBER).description("예산 금액"),
+                        fieldWithPath("spent").type(NUMBER).description("사용액"),
+                        fieldWithPath("remaining").type(NUMBER).description("남은 예산(초과하면 음수)")
+                    )
+                    .build())
+            ));
+    }
+
+    @Test
+    void get_budget_docs() throws Exception {
+        given(budgetService.getBudget(eq(1L), eq(MONTH), eq(LedgerCategory.FOOD))).willReturn(sampleBudget());
+
+        mockMvc.perform(
+                get("/budgets/{month}/{category}", "2026-01", "FOOD")
+                    .header("Authorization", "Bearer " + accessToken)
+                    .accept(MediaType.APPLICATION_JSON)
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.month").value("2026-01"))
+            .andExpect(jsonPath("$.spent").value(125000))
+            .andDo(document("budget-get",
+                preprocessRequest(prettyPrint()),
+                preprocessResponse(prettyPrint()),
+                resource(ResourceSnippetParameters.builder()
+                    .tag("Budget")
+                    .summary("남은 예산 조회")
+                    .pathParameters(
+                        parameterWithName("month").description("월(yyyy-MM)"),
+                        parameterWithName("category").description("지출 카테고리")
+                    )
+                    .responseSchema(Schema.schema("BudgetWebResponse"))
+                    .build())
+            ));
+    }
+
+    @Test
+    void get_budgets_docs() throws Exception {
+        given(budgetService.getBudgets(eq(1L), eq(MONTH))).willReturn(List.of(sampleBudget()));
+
+        mockMvc.perform(
+                get("/budgets")
+                    .header("Authorization", "Bearer " + accessToken)
+                    .param("month", "2026-01")
+                    .accept(MediaType.APPLICATION_JSON)
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.budgets[0].category").value("FOOD"))
+            .andDo(document("budget-list",
+                preprocessRequest(prettyPrint()),
+                preprocessResponse(prettyPrint()),
+                resource(ResourceSnippetParameters.builder()
+                    .tag("Budget")
+                    .summary("월 예산 목록")
+                    .queryParameters(
+                        parameterWithName("month").optional().description("월(yyyy-MM, 기본: 이번 달)")
+                    )
+                    .responseSchema(Schema.schema("BudgetsWebResponse"))
+                    .responseFields(
+                        fieldWithPath("budgets").type(ARRAY).description("카테고리 순 예산"),
+                        fieldWithPath("budgets[].month").type(STRING).description("월(yyyy-MM)"),
+                        fieldWithPath("budgets[].category").type(STRING).description("카테고리"),
+                        fieldWithPath("budgets[].amount").type(NUMBER).description("예산 금액"),
+                        fieldWithPath("budgets[].spent").type(NUMBER).description("사용액"),
+                        fieldWithPath("budgets[].remaining").type(NUMBER).description("남은 예산(초과하면 음수)")
+                    )
+                    .build())
+            ));
+    }
+
+    @Test
+    void delete_budget_docs() throws Exception {
+        willDoNothing().given(budgetService).deleteBudget(eq(1L), eq(MONTH), eq(LedgerCategory.FOOD));
+
+        mockMvc.perform(
+                delete("/budgets/{month}/{category}", "2026-01", "FOOD")
+                    .header("Authorization", "Bearer " + accessToken)
+                    .accept(MediaType.APPLICATION_JSON)
+            )
+            .andExpect(status().isNoContent())
+            .andDo(document("budget-delete",
+                preprocessRequest(prettyPrint()),
+                preprocessResponse(prettyPrint()),
+                resource(ResourceSnippetParameters.builder()
+                    .tag("Budget")
+                    .summary("예산 삭제")
+                    .pathParameters(
+                        parameterWithName("month").description("월(yyyy-MM)"),
+                        parameterWithName("category").description("지출 카테고리")
+                    )
+                    .build())
+            ));
+    }
+}
@@ -2,7 +2,12 @@ package com.example.demo.infrastructure.controller;
 
 import com.epages.restdocs.apispec.ResourceSnippetParameters;
 import com.epages.restdocs.apispec.Schema;
+import com.example.demo.application.LedgerBalanceService;
+import com.example.demo.application.LedgerRollupService;
+import com.example.demo.application.LedgerSearchService;
 import com.example.demo.application.LedgerService;
+import com.example.demo.application.LedgerTrendService;
+import com.example.demo.application.LedgerVersionService;
 import com.example.demo.application.UserService;
 import com.example.demo.application.dto.*;
 import com.example.demo.application.oauth.TokenProvider;
@@ -10,6 +15,8 @@ import com.example.demo.common.config.ClockTestConfig;
 import com.example.demo.domain.enums.LedgerCategory;
 import com.example.demo.domain.enums.LedgerType;
 import com.example.demo.domain.enums.PaymentMethod;
+import com.example.demo.infrastructure.controller.stream.LedgerCsvWriter;
+import com.example.demo.infrastructure.controller.stream.LedgerSummaryJsonWriter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -20,29 +27,40 @@ import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.time.Clock;
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 import static com.epages.restdocs.apispec.MockMvcRestDocumentationWrapper.document;
 import static com.epages.restdocs.apispec.ResourceDocumentation.resource;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
 import static org.mockito.BDDMockito.willDoNothing;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.*;
 import static org.springframework.restdocs.operation.preprocess.Preprocessors.*;
+import static org.springframework.restdocs.payload.JsonFieldType.ARRAY;
+import static org.springframework.restdocs.payload.JsonFieldType.BOOLEAN;
+import static org.springframework.restdocs.payload.JsonFieldType.NULL;
 import static org.springframework.restdocs.payload.JsonFieldType.NUMBER;
+import static org.springframework.restdocs.payload.JsonFieldType.OBJECT;
 import static org.springframework.restdocs.payload.JsonFieldType.STRING;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
 import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(LedgerController.class)
 @AutoConfigureRestDocs
-@Import(ClockTestConfig.class)
+@Import({ClockTestConfig.class, LedgerSummaryJsonWriter.class, LedgerCsvWriter.class})
 class LedgerDocumentationTest {
 
     @Autowired
@@ -51,6 +69,21 @@ class LedgerDocumentationTest {
     @MockitoBean
     private LedgerService ledgerService;
 
+    @MockitoBean
+    private LedgerRollupService ledgerRollupService;
+
+    @MockitoBean
+    private LedgerVersionService ledgerVersionService;
+
+    @MockitoBean
+    private LedgerTrendService ledgerTrendService;
+
+    @MockitoBean
+    private LedgerSearchService ledgerSearchService;
+
+    @MockitoBean
+    private LedgerBalanceService ledgerBalanceService;
+
     @MockitoBean
     private UserService userService;
 
@@ -67,6 +100,7 @@ class LedgerDocumentationTest {
     void setUpAuth() {
         final long userId = 1L;
         given(tokenProvider.validateToken(accessToken)).willReturn(userId);
+        given(userService.findUserInfo(userId)).willReturn(Optional.of(new UserInfo(userId, "피클", 0, null)));
     }
 
     private LedgerResult sampleResult(Long ledgerId) {
@@ -78,7 +112,8 @@ class LedgerDocumentationTest {
             "점심",
             LocalDate.of(2026, 1, 24),
             PaymentMethod.CREDIT_CARD,
-            "메모"
+            "메모",
+            3L
         );
     }
 
@@ -132,7 +167,91 @@ class LedgerDocumentationTest {
                         fieldWithPath("description").type(STRING).description("설명"),
                         fieldWithPath("occurredOn").type(STRING).description("발생 일자(yyyy-MM-dd)"),
                         fieldWithPath("paymentMethod").type(STRING).description("결제 수단"),
-                        fieldWithPath("memo").type(STRING).optional().description("메모(선택)")
+                        fieldWithPath("memo").type(STRING).optional().description("메모(선택)"),
+                        fieldWithPath("version").type(NUMBER).description("버전")
+                    )
+                    .build())
+            ));
+    }
+
+    @Test
+    void create_ledger_batch_docs() throws Exception {
+        given(ledgerService.createLedgerEntries(eq(1L), any()))
+            .willReturn(new LedgerBatchResult(List.of(
+                LedgerBatchItemResult.created(0, sampleResult(1L)),
+                LedgerBatchItemResult.failed(1, "카테고리(SALARY)는 INCOME 유형만 허용합니다.")
+            )));
+
+        mockMvc.perform(
+                post("/ledgers/batch")
+                    .header("Authorization", "Bearer " + accessToken)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .accept(MediaType.APPLICATION_JSON)
+                    .content("""
+                        {
+                          "items": [
+                            {
+                              "amount": 12000,
+                              "type": "EXPENSE",
+                              "category": "FOOD",
+                              "description": "점심",
+                              "occurredOn": "2026-01-24",
+                              "paymentMethod": "CREDIT_CARD",
+                              "memo": "메모"
+                            },
+                            {
+                              "amount": 3000000,
+                              "type": "EXPENSE",
+                              "category": "SALARY",
+                              "description": "월급",
+                              "occurredOn": "2026-01-25",
+                              "paymentMethod": "BANK_TRANSFER",
+                              "memo": "메모"
+                            }
+                          ]
+                        }
+                        """)
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.createdCount").value(1))
+            .andExpect(jsonPath("$.results[1].created").value(false))
+            .andDo(document("ledger-create-batch",
+                preprocessRequest(prettyPrint()),
+                preprocessResponse(prettyPrint()),
+                resource(ResourceSnippetParameters.builder()
+                    .tag("Ledger")
+                    .summary("가계부 항목 일괄 생성")
+                    .description("최대 1000건을 한 트랜잭션에서 저장한다. 도메인 규칙을 어긴 항목은 저장하지 않고 항목별 결과로 사유를 돌려준다.")
+                    .requestSchema(Schema.schema("CreateLedgerBatchWebRequest"))
+                    .responseSchema(Schema.schema("LedgerBatchWebResponse"))
+                    .requestFields(
+                        fieldWithPath("items").type(ARRAY).description("생성할 항목 목록(1~1000건)"),
+                        fieldWithPath("items[].amount").type(NUMBER).description("금액"),
+                        fieldWithPath("items[].type").type(STRING).description("유형(INCOME/EXPENSE)"),
+                        fieldWithPath("items[].category").type(STRING).description("카테고리"),
+                        fieldWithPath("items[].description").type(STRING).description("설명"),
+                        fieldWithPath("items[].occurredOn").type(STRING).description("발생 일자(yyyy-MM-dd)"),
+                        fieldWithPath("items[].paymentMethod").type(STRING).description("결제 수단"),
+                        fieldWithPath("items[].memo").type(STRING).optional().description("메모(선택)"),
+                        fieldWithPath("items[].version").type(NUMBER).description("버전")
+                    )
+                    .responseFields(
+                        fieldWithPath("createdCount").type(NUMBER).description("생성된 항목 수"),
+                        fieldWithPath("failedCount").type(NUMBER).description("실패한 항목 수"),
+                        fieldWithPath("results").type(ARRAY).description("요청 순서대로의 항목별 결과"),
+                        fieldWithPath("results[].index").type(NUMBER).description("요청 items 내 위치"),
+                        fieldWithPath("results[].created").type(BOOLEAN).description("생성 여부"),
+                        fieldWithPath("results[].ledger").type(OBJECT).optional().description("생성된 가계부 항목(성공 시)"),
+                        fieldWithPath("results[].ledger.ledgerId").type(NUMBER).optional().description("생성된 가계부 항목 ID"),
+                        fieldWithPath("results[].ledger.amount").type(NUMBER).optional().description("금액"),
+                        fieldWithPath("results[].ledger.type").type(STRING).optional().description("유형(INCOME/EXPENSE)"),
+                        fieldWithPath("results[].ledger.category").type(STRING).optional().description("카테고리"),
+                        fieldWithPath("results[].ledger.description").type(STRING).optional().description("설명"),
+                        fieldWithPath("results[].ledger.occurredOn").type(STRING).optional().description("발생 일자(yyyy-MM-dd)"),
+                        fieldWithPath("results[].ledger.paymentMethod").type(STRING).optional().description("결제 수단"),
+                        fieldWithPath("results[].ledger.memo").type(STRING).optional().description("메모(선택)"),
+                        fieldWithPath("results[].ledger.version").type(NUMBER).optional().description("버전"),
+                        fieldWithPath("results[].error").type(STRING).optional().description("실패 사유(실패 시)")
                     )
                     .build())
             ));
@@ -142,6 +261,7 @@ class LedgerDocumentationTest {
     void get_ledger_entry_by_id_docs() throws Exception {
         given(ledgerService.getLedgerEntry(eq(1L), eq(1L)))
             .willReturn(sampleResult(1L));
+        given(ledgerVersionService.getVersion(eq(1L))).willReturn(3L);
 
         mockMvc.perform(
                 get("/ledgers/{ledgerId}", 1L)
@@ -150,6 +270,7 @@ class LedgerDocumentationTest {
             )
             .andExpect(status().isOk())
             .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+            .andExpect(header().string("ETag", "\"v3-1\""))
             .andExpect(jsonPath("$.ledgerId").value(1))
             .andDo(document("ledger-get",
                 preprocessRequest(prettyPrint()),
@@ -169,7 +290,8 @@ class LedgerDocumentationTest {
                         fieldWithPath("description").type(STRING).description("설명"),
                         fieldWithPath("occurredOn").type(STRING).optional().description("발생 일자(yyyy-MM-dd)"),
                         fieldWithPath("paymentMethod").type(STRING).description("결제 수단"),
-                        fieldWithPath("memo").type(STRING).optional().description("메모(선택)")
+                        fieldWithPath("memo").type(STRING).optional().description("메모(선택)"),
+                        fieldWithPath("version").type(NUMBER).description("버전")
                     )
                     .build())
             ));
@@ -206,7 +328,7 @@ class LedgerDocumentationTest {
 
     @Test
     void update_ledger_entry_docs() throws Exception {
-        given(ledgerService.updateLedgerEntry(eq(1L), any(UpsertLedgerCommand.class)))
+        given(ledgerService.updateLedgerEntry(eq(1L), any(UpsertLedgerCommand.class), eq(3L)))
             .willReturn(sampleResult(1L));
 
         mockMvc.perform(
@@ -222,7 +344,8 @@ class LedgerDocumentationTest {
                           "description": "저녁",
                           "occurredOn": "2026-01-24",
                           "paymentMethod": "CREDIT_CARD",
-                          "memo": "수정된 메모"
+                          "memo": "수정된 메모",
+                          "version": 3
                         }
                         """)
             )
@@ -247,7 +370,8 @@ class LedgerDocumentationTest {
                         fieldWithPath("description").type(STRING).description("설명"),
                         fieldWithPath("occurredOn").type(STRING).description("발생 일자(yyyy-MM-dd)"),
                         fieldWithPath("paymentMethod").type(STRING).description("결제 수단"),
-                        fieldWithPath("memo").type(STRING).optional().description("메모(선택)")
+                        fieldWithPath("memo").type(STRING).optional().description("메모(선택)"),
+                        fieldWithPath("version").type(NUMBER).optional().description("조회했던 버전(선택). 다르면 409")
                     )
                     .responseFields(
                         fieldWithPath("ledgerId").type(NUMBER).description("가계부 항목 ID"),
@@ -257,7 +381,8 @@ class LedgerDocumentationTest {
                         fieldWithPath("description").type(STRING).description("설명"),
                         fieldWithPath("occurredOn").type(STRING).optional().description("발생 일자(yyyy-MM-dd)"),
                         fieldWithPath("paymentMethod").type(STRING).description("결제 수단"),
-                        fieldWithPath("memo").type(STRING).optional().description("메모(선택)")
+                        fieldWithPath("memo").type(STRING).optional().description("메모(선택)"),
+                        fieldWithPath("version").type(NUMBER).description("버전")
                     )
                     .build())
             ));
@@ -302,7 +427,9 @@ class LedgerDocumentationTest {
                 sampleResult(3L)
             )
         );
+        given(ledgerService.resolveRange(eq(start), eq(end))).willReturn(new DateRange(start, end));
         given(ledgerService.getSummary(eq(1L), eq(start), eq(end))).willReturn(response);
+        given(ledgerVersionService.getVersion(eq(1L))).willReturn(3L);
 
         mockMvc.perform(
                 get("/ledgers/summary")
@@ -312,6 +439,7 @@ class LedgerDocumentationTest {
                     .accept(MediaType.APPLICATION_JSON)
             )
             .andExpect(status().isOk())
+            .andExpect(header().string("ETag", "\"v3-2026-01-01-2026-01-31\""))
             .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
             .andDo(document("ledger-summary",
                 preprocessRequest(prettyPrint()),
@@ -328,4 +456,616 @@ class LedgerDocumentationTest {
             ));
     }
 
-}
\ No newline at end of file
+    @Test
+    void get_ledger_entry_with_other_entry_etag_returns_body() throws Exception {
+        given(ledgerService.getLedgerEntry(eq(1L), eq(2L)))
+            .willReturn(sampleResult(2L));
+        given(ledgerVersionService.getVersion(eq(1L))).willReturn(3L);
+
+        mockMvc.perform(
+                get("/ledgers/{ledgerId}", 2L)
+                    .header("Authorization", "Bearer " + accessToken)
+                    .header("If-None-Match", "\"v3-1\"")
+                    .accept(MediaType.APPLICATION_JSON)
+            )
+            .andExpect(status().isOk())
+            .andExpect(header().string("ETag", "\"v3-2\""))
+            .andExpect(jsonPath("$.ledgerId").value(2));
+    }
+
+    @Test
+    void get_ledger_summary_not_modified_docs() throws Exception {
+        LocalDate start = LocalDate.of(2026, 1, 1);
+        LocalDate end = LocalDate.of(2026, 1, 31);
+
+        given(ledgerService.resolveRange(eq(start), eq(end))).willReturn(new DateRange(start, end));
+        given(ledgerVersionService.getVersion(eq(1L))).willReturn(3L);
+
+        mockMvc.perform(
+                get("/ledgers/summary")
+                    .header("Authorization", "Bearer " + accessToken)
+                    .header("If-None-Match", "\"v3-2026-01-01-2026-01-31\"")
+                    .param("start", start.toString())
+                    .param("end", end.toString())
+                    .accept(MediaType.APPLICATION_JSON)
+            )
+            .andExpect(status().isNotModified())
+            .andExpect(content().string(""))
+            .andDo(document("ledger-summary-not-modified",
+                preprocessRequest(prettyPrint()),
+                preprocessResponse(prettyPrint()),
+                resource(ResourceSnippetParameters.builder()
+                    .tag("Ledger")
+                    .summary("가계부 요약 조회 (변경 없음)")
+                    .description("If-None-Match가 현재 ETag와 같으면 본문 없이 304를 응답한다.")
+                    .queryParameters(
+                        parameterWithName("start").optional().description("조회 시작일(yyyy-MM-dd), 미입력 시 기본값 적용"),
+                        parameterWithName("end").optional().description("조회 종료일(yyyy-MM-dd), 미입력 시 기본값 적용")
+                    )
+                    .build())
+            ));
+
+        Mockito.verify(ledgerService, Mockito.never()).getSummary(any(), any(), any());
+    }
+
+    @Test
+    void get_ledger_totals_docs() throws Exception {
+        LocalDate start = LocalDate.of(2026, 1, 1);
+        LocalDate end = LocalDate.of(2026, 1, 31);
+
+        LedgerTotalsResult result = new LedgerTotalsResult(
+            new DateRange(start, end),
+            List.of(
+                new LedgerTotal(LedgerType.EXPENSE, LedgerCategory.FOOD, PaymentMethod.CREDIT_CARD, 36000L, 3L),
+                new LedgerTotal(LedgerType.INCOME, LedgerCategory.SALARY, PaymentMethod.BANK_TRANSFER, 3000000L, 1L)
+            )
+        );
+        given(ledgerRollupService.getTotals(eq(1L), eq(start), eq(end))).willReturn(result);
+
+        mockMvc.perform(
+                get("/ledgers/totals")
+                    .header("Authorization", "Bearer " + accessToken)
+                    .param("start", start.toString())
+                    .param("end", end.toString())
+                    .accept(MediaType.APPLICATION_JSON)
+            )
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+            .andExpect(jsonPath("$.incomeTotal").value(3000000))
+            .andExpect(jsonPath("$.expenseTotal").value(36000))
+            .andDo(document("ledger-totals",
+                preprocessRequest(prettyPrint()),
+                preprocessResponse(prettyPrint()),
+                resource(ResourceSnippetParameters.builder()
+                    .tag("Ledger")
+                    .summary("가계부 합계 조회")
+                    .queryParameters(
+                        parameterWithName("start").optional().description("조회 시작일(yyyy-MM-dd), 미입력 시 기본값 적용"),
+                        parameterWithName("end").optional().description("조회 종료일(yyyy-MM-dd), 미입력 시 기본값 적용")
+                    )
+                    .responseSchema(Schema.schema("LedgerTotalsWebResponse"))
+                    .responseFields(
+                        fieldWithPath("start").type(STRING).description("조회 시작일"),
+                        fieldWithPath("end").type(STRING).description("조회 종료일"),
+                        fieldWithPath("incomeTotal").type(NUMBER).description("수입 합계"),
+                        fieldWithPath("expenseTotal").type(NUMBER).description("지출 합계"),
+                        fieldWithPath("totals[].type").type(STRING).description("유형(INCOME/EXPENSE)"),
+                        fieldWithPath("totals[].category").type(STRING).description("카테고리"),
+                        fieldWithPath("totals[].paymentMethod").type(STRING).description("결제 수단"),
+                        fieldWithPath("totals[].amount").type(NUMBER).description("합계 금액"),
+                        fieldWithPath("totals[].count").type(NUMBER).description("항목 수")
+                    )
+                    .build())
+            ));
+    }
+
+    @Test
+    void get_ledger_aggregation_docs() throws Exception {
+        LocalDate start = LocalDate.of(2026, 1, 1);
+        LocalDate end = LocalDate.of(2026, 1, 31);
+
+        given(ledgerService.getAggregation(eq(1L), eq(start), eq(end))).willReturn(new LedgerAggregationResult(
+            new DateRange(start, end),
+            List.of(
+                new LedgerTotal(LedgerType.EXPENSE, null, null, 8000L, 3L),
+                new LedgerTotal(LedgerType.INCOME, null, null, 30000L, 1L)
+            ),
+            List.of(
+                new LedgerTotal(LedgerType.EXPENSE, LedgerCategory.SHOPPING, null, 5000L, 1L),
+                new LedgerTotal(LedgerType.EXPENSE, LedgerCategory.FOOD, null, 3000L, 2L),
+                new LedgerTotal(LedgerType.INCOME, LedgerCategory.ALLOWANCE, null, 30000L, 1L)
+            ),
+            List.of(
+                new LedgerTotal(LedgerType.EXPENSE, null, PaymentMethod.CREDIT_CARD, 6000L, 2L),
+                new LedgerTotal(LedgerType.EXPENSE, null, PaymentMethod.CASH, 2000L, 1L),
+                new LedgerTotal(LedgerType.INCOME, null, PaymentMethod.BANK_TRANSFER, 30000L, 1L)
+            )
+        ));
+
+        mockMvc.perform(
+                get("/ledgers/aggregations")
+                    .header("Authorization", "Bearer " + accessToken)
+                    .param("start", start.toString())
+                    .param("end", end.toString())
+                    .accept(MediaType.APPLICATION_JSON)
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.byCategory[0].category").value("SHOPPING"))
+            .andDo(document("ledger-aggregation",
+                preprocessRequest(prettyPrint()),
+                preprocessResponse(prettyPrint()),
+                resource(ResourceSnippetParameters.builder()
+                    .tag("Ledger")
+                    .summary("가계부 기간 집계 조회")
+                    .description("기간 내 항목을 DB에서 집계해 유형별/카테고리별/결제 수단별 합계와 건수를 응답한다. 각 목록은 유형 안에서 금액이 큰 순이다.")
+                    .queryParameters(
+                        parameterWithName("start").optional().description("조회 시작일(yyyy-MM-dd), 미입력 시 기본값 적용"),
+                        parameterWithName("end").optional().description("조회 종료일(yyyy-MM-dd), 미입력 시 기본값 적용")
+                    )
+                    .responseSchema(Schema.schema("LedgerAggregationWebResponse"))
+                    .responseFields(
+                        fieldWithPath("start").type(STRING).description("조회 시작일"),
+                        fieldWithPath("end").type(STRING).description("조회 종료일"),
+                        fieldWithPath("byType[].type").type(STRING).description("유형"),
+                        fieldWithPath("byType[].category").type(NULL).optional().description("항상 null"),
+                        fieldWithPath("byType[].paymentMethod").type(NULL).optional().description("항상 null"),
+                        fieldWithPath("byType[].amount").type(NUMBER).description("합계 금액"),
+                        fieldWithPath("byType[].count").type(NUMBER).description("항목 수"),
+                        fieldWithPath("byCategory[].type").type(STRING).description("유형"),
+                        fieldWithPath("byCategory[].category").type(STRING).description("카테고리"),
+                        fieldWithPath("byCategory[].paymentMethod").type(NULL).optional().description("항상 null"),
+                        fieldWithPath("byCategory[].amount").type(NUMBER).description("합계 금액"),
+                        fieldWithPath("byCategory[].count").type(NUMBER).description("항목 수"),
+                        fieldWithPath("byPaymentMethod[].type").type(STRING).description("유형"),
+                        fieldWithPath("byPaymentMethod[].category").type(NULL).optional().description("항상 null"),
+                        fieldWithPath("byPaymentMethod[].paymentMethod").type(STRING).description("결제 수단"),
+                        fieldWithPath("byPaymentMethod[].amount").type(NUMBER).description("합계 금액"),
+                        fieldWithPath("byPaymentMethod[].count").type(NUMBER).description("항목 수")
+                    )
+                    .build())
+            ));
+    }
+
+    @Test
+    void get_ledger_calendar_docs() throws Exception {
+        LocalDate start = LocalDate.of(2026, 2, 1);
+        LocalDate end = LocalDate.of(2026, 2, 7);
+        DateRange range = new DateRange(start, end);
+
+        given(ledgerService.resolveRange(eq(start), eq(end))).willReturn(range);
+        given(ledgerVersionService.getVersion(eq(1L))).willReturn(3L);
+        given(ledgerService.getCalendar(eq(1L), eq(start), eq(end))).willReturn(new LedgerCalendarResult(
+            range,
+            new long[]{0L, 0L, 50000L, 0L, 0L, 0L, 0L},
+            new long[]{3000L, 0L, 12000L, 4500L, 0L, 0L, 8000L}
+        ));
+
+        mockMvc.perform(
+                get("/ledgers/calendar")
+                    .header("Authorization", "Bearer " + accessToken)
+                    .param("start", start.toString())
+                    .param("end", end.toString())
+                    .accept(MediaType.APPLICATION_JSON)
+            )
+            .andExpect(status().isOk())
+            .andExpect(header().string("ETag", "\"v3-2026-02-01-2026-02-07\""))
+            .andExpect(jsonPath("$.expense.length()").value(7))
+            .andDo(document("ledger-calendar",
+                preprocessRequest(prettyPrint()),
+                preprocessResponse(prettyPrint()),
+                resource(ResourceSnippetParameters.builder()
+                    .tag("Ledger")
+                    .summary("가계부 달력 조회")
+                    .description("기간(최대 366일)의 일자별 수입/지출 합계를 배열로 응답한다. i번째 값은 start + i일의 합계다. If-None-Match를 지원한다.")
+                    .queryParameters(
+                        parameterWithName("start").optional().description("조회 시작일(yyyy-MM-dd), 미입력 시 기본값 적용"),
+                        parameterWithName("end").optional().description("조회 종료일(yyyy-MM-dd), 미입력 시 기본값 적용")
+                    )
+                    .responseSchema(Schema.schema("LedgerCalendarWebResponse"))
+                    .responseFields(
+                        fieldWithPath("start").type(STRING).description("조회 시작일"),
+                        fieldWithPath("end").type(STRING).description("조회 종료일"),
+                        fieldWithPath("income").type(ARRAY).description("일자별 수입 합계"),
+                        fieldWithPath("expense").type(ARRAY).description("일자별 지출 합계")
+                    )
+                    .build())
+            ));
+    }
+
+    @Test
+    void get_ledger_trend_docs() throws Exception {
+        YearMonth from = YearMonth.of(2026, 1);
+        YearMonth to = YearMonth.of(2026, 2);
+        DateRange range = new DateRange(from.atDay(1), to.atEndOfMonth());
+
+        given(ledgerTrendService.resolveRange(eq(to), eq(2))).willReturn(range);
+        given(ledgerVersionService.getVersion(eq(1L))).willReturn(3L);
+        given(ledgerTrendService.getTrend(eq(1L), eq(from), eq(to))).willReturn(new LedgerTrendResult(from, to, List.of(
+            new LedgerMonthTrend(from, 50000L, 15000L, 0L, 3000L, List.of(
+                new LedgerCategoryTrend(LedgerType.EXPENSE, LedgerCategory.FOOD, 12000L, 4L, 2000L),
+                new LedgerCategoryTrend(LedgerType.EXPENSE, LedgerCategory.TRANSPORT, 3000L, 2L, 1000L),
+                new LedgerCategoryTrend(LedgerType.INCOME, LedgerCategory.ALLOWANCE, 50000L, 1L, 0L)
+            )),
+            new LedgerMonthTrend(to, 50000L, 9000L, 0L, -6000L, List.of(
+                new LedgerCategoryTrend(LedgerType.EXPENSE, LedgerCategory.FOOD, 9000L, 3L, -3000L),
+                new LedgerCategoryTrend(LedgerType.EXPENSE, LedgerCategory.TRANSPORT, 0L, 0L, -3000L),
+                new LedgerCategoryTrend(LedgerType.INCOME, LedgerCategory.ALLOWANCE, 50000L, 1L, 0L)
+            ))
+        )));
+
+        mockMvc.perform(
+                get("/ledgers/trend")
+                    .header("Authorization", "Bearer " + accessToken)
+                    .param("to", "2026-02")
+                    .param("months", "2")
+                    .accept(MediaType.APPLICATION_JSON)
+            )
+            .andExpect(status().isOk())
+            .andExpect(header().string("ETag", "\"v3-2026-01-01-2026-02-28\""))
+            .andExpect(jsonPath("$.months.length()").value(2))
+            .andDo(document("ledger-trend",
+                preprocessRequest(prettyPrint()),
+                preprocessResponse(prettyPrint()),
+                resource(ResourceSnippetParameters.builder()
+                    .tag("Ledger")
+                    .summary("가계부 월별 추이 조회")
+                    .description("to로 끝나는 months개월의 월별 카테고리 합계와 전월 대비 증감을 응답한다. 지난 달은 월 합계에서, 이번 달만 실시간으로 집계한다. If-None-Match를 지원한다.")
+                    .queryParameters(
+                        parameterWithName("to").optional().description("마지막 월(yyyy-MM), 미입력 시 이번 달"),
+                        parameterWithName("months").optional().description("조회 개월 수(1~36), 미입력 시 12")
+                    )
+                    .responseSchema(Schema.schema("LedgerTrendWebResponse"))
+                    .responseFields(
+                        fieldWithPath("from").type(STRING).description("첫 월(yyyy-MM)"),
+                        fieldWithPath("to").type(STRING).description("마지막 월(yyyy-MM)"),
+                        fieldWithPath("months[].month").type(STRING).description("월(yyyy-MM)"),
+                        fieldWithPath("months[].incomeTotal").type(NUMBER).description("수입 합계"),
+                        fieldWithPath("months[].expenseTotal").type(NUMBER).description("지출 합계"),
+                        fieldWithPath("months[].incomeDelta").type(NUMBER).description("전월 대비 수입 증감"),
+                        fieldWithPath("months[].expenseDelta").type(NUMBER).description("전월 대비 지출 증감"),
+                        fieldWithPath("months[].categories[].type").type(STRING).description("수입/지출 구분"),
+                        fieldWithPath("months[].categories[].category").type(STRING).description("카테고리"),
+                        fieldWithPath("months[].categories[].amount").type(NUMBER).description("합계 금액"),
+                        fieldWithPath("months[].categories[].count").type(NUMBER).description("항목 수"),
+                        fieldWithPath("months[].categories[].delta").type(NUMBER).description("전월 대비 증감")
+                    )
+                    .build())
+            ));
+    }
+
+    @Test
+    void filter_ledgers_docs() throws Exception {
+        LocalDate start = LocalDate.of(2026, 1, 1);
+        LocalDate end = LocalDate.of(2026, 1, 31);
+
+        given(ledgerService.filter(any(LedgerFilterCommand.class))).willReturn(new LedgerFilterResult(
+            new DateRange(start, end),
+            List.of(
+                new LedgerResult(21L, 9000L, LedgerType.EXPENSE, LedgerCategory.FOOD, "회식",
+                    LocalDate.of(2026, 1, 9), PaymentMethod.CREDIT_CARD, null, 0L),
+                new LedgerResult(18L, 5000L, LedgerType.EXPENSE, LedgerCategory.FOOD, "저녁",
+                    LocalDate.of(2026, 1, 3), PaymentMethod.CREDIT_CARD, "친구", 0L)
+            ),
+            "QU1PVU5UX0RFU0M6NTAwMDoxOA"
+        ));
+
+        mockMvc.perform(
+                get("/ledgers/filter")
+                    .header("Authorization", "Bearer " + accessToken)
+                    .param("start", start.toString())
+                    .param("end", end.toString())
+                    .param("type", "EXPENSE")
+                    .param("category", "FOOD")
+                    .param("paymentMethod", "CREDIT_CARD")
+                    .param("minAmount", "3000")
+                    .param("maxAmount", "10000")
+                    .param("sort", "AMOUNT_DESC")
+                    .param("cursor", "QU1PVU5UX0RFU0M6MTAwMDA6MjQ")
+                    .param("size", "2")
+                    .accept(MediaType.APPLICATION_JSON)
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.result.length()").value(2))
+            .andExpect(jsonPath("$.nextCursor").value("QU1PVU5UX0RFU0M6NTAwMDoxOA"))
+            .andDo(document("ledger-filter",
+                preprocessRequest(prettyPrint()),
+                preprocessResponse(prettyPrint()),
+                resource(ResourceSnippetParameters.builder()
+                    .tag("Ledger")
+                    .summary("가계부 필터 조회")
+                    .description("기간 내 항목을 유형/카테고리/결제 수단과 금액 범위로 걸러 정렬 순서대로 size건 응답한다. 유형/카테고리/결제 수단은 여러 번 지정할 수 있다.")
+                    .queryParameters(
+                        parameterWithName("start").optional().description("조회 시작일(yyyy-MM-dd), 미입력 시 기본값 적용"),
+                        parameterWithName("end").optional().description("조회 종료일(yyyy-MM-dd), 미입력 시 기본값 적용"),
+                        parameterWithName("type").optional().description("수입/지출 구분 (INCOME, EXPENSE)"),
+                        parameterWithName("category").optional().description("카테고리"),
+                        parameterWithName("paymentMethod").optional().description("결제 수단"),
+                        parameterWithName("minAmount").optional().description("최소 금액(이상)"),
+                        parameterWithName("maxAmount").optional().description("최대 금액(이하)"),
+                        parameterWithName("sort").optional().description("정렬 (OCCURRED_ON_ASC, OCCURRED_ON_DESC, AMOUNT_ASC, AMOUNT_DESC), 미입력 시 OCCURRED_ON_ASC"),
+                        parameterWithName("cursor").optional().description("이전 응답의 nextCursor (같은 조건/정렬로 다음 페이지 조회), 첫 페이지는 생략"),
+                        parameterWithName("size").optional().description("최대 결과 수, 미입력 시 기본값 적용")
+                    )
+                    .responseSchema(Schema.schema("LedgerFilterWebResponse"))
+                    .responseFields(
+                        fieldWithPath("start").type(STRING).description("조회 시작일"),
+                        fieldWithPath("end").type(STRING).description("조회 종료일"),
+                        fieldWithPath("result[].ledgerId").type(NUMBER).description("가계부 항목 ID"),
+                        fieldWithPath("result[].amount").type(NUMBER).description("금액"),
+                        fieldWithPath("result[].type").type(STRING).description("수입/지출 구분"),
+                        fieldWithPath("result[].category").type(STRING).description("카테고리"),
+                        fieldWithPath("result[].description").type(STRING).description("내용"),
+                        fieldWithPath("result[].occurredOn").type(STRING).description("발생일"),
+                        fieldWithPath("result[].paymentMethod").type(STRING).description("결제 수단"),
+                        fieldWithPath("result[].memo").type(STRING).optional().description("메모"),
+                        fieldWithPath("result[].version").type(NUMBER).description("버전"),
+                        fieldWithPath("nextCursor").type(STRING).optional().description("다음 페이지 커서 (없으면 null)"),
+                        fieldWithPath("hasNext").type(BOOLEAN).description("조건에 맞는 항목이 더 있는지 여부")
+                    )
+                    .build())
+            ));
+    }
+
+    @Test
+    void search_ledgers_docs() throws Exception {
+        given(ledgerSearchService.search(eq(1L), eq("김밥"), eq(20))).willReturn(new LedgerSearchResult("김밥", List.of(
+            new LedgerResult(12L, 4500L, LedgerType.EXPENSE, LedgerCategory.FOOD, "회사 앞 김밥집",
+                LocalDate.of(2026, 1, 12), PaymentMethod.CREDIT_CARD, null, 0L),
+            new LedgerResult(7L, 3000L, LedgerType.EXPENSE, LedgerCategory.FOOD, "편의점",
+                LocalDate.of(2026, 1, 5), PaymentMethod.CASH, "삼각김밥", 0L)
+        )));
+
+        mockMvc.perform(
+                get("/ledgers/search")
+                    .header("Authorization", "Bearer " + accessToken)
+                    .param("q", "김밥")
+                    .param("size", "20")
+                    .accept(MediaType.APPLICATION_JSON)
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.results.length()").value(2))
+            .andDo(document("ledger-search",
+                preprocessRequest(prettyPrint()),
+                preprocessResponse(prettyPrint()),
+                resource(ResourceSnippetParameters.builder()
+                    .tag("Ledger")
+                    .summary("가계부 검색")
+                    .description("내용과 메모에서 검색어를 찾는다. 띄어쓰기 없이 붙은 단어의 일부도 검색되며, 내용에서 찾은 항목이 메모에서 찾은 항목보다 앞선다.")
+                    .queryParameters(
+                        parameterWithName("q").description("검색어(최대 100자)"),
+                        parameterWithName("size").optional().description("최대 결과 수, 미입력 시 20 (최대 100)")
+                    )
+                    .responseSchema(Schema.schema("LedgerSearchWebResponse"))
+                    .responseFields(
+                        fieldWithPath("query").type(STRING).description("검색어"),
+                        fieldWithPath("results[].ledgerId").type(NUMBER).description("가계부 항목 ID"),
+                        fieldWithPath("results[].amount").type(NUMBER).description("금액"),
+                        fieldWithPath("results[].type").type(STRING).description("수입/지출 구분"),
+                        fieldWithPath("results[].category").type(STRING).description("카테고리"),
+                        fieldWithPath("results[].description").type(STRING).description("내용"),
+                        fieldWithPath("results[].occurredOn").type(STRING).description("발생일"),
+                        fieldWithPath("results[].paymentMethod").type(STRING).description("결제 수단"),
+                        fieldWithPath("results[].memo").type(STRING).optional().description("메모"),
+                        fieldWithPath("results[].version").type(NUMBER).description("버전")
+                    )
+                    .build())
+            ));
+    }
+
+    @Test
+    void get_ledger_balance_docs() throws Exception {
+        LocalDate date = LocalDate.of(2026, 1, 31);
+        given(ledgerBalanceService.getBalance(eq(1L), eq(date))).willReturn(new LedgerBalanceResult(date, 1250000L));
+
+        mockMvc.perform(
+                get("/ledgers/balance")
+                    .header("Authorization", "Bearer " + accessToken)
+                    .param("date", "2026-01-31")
+                    .accept(MediaType.APPLICATION_JSON)
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.balance").value(1250000))
+            .andDo(document("ledger-balance",
+                preprocessRequest(prettyPrint()),
+                preprocessResponse(prettyPrint()),
+                resource(ResourceSnippetParameters.builder()
+                    .tag("Ledger")
+                    .summary("날짜 기준 잔액 조회")
+                    .description("해당 날짜까지 기록된 모든 수입에서 지출을 뺀 잔액")
+                    .queryParameters(
+                        parameterWithName("date").optional().description("기준일(yyyy-MM-dd), 미입력 시 오늘")
+                    )
+                    .responseSchema(Schema.schema("LedgerBalanceWebResponse"))
+                    .responseFields(
+                        fieldWithPath("date").type(STRING).description("기준일"),
+                        fieldWithPath("balance").type(NUMBER).description("잔액(음수 가능)")
+                    )
+                    .build())
+            ));
+    }
+
+    @Test
+    void get_ledger_balance_range_docs() throws Exception {
+        LocalDate start = LocalDate.of(2026, 1, 1);
+        LocalDate end = LocalDate.of(2026, 1, 31);
+        given(ledgerBalanceService.getBalanceRange(eq(1L), eq(start), eq(end)))
+            .willReturn(new LedgerBalanceRangeResult(new DateRange(start, end), 1000000L, 1250000L));
+
+        mockMvc.perform(
+                get("/ledgers/balance/range")
+                    .header("Authorization", "Bearer " + accessToken)
+                    .param("start", "2026-01-01")
+                    .param("end", "2026-01-31")
+                    .accept(MediaType.APPLICATION_JSON)
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.netChange").value(250000))
+            .andDo(document("ledger-balance-range",
+                preprocessRequest(prettyPrint()),
+                preprocessResponse(prettyPrint()),
+                resource(ResourceSnippetParameters.builder()
+                    .tag("Ledger")
+                    .summary("기간 잔액 변화 조회")
+                    .description("기간 시작 전날과 끝날의 잔액, 그 사이 순증감")
+                    .queryParameters(
+                        parameterWithName("start").optional().description("조회 시작일(yyyy-MM-dd), 미입력 시 기본값 적용"),
+                        parameterWithName("end").optional().description("조회 종료일(yyyy-MM-dd), 미입력 시 기본값 적용")
+                    )
+                    .responseSchema(Schema.schema("LedgerBalanceRangeWebResponse"))
+                    .responseFields(
+                        fieldWithPath("start").type(STRING).description("조회 시작일"),
+                        fieldWithPath("end").type(STRING).description("조회 종료일"),
+                        fieldWithPath("openingBalance").type(NUMBER).description("시작일 전날까지의 잔액"),
+                        fieldWithPath("closingBalance").type(NUMBER).description("종료일까지의 잔액"),
+                        fieldWithPath("netChange").type(NUMBER).description("기간 순증감(수입 - 지출)")
+                    )
+                    .build())
+            ));
+    }
+
+    @Test
+    void get_ledger_page_docs() throws Exception {
+        LocalDate start = LocalDate.of(2026, 1, 1);
+        LocalDate end = LocalDate.of(2026, 1, 31);
+
+        LedgerPageResult page = new LedgerPageResult(
+            new DateRange(start, end),
+            List.of(sampleResult(1L), sampleResult(2L)),
+            "MjAyNi0wMS0yNDoy"
+        );
+        given(ledgerService.getPage(eq(1L), eq(start), eq(end), isNull(), eq(2))).willReturn(page);
+
+        mockMvc.perform(
+                get("/ledgers")
+                    .header("Authorization", "Bearer " + accessToken)
+                    .param("start", start.toString())
+                    .param("end", end.toString())
+                    .param("size", "2")
+                    .accept(MediaType.APPLICATION_JSON)
+            )
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+            .andExpect(jsonPath("$.hasNext").value(true))
+            .andDo(document("ledger-page",
+                preprocessRequest(prettyPrint()),
+                preprocessResponse(prettyPrint()),
+                resource(ResourceSnippetParameters.builder()
+                    .tag("Ledger")
+                    .summary("가계부 목록 페이지 조회")
+                    .queryParameters(
+                        parameterWithName("start").optional().description("조회 시작일(yyyy-MM-dd), 미입력 시 기본값 적용"),
+                        parameterWithName("end").optional().description("조회 종료일(yyyy-MM-dd), 미입력 시 기본값 적용"),
+                        parameterWithName("cursor").optional().description("이전 응답의 nextCursor, 미입력 시 첫 페이지"),
+                        parameterWithName("size").optional().description("페이지 크기, 미입력 시 기본값 적용")
+                    )
+                    .responseSchema(Schema.schema("LedgerPageWebResponse"))
+                    .responseFields(
+                        fieldWithPath("start").type(STRING).description("조회 시작일"),
+                        fieldWithPath("end").type(STRING).description("조회 종료일"),
+                        fieldWithPath("result[].ledgerId").type(NUMBER).description("가계부 항목 ID"),
+                        fieldWithPath("result[].amount").type(NUMBER).description("금액"),
+                        fieldWithPath("result[].type").type(STRING).description("유형(INCOME/EXPENSE)"),
+                        fieldWithPath("result[].category").type(STRING).description("카테고리"),
+                        fieldWithPath("result[].description").type(STRING).description("설명"),
+                        fieldWithPath("result[].occurredOn").type(STRING).description("발생 일자(yyyy-MM-dd)"),
+                        fieldWithPath("result[].paymentMethod").type(STRING).description("결제 수단"),
+                        fieldWithPath("result[].memo").type(STRING).optional().description("메모(선택)"),
+                        fieldWithPath("result[].version").type(NUMBER).description("버전"),
+                        fieldWithPath("nextCursor").type(STRING).optional().description("다음 페이지 커서, 마지막 페이지면 null"),
+                        fieldWithPath("hasNext").type(BOOLEAN).description("다음 페이지 존재 여부")
+                    )
+                    .build())
+            ));
+    }
+
+    @Test
+    void stream_ledger_summary_docs() throws Exception {
+        LocalDate start = LocalDate.of(2026, 1, 1);
+        LocalDate end = LocalDate.of(2026, 1, 31);
+        DateRange range = new DateRange(start, end);
+
+        given(ledgerService.resolveRange(eq(start), eq(end))).willReturn(range);
+        willAnswer(invocation -> {
+            Consumer<LedgerResult> action = invocation.getArgument(2);
+            action.accept(sampleResult(1L));
+            action.accept(sampleResult(2L));
+            return null;
+        }).given(ledgerService).streamSummary(eq(1L), eq(range), any());
+
+        MvcResult mvcResult = mockMvc.perform(
+                get("/ledgers/summary/stream")
+                    .header("Authorization", "Bearer " + accessToken)
+                    .param("start", start.toString())
+                    .param("end", end.toString())
+                    .accept(MediaType.APPLICATION_JSON)
+            )
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+            .andExpect(jsonPath("$.result.length()").value(2))
+            .andDo(document("ledger-summary-stream",
+                preprocessRequest(prettyPrint()),
+                preprocessResponse(prettyPrint()),
+                resource(ResourceSnippetParameters.builder()
+                    .tag("Ledger")
+                    .summary("가계부 요약 스트리밍 조회")
+                    .queryParameters(
+                        parameterWithName("start").optional().description("조회 시작일(yyyy-MM-dd), 미입력 시 기본값 적용"),
+                        parameterWithName("end").optional().description("조회 종료일(yyyy-MM-dd), 미입력 시 기본값 적용")
+                    )
+                    .responseSchema(Schema.schema("LedgerSummaryWebResponse"))
+                    .build())
+            ));
+    }
+
+    @Test
+    void export_ledger_csv_docs() throws Exception {
+        LocalDate start = LocalDate.of(2026, 1, 1);
+        LocalDate end = LocalDate.of(2026, 1, 31);
+        DateRange range = new DateRange(start, end);
+
+        given(ledgerService.resolveRange(eq(start), eq(end))).willReturn(range);
+        willAnswer(invocation -> {
+            Consumer<LedgerResult> action = invocation.getArgument(2);
+            action.accept(sampleResult(1L));
+            action.accept(new LedgerResult(
+                2L, 4500L, LedgerType.EXPENSE, LedgerCategory.FOOD, "=커피, 라떼",
+                LocalDate.of(2026, 1, 25), PaymentMethod.CASH, null, 0L
+            ));
+            return null;
+        }).given(ledgerService).streamSummary(eq(1L), eq(range), any());
+
+        MvcResult mvcResult = mockMvc.perform(
+                get("/ledgers/export")
+                    .header("Authorization", "Bearer " + accessToken)
+                    .param("start", start.toString())
+                    .param("end", end.toString())
+            )
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith("text/csv"))
+            .andExpect(header().string("Content-Disposition", "attachment; filename=\"ledger-2026-01-01_2026-01-31.csv\""))
+            .andExpect(content().string(
+                "\uFEFF날짜,구분,카테고리,결제수단,금액,내용,메모\r\n"
+                    + "2026-01-24,EXPENSE,FOOD,CREDIT_CARD,12000,점심,메모\r\n"
+                    + "2026-01-25,EXPENSE,FOOD,CASH,4500,\"'=커피, 라떼\",\r\n"
+            ))
+            .andDo(document("ledger-export",
+                resource(ResourceSnippetParameters.builder()
+                    .tag("Ledger")
+                    .summary("가계부 CSV 내보내기")
+                    .description("기간 내 항목을 UTF-8(BOM) CSV로 내려받는다. 형식은 CSV 가져오기와 같다.")
+                    .queryParameters(
+                        parameterWithName("start").optional().description("조회 시작일(yyyy-MM-dd), 미입력 시 기본값 적용"),
+                        parameterWithName("end").optional().description("조회 종료일(yyyy-MM-dd), 미입력 시 기본값 적용")
+                    )
+                    .build())
+            ));
+    }
+}
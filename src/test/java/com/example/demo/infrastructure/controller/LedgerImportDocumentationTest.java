@@ -0,0 +1,188 @@
+package com.example.demo.infrastructure.controller;
+
+import com.epages.restdocs.apispec.ResourceSnippetParameters;
+import com.epages.restdocs.apispec.Schema;
+import com.example.demo.application.UserService;
+import com.example.demo.application.dto.LedgerImportJobResult;
+import com.example.demo.application.dto.LedgerImportRowError;
+import com.example.demo.application.dto.UserInfo;
+import com.example.demo.application.importer.LedgerImportService;
+import com.example.demo.application.oauth.TokenProvider;
+import com.example.demo.domain.enums.LedgerImportStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.restdocs.AutoConfigureRestDocs;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.epages.restdocs.apispec.MockMvcRestDocumentationWrapper.document;
+import static com.epages.restdocs.apispec.ResourceDocumentation.resource;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.multipart;
+import static org.springframework.restdocs.operation.preprocess.Preprocessors.*;
+import static org.springframework.restdocs.payload.JsonFieldType.ARRAY;
+import static org.springframework.restdocs.payload.JsonFieldType.NUMBER;
+import static org.springframework.restdocs.payload.JsonFieldType.STRING;
+import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
+import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(LedgerImportController.class)
+@AutoConfigureRestDocs
+class LedgerImportDocumentationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private LedgerImportService ledgerImportService;
+
+    @MockitoBean
+    private UserService userService;
+
+    @MockitoBean
+    private TokenProvider tokenProvider;
+
+    private final String accessToken = "jwt.access.token";
+
+    @BeforeEach
+    void setUpAuth() {
+        given(tokenProvider.validateToken(accessToken)).willReturn(1L);
+        given(userService.findUserInfo(1L)).willReturn(Optional.of(new UserInfo(1L, "피클", 0, null)));
+    }
+
+    @Test
+    void upload_ledger_import_docs() throws Exception {
+        given(ledgerImportService.start(eq(1L), any(Path.class))).willAnswer(invocation -> {
+            Path uploaded = invocation.getArgument(1);
+            assertThat(Files.readString(uploaded)).startsWith("날짜,");
+            Files.delete(uploaded);
+            return new LedgerImportJobResult(10L, LedgerImportStatus.PENDING, 0, 0, 0, null, List.of());
+        });
+        MockMultipartFile file = new MockMultipartFile(
+            "file",
+            "statement.csv",
+            "text/csv",
+            "날짜,구분,카테고리,결제수단,금액,내용,메모\n2026-01-24,지출,식비,신용카드,12000,점심,\n"
+                .getBytes(StandardCharsets.UTF_8)
+        );
+
+        mockMvc.perform(
+                multipart("/ledgers/imports")
+                    .file(file)
+                    .header("Authorization", "Bearer " + accessToken)
+                    .accept(MediaType.APPLICATION_JSON)
+            )
+            .andExpect(status().isAccepted())
+            .andExpect(header().string("Location", "/ledgers/imports/10"))
+            .andExpect(jsonPath("$.status").value("PENDING"))
+            .andDo(document("ledger-import-upload",
+                preprocessResponse(prettyPrint()),
+                resource(ResourceSnippetParameters.builder()
+                    .tag("Ledger Import")
+                    .summary("가계부 CSV 가져오기")
+                    .description("UTF-8 CSV(file)를 업로드하면 백그라운드 작업을 등록하고 202와 작업 상태를 응답한다. "
+                        + "헤더: 날짜(occurredOn), 구분(type, 선택), 카테고리(category), 결제수단(paymentMethod), 금액(amount), 내용(description), 메모(memo, 선택)")
+                    .responseSchema(Schema.schema("LedgerImportJobWebResponse"))
+                    .build())
+            ));
+    }
+
+    @Test
+    void upload_ledger_import_queue_full_docs() throws Exception {
+        AtomicReference<Path> uploaded = new AtomicReference<>();
+        given(ledgerImportService.start(eq(1L), any(Path.class))).willAnswer(invocation -> {
+            uploaded.set(invocation.getArgument(1));
+            throw new RejectedExecutionException("queue full");
+        });
+        MockMultipartFile file = new MockMultipartFile(
+            "file",
+            "statement.csv",
+            "text/csv",
+            "날짜,구분,카테고리,결제수단,금액,내용,메모\n".getBytes(StandardCharsets.UTF_8)
+        );
+
+        mockMvc.perform(
+                multipart("/ledgers/imports")
+                    .file(file)
+                    .header("Authorization", "Bearer " + accessToken)
+                    .accept(MediaType.APPLICATION_JSON)
+            )
+            .andExpect(status().isServiceUnavailable())
+            .andExpect(jsonPath("$.message").value("진행 중인 작업이 많습니다. 잠시 후 다시 시도해 주세요."))
+            .andDo(document("ledger-import-upload-queue-full",
+                preprocessResponse(prettyPrint()),
+                resource(ResourceSnippetParameters.builder()
+                    .tag("Ledger Import")
+                    .summary("가계부 CSV 가져오기 - 대기열 초과")
+                    .description("진행 중인 가져오기 작업이 많아 대기열이 가득 차면 503을 응답한다. 잠시 후 같은 파일로 다시 요청하면 된다.")
+                    .build())
+            ));
+
+        assertThat(uploaded.get()).isNotNull();
+        assertThat(Files.exists(uploaded.get())).isFalse();
+    }
+
+    @Test
+    void get_ledger_import_job_docs() throws Exception {
+        given(ledgerImportService.getJob(eq(1L), eq(10L))).willReturn(new LedgerImportJobResult(
+            10L,
+            LedgerImportStatus.COMPLETED,
+            1000,
+            998,
+            2,
+            null,
+            List.of(
+                new LedgerImportRowError(15, "금액(amount) 형식이 올바르지 않습니다: abc"),
+                new LedgerImportRowError(230, "카테고리(SALARY)는 INCOME 유형만 허용합니다.")
+            )
+        ));
+
+        mockMvc.perform(
+                get("/ledgers/imports/{jobId}", 10L)
+                    .header("Authorization", "Bearer " + accessToken)
+                    .accept(MediaType.APPLICATION_JSON)
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.errors[1].line").value(230))
+            .andDo(document("ledger-import-get",
+                preprocessRequest(prettyPrint()),
+                preprocessResponse(prettyPrint()),
+                resource(ResourceSnippetParameters.builder()
+                    .tag("Ledger Import")
+                    .summary("가계부 CSV 가져오기 상태 조회")
+                    .pathParameters(
+                        parameterWithName("jobId").description("가져오기 작업 ID")
+                    )
+                    .responseSchema(Schema.schema("LedgerImportJobWebResponse"))
+                    .responseFields(
+                        fieldWithPath("jobId").type(NUMBER).description("가져오기 작업 ID"),
+                        fieldWithPath("status").type(STRING).description("상태(PENDING/RUNNING/COMPLETED/FAILED)"),
+                        fieldWithPath("processedRows").type(NUMBER).description("처리한 데이터 행 수"),
+                        fieldWithPath("importedRows").type(NUMBER).description("저장된 행 수"),
+                        fieldWithPath("failedRows").type(NUMBER).description("저장하지 못한 행 수"),
+                        fieldWithPath("message").type(STRING).optional().description("작업 실패 사유(실패 시)"),
+                        fieldWithPath("errors").type(ARRAY).description("행 단위 오류(줄 번호 순, 최대 100건)"),
+                        fieldWithPath("errors[].line").type(NUMBER).description("CSV 줄 번호(헤더가 1)"),
+                        fieldWithPath("errors[].message").type(STRING).description("오류 사유")
+                    )
+                    .build())
+            ));
+    }
+}
@@ -0,0 +1,161 @@
+package com.example.demo.infrastructure.controller;
+
+import com.example.demo.DemoApplication;
+import com.example.demo.application.oauth.TokenProvider;
+import com.example.demo.domain.UserRepository;
+import com.example.demo.util.DbUtils;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 플랫폼 스레드와 가상 스레드 모드에서 커넥션 풀 크기별 동시 요청 처리량/지연 비교
+ * 캐시를 거치지 않는 조회(/ledgers/filter, /ledgers/totals)에 동시 클라이언트를 붙여 측정한다.
+ * 항목은 JDBC로 직접 넣으므로 /ledgers/totals가 읽는 일/월 합계도 같은 데이터로 다시 만든다.
+ * ./gradlew benchmarkTest --tests '*LedgerThreadingBenchmarkTest'
+ */
+@Tag("benchmark")
+class LedgerThreadingBenchmarkTest {
+    private static final int ENTRY_COUNT = 20_000;
+    private static final int CLIENTS = 1_000;
+    private static final int REQUESTS_PER_CLIENT = 5;
+    // 풀 대기 시간 초과(503) 등 실패가 이 비율을 넘으면 처리량 수치를 믿을 수 없다.
+    private static final double MAX_ERROR_RATE = 0.01;
+    private static final LocalDate START = LocalDate.of(2025, 1, 1);
+    private static final String[] PATHS = {
+        "/ledgers/filter?start=2025-01-01&end=2025-12-31&category=FOOD&size=50",
+        "/ledgers/totals?start=2025-01-01&end=2025-12-31"
+    };
+
+    static Stream<Arguments> modes() {
+        return Stream.of(
+            Arguments.of(false, 10),
+            Arguments.of(false, 30),
+            Arguments.of(true, 10),
+            Arguments.of(true, 30)
+        );
+    }
+
+    @ParameterizedTest(name = "virtual={0}, pool={1}")
+    @MethodSource("modes")
+    void 스레드_모드와_풀_크기별_동시_요청_처리량(boolean virtualThreads, int poolSize) throws Exception {
+        // given
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(DemoApplication.class)
+            .properties(
+                "server.port=0",
+                "spring.jpa.show-sql=false",
+                "spring.threads.virtual.enabled=" + virtualThreads,
+                "spring.datasource.hikari.maximum-pool-size=" + poolSize
+            )
+            .run()) {
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+            UserRepository userRepository = context.getBean(UserRepository.class);
+            Long userId = DbUtils.givenSavedUser(userRepository).getId();
+            try {
+                DbUtils.insertLedgerEntries(jdbcTemplate, userId, ENTRY_COUNT, START, 365);
+                DbUtils.rebuildRollups(jdbcTemplate, userId);
+                String token = context.getBean(TokenProvider.class).generateToken(userId).accessToken();
+                int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+
+                // when
+                Result result = run("http://localhost:" + port, token);
+
+                // then
+                System.out.printf(
+                    "[benchmark] threading virtual=%-5s pool=%2d %8.1f req/s p50=%6dms p99=%6dms errors=%d/%d%n",
+                    virtualThreads, poolSize, result.requestsPerSecond(), result.p50(), result.p99(),
+                    result.errors(), result.total()
+                );
+                assertThat(result.total()).isEqualTo(CLIENTS * REQUESTS_PER_CLIENT);
+                assertThat(result.errors())
+                    .as("오류 비율")
+                    .isLessThanOrEqualTo((int) (result.total() * MAX_ERROR_RATE));
+            } finally {
+                DbUtils.deleteLedgerData(jdbcTemplate, userId);
+                userRepository.deleteById(userId);
+            }
+        }
+    }
+
+    private Result run(String baseUrl, String token) throws InterruptedException, ExecutionException {
+        AtomicInteger errors = new AtomicInteger();
+        List<Future<long[]>> clients = new ArrayList<>();
+        long startedAt = System.nanoTime();
+        // 클라이언트 쪽 스레드 수가 측정을 제한하지 않도록 요청은 가상 스레드에서 보낸다.
+        try (HttpClient http = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+             ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CLIENTS; i++) {
+                int client = i;
+                clients.add(executor.submit(() -> {
+                    long[] latencies = new long[REQUESTS_PER_CLIENT];
+                    for (int j = 0; j < REQUESTS_PER_CLIENT; j++) {
+                        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + PATHS[(client + j) % PATHS.length]))
+                            .header("Authorization", "Bearer " + token)
+                            .timeout(Duration.ofSeconds(30))
+                            .GET()
+                            .build();
+                        long sentAt = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = http.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() != 200) {
+                                errors.incrementAndGet();
+                            }
+                        } catch (IOException e) {
+                            errors.incrementAndGet();
+                        }
+                        latencies[j] = (System.nanoTime() - sentAt) / 1_000_000;
+                    }
+                    return latencies;
+                }));
+            }
+
+            List<Long> latencies = new ArrayList<>();
+            for (Future<long[]> future : clients) {
+                Arrays.stream(future.get()).forEach(latencies::add);
+            }
+            long elapsed = System.nanoTime() - startedAt;
+            latencies.sort(null);
+            return new Result(
+                latencies.size(),
+                errors.get(),
+                latencies.size() * 1_000_000_000.0 / elapsed,
+                percentile(latencies, 0.50),
+                percentile(latencies, 0.99)
+            );
+        }
+    }
+
+    private static long percentile(List<Long> sorted, double percentile) {
+        return sorted.get(Math.min(sorted.size() - 1, (int) (sorted.size() * percentile)));
+    }
+
+    record Result(int total, int errors, double requestsPerSecond, long p50, long p99) {
+    }
+}
@@ -17,6 +17,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import com.epages.restdocs.apispec.ResourceSnippetParameters;
 import com.epages.restdocs.apispec.Schema;
+import com.example.demo.application.UserService;
 import com.example.demo.application.dto.TokenResponse;
 import com.example.demo.application.oauth.AuthService;
 import com.example.demo.application.oauth.OauthService;
@@ -50,6 +51,9 @@ class OauthDocumentationTest {
     @MockitoBean
     private TokenProvider tokenProvider;
 
+    @MockitoBean
+    private UserService userService;
+
     @Test
     void oauthLogin_docs() throws Exception {
         // given
@@ -0,0 +1,200 @@
+package com.example.demo.infrastructure.controller;
+
+import com.epages.restdocs.apispec.ResourceSnippetParameters;
+import com.epages.restdocs.apispec.Schema;
+import com.example.demo.application.UserService;
+import com.example.demo.application.dto.CreateRecurringRuleCommand;
+import com.example.demo.application.dto.RecurringRuleResult;
+import com.example.demo.application.dto.UserInfo;
+import com.example.demo.application.oauth.TokenProvider;
+import com.example.demo.application.recurring.RecurringRuleService;
+import com.example.demo.domain.enums.LedgerCategory;
+import com.example.demo.domain.enums.LedgerType;
+import com.example.demo.domain.enums.PaymentMethod;
+import com.example.demo.domain.enums.RecurrenceFrequency;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.restdocs.AutoConfigureRestDocs;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static com.epages.restdocs.apispec.MockMvcRestDocumentationWrapper.document;
+import static com.epages.restdocs.apispec.ResourceDocumentation.resource;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willDoNothing;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.delete;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.post;
+import static org.springframework.restdocs.operation.preprocess.Preprocessors.*;
+import static org.springframework.restdocs.payload.JsonFieldType.ARRAY;
+import static org.springframework.restdocs.payload.JsonFieldType.NUMBER;
+import static org.springframework.restdocs.payload.JsonFieldType.STRING;
+import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
+import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(RecurringRuleController.class)
+@AutoConfigureRestDocs
+class RecurringRuleDocumentationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private RecurringRuleService recurringRuleService;
+
+    @MockitoBean
+    private UserService userService;
+
+    @MockitoBean
+    private TokenProvider tokenProvider;
+
+    private final String accessToken = "jwt.access.token";
+
+    @BeforeEach
+    void setUpAuth() {
+        given(tokenProvider.validateToken(accessToken)).willReturn(1L);
+        given(userService.findUserInfo(1L)).willReturn(Optional.of(new UserInfo(1L, "피클", 0, null)));
+    }
+
+    private RecurringRuleResult sampleRule() {
+        return new RecurringRuleResult(
+            5L,
+            550000L,
+            LedgerType.EXPENSE,
+            LedgerCategory.HOUSING,
+            "월세",
+            PaymentMethod.BANK_TRANSFER,
+            "관리비 별도",
+            RecurrenceFrequency.MONTHLY,
+            25,
+            null,
+            LocalDate.of(2026, 1, 1),
+            null,
+            LocalDate.of(2026, 1, 25)
+        );
+    }
+
+    @Test
+    void create_recurring_rule_docs() throws Exception {
+        given(recurringRuleService.createRule(any(CreateRecurringRuleCommand.class))).willReturn(sampleRule());
+
+        mockMvc.perform(
+                post("/recurring-rules")
+                    .header("Authorization", "Bearer " + accessToken)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("""
+                        {
+                          "amount": 550000,
+                          "type": "EXPENSE",
+                          "category": "HOUSING",
+                          "description": "월세",
+                          "paymentMethod": "BANK_TRANSFER",
+                          "memo": "관리비 별도",
+                          "frequency": "MONTHLY",
+                          "dayOfMonth": 25,
+                          "startDate": "2026-01-01"
+                        }
+                        """)
+                    .accept(MediaType.APPLICATION_JSON)
+            )
+            .andExpect(status().isCreated())
+            .andExpect(header().string("Location", "/recurring-rules/5"))
+            .andExpect(jsonPath("$.nextOccurrence").value("2026-01-25"))
+            .andDo(document("recurring-rule-create",
+                preprocessRequest(prettyPrint()),
+                preprocessResponse(prettyPrint()),
+                resource(ResourceSnippetParameters.builder()
+                    .tag("Recurring Rule")
+                    .summary("반복 거래 규칙 등록")
+                    .description("매월/매주 반복되는 항목을 등록한다. 항목은 매일 밤 발생일이 된 규칙에서 만들어진다.")
+                    .requestSchema(Schema.schema("CreateRecurringRuleWebRequest"))
+                    .responseSchema(Schema.schema("RecurringRuleWebResponse"))
+                    .requestFields(
+                        fieldWithPath("amount").type(NUMBER).description("금액(양수)"),
+                        fieldWithPath("type").type(STRING).description("거래 유형(EXPENSE/INCOME)"),
+                        fieldWithPath("category").type(STRING).description("카테고리"),
+                        fieldWithPath("description").type(STRING).description("설명(최대 15자)"),
+                        fieldWithPath("paymentMethod").type(STRING).description("결제 수단"),
+                        fieldWithPath("memo").type(STRING).optional().description("메모(최대 100자)"),
+                        fieldWithPath("frequency").type(STRING).description("반복 주기(MONTHLY/WEEKLY)"),
+                        fieldWithPath("dayOfMonth").type(NUMBER).optional().description("MONTHLY 반복일(1~31, 그 달에 없으면 말일)"),
+                        fieldWithPath("dayOfWeek").type(STRING).optional().description("WEEKLY 반복 요일(MONDAY~SUNDAY)"),
+                        fieldWithPath("startDate").type(STRING).description("시작일(yyyy-MM-dd)"),
+                        fieldWithPath("endDate").type(STRING).optional().description("종료일(yyyy-MM-dd, 없으면 계속)")
+                    )
+                    .build())
+            ));
+    }
+
+    @Test
+    void get_recurring_rules_docs() throws Exception {
+        given(recurringRuleService.getRules(eq(1L))).willReturn(List.of(sampleRule()));
+
+        mockMvc.perform(
+                get("/recurring-rules")
+                    .header("Authorization", "Bearer " + accessToken)
+                    .accept(MediaType.APPLICATION_JSON)
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.rules[0].ruleId").value(5))
+            .andDo(document("recurring-rule-list",
+                preprocessRequest(prettyPrint()),
+                preprocessResponse(prettyPrint()),
+                resource(ResourceSnippetParameters.builder()
+                    .tag("Recurring Rule")
+                    .summary("반복 거래 규칙 목록")
+                    .responseSchema(Schema.schema("RecurringRulesWebResponse"))
+                    .responseFields(
+                        fieldWithPath("rules").type(ARRAY).description("등록 순 반복 거래 규칙"),
+                        fieldWithPath("rules[].ruleId").type(NUMBER).description("규칙 ID"),
+                        fieldWithPath("rules[].amount").type(NUMBER).description("금액"),
+                        fieldWithPath("rules[].type").type(STRING).description("거래 유형"),
+                        fieldWithPath("rules[].category").type(STRING).description("카테고리"),
+                        fieldWithPath("rules[].description").type(STRING).description("설명"),
+                        fieldWithPath("rules[].paymentMethod").type(STRING).description("결제 수단"),
+                        fieldWithPath("rules[].memo").type(STRING).optional().description("메모"),
+                        fieldWithPath("rules[].frequency").type(STRING).description("반복 주기(MONTHLY/WEEKLY)"),
+                        fieldWithPath("rules[].dayOfMonth").type(NUMBER).optional().description("MONTHLY 반복일"),
+                        fieldWithPath("rules[].dayOfWeek").type(STRING).optional().description("WEEKLY 반복 요일"),
+                        fieldWithPath("rules[].startDate").type(STRING).description("시작일"),
+                        fieldWithPath("rules[].endDate").type(STRING).optional().description("종료일"),
+                        fieldWithPath("rules[].nextOccurrence").type(STRING).optional().description("다음에 만들어질 날짜(종료되면 null)")
+                    )
+                    .build())
+            ));
+    }
+
+    @Test
+    void delete_recurring_rule_docs() throws Exception {
+        willDoNothing().given(recurringRuleService).deleteRule(eq(1L), eq(5L));
+
+        mockMvc.perform(
+                delete("/recurring-rules/{ruleId}", 5L)
+                    .header("Authorization", "Bearer " + accessToken)
+                    .accept(MediaType.APPLICATION_JSON)
+            )
+            .andExpect(status().isNoContent())
+            .andDo(document("recurring-rule-delete",
+                preprocessRequest(prettyPrint()),
+                preprocessResponse(prettyPrint()),
+                resource(ResourceSnippetParameters.builder()
+                    .tag("Recurring Rule")
+                    .summary("반복 거래 규칙 삭제")
+                    .description("이미 만들어진 가계부 항목은 남는다.")
+                    .pathParameters(
+                        parameterWithName("ruleId").description("규칙 ID")
+                    )
+                    .build())
+            ));
+    }
+}
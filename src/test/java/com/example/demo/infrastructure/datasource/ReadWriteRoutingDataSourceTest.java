@@ -0,0 +1,215 @@
+package com.example.demo.infrastructure.datasource;
+
+import com.example.demo.application.event.UserChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 원본/복제본을 각각 내장 H2로 띄우고, 어느 DB가 응답했는지로 라우팅을 확인한다.
+ */
+class ReadWriteRoutingDataSourceTest {
+    private static final Duration MAX_LAG = Duration.ofSeconds(5);
+    private static final Duration STICKY_WINDOW = Duration.ofSeconds(3);
+
+    private final List<EmbeddedDatabase> databases = new ArrayList<>();
+    private final Map<String, Duration> lags = new ConcurrentHashMap<>();
+    private final AtomicReference<Long> currentUser = new AtomicReference<>();
+    private final AtomicLong nanos = new AtomicLong();
+
+    private ReplicaHealthChecker healthChecker;
+    private ReadYourWritesTracker tracker;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTransaction;
+    private TransactionTemplate readOnlyTransaction;
+
+    @AfterEach
+    void tearDown() {
+        databases.forEach(EmbeddedDatabase::shutdown);
+    }
+
+    private EmbeddedDatabase database(String name) {
+        EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+            .setType(EmbeddedDatabaseType.H2)
+            .setName(name + "-" + UUID.randomUUID())
+            .build();
+        JdbcTemplate template = new JdbcTemplate(database);
+        template.execute("CREATE TABLE node (name VARCHAR(20))");
+        template.update("INSERT INTO node (name) VALUES (?)", name);
+        databases.add(database);
+        return database;
+    }
+
+    /**
+     * 복제본 지연은 lags에 넣은 값으로 측정된다. (기본 0초)
+     */
+    private void setUp(DataSource... replicas) {
+        List<ReplicaNode> nodes = new ArrayList<>();
+        for (int i = 0; i < replicas.length; i++) {
+            nodes.add(new ReplicaNode("replica-" + (i + 1), replicas[i]));
+        }
+        ReplicaPool pool = new ReplicaPool(nodes, MAX_LAG);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        healthChecker = new ReplicaHealthChecker(
+            pool, connection -> Optional.of(lags.getOrDefault(name(connection), Duration.ZERO)), Duration.ofSeconds(1), meterRegistry
+        );
+        tracker = new ReadYourWritesTracker(STICKY_WINDOW, nanos::get);
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(
+            database("primary"), pool, tracker, () -> Optional.ofNullable(currentUser.get()), meterRegistry
+        ));
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        healthChecker.checkAll();
+    }
+
+    private static String name(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT name FROM node")) {
+            resultSet.next();
+            return resultSet.getString(1);
+        }
+    }
+
+    private String readOnly() {
+        return readOnlyTransaction.execute(status -> jdbcTemplate.queryForObject("SELECT name FROM node", String.class));
+    }
+
+    private String write() {
+        return writeTransaction.execute(status -> jdbcTemplate.queryForObject("SELECT name FROM node", String.class));
+    }
+
+    private static DataSource unreachable() {
+        return new AbstractDataSource() {
+            @Override
+            public Connection getConnection() throws SQLException {
+                throw new SQLException("connection refused");
+            }
+
+            @Override
+            public Connection getConnection(String username, String password) throws SQLException {
+                return getConnection();
+            }
+        };
+    }
+
+    @Test
+    void 읽기_전용_트랜잭션만_복제본으로_간다() {
+        // given
+        setUp(database("replica-1"));
+
+        // when & then
+        assertThat(readOnly()).isEqualTo("replica-1");
+        assertThat(write()).isEqualTo("primary");
+        assertThat(jdbcTemplate.queryForObject("SELECT name FROM node", String.class)).isEqualTo("primary");
+    }
+
+    @Test
+    void 읽을_수_있는_복제본을_돌아가며_쓴다() {
+        // given
+        setUp(database("replica-1"), database("replica-2"));
+
+        // when & then
+        assertThat(List.of(readOnly(), readOnly(), readOnly(), readOnly()))
+            .containsExactly("replica-1", "replica-2", "replica-1", "replica-2");
+    }
+
+    @Test
+    void 복제_지연이_허용치를_넘는_복제본은_건너뛰고_모두_넘으면_원본으로_간다() {
+        // given
+        setUp(database("replica-1"), database("replica-2"));
+
+        // when
+        lags.put("replica-1", MAX_LAG.plusSeconds(1));
+        healthChecker.checkAll();
+
+        // then
+        assertThat(List.of(readOnly(), readOnly())).containsOnly("replica-2");
+
+        // when
+        lags.put("replica-2", MAX_LAG.plusSeconds(1));
+        healthChecker.checkAll();
+
+        // then
+        assertThat(readOnly()).isEqualTo("primary");
+
+        // when
+        lags.clear();
+        healthChecker.checkAll();
+
+        // then
+        assertThat(List.of(readOnly(), readOnly())).containsExactlyInAnyOrder("replica-1", "replica-2");
+    }
+
+    @Test
+    void 연결할_수_없는_복제본은_읽기에서_빠진다() {
+        // given
+        setUp(unreachable(), database("replica-2"));
+
+        // when & then
+        assertThat(List.of(readOnly(), readOnly())).containsOnly("replica-2");
+    }
+
+    @Test
+    void 쓰기를_마친_사용자의_읽기는_잠시_원본으로_간다() {
+        // given
+        setUp(database("replica-1"));
+        currentUser.set(1L);
+
+        // when
+        write();
+
+        // then
+        assertThat(readOnly()).isEqualTo("primary");
+        currentUser.set(2L);
+        assertThat(readOnly()).isEqualTo("replica-1");
+
+        // when
+        nanos.addAndGet(STICKY_WINDOW.plusMillis(1).toNanos());
+
+        // then
+        currentUser.set(1L);
+        assertThat(readOnly()).isEqualTo("replica-1");
+    }
+
+    @Test
+    void 가입한_사용자의_읽기도_잠시_원본으로_간다() {
+        // given
+        setUp(database("replica-1"));
+        currentUser.set(3L);
+
+        // when
+        tracker.onUserChanged(new UserChangedEvent(3L));
+
+        // then
+        assertThat(readOnly()).isEqualTo("primary");
+    }
+}
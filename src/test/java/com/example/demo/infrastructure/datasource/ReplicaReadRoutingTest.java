@@ -0,0 +1,127 @@
+package com.example.demo.infrastructure.datasource;
+
+import com.example.demo.application.LedgerBalanceService;
+import com.example.demo.application.LedgerService;
+import com.example.demo.application.dto.LedgerResult;
+import com.example.demo.application.dto.UpsertLedgerCommand;
+import com.example.demo.domain.UserRepository;
+import com.example.demo.domain.enums.LedgerCategory;
+import com.example.demo.domain.enums.LedgerType;
+import com.example.demo.domain.enums.PaymentMethod;
+import com.example.demo.util.AbstractIntegrationTest;
+import com.example.demo.util.DbUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 복제본 라우팅을 켠 실제 서비스 경로에서, 캐시 미스 조회가 복제본으로 가는지 라우팅 지표로 확인한다.
+ * 복제본 노드는 테스트 DB를 그대로 가리키고, 복제 상태 점검 대신 노드를 직접 읽기 가능으로 표시한다.
+ */
+@TestPropertySource(properties = {
+    "datasource.replica.enabled=true",
+    "datasource.replica.nodes[0].name=replica-test",
+    "datasource.replica.nodes[0].url=jdbc:mysql://localhost:3306/dnd_test",
+    "datasource.replica.nodes[0].maximum-pool-size=2"
+})
+class ReplicaReadRoutingTest extends AbstractIntegrationTest {
+
+    // 테스트 DB에는 복제 상태가 없어 점검하면 읽기 불가로 바뀌므로 점검기를 대체한다.
+    @MockitoBean
+    private ReplicaHealthChecker replicaHealthChecker;
+
+    @Autowired
+    private ReplicaPool replicaPool;
+
+    @Autowired
+    private LedgerService ledgerService;
+
+    @Autowired
+    private LedgerBalanceService ledgerBalanceService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        replicaPool.nodes().forEach(node -> node.markHealthy(Duration.ZERO));
+        userId = DbUtils.givenSavedUser(userRepository).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        DbUtils.deleteLedgerData(jdbcTemplate, userId);
+    }
+
+    private LedgerResult create(LocalDate occurredOn) {
+        return ledgerService.createLedgerEntry(new UpsertLedgerCommand(
+            userId, 12000L, LedgerType.EXPENSE, LedgerCategory.FOOD, "점심", occurredOn, PaymentMethod.CASH, null
+        ));
+    }
+
+    private double reads(String target) {
+        return meterRegistry.get("datasource.routing.reads").tag("target", target).counter().count();
+    }
+
+    @Test
+    void 요약_캐시_미스는_복제본에서_읽고_적중은_DB를_거치지_않는다() {
+        // given
+        create(LocalDate.of(2026, 1, 24));
+        double before = reads("replica");
+
+        // when
+        ledgerService.getSummary(userId, LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 31));
+        double afterMiss = reads("replica");
+        ledgerService.getSummary(userId, LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 31));
+
+        // then
+        assertThat(afterMiss).isEqualTo(before + 1);
+        assertThat(reads("replica")).isEqualTo(afterMiss);
+    }
+
+    @Test
+    void 단건_캐시_미스는_복제본에서_읽는다() {
+        // given
+        LedgerResult created = create(LocalDate.of(2026, 1, 24));
+        double before = reads("replica");
+
+        // when
+        LedgerResult result = ledgerService.getLedgerEntry(userId, created.ledgerId());
+
+        // then
+        assertThat(result.ledgerId()).isEqualTo(created.ledgerId());
+        assertThat(reads("replica")).isEqualTo(before + 1);
+    }
+
+    @Test
+    void 잔액_색인_생성은_복제본에서_읽는다() {
+        // given
+        create(LocalDate.of(2026, 1, 24));
+        double before = reads("replica");
+
+        // when
+        long balance = ledgerBalanceService.getBalance(userId, LocalDate.of(2026, 1, 31)).balance();
+
+        // then
+        assertThat(balance).isEqualTo(-12000L);
+        assertThat(reads("replica")).isEqualTo(before + 1);
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.demo.infrastructure.oauth.token;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtProviderTest {
+    private static final String SECRET_KEY = "test+test+test+test+test+test+test+test+test+test";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final JwtProvider jwtProvider = new JwtProvider(SECRET_KEY, meterRegistry);
+
+    @Test
+    void 토큰_검증_시간을_결과별로_기록한다() {
+        // given
+        String accessToken = jwtProvider.generateToken(1L).accessToken();
+
+        // when
+        Long userId = jwtProvider.validateToken(accessToken);
+        assertThatThrownBy(() -> jwtProvider.validateToken(accessToken + "x"))
+            .isInstanceOf(RuntimeException.class);
+
+        // then
+        assertThat(userId).isEqualTo(1L);
+        assertThat(timer("valid").count()).isEqualTo(1);
+        assertThat(timer("invalid").count()).isEqualTo(1);
+        assertThat(timer("expired").count()).isZero();
+    }
+
+    private Timer timer(String outcome) {
+        return meterRegistry.get("auth.token.validation").tag("outcome", outcome).timer();
+    }
+}
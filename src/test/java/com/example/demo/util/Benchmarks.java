@@ -0,0 +1,51 @@
+package com.example.demo.util;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.Supplier;
+
+/**
+ * @Tag("benchmark") 테스트에서 사용하는 간단한 처리량/할당량 측정 도구
+ * 현재 스레드 기준으로 측정하므로 측정 대상은 단일 스레드에서 실행해야 한다.
+ */
+public final class Benchmarks {
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    // 측정 대상 결과가 JIT에 의해 제거되지 않도록 보관
+    private static volatile Object blackhole;
+
+    private Benchmarks() {
+    }
+
+    public static Result measure(String name, int warmup, int iterations, Supplier<?> task) {
+        for (int i = 0; i < warmup; i++) {
+            blackhole = task.get();
+        }
+
+        long allocatedBefore = THREADS.getCurrentThreadAllocatedBytes();
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            blackhole = task.get();
+        }
+        long elapsed = System.nanoTime() - startedAt;
+        long allocated = THREADS.getCurrentThreadAllocatedBytes() - allocatedBefore;
+
+        Result result = new Result(
+            name,
+            iterations * 1_000_000_000.0 / elapsed,
+            elapsed / 1_000.0 / iterations,
+            allocated / iterations
+        );
+        System.out.println(result);
+        return result;
+    }
+
+    public record Result(String name, double opsPerSecond, double microsPerOp, long bytesPerOp) {
+        @Override
+        public String toString() {
+            return String.format("[benchmark] %-40s %12.1f ops/s %12.1f us/op %14d B/op",
+                name, opsPerSecond, microsPerOp, bytesPerOp);
+        }
+    }
+}
@@ -3,6 +3,14 @@ package com.example.demo.util;
 import com.example.demo.domain.Provider;
 import com.example.demo.domain.User;
 import com.example.demo.domain.UserRepository;
+import com.example.demo.domain.enums.LedgerCategory;
+import com.example.demo.domain.enums.PaymentMethod;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.stream.IntStream;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 public class DbUtils {
     public static User kakaoUser() {
@@ -17,4 +25,79 @@ public class DbUtils {
     public static User givenSavedUser(UserRepository repo) {
         return repo.save(kakaoUser());
     }
+
+    /**
+     * 성능 측정/실행 계획 테스트용 대량 데이터 적재
+     * start부터 하루씩 순환하며 지출 카테고리와 결제 수단을 섞어 count건을 넣는다.
+     */
+    public static void insertLedgerEntries(JdbcTemplate jdbcTemplate, long userId, int count, LocalDate start, int days) {
+        LedgerCategory[] categories = {
+            LedgerCategory.FOOD, LedgerCategory.TRANSPORT, LedgerCategory.SHOPPING, LedgerCategory.LEISURE_HOBBY
+        };
+        PaymentMethod[] paymentMethods = PaymentMethod.values();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(
+            """
+                INSERT INTO ledger_entry
+                    (amount, type, category, description, occurred_on, payment_method, memo, user_id, created_at, modified_at)
+                VALUES (?, 'EXPENSE', ?, ?, ?, ?, ?, ?, ?, ?)
+                """,
+            IntStream.range(0, count)
+                .mapToObj(i -> new Object[]{
+                    1000L + (i % 97) * 100L,
+                    categories[i % categories.length].name(),
+                    "항목" + (i % 1000),
+                    Date.valueOf(start.plusDays(i % days)),
+                    paymentMethods[i % paymentMethods.length].name(),
+                    i % 3 == 0 ? "메모" + i : null,
+                    userId,
+                    now,
+                    now
+                })
+                .toList()
+        );
+    }
+
+    /**
+     * insertLedgerEntries처럼 서비스를 거치지 않고 넣은 항목으로 사용자의 일/월 합계를 다시 만든다. (V11 마이그레이션과 같은 집계)
+     */
+    public static void rebuildRollups(JdbcTemplate jdbcTemplate, long userId) {
+        jdbcTemplate.update("DELETE FROM ledger_daily_total WHERE user_id = ?", userId);
+        jdbcTemplate.update("""
+            INSERT INTO ledger_daily_total (user_id, occurred_on, type, category, payment_method, amount, entry_count)
+            SELECT user_id, occurred_on, type, category, payment_method, SUM(amount), COUNT(*)
+            FROM ledger_entry
+            WHERE user_id = ?
+            GROUP BY user_id, occurred_on, type, category, payment_method
+            """, userId);
+        jdbcTemplate.update("DELETE FROM ledger_monthly_total WHERE user_id = ?", userId);
+        jdbcTemplate.update("""
+            INSERT INTO ledger_monthly_total (user_id, month_start, type, category, payment_method, amount, entry_count)
+            SELECT user_id, DATE_SUB(occurred_on, INTERVAL DAYOFMONTH(occurred_on) - 1 DAY), type, category, payment_method,
+                   SUM(amount), COUNT(*)
+            FROM ledger_entry
+            WHERE user_id = ?
+            GROUP BY user_id, DATE_SUB(occurred_on, INTERVAL DAYOFMONTH(occurred_on) - 1 DAY), type, category, payment_method
+            """, userId);
+    }
+
+    /**
+     * 트랜잭션 롤백을 쓸 수 없는 테스트(청크 커밋 등)에서 사용자의 가계부 관련 데이터를 지운다.
+     */
+    public static void deleteLedgerData(JdbcTemplate jdbcTemplate, long userId) {
+        jdbcTemplate.update(
+            "DELETE FROM ledger_import_error WHERE job_id IN (SELECT id FROM ledger_import_job WHERE user_id = ?)", userId
+        );
+        jdbcTemplate.update("DELETE FROM ledger_import_job WHERE user_id = ?", userId);
+        jdbcTemplate.update(
+            "DELETE FROM recurring_occurrence WHERE rule_id IN (SELECT id FROM recurring_rule WHERE user_id = ?)", userId
+        );
+        jdbcTemplate.update("DELETE FROM recurring_rule WHERE user_id = ?", userId);
+        jdbcTemplate.update("DELETE FROM budget WHERE user_id = ?", userId);
+        jdbcTemplate.update("DELETE FROM ledger_entry WHERE user_id = ?", userId);
+        jdbcTemplate.update("DELETE FROM ledger_daily_total WHERE user_id = ?", userId);
+        jdbcTemplate.update("DELETE FROM ledger_monthly_total WHERE user_id = ?", userId);
+        jdbcTemplate.update("DELETE FROM ledger_version WHERE user_id = ?", userId);
+    }
 }
@@ -0,0 +1,36 @@
+package com.example.demo.util;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Hibernate가 실제로 만든 SQL을 현재 스레드 기준으로 모은다. (테스트 설정의 hibernate.session_factory.statement_inspector)
+ * 실행 계획 테스트가 손으로 옮겨 적은 SQL이 아니라 리포지토리 쿼리 그대로를 EXPLAIN하도록 쓴다.
+ */
+public class SqlCaptor implements StatementInspector {
+
+    private static final ThreadLocal<List<String>> CAPTURED = new ThreadLocal<>();
+
+    public static List<String> capture(Supplier<?> call) {
+        List<String> statements = new ArrayList<>();
+        CAPTURED.set(statements);
+        try {
+            call.get();
+        } finally {
+            CAPTURED.remove();
+        }
+        return statements;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        List<String> statements = CAPTURED.get();
+        if (statements != null) {
+            statements.add(sql);
+        }
+        return sql;
+    }
+}